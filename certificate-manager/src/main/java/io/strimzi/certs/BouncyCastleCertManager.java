@@ -0,0 +1,543 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.certs;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.bouncycastle.asn1.ASN1Encoding;
+import org.bouncycastle.asn1.ASN1ObjectIdentifier;
+import org.bouncycastle.asn1.DERBMPString;
+import org.bouncycastle.asn1.oiw.OIWObjectIdentifiers;
+import org.bouncycastle.asn1.pkcs.PKCSObjectIdentifiers;
+import org.bouncycastle.asn1.pkcs.PrivateKeyInfo;
+import org.bouncycastle.asn1.x500.X500Name;
+import org.bouncycastle.asn1.x500.X500NameBuilder;
+import org.bouncycastle.asn1.x500.style.BCStyle;
+import org.bouncycastle.asn1.x509.BasicConstraints;
+import org.bouncycastle.asn1.x509.Extension;
+import org.bouncycastle.asn1.x509.Extensions;
+import org.bouncycastle.asn1.x509.GeneralName;
+import org.bouncycastle.asn1.x509.GeneralNames;
+import org.bouncycastle.asn1.x509.KeyPurposeId;
+import org.bouncycastle.asn1.x509.KeyUsage;
+import org.bouncycastle.asn1.x509.SubjectKeyIdentifier;
+import org.bouncycastle.cert.X509CertificateHolder;
+import org.bouncycastle.cert.jcajce.JcaX509CertificateConverter;
+import org.bouncycastle.cert.jcajce.JcaX509ExtensionUtils;
+import org.bouncycastle.cert.jcajce.JcaX509v3CertificateBuilder;
+import org.bouncycastle.jce.provider.BouncyCastleProvider;
+import org.bouncycastle.openssl.PEMKeyPair;
+import org.bouncycastle.openssl.PEMParser;
+import org.bouncycastle.openssl.jcajce.JcaPEMKeyConverter;
+import org.bouncycastle.openssl.jcajce.JcaPEMWriter;
+import org.bouncycastle.openssl.jcajce.JcaPKCS8Generator;
+import org.bouncycastle.operator.ContentSigner;
+import org.bouncycastle.operator.OperatorCreationException;
+import org.bouncycastle.operator.OutputEncryptor;
+import org.bouncycastle.operator.jcajce.JcaContentSignerBuilder;
+import org.bouncycastle.operator.jcajce.JcaContentVerifierProviderBuilder;
+import org.bouncycastle.pkcs.PKCS10CertificationRequest;
+import org.bouncycastle.pkcs.PKCS12PfxPdu;
+import org.bouncycastle.pkcs.PKCS12PfxPduBuilder;
+import org.bouncycastle.pkcs.PKCS12SafeBag;
+import org.bouncycastle.pkcs.PKCS12SafeBagBuilder;
+import org.bouncycastle.pkcs.PKCSException;
+import org.bouncycastle.pkcs.jcajce.JcaPKCS10CertificationRequestBuilder;
+import org.bouncycastle.pkcs.jcajce.JcaPKCS12SafeBagBuilder;
+import org.bouncycastle.pkcs.jcajce.JcePKCS12MacCalculatorBuilder;
+import org.bouncycastle.pkcs.jcajce.JcePKCSPBEOutputEncryptorBuilder;
+
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.Reader;
+import java.io.StringReader;
+import java.io.Writer;
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.security.GeneralSecurityException;
+import java.security.KeyFactory;
+import java.security.KeyPair;
+import java.security.KeyPairGenerator;
+import java.security.KeyStore;
+import java.security.KeyStoreException;
+import java.security.NoSuchAlgorithmException;
+import java.security.PrivateKey;
+import java.security.Provider;
+import java.security.PublicKey;
+import java.security.SecureRandom;
+import java.security.cert.Certificate;
+import java.security.cert.CertificateException;
+import java.security.cert.CertificateFactory;
+import java.security.cert.X509Certificate;
+import java.security.interfaces.RSAPrivateCrtKey;
+import java.security.spec.RSAPublicKeySpec;
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZonedDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Date;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * A certificate manager which generates the keys, certificate signing requests, certificates and PKCS12 stores
+ * in-process using the JDK and BouncyCastle APIs instead of forking {@code openssl} processes. The keys, certificates
+ * and stores are written to the given files in the same formats and with the same extensions as by the
+ * {@link OpenSslCertManager}, but no other temporary files (configurations, databases, copies of the keys) are
+ * created.
+ */
+@SuppressWarnings({"checkstyle:ClassDataAbstractionCoupling", "checkstyle:ClassFanOutComplexity"})
+public class BouncyCastleCertManager implements CertManager {
+    private static final Logger LOGGER = LogManager.getLogger(BouncyCastleCertManager.class);
+
+    private static final String KEY_ALGORITHM = "RSA";
+    private static final int CA_KEY_SIZE = 4096;
+    private static final int KEY_SIZE = 2048;
+    private static final String SIGNATURE_ALGORITHM = "SHA512withRSA";
+    private static final int SERIAL_NUMBER_BITS = 159;
+
+    // The PKCS12 stores are protected using the legacy algorithms of openssl pkcs12 -export -descert instead of the newer
+    // defaults of the JDK (PBES2 with AES-256 and HmacSHA256) which older clients and OpenSSL cannot read. 3DES is used
+    // for the certificates instead of RC2 which is available in OpenSSL 3 only with the legacy provider.
+    /* test */ static final ASN1ObjectIdentifier PKCS12_KEY_ALGORITHM = PKCSObjectIdentifiers.pbeWithSHAAnd3_KeyTripleDES_CBC;
+    /* test */ static final ASN1ObjectIdentifier PKCS12_CERT_ALGORITHM = PKCSObjectIdentifiers.pbeWithSHAAnd3_KeyTripleDES_CBC;
+    /* test */ static final ASN1ObjectIdentifier PKCS12_MAC_ALGORITHM = OIWObjectIdentifiers.idSHA1;
+    private static final int PKCS12_ITERATION_COUNT = 2048;
+    // Bag attribute used by the JDK to load certificates without a private key as trusted certificate entries
+    private static final ASN1ObjectIdentifier JDK_TRUSTED_KEY_USAGE = new ASN1ObjectIdentifier("2.16.840.1.113894.746875.1.1");
+    private static final Provider PROVIDER = new BouncyCastleProvider();
+
+    private final Clock clock;
+    private final SecureRandom random = new SecureRandom();
+
+    public BouncyCastleCertManager() {
+        this(Clock.systemUTC());
+    }
+
+    public BouncyCastleCertManager(Clock clock) {
+        this.clock = clock;
+    }
+
+    void checkValidity(ZonedDateTime notBefore, ZonedDateTime notAfter) {
+        Objects.requireNonNull(notBefore);
+        Objects.requireNonNull(notAfter);
+        if (!notBefore.isBefore(notAfter)) {
+            throw new IllegalArgumentException("Invalid notBefore and notAfter: " + notBefore + " must be before " + notAfter);
+        }
+    }
+
+    @Override
+    public void generateSelfSignedCert(File keyFile, File certFile, Subject sbj, int days) throws IOException {
+        Instant now = clock.instant();
+        generateRootCaCert(sbj, keyFile, certFile, now.atZone(OpenSslCertManager.UTC), now.plus(days, ChronoUnit.DAYS).atZone(OpenSslCertManager.UTC), 0);
+    }
+
+    @Override
+    public void renewSelfSignedCert(File keyFile, File certFile, Subject sbj, int days) throws IOException {
+        Instant now = clock.instant();
+        generateCaCert(null, null, sbj, keyFile, certFile, now.atZone(OpenSslCertManager.UTC), now.plus(days, ChronoUnit.DAYS).atZone(OpenSslCertManager.UTC), 0);
+    }
+
+    @Override
+    public void generateRootCaCert(Subject subject, File subjectKeyFile, File subjectCertFile,
+                                   ZonedDateTime notBefore, ZonedDateTime notAfter, int pathLength) throws IOException {
+        generateCaCert(null, null, subject, subjectKeyFile, subjectCertFile, notBefore, notAfter, pathLength);
+    }
+
+    @Override
+    public void generateIntermediateCaCert(File issuerCaKeyFile, File issuerCaCertFile,
+                                           Subject subject,
+                                           File subjectKeyFile, File subjectCertFile,
+                                           ZonedDateTime notBefore, ZonedDateTime notAfter, int pathLength) throws IOException {
+        Objects.requireNonNull(issuerCaKeyFile);
+        Objects.requireNonNull(issuerCaCertFile);
+        generateCaCert(issuerCaKeyFile, issuerCaCertFile, subject, subjectKeyFile, subjectCertFile, notBefore, notAfter, pathLength);
+    }
+
+    /**
+     * Generates a CA certificate, using either a new key or reusing an existing subject key.
+     *
+     * @param issuerCaKeyFile The issuing CA key (or null for a root CA).
+     * @param issuerCaCertFile The issuing CA cert (or null for a root CA).
+     * @param subject The required subject.
+     * @param subjectKeyFile The subject key file. If this file is empty then a new key will be generated and
+     *                       written to it. Otherwise it is assumed to contain the existing key in PKCS#8 format.
+     * @param subjectCertFile The subject certificate file, populated by this call.
+     * @param notBefore The required NotBefore date of the issued certificate.
+     * @param notAfter The required NotAfter date of the issued certificate.
+     * @param pathLength The number of CA certificates below this certificate in a certificate chain.
+     * @throws IOException IO problems
+     */
+    private void generateCaCert(File issuerCaKeyFile, File issuerCaCertFile,
+                                Subject subject,
+                                File subjectKeyFile, File subjectCertFile,
+                                ZonedDateTime notBefore, ZonedDateTime notAfter, int pathLength) throws IOException {
+        if (issuerCaKeyFile == null ^ issuerCaCertFile == null) {
+            throw new IllegalArgumentException();
+        }
+        // Preconditions
+        Objects.requireNonNull(subject);
+        Objects.requireNonNull(subjectKeyFile);
+        Objects.requireNonNull(subjectCertFile);
+        checkValidity(notBefore, notAfter);
+        if (pathLength < 0) {
+            throw new IllegalArgumentException("pathLength cannot be negative: " + pathLength);
+        }
+        if (subject.hasSubjectAltNames()) {
+            throw new IllegalArgumentException("CA certificates should not have Subject Alternative Names");
+        }
+
+        PrivateKey subjectKey;
+        PublicKey subjectPublicKey;
+        boolean newKey = subjectKeyFile.length() == 0;
+        if (newKey) {
+            KeyPair keyPair = generateKeyPair(CA_KEY_SIZE);
+            subjectKey = keyPair.getPrivate();
+            subjectPublicKey = keyPair.getPublic();
+        } else {
+            KeyPair keyPair = readKeyPair(Files.readAllBytes(subjectKeyFile.toPath()));
+            subjectKey = keyPair.getPrivate();
+            subjectPublicKey = keyPair.getPublic();
+        }
+
+        X500Name subjectName = x500Name(subject);
+        X500Name issuerName;
+        PrivateKey issuerKey;
+        if (issuerCaCertFile == null) {
+            issuerName = subjectName;
+            issuerKey = subjectKey;
+        } else {
+            issuerName = readPemObject(Files.readAllBytes(issuerCaCertFile.toPath()), X509CertificateHolder.class).getSubject();
+            issuerKey = readPrivateKey(Files.readAllBytes(issuerCaKeyFile.toPath()));
+        }
+
+        List<Extension> extensions = new ArrayList<>(3);
+        extensions.add(subjectKeyIdentifier(subjectPublicKey));
+        extensions.add(new Extension(Extension.basicConstraints, true, new BasicConstraints(pathLength).getEncoded()));
+        extensions.add(new Extension(Extension.keyUsage, true, new KeyUsage(KeyUsage.keyCertSign | KeyUsage.cRLSign).getEncoded()));
+
+        X509Certificate certificate = sign(issuerName, issuerKey, subjectName, subjectPublicKey, notBefore.toInstant(), notAfter.toInstant(), extensions);
+
+        writePem(subjectCertFile, certificate);
+        if (newKey) {
+            writePem(subjectKeyFile, new JcaPKCS8Generator(subjectKey, null));
+        }
+    }
+
+    @Override
+    public void addCertToTrustStore(File certFile, String certAlias, File trustStoreFile, String trustStorePassword)
+            throws IOException, CertificateException, KeyStoreException, NoSuchAlgorithmException {
+        // Preconditions
+        Objects.requireNonNull(certFile);
+        Objects.requireNonNull(certAlias);
+        Objects.requireNonNull(trustStoreFile);
+        Objects.requireNonNull(trustStorePassword);
+
+        X509Certificate certificate;
+        try (FileInputStream isCertificate = new FileInputStream(certFile)) {
+            certificate = (X509Certificate) CertificateFactory.getInstance("X.509").generateCertificate(isCertificate);
+        }
+
+        KeyStore trustStore = KeyStore.getInstance("PKCS12");
+        // the KeyStore class is able to create an empty store if the truststore file is empty
+        if (trustStoreFile.length() > 0) {
+            try (FileInputStream isTrustStore = new FileInputStream(trustStoreFile)) {
+                trustStore.load(isTrustStore, trustStorePassword.toCharArray());
+            }
+        } else {
+            trustStore.load(null, trustStorePassword.toCharArray());
+        }
+        trustStore.setEntry(certAlias, new KeyStore.TrustedCertificateEntry(certificate), null);
+
+        storePkcs12(trustStore, trustStoreFile, trustStorePassword.toCharArray());
+    }
+
+    @Override
+    public void addKeyAndCertToKeyStore(File keyFile, File certFile, String alias, File keyStoreFile, String keyStorePassword) throws IOException {
+        try {
+            PrivateKey key = readPrivateKey(Files.readAllBytes(keyFile.toPath()));
+            Certificate certificate;
+            try (FileInputStream isCertificate = new FileInputStream(certFile)) {
+                certificate = CertificateFactory.getInstance("X.509").generateCertificate(isCertificate);
+            }
+
+            // Like openssl pkcs12 -export, the keystore is always created from scratch
+            KeyStore keyStore = KeyStore.getInstance("PKCS12");
+            keyStore.load(null, keyStorePassword.toCharArray());
+            keyStore.setKeyEntry(alias, key, keyStorePassword.toCharArray(), new Certificate[] {certificate});
+
+            storePkcs12(keyStore, keyStoreFile, keyStorePassword.toCharArray());
+        } catch (GeneralSecurityException e) {
+            throw new IOException("Failed to create keystore " + keyStoreFile, e);
+        }
+    }
+
+    @Override
+    public void deleteFromTrustStore(List<String> aliases, File trustStoreFile, String trustStorePassword)
+            throws IOException, CertificateException, KeyStoreException, NoSuchAlgorithmException {
+        // Preconditions
+        Objects.requireNonNull(aliases);
+        Objects.requireNonNull(trustStoreFile);
+        Objects.requireNonNull(trustStorePassword);
+
+        KeyStore trustStore = KeyStore.getInstance("PKCS12");
+        try (FileInputStream isTrustStore = new FileInputStream(trustStoreFile)) {
+            trustStore.load(isTrustStore, trustStorePassword.toCharArray());
+        }
+        for (String alias : aliases) {
+            trustStore.deleteEntry(alias);
+        }
+        storePkcs12(trustStore, trustStoreFile, trustStorePassword.toCharArray());
+    }
+
+    @Override
+    public void generateCsr(File keyFile, File csrFile, Subject subject) throws IOException {
+        Objects.requireNonNull(keyFile);
+        Objects.requireNonNull(csrFile);
+        Objects.requireNonNull(subject);
+
+        KeyPair keyPair = generateKeyPair(KEY_SIZE);
+        JcaPKCS10CertificationRequestBuilder builder = new JcaPKCS10CertificationRequestBuilder(x500Name(subject), keyPair.getPublic());
+        if (subject.hasSubjectAltNames()) {
+            builder.addAttribute(PKCSObjectIdentifiers.pkcs_9_at_extensionRequest,
+                    new Extensions(new Extension(Extension.subjectAlternativeName, false, subjectAltNames(subject).getEncoded())));
+        }
+
+        PKCS10CertificationRequest csr = builder.build(contentSigner(keyPair.getPrivate()));
+        LOGGER.debug("Generated CSR for {}", subject);
+
+        writePem(keyFile, new JcaPKCS8Generator(keyPair.getPrivate(), null));
+        writePem(csrFile, csr);
+    }
+
+    @Override
+    public void generateCert(File csrFile, File caKey, File caCert, File crtFile, Subject sbj, int days) throws IOException {
+        Objects.requireNonNull(caKey);
+        Objects.requireNonNull(caCert);
+        generateCert(csrFile, Files.readAllBytes(caKey.toPath()), Files.readAllBytes(caCert.toPath()), crtFile, sbj, days);
+    }
+
+    @Override
+    public void generateCert(File csrFile, byte[] caKey, byte[] caCert, File crtFile, Subject sbj, int days) throws IOException {
+        Instant now = clock.instant();
+        generateCert(csrFile, caKey, caCert, crtFile, sbj, now.atZone(OpenSslCertManager.UTC), now.plus(days, ChronoUnit.DAYS).atZone(OpenSslCertManager.UTC));
+    }
+
+    public void generateCert(File csrFile, byte[] caKey, byte[] caCert, File crtFile, Subject sbj, ZonedDateTime notBefore, ZonedDateTime notAfter) throws IOException {
+        // Preconditions
+        Objects.requireNonNull(csrFile);
+        Objects.requireNonNull(caKey);
+        Objects.requireNonNull(caCert);
+        Objects.requireNonNull(crtFile);
+        Objects.requireNonNull(sbj);
+        checkValidity(notBefore, notAfter);
+
+        PKCS10CertificationRequest csr = readPemObject(Files.readAllBytes(csrFile.toPath()), PKCS10CertificationRequest.class);
+        PublicKey subjectPublicKey;
+        try {
+            if (!csr.isSignatureValid(new JcaContentVerifierProviderBuilder().build(csr.getSubjectPublicKeyInfo()))) {
+                throw new IOException("Invalid signature of the certificate signing request " + csrFile);
+            }
+            subjectPublicKey = new JcaPEMKeyConverter().getPublicKey(csr.getSubjectPublicKeyInfo());
+        } catch (OperatorCreationException | PKCSException e) {
+            throw new IOException("Failed to verify the certificate signing request " + csrFile, e);
+        }
+
+        X509CertificateHolder issuer = readPemObject(caCert, X509CertificateHolder.class);
+        PrivateKey issuerKey = readPrivateKey(caKey);
+
+        List<Extension> extensions = new ArrayList<>(4);
+        extensions.add(subjectKeyIdentifier(subjectPublicKey));
+        extensions.add(new Extension(Extension.basicConstraints, true, new BasicConstraints(false).getEncoded()));
+        extensions.add(new Extension(Extension.keyUsage, true, new KeyUsage(KeyUsage.digitalSignature | KeyUsage.keyEncipherment).getEncoded()));
+        if (sbj.hasSubjectAltNames()) {
+            extensions.add(new Extension(Extension.subjectAlternativeName, false, subjectAltNames(sbj).getEncoded()));
+        }
+
+        X509Certificate certificate = sign(issuer.getSubject(), issuerKey, csr.getSubject(), subjectPublicKey, notBefore.toInstant(), notAfter.toInstant(), extensions);
+        writePem(crtFile, certificate);
+    }
+
+    private KeyPair generateKeyPair(int keySize) {
+        try {
+            KeyPairGenerator generator = KeyPairGenerator.getInstance(KEY_ALGORITHM);
+            generator.initialize(keySize, random);
+            return generator.generateKeyPair();
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private X509Certificate sign(X500Name issuer, PrivateKey issuerKey, X500Name subject, PublicKey subjectPublicKey,
+                                 Instant notBefore, Instant notAfter, List<Extension> extensions) throws IOException {
+        // Random positive serial number, like openssl ca with rand_serial
+        BigInteger serial = new BigInteger(SERIAL_NUMBER_BITS, random).setBit(0);
+        JcaX509v3CertificateBuilder builder = new JcaX509v3CertificateBuilder(issuer, serial,
+                Date.from(notBefore), Date.from(notAfter), subject, subjectPublicKey);
+        for (Extension extension : extensions) {
+            builder.addExtension(extension);
+        }
+
+        try {
+            return new JcaX509CertificateConverter().getCertificate(builder.build(contentSigner(issuerKey)));
+        } catch (CertificateException e) {
+            throw new IOException("Failed to sign certificate for " + subject, e);
+        }
+    }
+
+    /**
+     * Writes the entries of the store to the file in the PKCS12 format using the legacy PKCS12 algorithms. The key
+     * entries have to be protected using the password of the store.
+     */
+    private static void storePkcs12(KeyStore store, File file, char[] password) throws IOException {
+        try {
+            JcaX509ExtensionUtils extensionUtils = new JcaX509ExtensionUtils();
+            OutputEncryptor keyEncryptor = new JcePKCSPBEOutputEncryptorBuilder(PKCS12_KEY_ALGORITHM)
+                    .setProvider(PROVIDER).setIterationCount(PKCS12_ITERATION_COUNT).build(password);
+            OutputEncryptor certEncryptor = new JcePKCSPBEOutputEncryptorBuilder(PKCS12_CERT_ALGORITHM)
+                    .setProvider(PROVIDER).setIterationCount(PKCS12_ITERATION_COUNT).build(password);
+
+            List<PKCS12SafeBag> certBags = new ArrayList<>();
+            List<PKCS12SafeBag> keyBags = new ArrayList<>();
+            for (String alias : Collections.list(store.aliases())) {
+                DERBMPString friendlyName = new DERBMPString(alias);
+                if (store.isKeyEntry(alias)) {
+                    Certificate[] chain = store.getCertificateChain(alias);
+                    SubjectKeyIdentifier localKeyId = extensionUtils.createSubjectKeyIdentifier(chain[0].getPublicKey());
+                    for (int i = 0; i < chain.length; i++) {
+                        PKCS12SafeBagBuilder certBag = new JcaPKCS12SafeBagBuilder((X509Certificate) chain[i]);
+                        if (i == 0) {
+                            certBag.addBagAttribute(PKCSObjectIdentifiers.pkcs_9_at_friendlyName, friendlyName)
+                                    .addBagAttribute(PKCSObjectIdentifiers.pkcs_9_at_localKeyId, localKeyId);
+                        }
+                        certBags.add(certBag.build());
+                    }
+                    keyBags.add(new JcaPKCS12SafeBagBuilder((PrivateKey) store.getKey(alias, password), keyEncryptor)
+                            .addBagAttribute(PKCSObjectIdentifiers.pkcs_9_at_friendlyName, friendlyName)
+                            .addBagAttribute(PKCSObjectIdentifiers.pkcs_9_at_localKeyId, localKeyId)
+                            .build());
+                } else {
+                    certBags.add(new JcaPKCS12SafeBagBuilder((X509Certificate) store.getCertificate(alias))
+                            .addBagAttribute(PKCSObjectIdentifiers.pkcs_9_at_friendlyName, friendlyName)
+                            .addBagAttribute(JDK_TRUSTED_KEY_USAGE, KeyPurposeId.anyExtendedKeyUsage)
+                            .build());
+                }
+            }
+
+            // Like openssl, the certificates are encrypted and the already encrypted keys are stored as plain data
+            PKCS12PfxPduBuilder builder = new PKCS12PfxPduBuilder();
+            if (!certBags.isEmpty()) {
+                builder.addEncryptedData(certEncryptor, certBags.toArray(new PKCS12SafeBag[0]));
+            }
+            for (PKCS12SafeBag keyBag : keyBags) {
+                builder.addData(keyBag);
+            }
+            PKCS12PfxPdu pfx = builder.build(new JcePKCS12MacCalculatorBuilder(PKCS12_MAC_ALGORITHM)
+                    .setProvider(PROVIDER).setIterationCount(PKCS12_ITERATION_COUNT), password);
+
+            Files.write(file.toPath(), pfx.getEncoded(ASN1Encoding.DER));
+        } catch (GeneralSecurityException | OperatorCreationException | PKCSException e) {
+            throw new IOException("Failed to write PKCS12 store " + file, e);
+        }
+    }
+
+    private static ContentSigner contentSigner(PrivateKey key) throws IOException {
+        try {
+            return new JcaContentSignerBuilder(SIGNATURE_ALGORITHM).build(key);
+        } catch (OperatorCreationException e) {
+            throw new IOException("Failed to create signer", e);
+        }
+    }
+
+    private static Extension subjectKeyIdentifier(PublicKey publicKey) throws IOException {
+        try {
+            return new Extension(Extension.subjectKeyIdentifier, false,
+                    new JcaX509ExtensionUtils().createSubjectKeyIdentifier(publicKey).getEncoded());
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * @return The DN of the subject with the same order of the attributes as {@link Subject#opensslDn()}
+     */
+    private static X500Name x500Name(Subject subject) {
+        X500NameBuilder builder = new X500NameBuilder(BCStyle.INSTANCE);
+        if (subject.organizationName() != null) {
+            builder.addRDN(BCStyle.O, subject.organizationName());
+        }
+        if (subject.commonName() != null) {
+            builder.addRDN(BCStyle.CN, subject.commonName());
+        }
+        return builder.build();
+    }
+
+    private static GeneralNames subjectAltNames(Subject subject) {
+        List<GeneralName> names = new ArrayList<>(subject.dnsNames().size() + subject.ipAddresses().size());
+        for (String dnsName : subject.dnsNames()) {
+            names.add(new GeneralName(GeneralName.dNSName, dnsName));
+        }
+        for (String ipAddress : subject.ipAddresses()) {
+            names.add(new GeneralName(GeneralName.iPAddress, ipAddress));
+        }
+        return new GeneralNames(names.toArray(new GeneralName[0]));
+    }
+
+    private static PrivateKey readPrivateKey(byte[] pem) throws IOException {
+        return readKeyPair(pem).getPrivate();
+    }
+
+    /**
+     * Reads an RSA private key in either PKCS#8 or PKCS#1 PEM format. The public key is derived from the private key.
+     */
+    private static KeyPair readKeyPair(byte[] pem) throws IOException {
+        Object object = readPemObject(pem, Object.class);
+        JcaPEMKeyConverter converter = new JcaPEMKeyConverter();
+        if (object instanceof PEMKeyPair) {
+            return converter.getKeyPair((PEMKeyPair) object);
+        } else if (object instanceof PrivateKeyInfo) {
+            PrivateKey privateKey = converter.getPrivateKey((PrivateKeyInfo) object);
+            if (!(privateKey instanceof RSAPrivateCrtKey)) {
+                throw new IOException("Expected an RSA private key, but found " + privateKey.getAlgorithm());
+            }
+
+            RSAPrivateCrtKey rsaKey = (RSAPrivateCrtKey) privateKey;
+            try {
+                PublicKey publicKey = KeyFactory.getInstance(KEY_ALGORITHM).generatePublic(new RSAPublicKeySpec(rsaKey.getModulus(), rsaKey.getPublicExponent()));
+                return new KeyPair(publicKey, privateKey);
+            } catch (GeneralSecurityException e) {
+                throw new IOException("Failed to derive the public key", e);
+            }
+        } else {
+            throw new IOException("Expected a private key in PEM format, but found " + (object == null ? "nothing" : object.getClass().getSimpleName()));
+        }
+    }
+
+    private static <T> T readPemObject(byte[] pem, Class<T> type) throws IOException {
+        try (Reader reader = new StringReader(new String(pem, StandardCharsets.US_ASCII));
+             PEMParser parser = new PEMParser(reader)) {
+            Object object = parser.readObject();
+            if (!type.isInstance(object)) {
+                throw new IOException("Expected " + type.getSimpleName() + " in PEM format, but found " + (object == null ? "nothing" : object.getClass().getSimpleName()));
+            }
+            return type.cast(object);
+        }
+    }
+
+    private static void writePem(File file, Object object) throws IOException {
+        ByteArrayOutputStream pem = new ByteArrayOutputStream();
+        try (Writer writer = new OutputStreamWriter(pem, StandardCharsets.US_ASCII);
+             JcaPEMWriter pemWriter = new JcaPEMWriter(writer)) {
+            pemWriter.writeObject(object);
+        }
+        Files.write(file.toPath(), pem.toByteArray());
+    }
+}
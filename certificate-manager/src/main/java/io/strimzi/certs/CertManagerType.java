@@ -0,0 +1,33 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.certs;
+
+/**
+ * The certificate managers which can be selected in the configuration of the operators
+ */
+public enum CertManagerType {
+    /**
+     * {@link OpenSslCertManager} which runs the openssl command line tool
+     */
+    OPENSSL,
+
+    /**
+     * {@link BouncyCastleCertManager} which generates the keys and certificates in-process
+     */
+    BOUNCYCASTLE;
+
+    /**
+     * @return  New instance of the certificate manager
+     */
+    public CertManager create() {
+        switch (this) {
+            case BOUNCYCASTLE:
+                return new BouncyCastleCertManager();
+            case OPENSSL:
+            default:
+                return new OpenSslCertManager();
+        }
+    }
+}
@@ -0,0 +1,138 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.certs;
+
+import org.bouncycastle.asn1.pkcs.ContentInfo;
+import org.bouncycastle.asn1.pkcs.EncryptedData;
+import org.bouncycastle.asn1.pkcs.PKCSObjectIdentifiers;
+import org.bouncycastle.operator.bc.BcDefaultDigestProvider;
+import org.bouncycastle.pkcs.PKCS12PfxPdu;
+import org.bouncycastle.pkcs.PKCS12SafeBag;
+import org.bouncycastle.pkcs.PKCS12SafeBagFactory;
+import org.bouncycastle.pkcs.PKCS8EncryptedPrivateKeyInfo;
+import org.bouncycastle.pkcs.bc.BcPKCS12MacCalculatorBuilderProvider;
+import org.junit.jupiter.api.Test;
+
+import java.io.File;
+import java.io.FileInputStream;
+import java.nio.file.Files;
+import java.security.KeyStore;
+import java.security.cert.CertificateFactory;
+import java.security.cert.X509Certificate;
+import java.util.List;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.notNullValue;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+/**
+ * Runs the certificate manager tests against the in-process {@link BouncyCastleCertManager} and checks that it can
+ * use the keys and certificates generated by the {@link OpenSslCertManager} and the other way around.
+ */
+public class BouncyCastleCertManagerTest extends OpenSslCertManagerTest {
+    @Override
+    protected CertManager certManager() {
+        return new BouncyCastleCertManager();
+    }
+
+    @Test
+    public void testSignsCertificatesWithOpenSslCa() throws Exception {
+        assertSignsCertificate(new OpenSslCertManager(), new BouncyCastleCertManager());
+    }
+
+    @Test
+    public void testIssuesCertificatesSignedByOpenSsl() throws Exception {
+        assertSignsCertificate(new BouncyCastleCertManager(), new OpenSslCertManager());
+    }
+
+    @Test
+    public void testStoresUseLegacyPkcs12Algorithms() throws Exception {
+        CertManager certManager = new BouncyCastleCertManager();
+        File key = File.createTempFile("key-", ".key");
+        File cert = File.createTempFile("crt-", ".crt");
+        File keyStore = File.createTempFile("keystore-", ".p12");
+        File trustStore = File.createTempFile("truststore-", ".p12");
+
+        try {
+            certManager.generateSelfSignedCert(key, cert, new Subject.Builder().withCommonName("MyCommonName").build(), 365);
+            certManager.addKeyAndCertToKeyStore(key, cert, "user", keyStore, "123456");
+            certManager.addCertToTrustStore(cert, "ca", trustStore, "123456");
+
+            for (File store : List.of(keyStore, trustStore)) {
+                PKCS12PfxPdu pfx = new PKCS12PfxPdu(Files.readAllBytes(store.toPath()));
+                assertThat(pfx.getMacAlgorithmID().getAlgorithm(), is(BouncyCastleCertManager.PKCS12_MAC_ALGORITHM));
+                assertThat(pfx.isMacValid(new BcPKCS12MacCalculatorBuilderProvider(BcDefaultDigestProvider.INSTANCE), "123456".toCharArray()), is(true));
+
+                for (ContentInfo contentInfo : pfx.getContentInfos()) {
+                    if (contentInfo.getContentType().equals(PKCSObjectIdentifiers.encryptedData)) {
+                        EncryptedData encryptedData = EncryptedData.getInstance(contentInfo.getContent());
+                        assertThat(encryptedData.getEncryptionAlgorithm().getAlgorithm(), is(BouncyCastleCertManager.PKCS12_CERT_ALGORITHM));
+                    } else {
+                        for (PKCS12SafeBag bag : new PKCS12SafeBagFactory(contentInfo).getSafeBags()) {
+                            assertThat(bag.getType(), is(PKCSObjectIdentifiers.pkcs8ShroudedKeyBag));
+                            PKCS8EncryptedPrivateKeyInfo keyInfo = (PKCS8EncryptedPrivateKeyInfo) bag.getBagValue();
+                            assertThat(keyInfo.getEncryptionAlgorithm().getAlgorithm(), is(BouncyCastleCertManager.PKCS12_KEY_ALGORITHM));
+                        }
+                    }
+                }
+            }
+
+            // The JDK reads the key entries and the trusted certificate entries
+            KeyStore jdkKeyStore = KeyStore.getInstance("PKCS12");
+            jdkKeyStore.load(new FileInputStream(keyStore), "123456".toCharArray());
+            assertThat(jdkKeyStore.isKeyEntry("user"), is(true));
+            assertThat(jdkKeyStore.getKey("user", "123456".toCharArray()), is(notNullValue()));
+
+            KeyStore jdkTrustStore = KeyStore.getInstance("PKCS12");
+            jdkTrustStore.load(new FileInputStream(trustStore), "123456".toCharArray());
+            assertThat(jdkTrustStore.isCertificateEntry("ca"), is(true));
+        } finally {
+            key.delete();
+            cert.delete();
+            keyStore.delete();
+            trustStore.delete();
+        }
+    }
+
+    private void assertSignsCertificate(CertManager caManager, CertManager certManager) throws Exception {
+        File caKey = File.createTempFile("ca-key-", ".key");
+        File caCert = File.createTempFile("ca-crt-", ".crt");
+        File key = File.createTempFile("key-", ".key");
+        File csr = File.createTempFile("csr-", ".csr");
+        File cert = File.createTempFile("crt-", ".crt");
+        File store = File.createTempFile("store-", ".p12");
+
+        try {
+            Subject caSbj = new Subject.Builder().withCommonName("CACommonName").withOrganizationName("CAOrganizationName").build();
+            Subject sbj = new Subject.Builder().withCommonName("MyCommonName").withOrganizationName("MyOrganization")
+                    .addDnsName("example.com").addIpAddress("10.0.0.1").build();
+
+            caManager.generateSelfSignedCert(caKey, caCert, caSbj, 365);
+            certManager.generateCsr(key, csr, sbj);
+            caManager.generateCert(csr, caKey, caCert, cert, sbj, 365);
+            certManager.addKeyAndCertToKeyStore(key, cert, "user", store, "123456");
+
+            CertificateFactory certFactory = CertificateFactory.getInstance("X.509");
+            X509Certificate ca = (X509Certificate) certFactory.generateCertificate(new FileInputStream(caCert));
+            X509Certificate x509 = (X509Certificate) certFactory.generateCertificate(new FileInputStream(cert));
+            x509.verify(ca.getPublicKey());
+            assertThat(x509.getIssuerX500Principal(), is(ca.getSubjectX500Principal()));
+            assertThat(x509.getSubjectX500Principal(), is(sbj.principal()));
+            assertThat(x509.getSubjectAlternativeNames().size(), is(2));
+
+            KeyStore keyStore = KeyStore.getInstance("PKCS12");
+            keyStore.load(new FileInputStream(store), "123456".toCharArray());
+            assertThat(keyStore.getCertificate("user"), is(x509));
+            assertThat(keyStore.isKeyEntry("user"), is(true));
+        } finally {
+            caKey.delete();
+            caCert.delete();
+            key.delete();
+            csr.delete();
+            cert.delete();
+            store.delete();
+        }
+    }
+}
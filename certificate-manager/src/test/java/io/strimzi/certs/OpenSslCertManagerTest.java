@@ -37,6 +37,7 @@ import java.util.Set;
 
 import org.junit.jupiter.api.Assumptions;
 import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
 import static org.hamcrest.CoreMatchers.is;
@@ -49,13 +50,24 @@ import static org.junit.jupiter.api.Assertions.fail;
 public class OpenSslCertManagerTest {
 
     private static CertificateFactory certFactory;
-    private static OpenSslCertManager ssl;
+    private CertManager ssl;
 
     @BeforeAll
     public static void before() throws CertificateException {
         Assumptions.assumeTrue(System.getProperty("os.name").contains("nux"));
         certFactory = CertificateFactory.getInstance("X.509");
-        ssl = new OpenSslCertManager();
+    }
+
+    @BeforeEach
+    public void createCertManager() {
+        ssl = certManager();
+    }
+
+    /**
+     * @return The certificate manager under test
+     */
+    protected CertManager certManager() {
+        return new OpenSslCertManager();
     }
 
     interface Cmd {
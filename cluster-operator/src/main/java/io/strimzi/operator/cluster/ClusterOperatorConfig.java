@@ -6,10 +6,12 @@ package io.strimzi.operator.cluster;
 
 import io.fabric8.kubernetes.api.model.LocalObjectReference;
 import io.fabric8.kubernetes.api.model.LocalObjectReferenceBuilder;
+import io.strimzi.certs.CertManagerType;
 import io.strimzi.operator.cluster.model.ImagePullPolicy;
 import io.strimzi.operator.cluster.model.KafkaVersion;
 import io.strimzi.operator.cluster.model.NoImageException;
 import io.strimzi.operator.cluster.model.UnsupportedVersionException;
+import io.strimzi.operator.common.AbstractOperator;
 import io.strimzi.operator.common.InvalidConfigurationException;
 import io.strimzi.operator.common.Util;
 import io.strimzi.operator.common.model.Labels;
@@ -48,6 +50,9 @@ public class ClusterOperatorConfig {
     public static final String STRIMZI_CUSTOM_RESOURCE_SELECTOR = "STRIMZI_CUSTOM_RESOURCE_SELECTOR";
     public static final String STRIMZI_FEATURE_GATES = "STRIMZI_FEATURE_GATES";
     public static final String STRIMZI_OPERATIONS_THREAD_POOL_SIZE = "STRIMZI_OPERATIONS_THREAD_POOL_SIZE";
+    public static final String STRIMZI_MAX_CONCURRENT_RECONCILIATIONS = "STRIMZI_MAX_CONCURRENT_RECONCILIATIONS";
+    public static final String STRIMZI_KAFKA_ROLLING_BATCH_SIZE = "STRIMZI_KAFKA_ROLLING_BATCH_SIZE";
+    public static final String STRIMZI_CERT_MANAGER = "STRIMZI_CERT_MANAGER";
 
     // Feature Flags
     public static final String STRIMZI_RBAC_SCOPE = "STRIMZI_RBAC_SCOPE";
@@ -79,6 +84,9 @@ public class ClusterOperatorConfig {
     public static final int DEFAULT_ZOOKEEPER_ADMIN_SESSION_TIMEOUT_MS = 10_000;
     public static final long DEFAULT_CONNECT_BUILD_TIMEOUT_MS = 300_000;
     public static final int DEFAULT_STRIMZI_OPERATIONS_THREAD_POOL_SIZE = 10;
+    public static final int DEFAULT_MAX_CONCURRENT_RECONCILIATIONS = AbstractOperator.DEFAULT_MAX_CONCURRENT_RECONCILIATIONS;
+    public static final int DEFAULT_KAFKA_ROLLING_BATCH_SIZE = 1;
+    public static final CertManagerType DEFAULT_CERT_MANAGER = CertManagerType.OPENSSL;
 
     private final Set<String> namespaces;
     private final long reconciliationIntervalMs;
@@ -96,6 +104,9 @@ public class ClusterOperatorConfig {
     private final Labels customResourceSelector;
     private final FeatureGates featureGates;
     private final int operationsThreadPoolSize;
+    private final int maxConcurrentReconciliations;
+    private final int kafkaRollingBatchSize;
+    private final CertManagerType certManager;
 
     /**
      * Constructor
@@ -116,6 +127,9 @@ public class ClusterOperatorConfig {
      * @param featureGates Configuration string with feature gates settings
      * @param operationsThreadPoolSize The size of the thread pool used for various operations
      * @param zkAdminSessionTimeoutMs Session timeout for the Zookeeper Admin client used in ZK scaling operations
+     * @param maxConcurrentReconciliations Maximal number of reconciliations of the same kind running at the same time
+     * @param kafkaRollingBatchSize Maximal number of Kafka pods restarted at the same time during rolling restarts
+     * @param certManager Certificate manager used to generate the keys and certificates
      */
     @SuppressWarnings("checkstyle:ParameterNumber")
     public ClusterOperatorConfig(
@@ -134,7 +148,10 @@ public class ClusterOperatorConfig {
             Labels customResourceSelector,
             String featureGates,
             int operationsThreadPoolSize,
-            int zkAdminSessionTimeoutMs) {
+            int zkAdminSessionTimeoutMs,
+            int maxConcurrentReconciliations,
+            int kafkaRollingBatchSize,
+            CertManagerType certManager) {
         this.namespaces = unmodifiableSet(new HashSet<>(namespaces));
         this.reconciliationIntervalMs = reconciliationIntervalMs;
         this.operationTimeoutMs = operationTimeoutMs;
@@ -151,6 +168,9 @@ public class ClusterOperatorConfig {
         this.featureGates = new FeatureGates(featureGates);
         this.operationsThreadPoolSize = operationsThreadPoolSize;
         this.zkAdminSessionTimeoutMs = zkAdminSessionTimeoutMs;
+        this.maxConcurrentReconciliations = maxConcurrentReconciliations;
+        this.kafkaRollingBatchSize = kafkaRollingBatchSize;
+        this.certManager = certManager;
     }
 
     /**
@@ -201,6 +221,9 @@ public class ClusterOperatorConfig {
         String featureGates = map.getOrDefault(STRIMZI_FEATURE_GATES, "");
         int operationsThreadPoolSize = parseInt(map.get(STRIMZI_OPERATIONS_THREAD_POOL_SIZE), DEFAULT_STRIMZI_OPERATIONS_THREAD_POOL_SIZE);
         int zkAdminSessionTimeout = parseInt(map.get(STRIMZI_ZOOKEEPER_ADMIN_SESSION_TIMEOUT_MS), DEFAULT_ZOOKEEPER_ADMIN_SESSION_TIMEOUT_MS);
+        int maxConcurrentReconciliations = parseInt(map.get(STRIMZI_MAX_CONCURRENT_RECONCILIATIONS), DEFAULT_MAX_CONCURRENT_RECONCILIATIONS);
+        int kafkaRollingBatchSize = parseInt(map.get(STRIMZI_KAFKA_ROLLING_BATCH_SIZE), DEFAULT_KAFKA_ROLLING_BATCH_SIZE);
+        CertManagerType certManager = parseCertManager(map.get(STRIMZI_CERT_MANAGER));
 
         return new ClusterOperatorConfig(
                 namespaces,
@@ -218,7 +241,10 @@ public class ClusterOperatorConfig {
                 customResourceSelector,
                 featureGates,
                 operationsThreadPoolSize,
-                zkAdminSessionTimeout);
+                zkAdminSessionTimeout,
+                maxConcurrentReconciliations,
+                kafkaRollingBatchSize,
+                certManager);
     }
 
     private static Set<String> parseNamespaceList(String namespacesList)   {
@@ -321,6 +347,22 @@ public class ClusterOperatorConfig {
         return rbacScope;
     }
 
+    private static CertManagerType parseCertManager(String certManagerEnvVar) {
+        CertManagerType certManager = DEFAULT_CERT_MANAGER;
+
+        if (certManagerEnvVar != null) {
+            try {
+                certManager = CertManagerType.valueOf(certManagerEnvVar.trim().toUpperCase(Locale.ENGLISH));
+            } catch (IllegalArgumentException e) {
+                throw new InvalidConfigurationException(certManagerEnvVar
+                        + " is not a valid " + STRIMZI_CERT_MANAGER + " value. " +
+                        STRIMZI_CERT_MANAGER + " can have one of the following values: openssl, bouncycastle.");
+            }
+        }
+
+        return certManager;
+    }
+
     private static ImagePullPolicy parseImagePullPolicy(String imagePullPolicyEnvVar) {
         ImagePullPolicy imagePullPolicy = null;
 
@@ -520,6 +562,27 @@ public class ClusterOperatorConfig {
         return operationsThreadPoolSize;
     }
 
+    /**
+     * @return Maximal number of reconciliations of the same kind of resource running at the same time
+     */
+    public int getMaxConcurrentReconciliations() {
+        return maxConcurrentReconciliations;
+    }
+
+    /**
+     * @return Maximal number of Kafka pods restarted at the same time during rolling restarts
+     */
+    public int getKafkaRollingBatchSize() {
+        return kafkaRollingBatchSize;
+    }
+
+    /**
+     * @return Certificate manager used to generate the keys and certificates
+     */
+    public CertManagerType getCertManager() {
+        return certManager;
+    }
+
     @Override
     public String toString() {
         return "ClusterOperatorConfig(" +
@@ -538,6 +601,9 @@ public class ClusterOperatorConfig {
                 ",customResourceSelector=" + customResourceSelector +
                 ",featureGates=" + featureGates +
                 ",zkAdminSessionTimeoutMS=" + zkAdminSessionTimeoutMs +
+                ",maxConcurrentReconciliations=" + maxConcurrentReconciliations +
+                ",kafkaRollingBatchSize=" + kafkaRollingBatchSize +
+                ",certManager=" + certManager +
                 ")";
     }
 }
@@ -9,7 +9,7 @@ import io.fabric8.kubernetes.api.model.rbac.ClusterRole;
 import io.fabric8.kubernetes.client.DefaultKubernetesClient;
 import io.fabric8.kubernetes.client.KubernetesClient;
 import io.strimzi.api.kafka.Crds;
-import io.strimzi.certs.OpenSslCertManager;
+import io.strimzi.certs.CertManager;
 import io.strimzi.operator.PlatformFeaturesAvailability;
 import io.strimzi.operator.cluster.operator.assembly.KafkaAssemblyOperator;
 import io.strimzi.operator.cluster.operator.assembly.KafkaBridgeAssemblyOperator;
@@ -103,7 +103,8 @@ public class Main {
 
         ResourceOperatorSupplier resourceOperatorSupplier = new ResourceOperatorSupplier(vertx, client, pfa, config.featureGates(), config.getOperationTimeoutMs());
 
-        OpenSslCertManager certManager = new OpenSslCertManager();
+        CertManager certManager = config.getCertManager().create();
+        LOGGER.info("Using {}", certManager.getClass().getSimpleName());
         PasswordGenerator passwordGenerator = new PasswordGenerator(12,
                 "abcdefghijklmnopqrstuvwxyz" +
                         "ABCDEFGHIJKLMNOPQRSTUVWXYZ",
@@ -127,6 +128,19 @@ public class Main {
         KafkaRebalanceAssemblyOperator kafkaRebalanceAssemblyOperator =
                 new KafkaRebalanceAssemblyOperator(vertx, pfa, resourceOperatorSupplier, config);
 
+        Future<Void> caches;
+        if (config.featureGates().informerCacheEnabled()) {
+            LOGGER.info("Starting informer caches");
+            caches = resourceOperatorSupplier.startResourceCaches(config.getNamespaces(), config.getReconciliationIntervalMs())
+                    .recover(error -> {
+                        // The operators fall back to reading from the Kubernetes API until the caches are synced
+                        LOGGER.warn("Failed to sync the informer caches", error);
+                        return Future.succeededFuture();
+                    });
+        } else {
+            caches = Future.succeededFuture();
+        }
+
         List<Future> futures = new ArrayList<>(config.getNamespaces().size());
         for (String namespace : config.getNamespaces()) {
             Promise<String> prom = Promise.promise();
@@ -141,7 +155,7 @@ public class Main {
                     kafkaBridgeAssemblyOperator,
                     kafkaRebalanceAssemblyOperator,
                     resourceOperatorSupplier.metricsProvider);
-            vertx.deployVerticle(operator,
+            caches.onComplete(ignored -> vertx.deployVerticle(operator,
                 res -> {
                     if (res.succeeded()) {
                         if (config.getCustomResourceSelector() != null) {
@@ -154,7 +168,7 @@ public class Main {
                         System.exit(1);
                     }
                     prom.handle(res);
-                });
+                }));
         }
         return CompositeFuture.join(futures);
     }
@@ -30,7 +30,6 @@ import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
 
-import static java.util.Arrays.asList;
 import static java.util.Collections.singletonList;
 
 /**
@@ -58,6 +57,8 @@ public class EntityTopicOperator extends AbstractModel {
     public static final String ENV_VAR_SECURITY_PROTOCOL = "STRIMZI_SECURITY_PROTOCOL";
 
     public static final String ENV_VAR_TLS_ENABLED = "STRIMZI_TLS_ENABLED";
+    public static final String ENV_VAR_STORE_PERSISTENT = "STRIMZI_STORE_PERSISTENT";
+    public static final String ENV_VAR_STORE_STATE_DIR = "STRIMZI_STORE_STATE_DIR";
 
     public static final Probe DEFAULT_HEALTHCHECK_OPTIONS = new ProbeBuilder()
             .withInitialDelaySeconds(EntityTopicOperatorSpec.DEFAULT_HEALTHCHECK_DELAY)
@@ -67,6 +68,12 @@ public class EntityTopicOperator extends AbstractModel {
     // Because the container shares the pod with other containers, it needs to have unique name
     /*test*/ static final String TOPIC_OPERATOR_TMP_DIRECTORY_DEFAULT_VOLUME_NAME = "strimzi-to-tmp";
 
+    // Volume used for the state directory of the persistent topic store. It is added only when the persistent topic
+    // store is enabled through the STRIMZI_STORE_PERSISTENT environment variable in the container template.
+    /*test*/ static final String TOPIC_OPERATOR_STORE_VOLUME_NAME = "strimzi-to-store";
+    /*test*/ static final String TOPIC_OPERATOR_STORE_VOLUME_MOUNT = "/var/lib/strimzi/topic-store";
+    /*test*/ static final String TOPIC_OPERATOR_STORE_VOLUME_SIZE_LIMIT = "1Gi";
+
     // Kafka bootstrap servers and Zookeeper nodes can't be specified in the JSON
     private String kafkaBootstrapServers;
     private String zookeeperConnect;
@@ -282,6 +289,9 @@ public class EntityTopicOperator extends AbstractModel {
         varList.add(buildEnvVar(ENV_VAR_TOPIC_METADATA_MAX_ATTEMPTS, String.valueOf(topicMetadataMaxAttempts)));
         varList.add(buildEnvVar(ENV_VAR_SECURITY_PROTOCOL, EntityTopicOperatorSpec.DEFAULT_SECURITY_PROTOCOL));
         varList.add(buildEnvVar(ENV_VAR_TLS_ENABLED, Boolean.toString(true)));
+        if (isPersistentStoreEnabled()) {
+            varList.add(buildEnvVar(ENV_VAR_STORE_STATE_DIR, TOPIC_OPERATOR_STORE_VOLUME_MOUNT));
+        }
         varList.add(buildEnvVar(ENV_VAR_STRIMZI_GC_LOG_ENABLED, String.valueOf(gcLoggingEnabled)));
         EntityOperator.javaOptions(varList, getJvmOptions(), javaSystemProperties);
 
@@ -294,14 +304,46 @@ public class EntityTopicOperator extends AbstractModel {
     }
 
     public List<Volume> getVolumes() {
-        return asList(VolumeUtils.createConfigMapVolume(logAndMetricsConfigVolumeName, ancillaryConfigMapName));
+        List<Volume> volumeList = new ArrayList<>(2);
+        volumeList.add(VolumeUtils.createConfigMapVolume(logAndMetricsConfigVolumeName, ancillaryConfigMapName));
+
+        if (isPersistentStoreEnabled()) {
+            volumeList.add(VolumeUtils.createEmptyDirVolume(TOPIC_OPERATOR_STORE_VOLUME_NAME, TOPIC_OPERATOR_STORE_VOLUME_SIZE_LIMIT, null));
+        }
+
+        return volumeList;
     }
 
     private List<VolumeMount> getVolumeMounts() {
-        return asList(createTempDirVolumeMount(TOPIC_OPERATOR_TMP_DIRECTORY_DEFAULT_VOLUME_NAME),
-                VolumeUtils.createVolumeMount(logAndMetricsConfigVolumeName, logAndMetricsConfigMountPath),
-                VolumeUtils.createVolumeMount(EntityOperator.TLS_SIDECAR_EO_CERTS_VOLUME_NAME, EntityOperator.TLS_SIDECAR_EO_CERTS_VOLUME_MOUNT),
-                VolumeUtils.createVolumeMount(EntityOperator.TLS_SIDECAR_CA_CERTS_VOLUME_NAME, EntityOperator.TLS_SIDECAR_CA_CERTS_VOLUME_MOUNT));
+        List<VolumeMount> volumeMountList = new ArrayList<>(5);
+        volumeMountList.add(createTempDirVolumeMount(TOPIC_OPERATOR_TMP_DIRECTORY_DEFAULT_VOLUME_NAME));
+
+        if (isPersistentStoreEnabled()) {
+            volumeMountList.add(VolumeUtils.createVolumeMount(TOPIC_OPERATOR_STORE_VOLUME_NAME, TOPIC_OPERATOR_STORE_VOLUME_MOUNT));
+        }
+
+        volumeMountList.add(VolumeUtils.createVolumeMount(logAndMetricsConfigVolumeName, logAndMetricsConfigMountPath));
+        volumeMountList.add(VolumeUtils.createVolumeMount(EntityOperator.TLS_SIDECAR_EO_CERTS_VOLUME_NAME, EntityOperator.TLS_SIDECAR_EO_CERTS_VOLUME_MOUNT));
+        volumeMountList.add(VolumeUtils.createVolumeMount(EntityOperator.TLS_SIDECAR_CA_CERTS_VOLUME_NAME, EntityOperator.TLS_SIDECAR_CA_CERTS_VOLUME_MOUNT));
+        return volumeMountList;
+    }
+
+    /**
+     * The persistent topic store is not configured by the Cluster Operator. It is enabled by setting the
+     * STRIMZI_STORE_PERSISTENT environment variable in the Topic Operator container template.
+     *
+     * @return  True when the Topic Operator uses the persistent topic store and needs a volume for its state directory
+     */
+    /*test*/ boolean isPersistentStoreEnabled() {
+        if (templateContainerEnvVars != null) {
+            for (ContainerEnvVar envVar : templateContainerEnvVars) {
+                if (ENV_VAR_STORE_PERSISTENT.equals(envVar.getName())) {
+                    return Boolean.parseBoolean(envVar.getValue());
+                }
+            }
+        }
+
+        return false;
     }
 
     @Override
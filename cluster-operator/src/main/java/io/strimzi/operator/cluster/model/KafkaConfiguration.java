@@ -16,11 +16,12 @@ import java.io.IOException;
 import java.io.InputStream;
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.EnumMap;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
-import java.util.stream.Collectors;
+import java.util.concurrent.ConcurrentHashMap;
 
 import static java.util.Collections.emptyList;
 
@@ -37,6 +38,11 @@ public class KafkaConfiguration extends AbstractConfiguration {
     private static final List<String> FORBIDDEN_PREFIXES;
     private static final List<String> FORBIDDEN_PREFIX_EXCEPTIONS;
 
+    /**
+     * Config models indexed by the Kafka version. They are read from the classpath only once per version.
+     */
+    private static final Map<String, ConfigModelIndex> CONFIG_MODELS = new ConcurrentHashMap<>();
+
     static {
         FORBIDDEN_PREFIXES = AbstractConfiguration.splitPrefixesToList(KafkaClusterSpec.FORBIDDEN_PREFIXES);
         FORBIDDEN_PREFIX_EXCEPTIONS = AbstractConfiguration.splitPrefixesToList(KafkaClusterSpec.FORBIDDEN_PREFIX_EXCEPTIONS);
@@ -104,11 +110,34 @@ public class KafkaConfiguration extends AbstractConfiguration {
     }
 
     /**
-     * Gets the config model for the given version of the Kafka broker.
+     * Gets the config model for the given version of the Kafka broker. The config model is read from the classpath
+     * only once and the same unmodifiable instance is returned for all subsequent calls. The returned models are
+     * shared by all callers and must not be modified.
+     *
      * @param kafkaVersion The broker version.
      * @return The config model for that broker version.
      */
     public static Map<String, ConfigModel> readConfigModel(KafkaVersion kafkaVersion) {
+        return configModelIndex(kafkaVersion).configs;
+    }
+
+    /**
+     * Gets the indexed config model for the given version of the Kafka broker
+     *
+     * @param kafkaVersion The broker version.
+     * @return The indexed config model for that broker version.
+     */
+    private static ConfigModelIndex configModelIndex(KafkaVersion kafkaVersion) {
+        return CONFIG_MODELS.computeIfAbsent(kafkaVersion.version(), version -> new ConfigModelIndex(loadConfigModel(kafkaVersion)));
+    }
+
+    /**
+     * Reads the config model for the given version of the Kafka broker from the classpath.
+     *
+     * @param kafkaVersion The broker version.
+     * @return The config model for that broker version.
+     */
+    private static Map<String, ConfigModel> loadConfigModel(KafkaVersion kafkaVersion) {
         String name = "/kafka-" + kafkaVersion.version() + "-config-model.json";
         try {
             try (InputStream in = KafkaConfiguration.class.getResourceAsStream(name)) {
@@ -161,11 +190,7 @@ public class KafkaConfiguration extends AbstractConfiguration {
     }
 
     private Set<String> withScope(KafkaVersion kafkaVersion, Scope scope) {
-        Map<String, ConfigModel> c = readConfigModel(kafkaVersion);
-        List<String> configsOfScope = c.entrySet().stream()
-                .filter(config -> scope.equals(config.getValue().getScope()))
-                .map(config -> config.getKey())
-                .collect(Collectors.toList());
+        Set<String> configsOfScope = configModelIndex(kafkaVersion).scopes.getOrDefault(scope, Collections.emptySet());
         Set<String> result = new HashSet<>(asOrderedProperties().asMap().keySet());
         result.retainAll(configsOfScope);
         return Collections.unmodifiableSet(result);
@@ -204,4 +229,22 @@ public class KafkaConfiguration extends AbstractConfiguration {
     public boolean isEmpty() {
         return this.asOrderedProperties().asMap().size() == 0;
     }
+
+    /**
+     * Config model of a single Kafka version together with the names of the configs indexed by their scope
+     */
+    private static class ConfigModelIndex {
+        private final Map<String, ConfigModel> configs;
+        private final Map<Scope, Set<String>> scopes = new EnumMap<>(Scope.class);
+
+        ConfigModelIndex(Map<String, ConfigModel> configs) {
+            this.configs = Collections.unmodifiableMap(configs);
+
+            for (Map.Entry<String, ConfigModel> config : configs.entrySet()) {
+                if (config.getValue().getScope() != null) {
+                    scopes.computeIfAbsent(config.getValue().getScope(), scope -> new HashSet<>()).add(config.getKey());
+                }
+            }
+        }
+    }
 }
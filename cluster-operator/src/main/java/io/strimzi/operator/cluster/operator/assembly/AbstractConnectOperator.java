@@ -45,6 +45,7 @@ import io.strimzi.operator.cluster.operator.resource.ResourceOperatorSupplier;
 import io.strimzi.operator.common.AbstractOperator;
 import io.strimzi.operator.common.Annotations;
 import io.strimzi.operator.common.BackOff;
+import io.strimzi.operator.common.MetricsProvider;
 import io.strimzi.operator.common.Operator;
 import io.strimzi.operator.common.ReconciliationLogger;
 import io.strimzi.operator.common.Reconciliation;
@@ -123,7 +124,7 @@ public abstract class AbstractConnectOperator<C extends KubernetesClient, T exte
                                    ResourceOperatorSupplier supplier, ClusterOperatorConfig config,
                                    Function<Vertx, KafkaConnectApi> connectClientProvider,
                                    int port) {
-        super(vertx, kind, resourceOperator, supplier.metricsProvider, config.getCustomResourceSelector());
+        super(vertx, kind, resourceOperator, supplier.metricsProvider, config.getCustomResourceSelector(), config.getMaxConcurrentReconciliations());
         this.connectorOperator = supplier.kafkaConnectorOperator;
         this.connectClientProvider = connectClientProvider;
         this.configMapOperations = supplier.configMapOperations;
@@ -141,8 +142,39 @@ public abstract class AbstractConnectOperator<C extends KubernetesClient, T exte
         this.port = port;
     }
 
+    /**
+     * Creates the Connect API client provider which shares a pool of keep-alive HTTP clients between all the Connect
+     * API clients it provides.
+     *
+     * @param vertx     Vert.x instance
+     * @param metrics   Metrics provider used for the HTTP client pool metrics
+     * @param kind      Kind of the custom resource managing the Connect clusters
+     *
+     * @return  Connect API client provider
+     */
+    protected static Function<Vertx, KafkaConnectApi> pooledConnectClientProvider(Vertx vertx, MetricsProvider metrics, String kind) {
+        KafkaConnectHttpClientPool httpClientPool = new KafkaConnectHttpClientPool(vertx, metrics, kind, KafkaConnectHttpClientPool.DEFAULT_MAX_CONNECTIONS);
+        return v -> new KafkaConnectApiImpl(v, httpClientPool);
+    }
+
+    /**
+     * Returns the host of the Connect REST API of the given Connect cluster
+     *
+     * @param name      Name of the Connect cluster
+     * @param namespace Namespace of the Connect cluster
+     *
+     * @return  Host of the Connect REST API
+     */
+    protected abstract String restApiHost(String name, String namespace);
+
     @Override
     protected Future<Boolean> delete(Reconciliation reconciliation) {
+        // The Connect cluster is gone, so the connections to its REST API are not needed anymore
+        KafkaConnectApi apiClient = connectClientProvider.apply(vertx);
+        if (apiClient != null) {
+            apiClient.closeConnections(restApiHost(reconciliation.name(), reconciliation.namespace()), port);
+        }
+
         // When deleting KafkaConnect we need to update the status of all selected KafkaConnector
         return connectorOperator.listAsync(reconciliation.namespace(), Labels.forStrimziCluster(reconciliation.name())).compose(connectors -> {
             List<Future> connectorFutures = new ArrayList<>();
@@ -298,13 +330,15 @@ public abstract class AbstractConnectOperator<C extends KubernetesClient, T exte
 
         KafkaConnectApi apiClient = connectClientProvider.apply(vertx);
 
+        // The configuration and status of all connectors are fetched in a single request and the reconciliation of
+        // the individual connectors reads them from this snapshot
         return CompositeFuture.join(
-                apiClient.list(host, port),
+                apiClient.listWithStatusAndInfo(reconciliation, host, port).map(ConnectorsSnapshot::new),
                 connectorOperator.listAsync(namespace, Optional.of(new LabelSelectorBuilder().addToMatchLabels(Labels.STRIMZI_CLUSTER_LABEL, connectName).build())),
                 apiClient.listConnectorPlugins(reconciliation, host, port),
                 apiClient.updateConnectLoggers(reconciliation, host, port, desiredLogging, defaultLogging)
         ).compose(cf -> {
-            List<String> runningConnectorNames = cf.resultAt(0);
+            ConnectorsSnapshot snapshot = cf.resultAt(0);
             List<KafkaConnector> desiredConnectors = cf.resultAt(1);
             List<ConnectorPlugin> connectorPlugins = cf.resultAt(2);
 
@@ -313,7 +347,7 @@ public abstract class AbstractConnectOperator<C extends KubernetesClient, T exte
 
             connectorsResourceCounter(namespace).set(desiredConnectors.size());
 
-            Set<String> deleteConnectorNames = new HashSet<>(runningConnectorNames);
+            Set<String> deleteConnectorNames = new HashSet<>(snapshot.names());
             deleteConnectorNames.removeAll(desiredConnectors.stream().map(c -> c.getMetadata().getName()).collect(Collectors.toSet()));
             LOGGER.debugCr(reconciliation, "{} cluster: delete connectors: {}", kind(), deleteConnectorNames);
             Stream<Future<Void>> deletionFutures = deleteConnectorNames.stream().map(connectorName ->
@@ -322,7 +356,7 @@ public abstract class AbstractConnectOperator<C extends KubernetesClient, T exte
 
             LOGGER.debugCr(reconciliation, "{} cluster: required connectors: {}", kind(), desiredConnectors);
             Stream<Future<Void>> createUpdateFutures = desiredConnectors.stream()
-                    .map(connector -> reconcileConnectorAndHandleResult(reconciliation, host, apiClient, true, connector.getMetadata().getName(), connector));
+                    .map(connector -> reconcileConnectorAndHandleResult(reconciliation, host, apiClient, true, connector.getMetadata().getName(), connector, snapshot));
 
             return CompositeFuture.join(Stream.concat(deletionFutures, createUpdateFutures).collect(Collectors.toList())).map((Void) null);
         }).recover(error -> {
@@ -350,6 +384,11 @@ public abstract class AbstractConnectOperator<C extends KubernetesClient, T exte
 
     /*test*/ Future<Void> reconcileConnectorAndHandleResult(Reconciliation reconciliation, String host, KafkaConnectApi apiClient,
                                              boolean useResources, String connectorName, KafkaConnector connector) {
+        return reconcileConnectorAndHandleResult(reconciliation, host, apiClient, useResources, connectorName, connector, null);
+    }
+
+    private Future<Void> reconcileConnectorAndHandleResult(Reconciliation reconciliation, String host, KafkaConnectApi apiClient,
+                                             boolean useResources, String connectorName, KafkaConnector connector, ConnectorsSnapshot snapshot) {
         Promise<Void> reconciliationResult = Promise.promise();
 
         connectorsReconciliationsCounter(reconciliation.namespace()).increment();
@@ -366,7 +405,7 @@ public abstract class AbstractConnectOperator<C extends KubernetesClient, T exte
             );
         }
 
-        reconcileConnector(reconciliation, host, apiClient, useResources, connectorName, connector)
+        reconcileConnector(reconciliation, host, apiClient, useResources, connectorName, connector, snapshot)
                 .onComplete(result -> {
                     connectorsReconciliationsTimerSample.stop(connectorsReconciliationsTimer(reconciliation.namespace()));
 
@@ -383,7 +422,7 @@ public abstract class AbstractConnectOperator<C extends KubernetesClient, T exte
     }
 
     private Future<Void> reconcileConnector(Reconciliation reconciliation, String host, KafkaConnectApi apiClient,
-                                             boolean useResources, String connectorName, KafkaConnector connector) {
+                                             boolean useResources, String connectorName, KafkaConnector connector, ConnectorsSnapshot snapshot) {
         if (connector == null) {
             if (useResources) {
                 LOGGER.infoCr(reconciliation, "deleting connector: {}", connectorName);
@@ -402,7 +441,7 @@ public abstract class AbstractConnectOperator<C extends KubernetesClient, T exte
                         new NoSuchResourceException(reconciliation.kind() + " " + reconciliation.name() + " is not configured with annotation " + Annotations.STRIMZI_IO_USE_CONNECTOR_RESOURCES));
             } else {
                 Promise<Void> promise = Promise.promise();
-                maybeCreateOrUpdateConnector(reconciliation, host, apiClient, connectorName, connector.getSpec(), connector)
+                maybeCreateOrUpdateConnector(reconciliation, host, apiClient, connectorName, connector.getSpec(), connector, snapshot)
                         .onComplete(result -> {
                             if (result.succeeded()) {
                                 maybeUpdateConnectorStatus(reconciliation, connector, result.result(), null)
@@ -432,38 +471,101 @@ public abstract class AbstractConnectOperator<C extends KubernetesClient, T exte
      */
     protected Future<ConnectorStatusAndConditions> maybeCreateOrUpdateConnector(Reconciliation reconciliation, String host, KafkaConnectApi apiClient,
                                                                                 String connectorName, KafkaConnectorSpec connectorSpec, CustomResource resource) {
+        return maybeCreateOrUpdateConnector(reconciliation, host, apiClient, connectorName, connectorSpec, resource, null);
+    }
+
+    /**
+     * Same as {@link #maybeCreateOrUpdateConnector(Reconciliation, String, KafkaConnectApi, String, KafkaConnectorSpec, CustomResource)},
+     * but reads the current connector config and status from the snapshot when it is provided.
+     * @param reconciliation The reconciliation.
+     * @param host The REST API host.
+     * @param apiClient The client instance.
+     * @param connectorName The connector name.
+     * @param connectorSpec The desired connector spec.
+     * @param resource The resource that defines the connector.
+     * @param snapshot The snapshot of all connectors taken at the beginning of the reconciliation or null.
+     * @return A Future whose result, when successfully completed, is a ConnectorStatusAndConditions object containing the map of the current connector state plus any conditions that have arisen.
+     */
+    private Future<ConnectorStatusAndConditions> maybeCreateOrUpdateConnector(Reconciliation reconciliation, String host, KafkaConnectApi apiClient,
+                                                                              String connectorName, KafkaConnectorSpec connectorSpec, CustomResource resource,
+                                                                              ConnectorsSnapshot snapshot) {
+        if (snapshot != null) {
+            Map<String, String> config = snapshot.config(connectorName);
+            Map<String, Object> status = snapshot.status(connectorName);
+
+            if (config == null || status == null) {
+                LOGGER.debugCr(reconciliation, "Connector {} does not exist", connectorName);
+                return createConnector(reconciliation, host, apiClient, connectorName, connectorSpec);
+            } else if (needsReconfiguring(reconciliation, connectorName, connectorSpec, config)) {
+                LOGGER.debugCr(reconciliation, "Connector {} exists but does not have desired config, {}!={}", connectorName, connectorSpec.getConfig(), config);
+                return createConnector(reconciliation, host, apiClient, connectorName, connectorSpec);
+            } else {
+                LOGGER.debugCr(reconciliation, "Connector {} exists and has desired config, {}=={}", connectorName, connectorSpec.getConfig(), config);
+                return maybeUpdateConnectorState(reconciliation, host, apiClient, connectorName, connectorSpec, resource, status);
+            }
+        }
+
         return apiClient.getConnectorConfig(reconciliation, new BackOff(200L, 2, 6), host, port, connectorName).compose(
             config -> {
                 if (!needsReconfiguring(reconciliation, connectorName, connectorSpec, config)) {
                     LOGGER.debugCr(reconciliation, "Connector {} exists and has desired config, {}=={}", connectorName, connectorSpec.getConfig(), config);
                     return apiClient.status(reconciliation, host, port, connectorName)
-                        .compose(status -> pauseResume(reconciliation, host, apiClient, connectorName, connectorSpec, status))
-                        .compose(ignored -> maybeRestartConnector(reconciliation, host, apiClient, connectorName, resource, new ArrayList<>()))
-                        .compose(conditions -> maybeRestartConnectorTask(reconciliation, host, apiClient, connectorName, resource, conditions))
-                        .compose(conditions ->
-                            apiClient.statusWithBackOff(reconciliation, new BackOff(200L, 2, 10), host, port, connectorName)
-                                .compose(createConnectorStatusAndConditions(conditions)))
-                        .compose(status -> updateConnectorTopics(reconciliation, host, apiClient, connectorName, status));
+                        .compose(status -> maybeUpdateConnectorState(reconciliation, host, apiClient, connectorName, connectorSpec, resource, status));
                 } else {
                     LOGGER.debugCr(reconciliation, "Connector {} exists but does not have desired config, {}!={}", connectorName, connectorSpec.getConfig(), config);
-                    return createOrUpdateConnector(reconciliation, host, apiClient, connectorName, connectorSpec)
-                        .compose(createConnectorStatusAndConditions())
-                        .compose(status -> updateConnectorTopics(reconciliation, host, apiClient, connectorName, status));
+                    return createConnector(reconciliation, host, apiClient, connectorName, connectorSpec);
                 }
             },
             error -> {
                 if (error instanceof ConnectRestException
                         && ((ConnectRestException) error).getStatusCode() == 404) {
                     LOGGER.debugCr(reconciliation, "Connector {} does not exist", connectorName);
-                    return createOrUpdateConnector(reconciliation, host, apiClient, connectorName, connectorSpec)
-                        .compose(createConnectorStatusAndConditions())
-                        .compose(status -> updateConnectorTopics(reconciliation, host, apiClient, connectorName, status));
+                    return createConnector(reconciliation, host, apiClient, connectorName, connectorSpec);
                 } else {
                     return Future.failedFuture(error);
                 }
             });
     }
 
+    private Future<ConnectorStatusAndConditions> createConnector(Reconciliation reconciliation, String host, KafkaConnectApi apiClient,
+                                                                 String connectorName, KafkaConnectorSpec connectorSpec) {
+        return createOrUpdateConnector(reconciliation, host, apiClient, connectorName, connectorSpec)
+            .compose(createConnectorStatusAndConditions())
+            .compose(status -> updateConnectorTopics(reconciliation, host, apiClient, connectorName, status));
+    }
+
+    /**
+     * Pauses, resumes or restarts the connector with the desired config if needed and returns its status.
+     * @param reconciliation The reconciliation.
+     * @param host The REST API host.
+     * @param apiClient The client instance.
+     * @param connectorName The connector name.
+     * @param connectorSpec The desired connector spec.
+     * @param resource The resource that defines the connector.
+     * @param status The current status of the connector.
+     * @return A Future whose result, when successfully completed, is a ConnectorStatusAndConditions object containing the map of the current connector state plus any conditions that have arisen.
+     */
+    private Future<ConnectorStatusAndConditions> maybeUpdateConnectorState(Reconciliation reconciliation, String host, KafkaConnectApi apiClient,
+                                                                           String connectorName, KafkaConnectorSpec connectorSpec, CustomResource resource,
+                                                                           Map<String, Object> status) {
+        if (!needsPauseOrResume(connectorSpec, status)
+                && !hasRestartAnnotation(resource, connectorName)
+                && getRestartTaskAnnotationTaskID(resource, connectorName) < 0) {
+            // Nothing changes, so the status we already have is still current
+            return Future.succeededFuture(status)
+                .compose(createConnectorStatusAndConditions(new ArrayList<>()))
+                .compose(connectorStatus -> updateConnectorTopics(reconciliation, host, apiClient, connectorName, connectorStatus));
+        }
+
+        return pauseResume(reconciliation, host, apiClient, connectorName, connectorSpec, status)
+            .compose(ignored -> maybeRestartConnector(reconciliation, host, apiClient, connectorName, resource, new ArrayList<>()))
+            .compose(conditions -> maybeRestartConnectorTask(reconciliation, host, apiClient, connectorName, resource, conditions))
+            .compose(conditions ->
+                apiClient.statusWithBackOff(reconciliation, new BackOff(200L, 2, 10), host, port, connectorName)
+                    .compose(createConnectorStatusAndConditions(conditions)))
+            .compose(connectorStatus -> updateConnectorTopics(reconciliation, host, apiClient, connectorName, connectorStatus));
+    }
+
     private boolean needsReconfiguring(Reconciliation reconciliation, String connectorName,
                                        KafkaConnectorSpec connectorSpec,
                                        Map<String, String> actual) {
@@ -494,6 +596,16 @@ public abstract class AbstractConnectOperator<C extends KubernetesClient, T exte
             .compose(ignored ->  apiClient.status(reconciliation, host, port, connectorName));
     }
 
+    private static boolean needsPauseOrResume(KafkaConnectorSpec connectorSpec, Map<String, Object> status) {
+        Object state = ((Map) status.getOrDefault("connector", emptyMap())).get("state");
+        boolean shouldPause = Boolean.TRUE.equals(connectorSpec.getPause());
+
+        // An unknown state is handled (and reported) by pauseResume()
+        return !(state instanceof String)
+                || ("RUNNING".equals(state) && shouldPause)
+                || ("PAUSED".equals(state) && !shouldPause);
+    }
+
     private Future<Void> pauseResume(Reconciliation reconciliation, String host, KafkaConnectApi apiClient, String connectorName, KafkaConnectorSpec connectorSpec, Map<String, Object> status) {
         Object path = ((Map) status.getOrDefault("connector", emptyMap())).get("state");
         if (!(path instanceof String)) {
@@ -0,0 +1,69 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.cluster.operator.assembly;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Configuration and status of all connectors of a Connect cluster, fetched at the beginning of the reconciliation using
+ * a single {@code GET /connectors?expand=status&expand=info} request. The reconciliation of the individual connectors
+ * reads their current configuration and status from the snapshot instead of requesting them one by one.
+ */
+class ConnectorsSnapshot {
+    private final Map<String, Map<String, Map<String, Object>>> connectors;
+
+    /**
+     * Constructs the snapshot
+     *
+     * @param connectors    Map of connector names to their status and info as returned by the Connect REST API
+     */
+    ConnectorsSnapshot(Map<String, Map<String, Map<String, Object>>> connectors) {
+        this.connectors = connectors;
+    }
+
+    /**
+     * @return  Names of the connectors running in the Connect cluster
+     */
+    Set<String> names() {
+        return connectors.keySet();
+    }
+
+    /**
+     * Returns the configuration of the connector in the same format as {@code GET /connectors/${connectorName}/config}
+     *
+     * @param connectorName Name of the connector
+     *
+     * @return  Configuration of the connector or null if the connector does not exist
+     */
+    @SuppressWarnings("unchecked")
+    Map<String, String> config(String connectorName) {
+        Map<String, Map<String, Object>> connector = connectors.get(connectorName);
+        if (connector == null || connector.get("info") == null || !(connector.get("info").get("config") instanceof Map)) {
+            return null;
+        }
+
+        Map<String, Object> config = (Map<String, Object>) connector.get("info").get("config");
+        Map<String, String> result = new HashMap<>(config.size());
+        for (Map.Entry<String, Object> entry : config.entrySet()) {
+            result.put(entry.getKey(), entry.getValue() != null ? entry.getValue().toString() : null);
+        }
+
+        return result;
+    }
+
+    /**
+     * Returns the status of the connector in the same format as {@code GET /connectors/${connectorName}/status}
+     *
+     * @param connectorName Name of the connector
+     *
+     * @return  Status of the connector or null if the connector does not exist
+     */
+    Map<String, Object> status(String connectorName) {
+        Map<String, Map<String, Object>> connector = connectors.get(connectorName);
+        return connector != null ? connector.get("status") : null;
+    }
+}
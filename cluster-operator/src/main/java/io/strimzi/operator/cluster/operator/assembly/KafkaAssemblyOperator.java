@@ -23,6 +23,9 @@ import io.fabric8.kubernetes.api.model.storage.StorageClass;
 import io.fabric8.kubernetes.client.KubernetesClient;
 import io.fabric8.kubernetes.client.dsl.Resource;
 import io.fabric8.openshift.api.model.Route;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tag;
+import io.micrometer.core.instrument.Tags;
 import io.strimzi.api.kafka.KafkaList;
 import io.strimzi.api.kafka.model.CertAndKeySecretSource;
 import io.strimzi.api.kafka.model.CertificateAuthority;
@@ -159,8 +162,16 @@ import static java.util.Collections.emptyMap;
 public class KafkaAssemblyOperator extends AbstractAssemblyOperator<KubernetesClient, Kafka, KafkaList, Resource<Kafka>, KafkaSpec, KafkaStatus> {
     private static final ReconciliationLogger LOGGER = ReconciliationLogger.create(KafkaAssemblyOperator.class.getName());
 
+    /**
+     * Worker pool used to generate the CA and pod certificates, so that long certificate generation does not block
+     * the workers of the pool used for the Kubernetes operations
+     */
+    private static final String CERT_GENERATION_POOL = "certificate-generation-pool";
+    /* test */ static final String METRICS_CERT_GENERATION_DURATION = METRICS_PREFIX + "certificate.generation.duration";
+
     private final long operationTimeoutMs;
     private final int zkAdminSessionTimeoutMs;
+    private final int kafkaRollingBatchSize;
     private final String operatorNamespace;
     private final Labels operatorNamespaceLabels;
     private final FeatureGates featureGates;
@@ -198,6 +209,7 @@ public class KafkaAssemblyOperator extends AbstractAssemblyOperator<KubernetesCl
                 supplier.kafkaOperator, supplier, config);
         this.operationTimeoutMs = config.getOperationTimeoutMs();
         this.zkAdminSessionTimeoutMs = config.getZkAdminSessionTimeoutMs();
+        this.kafkaRollingBatchSize = config.getKafkaRollingBatchSize();
         this.operatorNamespace = config.getOperatorNamespace();
         this.operatorNamespaceLabels = config.getOperatorNamespaceLabels();
         this.isNetworkPolicyGeneration = config.isNetworkPolicyGeneration();
@@ -258,119 +270,133 @@ public class KafkaAssemblyOperator extends AbstractAssemblyOperator<KubernetesCl
         return createOrUpdatePromise.future();
     }
 
-    Future<Void> reconcile(ReconciliationState reconcileState)  {
-        Promise<Void> chainPromise = Promise.promise();
-
-        reconcileState.initialStatus()
-                .compose(state -> state.reconcileCas(this::dateSupplier))
-                .compose(state -> state.clusterOperatorSecret(this::dateSupplier))
-                .compose(state -> state.getKafkaClusterDescription())
-                .compose(state -> state.getZookeeperDescription()) // HAs to be before the rollingUpdateForNewCaKey
-                .compose(state -> state.prepareVersionChange())
+    /**
+     * Reconciles the Kafka cluster. The reconciliation is expressed as a graph of named steps. Steps which do not
+     * depend on each other (for example the Services, Network Policies or Pod Disruption Budgets and the Entity
+     * Operator, Cruise Control, Kafka Exporter and JmxTrans sections) run concurrently.
+     *
+     * @param state   Reconciliation state
+     *
+     * @return  Future which completes when the reconciliation is done
+     */
+    Future<Void> reconcile(ReconciliationState state)  {
+        return new StepGraph(vertx, state.reconciliation, metrics)
+                .step("initialStatus", state::initialStatus)
+                .step("reconcileCas", () -> state.reconcileCas(this::dateSupplier), "initialStatus")
+                .step("clusterOperatorSecret", () -> state.clusterOperatorSecret(this::dateSupplier), "reconcileCas")
+                .step("getKafkaClusterDescription", state::getKafkaClusterDescription, "clusterOperatorSecret")
+                .step("getZookeeperDescription", state::getZookeeperDescription, "getKafkaClusterDescription") // Has to be before the rollingUpdateForNewCaKey
+                .step("prepareVersionChange", state::prepareVersionChange, "getZookeeperDescription")
                 // Roll everything if a new CA is added to the trust store.
-                .compose(state -> state.rollingUpdateForNewCaKey())
-
-                .compose(state -> state.zkModelWarnings())
-                .compose(state -> state.zkJmxSecret())
-                .compose(state -> state.zkManualPodCleaning())
-                .compose(state -> state.zkNetPolicy())
-                .compose(state -> state.zkManualRollingUpdate())
-                .compose(state -> state.zkVersionChange())
-                .compose(state -> state.zookeeperServiceAccount())
-                .compose(state -> state.zkPvcs())
-                .compose(state -> state.zkService())
-                .compose(state -> state.zkHeadlessService())
-                .compose(state -> state.zkGenerateCertificates(this::dateSupplier))
-                .compose(state -> state.zkAncillaryCm())
-                .compose(state -> state.zkNodesSecret())
-                .compose(state -> state.zkPodDisruptionBudget())
-                .compose(state -> state.zkStatefulSet())
-                .compose(state -> state.zkScalingDown())
-                .compose(state -> state.zkRollingUpdate())
-                .compose(state -> state.zkPodsReady())
-                .compose(state -> state.zkScalingUp())
-                .compose(state -> state.zkScalingCheck())
-                .compose(state -> state.zkServiceEndpointReadiness())
-                .compose(state -> state.zkHeadlessServiceEndpointReadiness())
-                .compose(state -> state.zkPersistentClaimDeletion())
-
-                .compose(state -> state.checkKafkaSpec())
-                .compose(state -> state.kafkaModelWarnings())
-                .compose(state -> state.kafkaManualPodCleaning())
-                .compose(state -> state.kafkaNetPolicy())
-                .compose(state -> state.kafkaManualRollingUpdate())
-                .compose(state -> state.kafkaPvcs())
-                .compose(state -> state.kafkaInitServiceAccount())
-                .compose(state -> state.kafkaInitClusterRoleBinding())
-                .compose(state -> state.kafkaScaleDown())
-                .compose(state -> state.kafkaServices())
-                .compose(state -> state.kafkaRoutes())
-                .compose(state -> state.kafkaIngresses())
-                .compose(state -> state.kafkaIngressesV1Beta1())
-                .compose(state -> state.kafkaInternalServicesReady())
-                .compose(state -> state.kafkaLoadBalancerServicesReady())
-                .compose(state -> state.kafkaNodePortServicesReady())
-                .compose(state -> state.kafkaRoutesReady())
-                .compose(state -> state.kafkaIngressesReady())
-                .compose(state -> state.kafkaIngressesV1Beta1Ready())
-                .compose(state -> state.kafkaGenerateCertificates(this::dateSupplier))
-                .compose(state -> state.customListenerCertificates())
-                .compose(state -> state.kafkaAncillaryCm())
-                .compose(state -> state.kafkaBrokersSecret())
-                .compose(state -> state.kafkaJmxSecret())
-                .compose(state -> state.kafkaPodDisruptionBudget())
-                .compose(state -> state.kafkaStatefulSet())
-                .compose(state -> state.kafkaRollToAddOrRemoveVolumes())
-                .compose(state -> state.kafkaRollingUpdate())
-                .compose(state -> state.kafkaScaleUp())
-                .compose(state -> state.kafkaPodsReady())
-                .compose(state -> state.kafkaServiceEndpointReady())
-                .compose(state -> state.kafkaHeadlessServiceEndpointReady())
-                .compose(state -> state.kafkaGetClusterId())
-                .compose(state -> state.kafkaPersistentClaimDeletion())
+                .step("rollingUpdateForNewCaKey", state::rollingUpdateForNewCaKey, "prepareVersionChange")
+
+                // ZooKeeper resources which do not depend on each other and only have to exist before the StatefulSet
+                .step("zkJmxSecret", state::zkJmxSecret, "rollingUpdateForNewCaKey")
+                .step("zkNetPolicy", state::zkNetPolicy, "rollingUpdateForNewCaKey")
+                .step("zookeeperServiceAccount", state::zookeeperServiceAccount, "rollingUpdateForNewCaKey")
+                .step("zkService", state::zkService, "rollingUpdateForNewCaKey")
+                .step("zkHeadlessService", state::zkHeadlessService, "rollingUpdateForNewCaKey")
+                .step("zkPodDisruptionBudget", state::zkPodDisruptionBudget, "rollingUpdateForNewCaKey")
+
+                .step("zkModelWarnings", state::zkModelWarnings, "rollingUpdateForNewCaKey")
+                .step("zkManualPodCleaning", state::zkManualPodCleaning, "zkModelWarnings")
+                .step("zkManualRollingUpdate", state::zkManualRollingUpdate, "zkManualPodCleaning")
+                .step("zkVersionChange", state::zkVersionChange, "zkManualRollingUpdate")
+                .step("zkPvcs", state::zkPvcs, "zkVersionChange")
+                .step("zkGenerateCertificates", () -> state.zkGenerateCertificates(this::dateSupplier), "zkPvcs")
+                .step("zkAncillaryCm", state::zkAncillaryCm, "zkGenerateCertificates")
+                .step("zkNodesSecret", state::zkNodesSecret, "zkAncillaryCm")
+                .step("zkStatefulSet", state::zkStatefulSet, "zkNodesSecret", "zkJmxSecret", "zkNetPolicy",
+                        "zookeeperServiceAccount", "zkService", "zkHeadlessService", "zkPodDisruptionBudget")
+                .step("zkScalingDown", state::zkScalingDown, "zkStatefulSet")
+                .step("zkRollingUpdate", state::zkRollingUpdate, "zkScalingDown")
+                .step("zkPodsReady", state::zkPodsReady, "zkRollingUpdate")
+                .step("zkScalingUp", state::zkScalingUp, "zkPodsReady")
+                .step("zkScalingCheck", state::zkScalingCheck, "zkScalingUp")
+                .step("zkServiceEndpointReadiness", state::zkServiceEndpointReadiness, "zkScalingCheck")
+                .step("zkHeadlessServiceEndpointReadiness", state::zkHeadlessServiceEndpointReadiness, "zkServiceEndpointReadiness")
+                .step("zkPersistentClaimDeletion", state::zkPersistentClaimDeletion, "zkHeadlessServiceEndpointReadiness")
+
+                .step("checkKafkaSpec", state::checkKafkaSpec, "zkPersistentClaimDeletion")
+
+                // Kafka resources which do not depend on each other and only have to exist before the StatefulSet. They
+                // are changed only after ZooKeeper is reconciled and the Kafka spec is checked.
+                .step("kafkaNetPolicy", state::kafkaNetPolicy, "checkKafkaSpec")
+                .step("kafkaInitServiceAccount", state::kafkaInitServiceAccount, "checkKafkaSpec")
+                .step("kafkaInitClusterRoleBinding", state::kafkaInitClusterRoleBinding, "checkKafkaSpec")
+                .step("kafkaJmxSecret", state::kafkaJmxSecret, "checkKafkaSpec")
+                .step("kafkaPodDisruptionBudget", state::kafkaPodDisruptionBudget, "checkKafkaSpec")
+
+                .step("kafkaModelWarnings", state::kafkaModelWarnings, "checkKafkaSpec")
+                .step("kafkaManualPodCleaning", state::kafkaManualPodCleaning, "kafkaModelWarnings")
+                .step("kafkaManualRollingUpdate", state::kafkaManualRollingUpdate, "kafkaManualPodCleaning")
+                .step("kafkaPvcs", state::kafkaPvcs, "kafkaManualRollingUpdate")
+                .step("kafkaScaleDown", state::kafkaScaleDown, "kafkaPvcs")
+                .step("kafkaServices", state::kafkaServices, "kafkaScaleDown")
+                .step("kafkaRoutes", state::kafkaRoutes, "kafkaServices")
+                .step("kafkaIngresses", state::kafkaIngresses, "kafkaRoutes")
+                .step("kafkaIngressesV1Beta1", state::kafkaIngressesV1Beta1, "kafkaIngresses")
+                .step("kafkaInternalServicesReady", state::kafkaInternalServicesReady, "kafkaIngressesV1Beta1")
+                .step("kafkaLoadBalancerServicesReady", state::kafkaLoadBalancerServicesReady, "kafkaInternalServicesReady")
+                .step("kafkaNodePortServicesReady", state::kafkaNodePortServicesReady, "kafkaLoadBalancerServicesReady")
+                .step("kafkaRoutesReady", state::kafkaRoutesReady, "kafkaNodePortServicesReady")
+                .step("kafkaIngressesReady", state::kafkaIngressesReady, "kafkaRoutesReady")
+                .step("kafkaIngressesV1Beta1Ready", state::kafkaIngressesV1Beta1Ready, "kafkaIngressesReady")
+                .step("kafkaGenerateCertificates", () -> state.kafkaGenerateCertificates(this::dateSupplier), "kafkaIngressesV1Beta1Ready")
+                .step("customListenerCertificates", state::customListenerCertificates, "kafkaGenerateCertificates")
+                .step("kafkaAncillaryCm", state::kafkaAncillaryCm, "customListenerCertificates")
+                .step("kafkaBrokersSecret", state::kafkaBrokersSecret, "kafkaAncillaryCm")
+                .step("kafkaStatefulSet", state::kafkaStatefulSet, "kafkaBrokersSecret", "kafkaNetPolicy",
+                        "kafkaInitServiceAccount", "kafkaInitClusterRoleBinding", "kafkaJmxSecret", "kafkaPodDisruptionBudget")
+                .step("kafkaRollToAddOrRemoveVolumes", state::kafkaRollToAddOrRemoveVolumes, "kafkaStatefulSet")
+                .step("kafkaRollingUpdate", state::kafkaRollingUpdate, "kafkaRollToAddOrRemoveVolumes")
+                .step("kafkaScaleUp", state::kafkaScaleUp, "kafkaRollingUpdate")
+                .step("kafkaPodsReady", state::kafkaPodsReady, "kafkaScaleUp")
+                .step("kafkaServiceEndpointReady", state::kafkaServiceEndpointReady, "kafkaPodsReady")
+                .step("kafkaHeadlessServiceEndpointReady", state::kafkaHeadlessServiceEndpointReady, "kafkaServiceEndpointReady")
+                .step("kafkaGetClusterId", state::kafkaGetClusterId, "kafkaHeadlessServiceEndpointReady")
+                .step("kafkaPersistentClaimDeletion", state::kafkaPersistentClaimDeletion, "kafkaGetClusterId")
                 // This has to run after all possible rolling updates which might move the pods to different nodes
-                .compose(state -> state.kafkaNodePortExternalListenerStatus())
-                .compose(state -> state.kafkaCustomCertificatesToStatus())
-
-                .compose(state -> state.getEntityOperatorDescription())
-                .compose(state -> state.entityOperatorRole())
-                .compose(state -> state.entityTopicOperatorRole())
-                .compose(state -> state.entityUserOperatorRole())
-                .compose(state -> state.entityOperatorServiceAccount())
-                .compose(state -> state.entityOperatorTopicOpRoleBindingForRole())
-                .compose(state -> state.entityOperatorUserOpRoleBindingForRole())
-                .compose(state -> state.entityOperatorTopicOpAncillaryCm())
-                .compose(state -> state.entityOperatorUserOpAncillaryCm())
-                .compose(state -> state.entityOperatorSecret(this::dateSupplier))
-                .compose(state -> state.entityOperatorDeployment())
-                .compose(state -> state.entityOperatorReady())
-
-                .compose(state -> state.getCruiseControlDescription())
-                .compose(state -> state.cruiseControlNetPolicy())
-                .compose(state -> state.cruiseControlServiceAccount())
-                .compose(state -> state.cruiseControlAncillaryCm())
-                .compose(state -> state.cruiseControlSecret(this::dateSupplier))
-                .compose(state -> state.cruiseControlApiSecret())
-                .compose(state -> state.cruiseControlDeployment())
-                .compose(state -> state.cruiseControlService())
-                .compose(state -> state.cruiseControlReady())
-
-                .compose(state -> state.getKafkaExporterDescription())
-                .compose(state -> state.kafkaExporterServiceAccount())
-                .compose(state -> state.kafkaExporterSecret(this::dateSupplier))
-                .compose(state -> state.kafkaExporterDeployment())
-                .compose(state -> state.kafkaExporterReady())
-
-                .compose(state -> state.getJmxTransDescription())
-                .compose(state -> state.jmxTransServiceAccount())
-                .compose(state -> state.jmxTransConfigMap())
-                .compose(state -> state.jmxTransDeployment())
-                .compose(state -> state.jmxTransDeploymentReady())
-
-                .map((Void) null)
-                .onComplete(chainPromise);
-
-        return chainPromise.future();
+                .step("kafkaNodePortExternalListenerStatus", state::kafkaNodePortExternalListenerStatus, "kafkaPersistentClaimDeletion")
+                .step("kafkaCustomCertificatesToStatus", state::kafkaCustomCertificatesToStatus, "kafkaNodePortExternalListenerStatus")
+
+                // The Entity Operator, Cruise Control, Kafka Exporter and JmxTrans do not depend on each other
+                .step("getEntityOperatorDescription", state::getEntityOperatorDescription, "kafkaCustomCertificatesToStatus")
+                .step("entityOperatorRole", state::entityOperatorRole, "getEntityOperatorDescription")
+                .step("entityTopicOperatorRole", state::entityTopicOperatorRole, "entityOperatorRole")
+                .step("entityUserOperatorRole", state::entityUserOperatorRole, "entityTopicOperatorRole")
+                .step("entityOperatorServiceAccount", state::entityOperatorServiceAccount, "entityUserOperatorRole")
+                .step("entityOperatorTopicOpRoleBindingForRole", state::entityOperatorTopicOpRoleBindingForRole, "entityOperatorServiceAccount")
+                .step("entityOperatorUserOpRoleBindingForRole", state::entityOperatorUserOpRoleBindingForRole, "entityOperatorTopicOpRoleBindingForRole")
+                .step("entityOperatorTopicOpAncillaryCm", state::entityOperatorTopicOpAncillaryCm, "entityOperatorUserOpRoleBindingForRole")
+                .step("entityOperatorUserOpAncillaryCm", state::entityOperatorUserOpAncillaryCm, "entityOperatorTopicOpAncillaryCm")
+                .step("entityOperatorSecret", () -> state.entityOperatorSecret(this::dateSupplier), "entityOperatorUserOpAncillaryCm")
+                .step("entityOperatorDeployment", state::entityOperatorDeployment, "entityOperatorSecret")
+                .step("entityOperatorReady", state::entityOperatorReady, "entityOperatorDeployment")
+
+                .step("getCruiseControlDescription", state::getCruiseControlDescription, "kafkaCustomCertificatesToStatus")
+                .step("cruiseControlNetPolicy", state::cruiseControlNetPolicy, "getCruiseControlDescription")
+                .step("cruiseControlServiceAccount", state::cruiseControlServiceAccount, "cruiseControlNetPolicy")
+                .step("cruiseControlAncillaryCm", state::cruiseControlAncillaryCm, "cruiseControlServiceAccount")
+                .step("cruiseControlSecret", () -> state.cruiseControlSecret(this::dateSupplier), "cruiseControlAncillaryCm")
+                .step("cruiseControlApiSecret", state::cruiseControlApiSecret, "cruiseControlSecret")
+                .step("cruiseControlDeployment", state::cruiseControlDeployment, "cruiseControlApiSecret")
+                .step("cruiseControlService", state::cruiseControlService, "cruiseControlDeployment")
+                .step("cruiseControlReady", state::cruiseControlReady, "cruiseControlService")
+
+                .step("getKafkaExporterDescription", state::getKafkaExporterDescription, "kafkaCustomCertificatesToStatus")
+                .step("kafkaExporterServiceAccount", state::kafkaExporterServiceAccount, "getKafkaExporterDescription")
+                .step("kafkaExporterSecret", () -> state.kafkaExporterSecret(this::dateSupplier), "kafkaExporterServiceAccount")
+                .step("kafkaExporterDeployment", state::kafkaExporterDeployment, "kafkaExporterSecret")
+                .step("kafkaExporterReady", state::kafkaExporterReady, "kafkaExporterDeployment")
+
+                .step("getJmxTransDescription", state::getJmxTransDescription, "kafkaCustomCertificatesToStatus")
+                .step("jmxTransServiceAccount", state::jmxTransServiceAccount, "getJmxTransDescription")
+                .step("jmxTransConfigMap", state::jmxTransConfigMap, "jmxTransServiceAccount")
+                .step("jmxTransDeployment", state::jmxTransDeployment, "jmxTransConfigMap")
+                .step("jmxTransDeploymentReady", state::jmxTransDeploymentReady, "jmxTransDeployment")
+
+                .execute();
     }
 
     ReconciliationState createReconciliationState(Reconciliation reconciliation, Kafka kafkaAssembly) {
@@ -587,7 +613,7 @@ public class KafkaAssemblyOperator extends AbstractAssemblyOperator<KubernetesCl
             Labels selectorLabels = Labels.EMPTY.withStrimziKind(reconciliation.kind()).withStrimziCluster(reconciliation.name());
             Labels caLabels = Labels.generateDefaultLabels(kafkaAssembly, Labels.APPLICATION_NAME, AbstractModel.STRIMZI_CLUSTER_OPERATOR_NAME);
             Promise<ReconciliationState> resultPromise = Promise.promise();
-            vertx.createSharedWorkerExecutor("kubernetes-ops-pool").<ReconciliationState>executeBlocking(
+            vertx.createSharedWorkerExecutor(CERT_GENERATION_POOL).<ReconciliationState>executeBlocking(
                 future -> {
                     try {
                         String clusterCaCertName = AbstractModel.clusterCaCertSecretName(name);
@@ -641,6 +667,12 @@ public class KafkaAssemblyOperator extends AbstractAssemblyOperator<KubernetesCl
                                 ModelUtils.getCertificateValidity(clusterCaConfig),
                                 ModelUtils.getRenewalDays(clusterCaConfig),
                                 clusterCaConfig == null || clusterCaConfig.isGenerateCertificateAuthority(), clusterCaConfig != null ? clusterCaConfig.getCertificateExpirationPolicy() : null);
+                        clusterCa.setParallelCertGeneration(true);
+                        clusterCa.setCertGenerationTimer(metrics.timer(METRICS_CERT_GENERATION_DURATION,
+                                "The time the generation of a single signed certificate for a pod takes", Tags.of(
+                                        Tag.of("kind", reconciliation.kind()),
+                                        Tag.of("name", reconciliation.name()),
+                                        Tag.of("resource-namespace", reconciliation.namespace()))));
                         clusterCa.createRenewOrReplace(
                                 reconciliation.namespace(), reconciliation.name(), caLabels.toMap(),
                                 clusterCaCertLabels, clusterCaCertAnnotations,
@@ -744,7 +776,8 @@ public class KafkaAssemblyOperator extends AbstractAssemblyOperator<KubernetesCl
                         .compose(i -> stsOperations.getAsync(namespace, KafkaCluster.kafkaClusterName(name)))
                         .compose(sts -> new KafkaRoller(reconciliation, vertx, podOperations, 1_000, operationTimeoutMs,
                             () -> new BackOff(250, 2, 10), sts, clusterCa.caCertSecret(), oldCoSecret, adminClientProvider,
-                            kafkaCluster.getBrokersConfiguration(), kafkaLogging, kafkaCluster.getKafkaVersion(), true)
+                            kafkaCluster.getBrokersConfiguration(), kafkaLogging, kafkaCluster.getKafkaVersion(), true,
+                            kafkaRollingBatchSize, metrics)
                             .rollingRestart(rollPodAndLogReason))
                         .compose(i -> {
                             if (this.clusterCa.keyReplaced()) {
@@ -1163,7 +1196,8 @@ public class KafkaAssemblyOperator extends AbstractAssemblyOperator<KubernetesCl
             return adminClientSecrets()
                 .compose(compositeFuture -> new KafkaRoller(reconciliation, vertx, podOperations, 1_000, operationTimeoutMs,
                     () -> new BackOff(250, 2, 10), sts, compositeFuture.resultAt(0), compositeFuture.resultAt(1), adminClientProvider,
-                        kafkaCluster.getBrokersConfiguration(), kafkaLogging, kafkaCluster.getKafkaVersion(), allowReconfiguration)
+                        kafkaCluster.getBrokersConfiguration(), kafkaLogging, kafkaCluster.getKafkaVersion(), allowReconfiguration,
+                        kafkaRollingBatchSize, metrics)
                     .rollingRestart(podNeedsRestart));
         }
 
@@ -1504,7 +1538,7 @@ public class KafkaAssemblyOperator extends AbstractAssemblyOperator<KubernetesCl
 
         Future<ReconciliationState> zkGenerateCertificates(Supplier<Date> dateSupplier) {
             Promise<ReconciliationState> resultPromise = Promise.promise();
-            vertx.createSharedWorkerExecutor("kubernetes-ops-pool").<ReconciliationState>executeBlocking(
+            vertx.createSharedWorkerExecutor(CERT_GENERATION_POOL).<ReconciliationState>executeBlocking(
                 future -> {
                     try {
                         zkCluster.generateCertificates(kafkaAssembly, clusterCa, isMaintenanceTimeWindowsSatisfied(dateSupplier));
@@ -2399,7 +2433,7 @@ public class KafkaAssemblyOperator extends AbstractAssemblyOperator<KubernetesCl
 
         Future<ReconciliationState> kafkaGenerateCertificates(Supplier<Date> dateSupplier) {
             Promise<ReconciliationState> resultPromise = Promise.promise();
-            vertx.createSharedWorkerExecutor("kubernetes-ops-pool").<ReconciliationState>executeBlocking(
+            vertx.createSharedWorkerExecutor(CERT_GENERATION_POOL).<ReconciliationState>executeBlocking(
                 future -> {
                     try {
                         kafkaCluster.generateCertificates(kafkaAssembly,
@@ -3840,7 +3874,35 @@ public class KafkaAssemblyOperator extends AbstractAssemblyOperator<KubernetesCl
      */
     @Override
     protected Future<Boolean> delete(Reconciliation reconciliation) {
+        removeClusterMetrics(metrics.meterRegistry(), reconciliation);
+
         return withIgnoreRbacError(reconciliation, clusterRoleBindingOperations.reconcile(reconciliation, KafkaResources.initContainerClusterRoleBindingName(reconciliation.name(), reconciliation.namespace()), null), null)
                 .map(Boolean.FALSE); // Return FALSE since other resources are still deleted by garbage collection
     }
+
+    /**
+     * Removes the metrics registered for a single Kafka cluster, such as the reconciliation step timers, the
+     * certificate generation timer and the rolling restart meters. This is used
+     * when the Kafka cluster is deleted so that the meters of deleted clusters do not pile up in the registry.
+     *
+     * @param registry          Meter registry
+     * @param reconciliation    Reconciliation of the deleted Kafka cluster
+     */
+    /* test */ static void removeClusterMetrics(MeterRegistry registry, Reconciliation reconciliation) {
+        if (registry == null) {
+            return;
+        }
+
+        Set<String> names = Set.of(StepGraph.METRICS_STEP_DURATION, METRICS_CERT_GENERATION_DURATION,
+                KafkaRoller.METRICS_ROLLING_RESTART_DURATION, KafkaRoller.METRICS_ROLLING_RESTART_BATCHES,
+                KafkaRoller.METRICS_ROLLING_RESTART_PODS);
+
+        registry.getMeters().stream()
+                .filter(meter -> names.contains(meter.getId().getName())
+                        && reconciliation.kind().equals(meter.getId().getTag("kind"))
+                        && reconciliation.name().equals(meter.getId().getTag("name"))
+                        && reconciliation.namespace().equals(meter.getId().getTag("resource-namespace")))
+                .collect(Collectors.toList())
+                .forEach(registry::remove);
+    }
 }
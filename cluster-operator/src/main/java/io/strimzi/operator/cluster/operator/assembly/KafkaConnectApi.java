@@ -127,6 +127,16 @@ public interface KafkaConnectApi {
      */
     Future<List<String>> list(String host, int port);
 
+    /**
+     * Make a {@code GET} request to {@code /connectors?expand=status&expand=info}.
+     * @param reconciliation The reconciliation
+     * @param host The host to make the request to.
+     * @param port The port to make the request to.
+     * @return A Future which completes with the result of the request. If the request was successful,
+     * this returns the map of connector names to their status and info (configuration and tasks).
+     */
+    Future<Map<String, Map<String, Map<String, Object>>>> listWithStatusAndInfo(Reconciliation reconciliation, String host, int port);
+
     /**
      * Make a {@code GET} request to {@code /connector-plugins}.
      * @param reconciliation The reconciliation
@@ -188,6 +198,15 @@ public interface KafkaConnectApi {
      * this returns the connector's topics.
      */
     Future<List<String>> getConnectorTopics(Reconciliation reconciliation, String host, int port, String connectorName);
+
+    /**
+     * Closes the connections kept open to the given host and port, for example when the Connect cluster is deleted.
+     * @param host The host of the Connect REST API.
+     * @param port The port of the Connect REST API.
+     */
+    default void closeConnections(String host, int port) {
+        // Nothing to close by default
+    }
 }
 
 class ConnectRestException extends RuntimeException {
@@ -16,6 +16,7 @@ import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 import java.util.TreeMap;
+import java.util.function.BiConsumer;
 import java.util.function.Function;
 import java.util.function.Supplier;
 import java.util.stream.Collectors;
@@ -34,6 +35,7 @@ import io.vertx.core.Handler;
 import io.vertx.core.Promise;
 import io.vertx.core.Vertx;
 import io.vertx.core.buffer.Buffer;
+import io.vertx.core.http.HttpClient;
 import io.vertx.core.http.HttpClientOptions;
 import io.vertx.core.http.HttpMethod;
 import io.vertx.core.json.JsonArray;
@@ -52,11 +54,45 @@ class KafkaConnectApiImpl implements KafkaConnectApi {
     };
     public static final TypeReference<Map<String, Map<String, List<String>>>> MAP_OF_MAP_OF_LIST_OF_STRING = new TypeReference<Map<String, Map<String, List<String>>>>() {
     };
+    public static final TypeReference<Map<String, Map<String, Map<String, Object>>>> MAP_OF_MAP_OF_TREES = new TypeReference<Map<String, Map<String, Map<String, Object>>>>() {
+    };
     private final ObjectMapper mapper = new ObjectMapper();
     private final Vertx vertx;
+    private final KafkaConnectHttpClientPool httpClientPool;
 
+    /**
+     * Creates the Connect API client which uses a new HTTP client for every request
+     *
+     * @param vertx     Vert.x instance
+     */
     public KafkaConnectApiImpl(Vertx vertx) {
+        this(vertx, null);
+    }
+
+    /**
+     * Creates the Connect API client which uses the pooled HTTP clients
+     *
+     * @param vertx             Vert.x instance
+     * @param httpClientPool    Pool of the HTTP clients or null to use a new HTTP client for every request
+     */
+    public KafkaConnectApiImpl(Vertx vertx, KafkaConnectHttpClientPool httpClientPool) {
         this.vertx = vertx;
+        this.httpClientPool = httpClientPool;
+    }
+
+    private <T> Future<T> withHttpClient(String host, int port, BiConsumer<HttpClient, Promise<T>> operation) {
+        if (httpClientPool != null) {
+            return httpClientPool.withHttpClient(host, port, operation);
+        } else {
+            return HttpClientUtils.withHttpClient(vertx, new HttpClientOptions().setLogActivity(true), operation);
+        }
+    }
+
+    @Override
+    public void closeConnections(String host, int port) {
+        if (httpClientPool != null) {
+            httpClientPool.close(host, port);
+        }
     }
 
     @Override
@@ -68,7 +104,7 @@ class KafkaConnectApiImpl implements KafkaConnectApi {
         Buffer data = configJson.toBuffer();
         String path = "/connectors/" + connectorName + "/config";
         LOGGER.debugCr(reconciliation, "Making PUT request to {} with body {}", path, configJson);
-        return HttpClientUtils.withHttpClient(vertx, new HttpClientOptions().setLogActivity(true), (httpClient, result) ->
+        return withHttpClient(host, port, (httpClient, result) ->
             httpClient.request(HttpMethod.PUT, port, host, path, request -> {
                 if (request.succeeded()) {
                     request.result().setFollowRedirects(true)
@@ -118,7 +154,7 @@ class KafkaConnectApiImpl implements KafkaConnectApi {
 
     private <T> Future<T> doGet(Reconciliation reconciliation, String host, int port, String path, Set<Integer> okStatusCodes, TypeReference<T> type) {
         LOGGER.debugCr(reconciliation, "Making GET request to {}", path);
-        return HttpClientUtils.withHttpClient(vertx, new HttpClientOptions().setLogActivity(true), (httpClient, result) ->
+        return withHttpClient(host, port, (httpClient, result) ->
             httpClient.request(HttpMethod.GET, port, host, path, request -> {
                 if (request.succeeded()) {
                     request.result().setFollowRedirects(true)
@@ -172,7 +208,7 @@ class KafkaConnectApiImpl implements KafkaConnectApi {
     @Override
     public Future<Void> delete(Reconciliation reconciliation, String host, int port, String connectorName) {
         String path = "/connectors/" + connectorName;
-        return HttpClientUtils.withHttpClient(vertx, new HttpClientOptions().setLogActivity(true), (httpClient, result) ->
+        return withHttpClient(host, port, (httpClient, result) ->
             httpClient.request(HttpMethod.DELETE, port, host, path, request -> {
                 if (request.succeeded()) {
                     request.result().setFollowRedirects(true)
@@ -290,7 +326,7 @@ class KafkaConnectApiImpl implements KafkaConnectApi {
     }
 
     private Future<Void> pauseResume(String host, int port, String path) {
-        return HttpClientUtils.withHttpClient(vertx, new HttpClientOptions().setLogActivity(true), (httpClient, result) ->
+        return withHttpClient(host, port, (httpClient, result) ->
                 httpClient.request(HttpMethod.PUT, port, host, path, request -> {
                     if (request.succeeded()) {
                         request.result().setFollowRedirects(true)
@@ -318,7 +354,7 @@ class KafkaConnectApiImpl implements KafkaConnectApi {
     @Override
     public Future<List<String>> list(String host, int port) {
         String path = "/connectors";
-        return HttpClientUtils.withHttpClient(vertx, new HttpClientOptions().setLogActivity(true), (httpClient, result) ->
+        return withHttpClient(host, port, (httpClient, result) ->
                 httpClient.request(HttpMethod.GET, port, host, path, request -> {
 
                     if (request.succeeded()) {
@@ -352,10 +388,17 @@ class KafkaConnectApiImpl implements KafkaConnectApi {
                 }));
     }
 
+    @Override
+    public Future<Map<String, Map<String, Map<String, Object>>>> listWithStatusAndInfo(Reconciliation reconciliation, String host, int port) {
+        return doGet(reconciliation, host, port, "/connectors?expand=status&expand=info",
+                Collections.singleton(200),
+                MAP_OF_MAP_OF_TREES);
+    }
+
     @Override
     public Future<List<ConnectorPlugin>> listConnectorPlugins(Reconciliation reconciliation, String host, int port) {
         String path = "/connector-plugins";
-        return HttpClientUtils.withHttpClient(vertx, new HttpClientOptions().setLogActivity(true), (httpClient, result) ->
+        return withHttpClient(host, port, (httpClient, result) ->
                 httpClient.request(HttpMethod.GET, port, host, path, request -> {
                     if (request.succeeded()) {
                         request.result().setFollowRedirects(true)
@@ -389,7 +432,7 @@ class KafkaConnectApiImpl implements KafkaConnectApi {
         JsonObject levelJO = new JsonObject();
         levelJO.put("level", level);
         LOGGER.debugCr(reconciliation, "Making PUT request to {} with body {}", path, levelJO);
-        return HttpClientUtils.withHttpClient(vertx, new HttpClientOptions().setLogActivity(true), (httpClient, result) -> {
+        return withHttpClient(host, port, (httpClient, result) -> {
             Buffer buffer = levelJO.toBuffer();
             httpClient
                     .request(HttpMethod.PUT, port, host, path, request -> {
@@ -423,7 +466,7 @@ class KafkaConnectApiImpl implements KafkaConnectApi {
     @Override
     public Future<Map<String, String>> listConnectLoggers(Reconciliation reconciliation, String host, int port) {
         String path = "/admin/loggers/";
-        return HttpClientUtils.withHttpClient(vertx, new HttpClientOptions().setLogActivity(true), (httpClient, result) ->
+        return withHttpClient(host, port, (httpClient, result) ->
                 httpClient.request(HttpMethod.GET, port, host, path, request -> {
                     if (request.succeeded()) {
                         request.result().setFollowRedirects(true)
@@ -565,7 +608,7 @@ class KafkaConnectApiImpl implements KafkaConnectApi {
     }
 
     private Future<Void> restartConnectorOrTask(String host, int port, String path) {
-        return HttpClientUtils.withHttpClient(vertx, new HttpClientOptions().setLogActivity(true), (httpClient, result) ->
+        return withHttpClient(host, port, (httpClient, result) ->
             httpClient.request(HttpMethod.POST, port, host, path, request -> {
                 if (request.succeeded()) {
                     request.result().setFollowRedirects(true)
@@ -593,7 +636,7 @@ class KafkaConnectApiImpl implements KafkaConnectApi {
     @Override
     public Future<List<String>> getConnectorTopics(Reconciliation reconciliation, String host, int port, String connectorName) {
         String path = String.format("/connectors/%s/topics", connectorName);
-        return HttpClientUtils.withHttpClient(vertx, new HttpClientOptions().setLogActivity(true), (httpClient, result) ->
+        return withHttpClient(host, port, (httpClient, result) ->
             httpClient.request(HttpMethod.GET, port, host, path, request -> {
                 if (request.succeeded()) {
                     request.result().setFollowRedirects(true)
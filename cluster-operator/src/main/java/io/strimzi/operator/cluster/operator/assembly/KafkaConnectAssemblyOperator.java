@@ -78,7 +78,7 @@ public class KafkaConnectAssemblyOperator extends AbstractConnectOperator<Kubern
     public KafkaConnectAssemblyOperator(Vertx vertx, PlatformFeaturesAvailability pfa,
                                         ResourceOperatorSupplier supplier,
                                         ClusterOperatorConfig config) {
-        this(vertx, pfa, supplier, config, connect -> new KafkaConnectApiImpl(vertx));
+        this(vertx, pfa, supplier, config, pooledConnectClientProvider(vertx, supplier.metricsProvider, KafkaConnect.RESOURCE_KIND));
     }
 
     public KafkaConnectAssemblyOperator(Vertx vertx, PlatformFeaturesAvailability pfa,
@@ -249,6 +249,14 @@ public class KafkaConnectAssemblyOperator extends AbstractConnectOperator<Kubern
                 .map(Boolean.FALSE); // Return FALSE since other resources are still deleted by garbage collection
     }
 
+    /**
+     * The Connect REST API is accessed through the Connect API Service
+     */
+    @Override
+    protected String restApiHost(String name, String namespace) {
+        return KafkaConnectResources.qualifiedServiceName(name, namespace);
+    }
+
     /**
      * Builds a new container image with connectors on Kubernetes using Kaniko or on OpenShift using BuildConfig
      *
@@ -0,0 +1,166 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.cluster.operator.assembly;
+
+import io.micrometer.core.instrument.Tag;
+import io.micrometer.core.instrument.Tags;
+import io.strimzi.operator.common.AbstractOperator;
+import io.strimzi.operator.common.MetricsProvider;
+import io.vertx.core.Future;
+import io.vertx.core.Promise;
+import io.vertx.core.Vertx;
+import io.vertx.core.http.HttpClient;
+import io.vertx.core.http.HttpClientOptions;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BiConsumer;
+
+/**
+ * Pool of HTTP clients used to call the Kafka Connect REST API. There is one client per Connect REST API endpoint
+ * (host and port). Each client keeps its connections alive between the requests and limits the number of connections
+ * opened to the endpoint. The requests exceeding the limit wait until one of the connections is free.
+ *
+ * The client for an endpoint is closed when the Connect cluster is deleted.
+ */
+class KafkaConnectHttpClientPool {
+    private static final Logger LOGGER = LogManager.getLogger(KafkaConnectHttpClientPool.class);
+
+    /* test */ static final String METRICS_POOL_SIZE = AbstractOperator.METRICS_PREFIX + "connect.http.client.pool.size";
+    /* test */ static final String METRICS_OPEN_CONNECTIONS = AbstractOperator.METRICS_PREFIX + "connect.http.client.open.connections";
+
+    /**
+     * Default maximal number of connections opened to a single Connect REST API endpoint
+     */
+    public static final int DEFAULT_MAX_CONNECTIONS = 10;
+
+    /**
+     * Time after which idle connections are closed. It is shorter than the default idle timeout of the Connect REST
+     * API server (30 seconds) to avoid reusing connections which the server is just closing.
+     */
+    private static final int KEEP_ALIVE_TIMEOUT_SECONDS = 20;
+
+    private final Vertx vertx;
+    private final MetricsProvider metrics;
+    private final int maxConnections;
+    private final String kind;
+    private final Map<String, PooledClient> clients = new ConcurrentHashMap<>();
+    private final Map<String, AtomicInteger> openConnectionsGauges = new ConcurrentHashMap<>();
+    private final AtomicInteger poolSize;
+
+    /**
+     * Constructs the HTTP client pool
+     *
+     * @param vertx             Vert.x instance
+     * @param metrics           Metrics provider
+     * @param kind              Kind of the custom resource managing the Connect clusters (used in the metrics)
+     * @param maxConnections    Maximal number of connections opened to a single Connect REST API endpoint
+     */
+    KafkaConnectHttpClientPool(Vertx vertx, MetricsProvider metrics, String kind, int maxConnections) {
+        this.vertx = vertx;
+        this.metrics = metrics;
+        this.kind = kind;
+        this.maxConnections = maxConnections;
+        this.poolSize = metrics.gauge(METRICS_POOL_SIZE, "Number of pooled HTTP clients for the Kafka Connect REST API", Tags.of(Tag.of("kind", kind)));
+    }
+
+    /**
+     * Perform the given operation, which completes the promise, using the pooled HTTP client for the given endpoint.
+     *
+     * @param host          Host of the Connect REST API
+     * @param port          Port of the Connect REST API
+     * @param operation     The operation to perform.
+     * @param <T>           The type of the result
+     *
+     * @return A future which is completed with the result performed by the operation
+     */
+    <T> Future<T> withHttpClient(String host, int port, BiConsumer<HttpClient, Promise<T>> operation) {
+        HttpClient httpClient = clients.computeIfAbsent(endpoint(host, port), this::createClient).client;
+        Promise<T> promise = Promise.promise();
+        operation.accept(httpClient, promise);
+        return promise.future();
+    }
+
+    /**
+     * Closes the pooled HTTP client for the given endpoint, if any. This should be called when the Connect cluster is
+     * deleted.
+     *
+     * @param host  Host of the Connect REST API
+     * @param port  Port of the Connect REST API
+     *
+     * @return A future which completes when the client is closed
+     */
+    Future<Void> close(String host, int port) {
+        String endpoint = endpoint(host, port);
+        PooledClient pooled = clients.remove(endpoint);
+
+        if (pooled == null) {
+            return Future.succeededFuture();
+        }
+
+        LOGGER.debug("Closing the HTTP client for {}", endpoint);
+        poolSize.decrementAndGet();
+
+        return pooled.client.close();
+    }
+
+    /**
+     * @return  Number of pooled HTTP clients
+     */
+    /* test */ int size() {
+        return clients.size();
+    }
+
+    /**
+     * @return  Number of connections opened to the given endpoint
+     */
+    /* test */ int openConnections(String host, int port) {
+        PooledClient pooled = clients.get(endpoint(host, port));
+        return pooled != null ? pooled.openConnections.get() : 0;
+    }
+
+    private PooledClient createClient(String endpoint) {
+        LOGGER.debug("Creating the HTTP client for {}", endpoint);
+
+        HttpClientOptions options = new HttpClientOptions()
+                .setLogActivity(true)
+                .setKeepAlive(true)
+                .setKeepAliveTimeout(KEEP_ALIVE_TIMEOUT_SECONDS)
+                .setMaxPoolSize(maxConnections);
+
+        // The gauge is kept when the client is closed, so that it is reused when the Connect cluster is recreated
+        AtomicInteger openConnections = openConnectionsGauges.computeIfAbsent(endpoint, e -> metrics.gauge(METRICS_OPEN_CONNECTIONS,
+                "Number of open connections to the Kafka Connect REST API", Tags.of(Tag.of("kind", kind), Tag.of("endpoint", e))));
+        HttpClient client = vertx.createHttpClient(options)
+                .connectionHandler(connection -> {
+                    openConnections.incrementAndGet();
+                    connection.closeHandler(v -> openConnections.decrementAndGet());
+                });
+
+        poolSize.incrementAndGet();
+
+        return new PooledClient(client, openConnections);
+    }
+
+    private static String endpoint(String host, int port) {
+        return host + ":" + port;
+    }
+
+    /**
+     * HTTP client in the pool
+     */
+    private static class PooledClient {
+        private final HttpClient client;
+        private final AtomicInteger openConnections;
+
+        PooledClient(HttpClient client, AtomicInteger openConnections) {
+            this.client = client;
+            this.openConnections = openConnections;
+        }
+    }
+}
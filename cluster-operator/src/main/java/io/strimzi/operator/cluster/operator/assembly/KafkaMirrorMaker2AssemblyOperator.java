@@ -117,7 +117,7 @@ public class KafkaMirrorMaker2AssemblyOperator extends AbstractConnectOperator<K
     public KafkaMirrorMaker2AssemblyOperator(Vertx vertx, PlatformFeaturesAvailability pfa,
                                         ResourceOperatorSupplier supplier,
                                         ClusterOperatorConfig config) {
-        this(vertx, pfa, supplier, config, connect -> new KafkaConnectApiImpl(vertx));
+        this(vertx, pfa, supplier, config, pooledConnectClientProvider(vertx, supplier.metricsProvider, KafkaMirrorMaker2.RESOURCE_KIND));
     }
 
     public KafkaMirrorMaker2AssemblyOperator(Vertx vertx, PlatformFeaturesAvailability pfa,
@@ -486,6 +486,13 @@ public class KafkaMirrorMaker2AssemblyOperator extends AbstractConnectOperator<K
         }
     }
 
+    /**
+     * The Connect REST API of Mirror Maker 2 is accessed through the Mirror Maker 2 API Service
+     */
+    @Override
+    protected String restApiHost(String name, String namespace) {
+        return KafkaMirrorMaker2Resources.qualifiedServiceName(name, namespace);
+    }
 
     /**
      * Whether the provided resource has the strimzi.io/restart-connector annotation and it's value matches the supplied connectorName
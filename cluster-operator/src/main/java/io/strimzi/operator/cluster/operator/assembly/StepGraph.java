@@ -0,0 +1,182 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.cluster.operator.assembly;
+
+import io.micrometer.core.instrument.Tag;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+import io.strimzi.operator.common.AbstractOperator;
+import io.strimzi.operator.common.MetricsProvider;
+import io.strimzi.operator.common.Reconciliation;
+import io.strimzi.operator.common.ReconciliationLogger;
+import io.vertx.core.CompositeFuture;
+import io.vertx.core.Context;
+import io.vertx.core.Future;
+import io.vertx.core.Promise;
+import io.vertx.core.Vertx;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Supplier;
+
+/**
+ * Dependency graph of named reconciliation steps. Each step is started as soon as all the steps it depends on
+ * completed successfully, so steps which do not depend on each other run concurrently.
+ *
+ * The steps have to be added in a topological order - a step can depend only on steps which were added before it.
+ * This guarantees that the graph has no cycles. All steps are started and completed on the same Vert.x context, so
+ * the steps running concurrently never start or complete at the same time from different threads.
+ *
+ * When a step fails, no further steps are started. The graph completes once the steps which were already running
+ * finish and it fails with the cause of the first failed step. The duration of every executed step is recorded in the
+ * {@code strimzi.reconciliation.step.duration} timer.
+ */
+public class StepGraph {
+    private static final ReconciliationLogger LOGGER = ReconciliationLogger.create(StepGraph.class);
+
+    /* test */ static final String METRICS_STEP_DURATION = AbstractOperator.METRICS_PREFIX + "reconciliation.step.duration";
+
+    private final Vertx vertx;
+    private final Reconciliation reconciliation;
+    private final MetricsProvider metrics;
+    private final Map<String, Step> steps = new LinkedHashMap<>();
+
+    /**
+     * Constructs the step graph
+     *
+     * @param vertx             Vert.x instance
+     * @param reconciliation    Reconciliation marker
+     * @param metrics           Metrics provider used to record the step durations
+     */
+    public StepGraph(Vertx vertx, Reconciliation reconciliation, MetricsProvider metrics) {
+        this.vertx = vertx;
+        this.reconciliation = reconciliation;
+        this.metrics = metrics;
+    }
+
+    /**
+     * Adds a step to the graph
+     *
+     * @param name          Name of the step
+     * @param step          Supplier which starts the step and returns a Future which completes when the step is done
+     * @param dependencies  Names of the steps which have to complete before this step is started
+     *
+     * @return  This step graph
+     */
+    public StepGraph step(String name, Supplier<Future<?>> step, String... dependencies) {
+        if (steps.containsKey(name)) {
+            throw new IllegalArgumentException("Step " + name + " is already defined");
+        }
+
+        for (String dependency : dependencies) {
+            if (!steps.containsKey(dependency)) {
+                throw new IllegalArgumentException("Step " + name + " depends on step " + dependency + " which is not defined");
+            }
+        }
+
+        steps.put(name, new Step(name, step, dependencies));
+        return this;
+    }
+
+    /**
+     * Executes the steps in the graph
+     *
+     * @return  Future which succeeds when all steps succeeded or fails with the cause of the first failed step
+     */
+    public Future<Void> execute() {
+        Context context = vertx.getOrCreateContext();
+        Promise<Void> result = Promise.promise();
+
+        // The graph is wired on its context as well, so no step can complete while its dependents are being set up
+        context.runOnContext(v -> execute(context).onComplete(result));
+
+        return result.future();
+    }
+
+    @SuppressWarnings({"rawtypes"})
+    private Future<Void> execute(Context context) {
+        AtomicReference<Throwable> firstFailure = new AtomicReference<>();
+        Map<String, Future<Void>> results = new LinkedHashMap<>(steps.size());
+
+        for (Step step : steps.values()) {
+            List<Future> dependencies = new ArrayList<>(step.dependencies.length);
+            for (String dependency : step.dependencies) {
+                dependencies.add(results.get(dependency));
+            }
+
+            results.put(step.name, CompositeFuture.all(dependencies).compose(i -> {
+                Promise<Void> result = Promise.promise();
+                context.runOnContext(v -> run(step, firstFailure)
+                        // Steps might complete on a different thread, so the result is always passed on from the graph context
+                        .onComplete(res -> context.runOnContext(ignore -> {
+                            if (res.failed()) {
+                                firstFailure.compareAndSet(null, res.cause());
+                            }
+
+                            result.handle(res);
+                        })));
+                return result.future();
+            }));
+        }
+
+        return CompositeFuture.join(new ArrayList<>(results.values()))
+                .transform(i -> firstFailure.get() == null ? Future.succeededFuture() : Future.failedFuture(firstFailure.get()));
+    }
+
+    private Future<Void> run(Step step, AtomicReference<Throwable> firstFailure) {
+        if (firstFailure.get() != null) {
+            LOGGER.debugCr(reconciliation, "Skipping step {} because a previous step failed", step.name);
+            return Future.failedFuture(firstFailure.get());
+        }
+
+        Timer timer = metrics.timer(METRICS_STEP_DURATION, "The time the reconciliation step takes to complete", Tags.of(
+                Tag.of("kind", reconciliation.kind()),
+                Tag.of("name", reconciliation.name()),
+                Tag.of("resource-namespace", reconciliation.namespace()),
+                Tag.of("step", step.name)));
+
+        LOGGER.debugCr(reconciliation, "Starting step {}", step.name);
+        long startNanos = System.nanoTime();
+
+        Future<?> result;
+        try {
+            result = step.step.get();
+        } catch (Throwable t) {
+            result = Future.failedFuture(t);
+        }
+
+        return result.transform(res -> {
+            long durationNanos = System.nanoTime() - startNanos;
+            timer.record(durationNanos, TimeUnit.NANOSECONDS);
+
+            if (res.failed()) {
+                LOGGER.debugCr(reconciliation, "Step {} failed after {}ms", step.name, TimeUnit.NANOSECONDS.toMillis(durationNanos));
+                return Future.failedFuture(res.cause());
+            } else {
+                LOGGER.debugCr(reconciliation, "Step {} completed in {}ms", step.name, TimeUnit.NANOSECONDS.toMillis(durationNanos));
+                return Future.succeededFuture();
+            }
+        });
+    }
+
+    /**
+     * Single step of the graph
+     */
+    private static class Step {
+        private final String name;
+        private final Supplier<Future<?>> step;
+        private final String[] dependencies;
+
+        Step(String name, Supplier<Future<?>> step, String[] dependencies) {
+            this.name = name;
+            this.step = step;
+            this.dependencies = dependencies;
+        }
+    }
+}
@@ -6,20 +6,29 @@ package io.strimzi.operator.cluster.operator.resource;
 
 import io.strimzi.operator.common.ReconciliationLogger;
 import io.strimzi.operator.common.Reconciliation;
+import io.vertx.core.CompositeFuture;
 import io.vertx.core.Future;
 import io.vertx.core.Promise;
 import org.apache.kafka.clients.admin.Admin;
 import org.apache.kafka.clients.admin.Config;
 import org.apache.kafka.clients.admin.ConfigEntry;
+import org.apache.kafka.clients.admin.DescribeLogDirsOptions;
 import org.apache.kafka.clients.admin.ListTopicsOptions;
+import org.apache.kafka.clients.admin.LogDirDescription;
 import org.apache.kafka.clients.admin.TopicDescription;
-import org.apache.kafka.common.Node;
+import org.apache.kafka.common.TopicPartition;
 import org.apache.kafka.common.TopicPartitionInfo;
 import org.apache.kafka.common.config.ConfigResource;
 import org.apache.kafka.common.config.TopicConfig;
 
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
 import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.HashSet;
+import java.util.IdentityHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
@@ -30,28 +39,47 @@ import static java.lang.Integer.parseInt;
 /**
  * Determines whether the given broker can be rolled without affecting
  * producers with acks=all publishing to topics with a {@code min.in.sync.replicas}.
+ * <p>
+ * The topic descriptions are loaded once into an index of the partitions hosted by each broker, so that
+ * {@link #canRoll(int)} only has to check the partitions of the given broker. The {@code min.insync.replicas} of the
+ * topics is described in batches when a broker hosting the topic is checked. Because the brokers are rolled one by
+ * one, every subsequent call of {@link #canRoll(int)} refreshes only the descriptions and the
+ * {@code min.insync.replicas} of the topics hosted by the given broker and of the topics created since the last call.
+ * The topics hosted by the broker are the topics in the index and the topics found in the log directories of the
+ * broker, so that partitions reassigned onto the broker since the index was loaded are checked as well. When the log
+ * directories cannot be described, all topics are described again.
+ * <p>
+ * {@link #canRoll(Set)} determines whether a set of brokers can be rolled at the same time, which is the case when
+ * restarting all of them together would not take any partition below its {@code min.in.sync.replicas}.
  */
 class KafkaAvailability {
 
     private static final ReconciliationLogger LOGGER = ReconciliationLogger.create(KafkaAvailability.class.getName());
 
+    /**
+     * Maximum number of topics whose configuration is described in a single request
+     */
+    /* test */ static final int DESCRIBE_CONFIGS_BATCH_SIZE = 1000;
+
+    /**
+     * Timeout of describing the log directories of the brokers, after which all topics are described instead
+     */
+    private static final int DESCRIBE_LOG_DIRS_TIMEOUT_MS = 10_000;
+
     private final Admin ac;
 
     private final Reconciliation reconciliation;
 
-    private final Future<Collection<TopicDescription>> descriptions;
+    private final PartitionIndex index = new PartitionIndex();
+
+    // The future of the last full load of the index and whether it was already used for some broker
+    private Future<Void> loaded;
+    private boolean loadedUsed = false;
 
     KafkaAvailability(Reconciliation reconciliation, Admin ac) {
         this.ac = ac;
         this.reconciliation = reconciliation;
-        // 1. Get all topic names
-        Future<Set<String>> topicNames = topicNames();
-        // 2. Get topic descriptions
-        descriptions = topicNames.compose(names -> {
-            LOGGER.debugCr(reconciliation, "Got {} topic names", names.size());
-            LOGGER.traceCr(reconciliation, "Topic names {}", names);
-            return describeTopics(names);
-        });
+        this.loaded = load();
     }
 
     /**
@@ -60,101 +88,195 @@ class KafkaAvailability {
      */
     Future<Boolean> canRoll(int podId) {
         LOGGER.debugCr(reconciliation, "Determining whether broker {} can be rolled", podId);
-        return canRollBroker(descriptions, podId);
+        return canRollBrokers(Collections.singleton(podId), podId);
     }
 
-    private Future<Boolean> canRollBroker(Future<Collection<TopicDescription>> descriptions, int podId) {
-        Future<Set<TopicDescription>> topicsOnGivenBroker = descriptions
-                .compose(topicDescriptions -> {
-                    LOGGER.debugCr(reconciliation, "Got {} topic descriptions", topicDescriptions.size());
-                    return Future.succeededFuture(groupTopicsByBroker(topicDescriptions, podId));
-                }).recover(error -> {
+    /**
+     * Determine whether the given brokers can be rolled at the same time without affecting
+     * producers with acks=all publishing to topics with a {@code min.in.sync.replicas}.
+     */
+    Future<Boolean> canRoll(Set<Integer> podIds) {
+        LOGGER.debugCr(reconciliation, "Determining whether brokers {} can be rolled together", podIds);
+        return canRollBrokers(podIds, podIds);
+    }
+
+    /**
+     * @param podIds    The brokers to be rolled
+     * @param brokers   Description of the brokers used in the log messages
+     */
+    private Future<Boolean> canRollBrokers(Set<Integer> podIds, Object brokers) {
+        Future<Void> indexed = update(podIds)
+                .recover(error -> {
                     LOGGER.warnCr(reconciliation, "failed to get topic descriptions", error);
                     return Future.failedFuture(error);
                 });
 
-        // 4. Get topic configs (for those on $broker)
-        Future<Map<String, Config>> topicConfigsOnGivenBroker = topicsOnGivenBroker
-                .compose(td -> topicConfigs(td.stream().map(t -> t.name()).collect(Collectors.toSet())));
-
-        // 5. join
-        return topicConfigsOnGivenBroker.map(topicNameToConfig -> {
-            Collection<TopicDescription> tds = topicsOnGivenBroker.result();
-            boolean canRoll = tds.stream().noneMatch(
-                td -> wouldAffectAvailability(podId, topicNameToConfig, td));
-            if (!canRoll) {
-                LOGGER.debugCr(reconciliation, "Restart pod {} would remove it from ISR, stalling producers with acks=all", podId);
+        // Get the configs of the topics on the brokers which were not described yet
+        return indexed.compose(i -> describeMinIsr(index.topicsWithoutMinIsr(podIds)))
+                .map(i -> {
+                    boolean canRoll = !wouldAffectAvailability(podIds, brokers);
+                    if (!canRoll) {
+                        LOGGER.debugCr(reconciliation, "Restart pod {} would remove it from ISR, stalling producers with acks=all", brokers);
+                    }
+                    return canRoll;
+                }).recover(error -> {
+                    LOGGER.warnCr(reconciliation, "Error determining whether it is safe to restart pod {}", brokers, error);
+                    return Future.failedFuture(error);
+                });
+    }
+
+    /**
+     * Brings the index up to date for checking the given brokers. The first call uses the index loaded when this
+     * object was created. The subsequent calls refresh only the topics hosted by the brokers, including the partitions
+     * moved onto the brokers, and the new topics. When the previous full load failed, the index is loaded again.
+     */
+    private synchronized Future<Void> update(Set<Integer> podIds) {
+        if (loaded.failed()) {
+            loaded = load();
+            loadedUsed = true;
+            return loaded;
+        } else if (!loadedUsed) {
+            loadedUsed = true;
+            return loaded;
+        } else {
+            return loaded.compose(i -> refresh(podIds));
+        }
+    }
+
+    private Future<Void> load() {
+        // 1. Get all topic names
+        return topicNames().compose(names -> {
+            LOGGER.debugCr(reconciliation, "Got {} topic names", names.size());
+            LOGGER.traceCr(reconciliation, "Topic names {}", names);
+            // 2. Get topic descriptions
+            return describeTopics(names);
+        }).map(topicDescriptions -> {
+            LOGGER.debugCr(reconciliation, "Got {} topic descriptions", topicDescriptions.size());
+            index.update(topicDescriptions);
+            return null;
+        });
+    }
+
+    private Future<Void> refresh(Set<Integer> podIds) {
+        return topicNames().compose(names -> {
+            Set<String> toRefresh = index.topicsToRefresh(podIds, names);
+
+            // Partitions might have been reassigned onto the brokers since their topics were described
+            return topicsInLogDirs(podIds).map(logDirTopics -> {
+                for (String topic : logDirTopics) {
+                    if (names.contains(topic)) {
+                        toRefresh.add(topic);
+                    }
+                }
+                return toRefresh;
+            }).recover(error -> {
+                LOGGER.warnCr(reconciliation, "Failed to describe the log directories of brokers {}, describing all topics", podIds, error);
+                return Future.succeededFuture(names);
+            });
+        }).compose(toDescribe -> {
+            LOGGER.debugCr(reconciliation, "Refreshing descriptions of {} topics", toDescribe.size());
+
+            if (toDescribe.isEmpty()) {
+                return Future.succeededFuture();
+            } else {
+                return describeTopics(toDescribe).map(topicDescriptions -> {
+                    index.update(topicDescriptions);
+                    return null;
+                });
             }
-            return canRoll;
-        }).recover(error -> {
-            LOGGER.warnCr(reconciliation, "Error determining whether it is safe to restart pod {}", podId, error);
-            return Future.failedFuture(error);
         });
     }
 
-    private boolean wouldAffectAvailability(int broker, Map<String, Config> nameToConfig, TopicDescription td) {
-        Config config = nameToConfig.get(td.name());
-        ConfigEntry minIsrConfig = config.get(TopicConfig.MIN_IN_SYNC_REPLICAS_CONFIG);
-        int minIsr;
-        if (minIsrConfig != null && minIsrConfig.value() != null) {
-            minIsr = parseInt(minIsrConfig.value());
-            LOGGER.debugCr(reconciliation, "{} has {}={}.", td.name(), TopicConfig.MIN_IN_SYNC_REPLICAS_CONFIG, minIsr);
+    private boolean wouldAffectAvailability(Set<Integer> podIds, Object brokers) {
+        BitSet restarted = new BitSet();
+        podIds.forEach(restarted::set);
+
+        for (Map.Entry<String, List<PartitionReplicas>> topic : index.partitionsOnBrokers(podIds).entrySet()) {
+            if (wouldAffectAvailability(restarted, brokers, topic.getKey(), index.minIsr(topic.getKey()), topic.getValue())) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private boolean wouldAffectAvailability(BitSet restarted, Object broker, String topic, int minIsr, List<PartitionReplicas> partitions) {
+        if (minIsr >= 0) {
+            LOGGER.debugCr(reconciliation, "{} has {}={}.", topic, TopicConfig.MIN_IN_SYNC_REPLICAS_CONFIG, minIsr);
         } else {
-            minIsr = -1;
-            LOGGER.debugCr(reconciliation, "{} lacks {}.", td.name(), TopicConfig.MIN_IN_SYNC_REPLICAS_CONFIG);
-        }
-
-        for (TopicPartitionInfo pi : td.partitions()) {
-            List<Node> isr = pi.isr();
-            if (minIsr >= 0) {
-                if (pi.replicas().size() <= minIsr) {
-                    if (LOGGER.isDebugEnabled()) {
-                        LOGGER.debugCr(reconciliation, "{}/{} will be under-replicated (ISR={{}}, replicas=[{}], {}={}) if broker {} is restarted, but there are only {} replicas.",
-                                td.name(), pi.partition(), nodeList(isr), nodeList(pi.replicas()), TopicConfig.MIN_IN_SYNC_REPLICAS_CONFIG, minIsr, broker,
-                                pi.replicas().size());
-                    }
-                } else if (isr.size() < minIsr
-                        && contains(pi.replicas(), broker)) {
-                    if (LOGGER.isInfoEnabled()) {
-                        String msg;
-                        if (contains(isr, broker)) {
-                            msg = "{}/{} is already under-replicated (ISR={{}}, replicas=[{}], {}={}); broker {} is in the ISR, " +
-                                                          "so should not be restarted right now (it would impact consumers).";
-                        } else {
-                            msg = "{}/{} is already under-replicated (ISR={{}}, replicas=[{}], {}={}); broker {} has a replica, " +
-                                                          "so should not be restarted right now (it might be first to catch up).";
-                        }
-                        LOGGER.infoCr(reconciliation, msg,
-                                td.name(), pi.partition(), nodeList(isr), nodeList(pi.replicas()), TopicConfig.MIN_IN_SYNC_REPLICAS_CONFIG, minIsr, broker);
-                    }
-                    return true;
-                } else if (isr.size() == minIsr
-                        && contains(isr, broker)) {
-                    if (minIsr < pi.replicas().size()) {
-                        if (LOGGER.isInfoEnabled()) {
-                            LOGGER.infoCr(reconciliation, "{}/{} will be under-replicated (ISR={{}}, replicas=[{}], {}={}) if broker {} is restarted.",
-                                    td.name(), pi.partition(), nodeList(isr), nodeList(pi.replicas()), TopicConfig.MIN_IN_SYNC_REPLICAS_CONFIG, minIsr, broker);
-                        }
-                        return true;
+            LOGGER.debugCr(reconciliation, "{} lacks {}.", topic, TopicConfig.MIN_IN_SYNC_REPLICAS_CONFIG);
+            return false;
+        }
+
+        // All partitions in the index have a replica on at least one of the brokers
+        for (PartitionReplicas pi : partitions) {
+            int restartedIsr = pi.restartedIsr(restarted);
+
+            if (pi.replicas.length <= minIsr) {
+                if (LOGGER.isDebugEnabled()) {
+                    LOGGER.debugCr(reconciliation, "{}/{} will be under-replicated (ISR={{}}, replicas=[{}], {}={}) if broker {} is restarted, but there are only {} replicas.",
+                            topic, pi.partition, pi.isrList(), pi.replicaList(), TopicConfig.MIN_IN_SYNC_REPLICAS_CONFIG, minIsr, broker,
+                            pi.replicas.length);
+                }
+            } else if (pi.isrSize < minIsr) {
+                if (LOGGER.isInfoEnabled()) {
+                    String msg;
+                    if (restartedIsr > 0) {
+                        msg = "{}/{} is already under-replicated (ISR={{}}, replicas=[{}], {}={}); broker {} is in the ISR, " +
+                                                      "so should not be restarted right now (it would impact consumers).";
                     } else {
-                        if (LOGGER.isDebugEnabled()) {
-                            LOGGER.debugCr(reconciliation, "{}/{} will be under-replicated (ISR={{}}, replicas=[{}], {}={}) if broker {} is restarted, but there are only {} replicas.",
-                                    td.name(), pi.partition(), nodeList(isr), nodeList(pi.replicas()), TopicConfig.MIN_IN_SYNC_REPLICAS_CONFIG, minIsr, broker,
-                                    pi.replicas().size());
-                        }
+                        msg = "{}/{} is already under-replicated (ISR={{}}, replicas=[{}], {}={}); broker {} has a replica, " +
+                                                      "so should not be restarted right now (it might be first to catch up).";
                     }
+                    LOGGER.infoCr(reconciliation, msg,
+                            topic, pi.partition, pi.isrList(), pi.replicaList(), TopicConfig.MIN_IN_SYNC_REPLICAS_CONFIG, minIsr, broker);
+                }
+                return true;
+            } else if (restartedIsr > 0
+                    && pi.isrSize - restartedIsr < minIsr) {
+                if (LOGGER.isInfoEnabled()) {
+                    LOGGER.infoCr(reconciliation, "{}/{} will be under-replicated (ISR={{}}, replicas=[{}], {}={}) if broker {} is restarted.",
+                            topic, pi.partition, pi.isrList(), pi.replicaList(), TopicConfig.MIN_IN_SYNC_REPLICAS_CONFIG, minIsr, broker);
                 }
+                return true;
             }
         }
         return false;
     }
 
-    private String nodeList(List<Node> isr) {
-        return isr.stream().map(Node::idString).collect(Collectors.joining(","));
+    /**
+     * Describes the {@code min.insync.replicas} of the given topics in batches of at most
+     * {@link #DESCRIBE_CONFIGS_BATCH_SIZE} topics and stores them in the index.
+     */
+    @SuppressWarnings("rawtypes") // Has to use Raw type because of the CompositeFuture
+    private Future<Void> describeMinIsr(Collection<String> topicNames) {
+        if (topicNames.isEmpty()) {
+            return Future.succeededFuture();
+        }
+
+        List<Future> futures = new ArrayList<>(topicNames.size() / DESCRIBE_CONFIGS_BATCH_SIZE + 1);
+        List<String> batch = new ArrayList<>(Math.min(topicNames.size(), DESCRIBE_CONFIGS_BATCH_SIZE));
+        for (String topicName : topicNames) {
+            batch.add(topicName);
+            if (batch.size() == DESCRIBE_CONFIGS_BATCH_SIZE) {
+                futures.add(topicConfigs(batch).map(this::indexMinIsr));
+                batch = new ArrayList<>(DESCRIBE_CONFIGS_BATCH_SIZE);
+            }
+        }
+        if (!batch.isEmpty()) {
+            futures.add(topicConfigs(batch).map(this::indexMinIsr));
+        }
+
+        return CompositeFuture.all(futures).map((Void) null);
     }
 
-    private boolean contains(List<Node> isr, int broker) {
-        return isr.stream().anyMatch(node -> node.id() == broker);
+    private Void indexMinIsr(Map<String, Config> topicNameToConfig) {
+        Map<String, Integer> minIsrs = new HashMap<>(topicNameToConfig.size());
+        for (Map.Entry<String, Config> entry : topicNameToConfig.entrySet()) {
+            ConfigEntry minIsrConfig = entry.getValue().get(TopicConfig.MIN_IN_SYNC_REPLICAS_CONFIG);
+            minIsrs.put(entry.getKey(), minIsrConfig != null && minIsrConfig.value() != null ? parseInt(minIsrConfig.value()) : -1);
+        }
+        index.putMinIsrs(minIsrs);
+        return null;
     }
 
     private Future<Map<String, Config>> topicConfigs(Collection<String> topicNames) {
@@ -177,21 +299,6 @@ class KafkaAvailability {
         return promise.future();
     }
 
-    private Set<TopicDescription> groupTopicsByBroker(Collection<TopicDescription> tds, int podId) {
-        Set<TopicDescription> topicPartitionInfos = new HashSet<>();
-        for (TopicDescription td : tds) {
-            LOGGER.traceCr(reconciliation, td);
-            for (TopicPartitionInfo pd : td.partitions()) {
-                for (Node broker : pd.replicas()) {
-                    if (podId == broker.id()) {
-                        topicPartitionInfos.add(td);
-                    }
-                }
-            }
-        }
-        return topicPartitionInfos;
-    }
-
     protected Future<Collection<TopicDescription>> describeTopics(Set<String> names) {
         Promise<Collection<TopicDescription>> descPromise = Promise.promise();
         ac.describeTopics(names).all()
@@ -206,6 +313,31 @@ class KafkaAvailability {
         return descPromise.future();
     }
 
+    /**
+     * @return  The names of the topics with a replica in the log directories of any of the given brokers
+     */
+    protected Future<Set<String>> topicsInLogDirs(Set<Integer> podIds) {
+        Promise<Set<String>> topicsPromise = Promise.promise();
+        ac.describeLogDirs(podIds, new DescribeLogDirsOptions().timeoutMs(DESCRIBE_LOG_DIRS_TIMEOUT_MS)).allDescriptions()
+                .whenComplete((logDirs, error) -> {
+                    if (error != null) {
+                        topicsPromise.fail(error);
+                    } else {
+                        Set<String> topics = new HashSet<>();
+                        for (Map<String, LogDirDescription> brokerLogDirs : logDirs.values()) {
+                            for (LogDirDescription logDir : brokerLogDirs.values()) {
+                                for (TopicPartition partition : logDir.replicaInfos().keySet()) {
+                                    topics.add(partition.topic());
+                                }
+                            }
+                        }
+                        LOGGER.debugCr(reconciliation, "Got {} topics in the log directories of brokers {}", topics.size(), podIds);
+                        topicsPromise.complete(topics);
+                    }
+                });
+        return topicsPromise.future();
+    }
+
     protected Future<Set<String>> topicNames() {
         Promise<Set<String>> namesPromise = Promise.promise();
         ac.listTopics(new ListTopicsOptions().listInternal(true)).names()
@@ -219,4 +351,164 @@ class KafkaAvailability {
                 });
         return namesPromise.future();
     }
+
+    /**
+     * The replicas and the ISR of a single partition
+     */
+    private static final class PartitionReplicas {
+        private final int partition;
+        private final int[] replicas;
+        private final BitSet isr;
+        private final int isrSize;
+
+        PartitionReplicas(TopicPartitionInfo pi) {
+            this.partition = pi.partition();
+            this.replicas = pi.replicas().stream().mapToInt(node -> node.id()).toArray();
+            this.isr = new BitSet();
+            pi.isr().forEach(node -> isr.set(node.id()));
+            this.isrSize = isr.cardinality();
+        }
+
+        /**
+         * @return  Number of the given brokers which are in the ISR
+         */
+        private int restartedIsr(BitSet restarted) {
+            if (restarted.cardinality() == 1) {
+                return isr.get(restarted.nextSetBit(0)) ? 1 : 0;
+            } else {
+                BitSet restartedIsr = (BitSet) isr.clone();
+                restartedIsr.and(restarted);
+                return restartedIsr.cardinality();
+            }
+        }
+
+        private String replicaList() {
+            return Arrays.stream(replicas).mapToObj(Integer::toString).collect(Collectors.joining(","));
+        }
+
+        private String isrList() {
+            return isr.stream().mapToObj(Integer::toString).collect(Collectors.joining(","));
+        }
+    }
+
+    /**
+     * Index of the partitions hosted by each broker and of the {@code min.insync.replicas} of the topics. The
+     * partitions of a topic are always replaced together when the topic is described again.
+     */
+    private static final class PartitionIndex {
+        private final Map<String, Integer> minIsrs = new HashMap<>();
+        private final Map<String, List<PartitionReplicas>> partitionsByTopic = new HashMap<>();
+        private final Map<Integer, Map<String, List<PartitionReplicas>>> partitionsByBroker = new HashMap<>();
+
+        /**
+         * Replaces the partitions of the described topics and forgets their {@code min.insync.replicas}, so that it
+         * is described again
+         */
+        synchronized void update(Collection<TopicDescription> topicDescriptions) {
+            for (TopicDescription td : topicDescriptions) {
+                remove(td.name());
+                minIsrs.remove(td.name());
+
+                List<PartitionReplicas> partitions = new ArrayList<>(td.partitions().size());
+                for (TopicPartitionInfo pi : td.partitions()) {
+                    PartitionReplicas partition = new PartitionReplicas(pi);
+                    partitions.add(partition);
+
+                    for (int broker : partition.replicas) {
+                        partitionsByBroker.computeIfAbsent(broker, b -> new HashMap<>())
+                                .computeIfAbsent(td.name(), t -> new ArrayList<>())
+                                .add(partition);
+                    }
+                }
+                partitionsByTopic.put(td.name(), partitions);
+            }
+        }
+
+        /**
+         * Removes the topics which do not exist anymore and returns the topics which should be described again
+         * before checking the given brokers: the topics hosted by the brokers and the new topics.
+         */
+        synchronized Set<String> topicsToRefresh(Set<Integer> brokers, Set<String> topicNames) {
+            for (String topic : new ArrayList<>(partitionsByTopic.keySet())) {
+                if (!topicNames.contains(topic)) {
+                    remove(topic);
+                    minIsrs.remove(topic);
+                }
+            }
+
+            Set<String> toRefresh = new HashSet<>();
+            for (int broker : brokers) {
+                toRefresh.addAll(partitionsByBroker.getOrDefault(broker, Collections.emptyMap()).keySet());
+            }
+            for (String topic : topicNames) {
+                if (!partitionsByTopic.containsKey(topic)) {
+                    toRefresh.add(topic);
+                }
+            }
+            return toRefresh;
+        }
+
+        synchronized Set<String> topicsWithoutMinIsr(Set<Integer> brokers) {
+            Set<String> topics = new HashSet<>();
+            for (int broker : brokers) {
+                for (String topic : partitionsByBroker.getOrDefault(broker, Collections.emptyMap()).keySet()) {
+                    if (!minIsrs.containsKey(topic)) {
+                        topics.add(topic);
+                    }
+                }
+            }
+            return topics;
+        }
+
+        synchronized void putMinIsrs(Map<String, Integer> topicMinIsrs) {
+            minIsrs.putAll(topicMinIsrs);
+        }
+
+        synchronized int minIsr(String topic) {
+            return minIsrs.getOrDefault(topic, -1);
+        }
+
+        /**
+         * @return  A snapshot of the partitions hosted by any of the brokers indexed by the topic names. Partitions
+         *          hosted by more than one of the brokers are included only once.
+         */
+        synchronized Map<String, List<PartitionReplicas>> partitionsOnBrokers(Set<Integer> brokers) {
+            if (brokers.size() == 1) {
+                return new HashMap<>(partitionsByBroker.getOrDefault(brokers.iterator().next(), Collections.emptyMap()));
+            }
+
+            Map<String, List<PartitionReplicas>> partitions = new HashMap<>();
+            for (int broker : brokers) {
+                for (Map.Entry<String, List<PartitionReplicas>> topic : partitionsByBroker.getOrDefault(broker, Collections.emptyMap()).entrySet()) {
+                    List<PartitionReplicas> merged = partitions.get(topic.getKey());
+                    if (merged == null) {
+                        partitions.put(topic.getKey(), topic.getValue());
+                    } else {
+                        Set<PartitionReplicas> union = Collections.newSetFromMap(new IdentityHashMap<>());
+                        union.addAll(merged);
+                        union.addAll(topic.getValue());
+                        partitions.put(topic.getKey(), new ArrayList<>(union));
+                    }
+                }
+            }
+            return partitions;
+        }
+
+        private void remove(String topic) {
+            List<PartitionReplicas> partitions = partitionsByTopic.remove(topic);
+            if (partitions != null) {
+                for (PartitionReplicas partition : partitions) {
+                    for (int broker : partition.replicas) {
+                        Map<String, List<PartitionReplicas>> topics = partitionsByBroker.get(broker);
+                        if (topics != null) {
+                            topics.remove(topic);
+                            if (topics.isEmpty()) {
+                                partitionsByBroker.remove(broker);
+                            }
+                        }
+                    }
+                }
+            }
+        }
+    }
 }
@@ -10,6 +10,8 @@ import java.net.Socket;
 import java.time.Duration;
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
@@ -17,6 +19,7 @@ import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
+import java.util.TreeSet;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ExecutionException;
@@ -36,11 +39,16 @@ import io.fabric8.kubernetes.api.model.Pod;
 import io.fabric8.kubernetes.api.model.Secret;
 import io.fabric8.kubernetes.api.model.apps.StatefulSet;
 import io.fabric8.kubernetes.client.KubernetesClientException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
 import io.strimzi.operator.cluster.model.KafkaCluster;
 import io.strimzi.operator.cluster.model.KafkaVersion;
+import io.strimzi.operator.common.AbstractOperator;
 import io.strimzi.operator.common.AdminClientProvider;
 import io.strimzi.operator.common.BackOff;
 import io.strimzi.operator.common.DefaultAdminClientProvider;
+import io.strimzi.operator.common.MetricsProvider;
 import io.strimzi.operator.common.ReconciliationLogger;
 import io.strimzi.operator.common.Reconciliation;
 import io.strimzi.operator.common.Util;
@@ -93,6 +101,17 @@ import static java.util.Collections.singletonList;
  *
  * <p>Where "impacting availability" is defined by {@link KafkaAvailability}.</p>
  *
+ * <p>When the maximum batch size is higher than 1, step 6 restarts a batch of pods together. The other pods which
+ * still need to be restarted, are ready and are not the controller are added to the batch one by one, preferring the
+ * pods in the same {@code broker.rack} as the pod being rolled, as long as {@link KafkaAvailability} says that the
+ * whole batch can be restarted at once. The pods restarted in a batch are only checked for readiness when they are
+ * taken from the list.</p>
+ *
+ * <p>When the reconfiguration is allowed, the configurations of all the brokers which do not need to be restarted are
+ * described in a single request before step 0. The brokers whose configuration can be updated dynamically are then
+ * reconfigured in a single request as well and such brokers are in step 3 only waited for to be ready. Brokers for
+ * which this fails, are reconfigured or restarted one by one as described above.</p>
+ *
  * <p>Note the following important properties of this algorithm:</p>
  * <ul>
  *     <li>if there is a spontaneous change in controller while the rolling restart is happening, any new
@@ -124,6 +143,17 @@ public class KafkaRoller {
     private final Reconciliation reconciliation;
     private final boolean allowReconfiguration;
     private Admin allClient;
+    private KafkaAvailability kafkaAvailability;
+    private final int maxBatchSize;
+    private final Set<Integer> restartedInBatch = ConcurrentHashMap.newKeySet();
+    private final Set<Integer> reconfiguredTogether = ConcurrentHashMap.newKeySet();
+    private final Timer rollingRestartTimer;
+    private final Counter restartBatchesCounter;
+    private final Counter restartedPodsCounter;
+
+    public static final String METRICS_ROLLING_RESTART_DURATION = AbstractOperator.METRICS_PREFIX + "kafka.rolling.restart.duration";
+    public static final String METRICS_ROLLING_RESTART_BATCHES = AbstractOperator.METRICS_PREFIX + "kafka.rolling.restart.batches";
+    public static final String METRICS_ROLLING_RESTART_PODS = AbstractOperator.METRICS_PREFIX + "kafka.rolling.restart.pods";
 
     public KafkaRoller(Reconciliation reconciliation, Vertx vertx, PodOperator podOperations,
                        long pollingIntervalMs, long operationTimeoutMs, Supplier<BackOff> backOffSupplier,
@@ -138,6 +168,38 @@ public class KafkaRoller {
                        StatefulSet sts, Secret clusterCaCertSecret, Secret coKeySecret,
                        AdminClientProvider adminClientProvider,
                        String kafkaConfig, String kafkaLogging, KafkaVersion kafkaVersion, boolean allowReconfiguration) {
+        this(reconciliation, vertx, podOperations, pollingIntervalMs, operationTimeoutMs, backOffSupplier,
+                sts, clusterCaCertSecret, coKeySecret, adminClientProvider, kafkaConfig, kafkaLogging, kafkaVersion, allowReconfiguration,
+                1, null);
+    }
+
+    /**
+     * Constructs the Kafka roller
+     *
+     * @param reconciliation        Reconciliation marker
+     * @param vertx                 Vert.x instance
+     * @param podOperations         Pod operator
+     * @param pollingIntervalMs     Interval of the polling for the pod readiness
+     * @param operationTimeoutMs    Timeout of the operations
+     * @param backOffSupplier       Supplier of the back-off used for retrying the restart of a pod
+     * @param sts                   The StatefulSet of the Kafka brokers
+     * @param clusterCaCertSecret   Secret with the cluster CA certificate
+     * @param coKeySecret           Secret with the Cluster Operator certificate and key
+     * @param adminClientProvider   Provider of the Admin clients
+     * @param kafkaConfig           Desired Kafka configuration
+     * @param kafkaLogging          Desired Kafka logging configuration
+     * @param kafkaVersion          Kafka version
+     * @param allowReconfiguration  Whether the brokers can be reconfigured dynamically
+     * @param maxBatchSize          Maximum number of pods which can be restarted at the same time
+     * @param metrics               Metrics provider used for the rolling restart metrics or null if they should not be
+     *                              collected
+     */
+    public KafkaRoller(Reconciliation reconciliation, Vertx vertx, PodOperator podOperations,
+                       long pollingIntervalMs, long operationTimeoutMs, Supplier<BackOff> backOffSupplier,
+                       StatefulSet sts, Secret clusterCaCertSecret, Secret coKeySecret,
+                       AdminClientProvider adminClientProvider,
+                       String kafkaConfig, String kafkaLogging, KafkaVersion kafkaVersion, boolean allowReconfiguration,
+                       int maxBatchSize, MetricsProvider metrics) {
         this.namespace = sts.getMetadata().getNamespace();
         this.cluster = Labels.cluster(sts);
         this.numPods = sts.getSpec().getReplicas();
@@ -154,6 +216,18 @@ public class KafkaRoller {
         this.kafkaVersion = kafkaVersion;
         this.reconciliation = reconciliation;
         this.allowReconfiguration = allowReconfiguration;
+        this.maxBatchSize = Math.max(1, maxBatchSize);
+
+        if (metrics != null) {
+            Tags tags = Tags.of("kind", reconciliation.kind(), "name", reconciliation.name(), "resource-namespace", reconciliation.namespace());
+            this.rollingRestartTimer = metrics.timer(METRICS_ROLLING_RESTART_DURATION, "The time the rolling restart of the Kafka brokers takes", tags);
+            this.restartBatchesCounter = metrics.counter(METRICS_ROLLING_RESTART_BATCHES, "Number of batches of Kafka pods restarted together", tags);
+            this.restartedPodsCounter = metrics.counter(METRICS_ROLLING_RESTART_PODS, "Number of restarted Kafka pods", tags);
+        } else {
+            this.rollingRestartTimer = null;
+            this.restartBatchesCounter = null;
+            this.restartedPodsCounter = null;
+        }
     }
 
     /**
@@ -177,7 +251,7 @@ public class KafkaRoller {
     private boolean initAdminClient() {
         if (this.allClient == null) {
             try {
-                this.allClient = adminClient(IntStream.range(0, numPods).boxed().collect(Collectors.toList()), false);
+                this.allClient = adminClient(IntStream.range(0, numPods).boxed().collect(Collectors.toList()), false, false);
             } catch (ForceableProblem | FatalProblem e) {
                 return false;
             }
@@ -196,7 +270,10 @@ public class KafkaRoller {
         this.podNeedsRestart = podNeedsRestart;
 
         Promise<Void> result = Promise.promise();
+        long start = System.nanoTime();
         singleExecutor.submit(() -> {
+            maybeReconfigureBrokersTogether();
+
             List<Integer> podIds = new ArrayList<>(numPods);
 
             for (int podId = 0; podId < numPods; podId++) {
@@ -211,6 +288,9 @@ public class KafkaRoller {
             }
             CompositeFuture.join(futures).onComplete(ar -> {
                 singleExecutor.shutdown();
+                if (rollingRestartTimer != null) {
+                    rollingRestartTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+                }
                 try {
                     if (allClient != null) {
                         allClient.close(Duration.ofSeconds(30));
@@ -343,6 +423,14 @@ public class KafkaRoller {
     @SuppressWarnings({"checkstyle:CyclomaticComplexity"})
     private void restartIfNecessary(int podId, RestartContext restartContext)
             throws Exception {
+        if (restartedInBatch.contains(podId)) {
+            LOGGER.debugCr(reconciliation, "Pod {} was already restarted in a batch with another pod", podId);
+            LOGGER.debugCr(reconciliation, "Waiting for restarted pod {} to become ready", podId);
+            await(isReady(namespace, KafkaCluster.kafkaPodName(cluster, podId)), operationTimeoutMs, TimeUnit.MILLISECONDS, e -> new FatalProblem("Error while waiting for restarted pod " + podName(podId) + " to become ready", e));
+            LOGGER.debugCr(reconciliation, "Pod {} is now ready", podId);
+            return;
+        }
+
         Pod pod;
         try {
             pod = podOperations.get(namespace, KafkaCluster.kafkaPodName(cluster, podId));
@@ -359,9 +447,12 @@ public class KafkaRoller {
                 } else {
                     if (restartPlan.forceRestart || canRoll(podId, 60_000, TimeUnit.MILLISECONDS, false)) {
                         // Check for rollability before trying a dynamic update so that if the dynamic update fails we can go to a full restart
-                        if (restartPlan.forceRestart || !maybeDynamicUpdateBrokerConfig(podId, restartPlan)) {
+                        if (restartPlan.forceRestart) {
                             LOGGER.debugCr(reconciliation, "Pod {} can be rolled now", podId);
                             restartAndAwaitReadiness(pod, operationTimeoutMs, TimeUnit.MILLISECONDS);
+                        } else if (!maybeDynamicUpdateBrokerConfig(podId, restartPlan)) {
+                            LOGGER.debugCr(reconciliation, "Pod {} can be rolled now", podId);
+                            restartBatchAndAwaitReadiness(podId, pod, restartContext, operationTimeoutMs, TimeUnit.MILLISECONDS);
                         } else {
                             awaitReadiness(pod, operationTimeoutMs, TimeUnit.MILLISECONDS);
                         }
@@ -465,6 +556,10 @@ public class KafkaRoller {
         }
         // Unless the annotation is present, check the pod is at least ready.
         boolean needsRestart = !reasonToRestartPod.isEmpty();
+        if (!needsRestart && reconfiguredTogether.remove(podId)) {
+            LOGGER.debugCr(reconciliation, "Pod {} was already reconfigured together with the other pods", podId);
+            return new RestartPlan(false, false, false, null, null);
+        }
         KafkaBrokerConfigurationDiff diff = null;
         KafkaBrokerLoggingConfigurationDiff loggingDiff = null;
         boolean needsReconfig = false;
@@ -509,6 +604,127 @@ public class KafkaRoller {
         return new RestartPlan(needsRestart, needsReconfig, podStuck, diff, loggingDiff);
     }
 
+    /**
+     * Describes the configurations of all brokers which do not need to be restarted in a single request, computes
+     * their configuration differences and updates the configurations which can be changed dynamically in a single
+     * request. The brokers which were updated or which do not need any update are not reconfigured again when they
+     * are rolled. Any failure just leaves the brokers to be reconfigured one by one.
+     */
+    private void maybeReconfigureBrokersTogether() {
+        if (!allowReconfiguration || !initAdminClient()) {
+            return;
+        }
+
+        try {
+            List<Integer> podIds = new ArrayList<>(numPods);
+            for (int podId = 0; podId < numPods; podId++) {
+                Pod pod = podOperations.get(namespace, podName(podId));
+                if (pod != null && Objects.requireNonNull(podNeedsRestart.apply(pod)).isEmpty()) {
+                    podIds.add(podId);
+                }
+            }
+
+            if (podIds.isEmpty()) {
+                return;
+            }
+
+            Map<ConfigResource, Config> configs = describeBrokerConfigs(podIds);
+            // Computing the differences needs to parse the configurations, so it is done in parallel
+            List<BrokerReconfiguration> reconfigurations = podIds.parallelStream()
+                    .filter(podId -> configs.containsKey(Util.getBrokersConfig(podId)) && configs.containsKey(Util.getBrokersLogging(podId)))
+                    .map(podId -> new BrokerReconfiguration(podId,
+                            new KafkaBrokerConfigurationDiff(reconciliation, configs.get(Util.getBrokersConfig(podId)), kafkaConfig, kafkaVersion, podId),
+                            new KafkaBrokerLoggingConfigurationDiff(reconciliation, configs.get(Util.getBrokersLogging(podId)), kafkaLogging, podId)))
+                    .collect(Collectors.toList());
+
+            Map<ConfigResource, Collection<AlterConfigOp>> updatedConfig = new HashMap<>(2 * reconfigurations.size());
+            List<Integer> updatedPodIds = new ArrayList<>(reconfigurations.size());
+            for (BrokerReconfiguration reconfiguration : reconfigurations) {
+                if (reconfiguration.diff.getDiffSize() == 0 && reconfiguration.logDiff.getDiffSize() == 0) {
+                    LOGGER.debugCr(reconciliation, "Pod {} does not need to be reconfigured", reconfiguration.podId);
+                    reconfiguredTogether.add(reconfiguration.podId);
+                } else if (reconfiguration.diff.getDiffSize() == 0 || reconfiguration.diff.canBeUpdatedDynamically()) {
+                    updatedConfig.put(Util.getBrokersConfig(reconfiguration.podId), reconfiguration.diff.getConfigDiff());
+                    updatedConfig.put(Util.getBrokersLogging(reconfiguration.podId), reconfiguration.logDiff.getLoggingDiff());
+                    updatedPodIds.add(reconfiguration.podId);
+                }
+            }
+
+            if (!updatedConfig.isEmpty()) {
+                LOGGER.debugCr(reconciliation, "Altering configuration of brokers {}", updatedPodIds);
+                LOGGER.traceCr(reconciliation, "Altering configuration of brokers {} with {}", updatedPodIds, updatedConfig);
+                Set<ConfigResource> updated = alterBrokerConfigs(updatedConfig);
+
+                for (int podId : updatedPodIds) {
+                    if (updated.contains(Util.getBrokersConfig(podId)) && updated.contains(Util.getBrokersLogging(podId))) {
+                        LOGGER.infoCr(reconciliation, "Dynamic reconfiguration for broker {} was successful.", podId);
+                        reconfiguredTogether.add(podId);
+                    }
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (RuntimeException e) {
+            LOGGER.debugCr(reconciliation, "Brokers could not be reconfigured together, they will be reconfigured one by one", e);
+        }
+    }
+
+    /**
+     * Describes the configurations and the logging configurations of the given brokers in a single request.
+     * @param podIds The ids of the brokers.
+     * @return The configurations which were described, indexed by their config resources.
+     */
+    protected Map<ConfigResource, Config> describeBrokerConfigs(List<Integer> podIds) throws InterruptedException {
+        List<ConfigResource> resources = new ArrayList<>(2 * podIds.size());
+        for (int podId : podIds) {
+            resources.add(Util.getBrokersConfig(podId));
+            resources.add(Util.getBrokersLogging(podId));
+        }
+
+        Map<ConfigResource, Config> configs = new HashMap<>(resources.size());
+        for (Map.Entry<ConfigResource, KafkaFuture<Config>> entry : allClient.describeConfigs(resources).values().entrySet()) {
+            try {
+                configs.put(entry.getKey(), await(Util.kafkaFutureToVertxFuture(reconciliation, vertx, entry.getValue()), 30, TimeUnit.SECONDS,
+                    error -> new ForceableProblem("Error getting broker config", error)));
+            } catch (ForceableProblem e) {
+                LOGGER.debugCr(reconciliation, "Could not describe {}", entry.getKey(), e);
+            }
+        }
+        return configs;
+    }
+
+    /**
+     * Updates the configurations of multiple brokers in a single request.
+     * @param updatedConfig The updates of the configurations.
+     * @return The config resources which were updated successfully.
+     */
+    protected Set<ConfigResource> alterBrokerConfigs(Map<ConfigResource, Collection<AlterConfigOp>> updatedConfig) throws InterruptedException {
+        Set<ConfigResource> updated = new HashSet<>(updatedConfig.size());
+        for (Map.Entry<ConfigResource, KafkaFuture<Void>> entry : allClient.incrementalAlterConfigs(updatedConfig).values().entrySet()) {
+            try {
+                await(Util.kafkaFutureToVertxFuture(reconciliation, vertx, entry.getValue()), 30, TimeUnit.SECONDS,
+                    error -> new ForceableProblem("Error doing dynamic update", error));
+                updated.add(entry.getKey());
+            } catch (ForceableProblem e) {
+                LOGGER.warnCr(reconciliation, "Error doing dynamic update of {}", entry.getKey(), e);
+            }
+        }
+        return updated;
+    }
+
+    /** The configuration differences of a single broker computed when reconfiguring the brokers together */
+    private static class BrokerReconfiguration {
+        private final int podId;
+        private final KafkaBrokerConfigurationDiff diff;
+        private final KafkaBrokerLoggingConfigurationDiff logDiff;
+
+        BrokerReconfiguration(int podId, KafkaBrokerConfigurationDiff diff, KafkaBrokerLoggingConfigurationDiff logDiff) {
+            this.podId = podId;
+            this.diff = diff;
+            this.logDiff = logDiff;
+        }
+    }
+
     /**
      * Returns a config of the given broker.
      * @param brokerId The id of the broker.
@@ -613,7 +829,11 @@ public class KafkaRoller {
     private boolean canRoll(int podId, long timeout, TimeUnit unit, boolean ignoreSslError)
             throws ForceableProblem, InterruptedException {
         try {
-            return await(availability(allClient).canRoll(podId), timeout, unit,
+            if (kafkaAvailability == null) {
+                // Created once for all pods, so that only the topics on the checked pod have to be described again
+                kafkaAvailability = availability(allClient);
+            }
+            return await(kafkaAvailability.canRoll(podId), timeout, unit,
                 t -> new ForceableProblem("An error while trying to determine rollability", t));
         } catch (ForceableProblem e) {
             // If we're not able to connect then roll
@@ -625,6 +845,138 @@ public class KafkaRoller {
         }
     }
 
+    /**
+     * Synchronously restart the given pod together with a batch of other pods which can be restarted at the same time
+     * and wait for all of them to be ready. When batching is disabled or no other pod can be added to the batch, only
+     * the given pod is restarted.
+     * @param podId The id of the pod to restart.
+     * @param pod The Pod to restart.
+     * @param restartContext The restart context of the pod.
+     * @param timeout The timeout.
+     * @param unit The timeout unit.
+     */
+    private void restartBatchAndAwaitReadiness(int podId, Pod pod, RestartContext restartContext, long timeout, TimeUnit unit)
+            throws Exception {
+        List<Integer> batch = maxBatchSize > 1 ? batch(podId, restartContext) : singletonList(podId);
+        if (batch.size() == 1) {
+            restartAndAwaitReadiness(pod, timeout, unit);
+            return;
+        }
+
+        LOGGER.infoCr(reconciliation, "Restarting pods {} together", batch);
+        List<Pod> pods = new ArrayList<>(batch.size());
+        pods.add(pod);
+        for (int otherPodId : batch.subList(1, batch.size())) {
+            pods.add(podOperations.get(namespace, podName(otherPodId)));
+        }
+
+        @SuppressWarnings("rawtypes") // Has to use Raw type because of the CompositeFuture
+        List<Future> restarts = pods.stream().map(this::restart).collect(Collectors.toList());
+        await(CompositeFuture.join(restarts), timeout, unit, e -> new UnforceableProblem("Error while trying to restart pods " + batch + " to become ready", e));
+        restartedInBatch.addAll(batch.subList(1, batch.size()));
+        recordRestart(batch.size());
+
+        for (Pod restartedPod : pods) {
+            awaitReadiness(restartedPod, timeout, unit);
+        }
+    }
+
+    /**
+     * Finds the pods which can be restarted together with the given pod. The candidates are the pods which were not
+     * rolled yet, need to be restarted, are ready and are not the controller. The pods in the same rack as the given
+     * pod are considered first. Each candidate is added to the batch only if the whole batch can be rolled according
+     * to {@link KafkaAvailability}.
+     * @param podId The id of the pod to restart.
+     * @param restartContext The restart context of the pod.
+     * @return The ids of the pods in the batch, starting with the given pod.
+     */
+    private List<Integer> batch(int podId, RestartContext restartContext) throws Exception {
+        List<Integer> candidates = new ArrayList<>();
+        for (Map.Entry<Integer, RestartContext> entry : podToContext.entrySet()) {
+            int candidate = entry.getKey();
+            if (candidate != podId
+                    && !entry.getValue().promise.future().isComplete()
+                    && !restartedInBatch.contains(candidate)) {
+                candidates.add(candidate);
+            }
+        }
+
+        if (candidates.isEmpty()) {
+            return singletonList(podId);
+        }
+
+        int controller = controller(podId, operationTimeoutMs, TimeUnit.MILLISECONDS, restartContext);
+        candidates.removeIf(candidate -> candidate == controller || !canBeBatched(candidate));
+
+        Map<Integer, String> racks = brokerRacks();
+        String rack = racks.get(podId);
+        candidates.sort(Comparator.comparing((Integer candidate) -> rack == null || !rack.equals(racks.get(candidate)))
+                .thenComparing(Comparator.naturalOrder()));
+
+        Set<Integer> batch = new TreeSet<>();
+        batch.add(podId);
+        List<Integer> result = new ArrayList<>(maxBatchSize);
+        result.add(podId);
+        for (int candidate : candidates) {
+            if (result.size() >= maxBatchSize) {
+                break;
+            }
+
+            batch.add(candidate);
+            if (await(kafkaAvailability.canRoll(batch), 60_000, TimeUnit.MILLISECONDS,
+                    t -> new ForceableProblem("An error while trying to determine rollability", t))) {
+                result.add(candidate);
+            } else {
+                batch.remove(candidate);
+            }
+        }
+
+        LOGGER.debugCr(reconciliation, "Pods {} can be restarted together", result);
+        return result;
+    }
+
+    /**
+     * @return True if the given pod needs to be restarted, is ready and is not stuck
+     */
+    private boolean canBeBatched(int podId) {
+        try {
+            Pod pod = podOperations.get(namespace, podName(podId));
+            return pod != null
+                    && !isPodStuck(pod)
+                    && !Objects.requireNonNull(podNeedsRestart.apply(pod)).isEmpty()
+                    && podOperations.isReady(namespace, podName(podId));
+        } catch (RuntimeException e) {
+            LOGGER.debugCr(reconciliation, "Pod {} cannot be restarted in a batch", podId, e);
+            return false;
+        }
+    }
+
+    /**
+     * Returns the racks of the brokers. Brokers without rack are not included. When the racks cannot be determined, an
+     * empty map is returned so that the batches are created without preferring any rack.
+     * @return The racks of the brokers indexed by the broker ids.
+     */
+    protected Map<Integer, String> brokerRacks() throws InterruptedException {
+        try {
+            Collection<Node> nodes = await(Util.kafkaFutureToVertxFuture(reconciliation, vertx, allClient.describeCluster().nodes()),
+                    30, TimeUnit.SECONDS,
+                error -> new ForceableProblem("Error describing the cluster", error));
+            return nodes.stream()
+                    .filter(node -> node.hasRack())
+                    .collect(Collectors.toMap(Node::id, Node::rack));
+        } catch (ForceableProblem e) {
+            LOGGER.debugCr(reconciliation, "Could not determine the racks of the brokers", e);
+            return Collections.emptyMap();
+        }
+    }
+
+    private void recordRestart(int pods) {
+        if (restartBatchesCounter != null) {
+            restartBatchesCounter.increment();
+            restartedPodsCounter.increment(pods);
+        }
+    }
+
     /**
      * Synchronously restart the given pod
      * by deleting it and letting it be recreated by K8s, then synchronously wait for it to be ready.
@@ -637,6 +989,7 @@ public class KafkaRoller {
         String podName = pod.getMetadata().getName();
         LOGGER.debugCr(reconciliation, "Rolling pod {}", podName);
         await(restart(pod), timeout, unit, e -> new UnforceableProblem("Error while trying to restart pod " + podName + " to become ready", e));
+        recordRestart(1);
         awaitReadiness(pod, timeout, unit);
     }
 
@@ -691,14 +1044,19 @@ public class KafkaRoller {
     }
 
     /**
-     * Returns an AdminClient instance bootstrapped from the given pod.
+     * Returns an AdminClient instance bootstrapped from the given pod. Unless {@code dedicated} is true, the client
+     * might be shared with other users of the same Admin client provider.
      */
-    protected Admin adminClient(List<Integer> bootstrapPods, boolean ceShouldBeFatal) throws ForceableProblem, FatalProblem {
+    protected Admin adminClient(List<Integer> bootstrapPods, boolean ceShouldBeFatal, boolean dedicated) throws ForceableProblem, FatalProblem {
         List<String> podNames = bootstrapPods.stream().map(podId -> podName(podId)).collect(Collectors.toList());
         try {
             String bootstrapHostnames = podNames.stream().map(podName -> KafkaCluster.podDnsName(this.namespace, this.cluster, podName) + ":" + KafkaCluster.REPLICATION_PORT).collect(Collectors.joining(","));
             LOGGER.debugCr(reconciliation, "Creating AdminClient for {}", bootstrapHostnames);
-            return adminClientProvider.createAdminClient(bootstrapHostnames, this.clusterCaCertSecret, this.coKeySecret, "cluster-operator");
+            if (dedicated) {
+                return adminClientProvider.createDedicatedAdminClient(bootstrapHostnames, this.clusterCaCertSecret, this.coKeySecret, "cluster-operator");
+            } else {
+                return adminClientProvider.createAdminClient(bootstrapHostnames, this.clusterCaCertSecret, this.coKeySecret, "cluster-operator");
+            }
         } catch (KafkaException e) {
             if (ceShouldBeFatal && (e instanceof ConfigException
                     || e.getCause() instanceof ConfigException)) {
@@ -738,8 +1096,8 @@ public class KafkaRoller {
      */
     @SuppressFBWarnings("RCN_REDUNDANT_NULLCHECK_WOULD_HAVE_BEEN_A_NPE") // seems to be completely spurious
     int controller(int podId, long timeout, TimeUnit unit, RestartContext restartContext) throws Exception {
-        // Don't use all allClient here, because it will have cache metadata about which is the controller.
-        try (Admin ac = adminClient(singletonList(podId), false)) {
+        // Don't use all allClient or a shared client here, because it will have cache metadata about which is the controller.
+        try (Admin ac = adminClient(singletonList(podId), false, true)) {
             Node controllerNode = null;
             try {
                 DescribeClusterResult describeClusterResult = ac.describeCluster();
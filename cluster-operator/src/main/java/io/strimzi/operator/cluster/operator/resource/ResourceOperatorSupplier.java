@@ -48,8 +48,14 @@ import io.strimzi.operator.common.operator.resource.ServiceOperator;
 
 import io.fabric8.openshift.client.OpenShiftClient;
 import io.strimzi.operator.common.operator.resource.StorageClassOperator;
+import io.vertx.core.CompositeFuture;
+import io.vertx.core.Future;
 import io.vertx.core.Vertx;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
 // Deprecation is suppressed because of KafkaMirrorMaker
 @SuppressWarnings({"checkstyle:ClassDataAbstractionCoupling", "deprecation"})
 public class ResourceOperatorSupplier {
@@ -195,4 +201,33 @@ public class ResourceOperatorSupplier {
         this.adminClientProvider = adminClientProvider;
         this.zookeeperLeaderFinder = zookeeperLeaderFinder;
     }
+
+    /**
+     * Starts the informer caches for the watched custom resources and for the Secrets, ConfigMaps and Services
+     * which are read on every reconciliation. Once the caches are synced, these resources are read from them instead
+     * of the Kubernetes API server.
+     *
+     * @param namespaces    Namespaces watched by the operator
+     * @param resyncMs      Resync interval for the informers
+     *
+     * @return  Future which completes when all caches are synced
+     */
+    public Future<Void> startResourceCaches(Collection<String> namespaces, long resyncMs) {
+        List<Future> futures = new ArrayList<>();
+
+        for (String namespace : namespaces) {
+            futures.add(kafkaOperator.startCache(namespace, resyncMs, metricsProvider));
+            futures.add(connectOperator.startCache(namespace, resyncMs, metricsProvider));
+            futures.add(mirrorMakerOperator.startCache(namespace, resyncMs, metricsProvider));
+            futures.add(kafkaBridgeOperator.startCache(namespace, resyncMs, metricsProvider));
+            futures.add(kafkaConnectorOperator.startCache(namespace, resyncMs, metricsProvider));
+            futures.add(mirrorMaker2Operator.startCache(namespace, resyncMs, metricsProvider));
+            futures.add(kafkaRebalanceOperator.startCache(namespace, resyncMs, metricsProvider));
+            futures.add(secretOperations.startCache(namespace, resyncMs, metricsProvider));
+            futures.add(configMapOperations.startCache(namespace, resyncMs, metricsProvider));
+            futures.add(serviceOperations.startCache(namespace, resyncMs, metricsProvider));
+        }
+
+        return CompositeFuture.join(futures).map((Void) null);
+    }
 }
@@ -6,6 +6,7 @@ package io.strimzi.operator.cluster;
 
 import io.fabric8.kubernetes.api.model.LocalObjectReference;
 import io.fabric8.kubernetes.api.model.LocalObjectReferenceBuilder;
+import io.strimzi.certs.CertManagerType;
 import io.strimzi.operator.cluster.model.ImagePullPolicy;
 import io.strimzi.operator.cluster.model.KafkaVersion;
 import io.strimzi.operator.cluster.model.UnsupportedVersionException;
@@ -63,6 +64,7 @@ public class ClusterOperatorConfigTest {
         assertThat(config.getOperatorNamespace(), is("operator-namespace"));
         assertThat(config.getOperatorNamespaceLabels(), is(nullValue()));
         assertThat(config.featureGates().controlPlaneListenerEnabled(), is(true));
+        assertThat(config.getCertManager(), is(CertManagerType.OPENSSL));
     }
 
     @Test
@@ -83,13 +85,19 @@ public class ClusterOperatorConfigTest {
                 null,
                 "",
                 10,
-                20_000);
+                20_000,
+                5,
+                3,
+                CertManagerType.BOUNCYCASTLE);
 
         assertThat(config.getNamespaces(), is(singleton("namespace")));
         assertThat(config.getReconciliationIntervalMs(), is(60_000L));
         assertThat(config.getOperationTimeoutMs(), is(30_000L));
         assertThat(config.getZkAdminSessionTimeoutMs(), is(20_000));
+        assertThat(config.getMaxConcurrentReconciliations(), is(5));
+        assertThat(config.getKafkaRollingBatchSize(), is(3));
         assertThat(config.getConnectBuildTimeoutMs(), is(120_000L));
+        assertThat(config.getCertManager(), is(CertManagerType.BOUNCYCASTLE));
     }
 
     @Test
@@ -354,6 +362,27 @@ public class ClusterOperatorConfigTest {
         assertThat(e.getMessage(), containsString("Failed to parse labels from STRIMZI_CUSTOM_RESOURCE_SELECTOR"));
     }
 
+    @Test
+    public void testCertManager() {
+        Map<String, String> envVars = new HashMap<>(ClusterOperatorConfigTest.envVars);
+        envVars.put(ClusterOperatorConfig.STRIMZI_CERT_MANAGER, "bouncycastle");
+        assertThat(ClusterOperatorConfig.fromMap(envVars, KafkaVersionTestUtils.getKafkaVersionLookup()).getCertManager(), is(CertManagerType.BOUNCYCASTLE));
+
+        envVars.put(ClusterOperatorConfig.STRIMZI_CERT_MANAGER, "OpenSSL");
+        assertThat(ClusterOperatorConfig.fromMap(envVars, KafkaVersionTestUtils.getKafkaVersionLookup()).getCertManager(), is(CertManagerType.OPENSSL));
+    }
+
+    @Test
+    public void testInvalidCertManagerThrowsInvalidConfigurationException() {
+        Map<String, String> envVars = new HashMap<>(ClusterOperatorConfigTest.envVars);
+        envVars.put(ClusterOperatorConfig.STRIMZI_CERT_MANAGER, "keytool");
+
+        InvalidConfigurationException e = assertThrows(InvalidConfigurationException.class, () -> {
+            ClusterOperatorConfig.fromMap(envVars, KafkaVersionTestUtils.getKafkaVersionLookup());
+        });
+        assertThat(e.getMessage(), containsString(ClusterOperatorConfig.STRIMZI_CERT_MANAGER));
+    }
+
     @Test
     public void testRbacScopeValueOf() {
         assertThat(ClusterOperatorConfig.RbacScope.valueOf("NAMESPACE"), is(ClusterOperatorConfig.RbacScope.NAMESPACE));
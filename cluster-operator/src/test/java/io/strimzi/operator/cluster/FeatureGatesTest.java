@@ -61,6 +61,8 @@ public class FeatureGatesTest {
         assertThat(new FeatureGates("  +ControlPlaneListener    ,    +ServiceAccountPatching").serviceAccountPatchingEnabled(), is(true));
         assertThat(new FeatureGates("+ServiceAccountPatching,-ControlPlaneListener").controlPlaneListenerEnabled(), is(false));
         assertThat(new FeatureGates("+ServiceAccountPatching,-ControlPlaneListener").serviceAccountPatchingEnabled(), is(true));
+        assertThat(new FeatureGates("+InformerCache").informerCacheEnabled(), is(true));
+        assertThat(new FeatureGates("+ControlPlaneListener,-InformerCache").informerCacheEnabled(), is(false));
     }
 
     @ParallelTest
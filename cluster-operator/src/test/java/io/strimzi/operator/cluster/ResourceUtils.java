@@ -759,7 +759,10 @@ public class ResourceUtils {
                 null,
                 "",
                 10,
-                10_000);
+                10_000,
+                10,
+                1,
+                ClusterOperatorConfig.DEFAULT_CERT_MANAGER);
     }
 
     public static ClusterOperatorConfig dummyClusterOperatorConfigRolesOnly(KafkaVersion.Lookup versions, long operationTimeoutMs) {
@@ -779,7 +782,10 @@ public class ResourceUtils {
                 null,
                 "",
                 10,
-                10_000);
+                10_000,
+                10,
+                1,
+                ClusterOperatorConfig.DEFAULT_CERT_MANAGER);
     }
 
     public static ClusterOperatorConfig dummyClusterOperatorConfig(KafkaVersion.Lookup versions) {
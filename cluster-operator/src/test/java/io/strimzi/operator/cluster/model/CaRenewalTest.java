@@ -6,6 +6,8 @@ package io.strimzi.operator.cluster.model;
 
 import io.fabric8.kubernetes.api.model.Secret;
 import io.fabric8.kubernetes.api.model.SecretBuilder;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import io.strimzi.certs.CertAndKey;
 import io.strimzi.certs.Subject;
 import io.strimzi.operator.common.Reconciliation;
@@ -19,6 +21,8 @@ import java.io.IOException;
 import java.security.cert.X509Certificate;
 import java.util.Base64;
 import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Function;
 
@@ -332,4 +336,59 @@ public class CaRenewalTest {
         assertThat(new String(newCerts.get("pod2").keyStore()), is("old-keystore"));
         assertThat(newCerts.get("pod2").storePassword(), is("old-password"));
     }
-}
\ No newline at end of file
+
+    @ParallelTest
+    public void parallelGenerationOfStatefulSetCertificates() throws IOException {
+        Set<String> threads = ConcurrentHashMap.newKeySet();
+        Ca mockedCa = new Ca(Reconciliation.DUMMY_RECONCILIATION, null, null, null, null, null, null, null, 2, 1, true, null) {
+            @Override
+            public boolean certRenewed() {
+                return false;
+            }
+
+            @Override
+            public boolean isExpiring(Secret secret, String certKey)  {
+                return false;
+            }
+
+            @Override
+            protected CertAndKey generateSignedCert(Subject subject,
+                                                    File csrFile, File keyFile, File certFile, File keyStoreFile) throws IOException {
+                threads.add(Thread.currentThread().getName());
+
+                return new CertAndKey(
+                        ("new-key-" + subject.commonName()).getBytes(),
+                        ("new-cert-" + subject.commonName()).getBytes(),
+                        ("new-truststore-" + subject.commonName()).getBytes(),
+                        ("new-keystore-" + subject.commonName()).getBytes(),
+                        "new-password-" + subject.commonName()
+                );
+            }
+        };
+
+        Timer timer = Timer.builder("test.timer").register(new SimpleMeterRegistry());
+        mockedCa.setParallelCertGeneration(true);
+        mockedCa.setCertGenerationTimer(timer);
+
+        int replicas = 5;
+        Function<Integer, Subject> subjectFn = i -> new Subject.Builder().withCommonName("pod" + i).build();
+        Function<Integer, String> podNameFn = i -> "pod" + i;
+
+        Map<String, CertAndKey> newCerts = mockedCa.maybeCopyOrGenerateCerts(Reconciliation.DUMMY_RECONCILIATION, replicas,
+                subjectFn,
+                null,
+                podNameFn,
+                true);
+
+        assertThat(newCerts.size(), is(replicas));
+        for (int i = 0; i < replicas; i++) {
+            assertThat(new String(newCerts.get("pod" + i).cert()), is("new-cert-pod" + i));
+            assertThat(new String(newCerts.get("pod" + i).key()), is("new-key-pod" + i));
+            assertThat(new String(newCerts.get("pod" + i).keyStore()), is("new-keystore-pod" + i));
+            assertThat(newCerts.get("pod" + i).storePassword(), is("new-password-pod" + i));
+        }
+
+        assertThat(threads.stream().allMatch(name -> name.startsWith("strimzi-cert-generation-")), is(true));
+        assertThat(timer.count(), is((long) replicas));
+    }
+}
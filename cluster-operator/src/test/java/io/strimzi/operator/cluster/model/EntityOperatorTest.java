@@ -150,6 +150,8 @@ public class EntityOperatorTest {
         assertThat(volumes.stream().filter(volume -> volume.getName().equals(EntityUserOperator.USER_OPERATOR_TMP_DIRECTORY_DEFAULT_VOLUME_NAME)).findFirst().get().getEmptyDir().getSizeLimit(), is(new Quantity("100", "Mi")));
         assertThat(volumes.stream().filter(volume -> volume.getName().equals(EntityTopicOperator.TOPIC_OPERATOR_TMP_DIRECTORY_DEFAULT_VOLUME_NAME)).findFirst().get().getEmptyDir().getSizeLimit(), is(new Quantity("100", "Mi")));
         assertThat(volumes.stream().filter(volume -> volume.getName().equals(EntityOperator.TLS_SIDECAR_TMP_DIRECTORY_DEFAULT_VOLUME_NAME)).findFirst().get().getEmptyDir().getSizeLimit(), is(new Quantity("100", "Mi")));
+        // The volume of the persistent topic store is added only when the persistent topic store is enabled
+        assertThat(volumes.stream().anyMatch(volume -> volume.getName().equals(EntityTopicOperator.TOPIC_OPERATOR_STORE_VOLUME_NAME)), is(false));
     }
 
     @ParallelTest
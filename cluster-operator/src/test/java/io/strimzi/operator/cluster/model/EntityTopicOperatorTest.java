@@ -7,7 +7,10 @@ package io.strimzi.operator.cluster.model;
 import io.fabric8.kubernetes.api.model.Container;
 import io.fabric8.kubernetes.api.model.EnvVar;
 import io.fabric8.kubernetes.api.model.EnvVarBuilder;
+import io.fabric8.kubernetes.api.model.Quantity;
+import io.fabric8.kubernetes.api.model.Volume;
 import io.fabric8.kubernetes.api.model.rbac.RoleBinding;
+import io.strimzi.api.kafka.model.ContainerEnvVar;
 import io.strimzi.api.kafka.model.EntityOperatorSpec;
 import io.strimzi.api.kafka.model.EntityOperatorSpecBuilder;
 import io.strimzi.api.kafka.model.EntityTopicOperatorSpec;
@@ -28,6 +31,7 @@ import java.util.Collections;
 import java.util.List;
 
 import static io.strimzi.test.TestUtils.map;
+import static java.util.Collections.singletonList;
 import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.CoreMatchers.nullValue;
 import static org.hamcrest.MatcherAssert.assertThat;
@@ -227,6 +231,37 @@ public class EntityTopicOperatorTest {
                 EntityOperator.TLS_SIDECAR_EO_CERTS_VOLUME_NAME, EntityOperator.TLS_SIDECAR_EO_CERTS_VOLUME_MOUNT)));
     }
 
+    @ParallelTest
+    public void testPersistentStoreDisabled() {
+        Container container = entityTopicOperator.getContainers(null).get(0);
+
+        assertThat(entityTopicOperator.isPersistentStoreEnabled(), is(false));
+        assertThat(AbstractModel.containerEnvVars(container).containsKey(EntityTopicOperator.ENV_VAR_STORE_STATE_DIR), is(false));
+        assertThat(EntityOperatorTest.volumeMounts(container.getVolumeMounts()).containsKey(EntityTopicOperator.TOPIC_OPERATOR_STORE_VOLUME_NAME), is(false));
+        assertThat(entityTopicOperator.getVolumes().stream().anyMatch(volume -> volume.getName().equals(EntityTopicOperator.TOPIC_OPERATOR_STORE_VOLUME_NAME)), is(false));
+    }
+
+    @ParallelTest
+    public void testPersistentStoreEnabled() {
+        ContainerEnvVar persistentStore = new ContainerEnvVar();
+        persistentStore.setName(EntityTopicOperator.ENV_VAR_STORE_PERSISTENT);
+        persistentStore.setValue("true");
+
+        EntityTopicOperator entityTopicOperator = EntityTopicOperator.fromCrd(new Reconciliation("test", resource.getKind(), resource.getMetadata().getNamespace(), resource.getMetadata().getName()), resource);
+        entityTopicOperator.setContainerEnvVars(singletonList(persistentStore));
+        Container container = entityTopicOperator.getContainers(null).get(0);
+
+        assertThat(entityTopicOperator.isPersistentStoreEnabled(), is(true));
+        assertThat(AbstractModel.containerEnvVars(container).get(EntityTopicOperator.ENV_VAR_STORE_PERSISTENT), is("true"));
+        assertThat(AbstractModel.containerEnvVars(container).get(EntityTopicOperator.ENV_VAR_STORE_STATE_DIR), is(EntityTopicOperator.TOPIC_OPERATOR_STORE_VOLUME_MOUNT));
+        assertThat(EntityOperatorTest.volumeMounts(container.getVolumeMounts()).get(EntityTopicOperator.TOPIC_OPERATOR_STORE_VOLUME_NAME), is(EntityTopicOperator.TOPIC_OPERATOR_STORE_VOLUME_MOUNT));
+
+        // The persistent topic store does not use the in-memory temporary directory, but its volume is limited as well
+        Volume storeVolume = entityTopicOperator.getVolumes().stream().filter(volume -> volume.getName().equals(EntityTopicOperator.TOPIC_OPERATOR_STORE_VOLUME_NAME)).findFirst().get();
+        assertThat(storeVolume.getEmptyDir().getMedium(), is(nullValue()));
+        assertThat(storeVolume.getEmptyDir().getSizeLimit(), is(new Quantity(EntityTopicOperator.TOPIC_OPERATOR_STORE_VOLUME_SIZE_LIMIT)));
+    }
+
     @ParallelTest
     public void testRoleBindingInOtherNamespace()   {
         RoleBinding binding = entityTopicOperator.generateRoleBindingForRole(namespace, toWatchedNamespace);
@@ -4,15 +4,21 @@
  */
 package io.strimzi.operator.cluster.model;
 
+import io.strimzi.kafka.config.model.ConfigModel;
 import io.strimzi.operator.cluster.KafkaVersionTestUtils;
 import io.strimzi.operator.common.Reconciliation;
 import io.strimzi.test.annotations.ParallelSuite;
 import io.strimzi.test.annotations.ParallelTest;
 
+import java.util.Map;
+import java.util.Set;
+
 import static java.util.Collections.singletonList;
 import static java.util.Collections.singletonMap;
 import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.sameInstance;
 import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 
 @ParallelSuite
 public class KafkaConfigurationTests {
@@ -94,4 +100,29 @@ public class KafkaConfigurationTests {
     public void validVersion() {
         assertNoError("inter.broker.protocol.version", "2.5-IV0");
     }
+
+    @ParallelTest
+    public void configModelIsCached() {
+        Map<String, ConfigModel> configModel = KafkaConfiguration.readConfigModel(kafkaVersion);
+
+        assertThat(KafkaConfiguration.readConfigModel(kafkaVersion), is(sameInstance(configModel)));
+        assertThrows(UnsupportedOperationException.class, () -> configModel.remove("broker.id"));
+    }
+
+    @ParallelTest
+    public void configsByScope() {
+        KafkaConfiguration kafkaConfiguration = KafkaConfiguration.unvalidated(Reconciliation.DUMMY_RECONCILIATION, Map.of(
+                "auto.create.topics.enable", "false",
+                "log.retention.ms", "1000",
+                "num.io.threads", "4",
+                "sasl.enabled.mechanisms", "PLAIN",
+                "foo", "bar"));
+
+        assertThat(kafkaConfiguration.readOnlyConfigs(kafkaVersion), is(Set.of("auto.create.topics.enable")));
+        assertThat(kafkaConfiguration.anyReadOnly(kafkaVersion), is(true));
+        assertThat(kafkaConfiguration.clusterWideConfigs(kafkaVersion), is(Set.of("log.retention.ms", "num.io.threads")));
+        assertThat(kafkaConfiguration.perBrokerConfigs(kafkaVersion), is(Set.of("sasl.enabled.mechanisms")));
+        assertThat(kafkaConfiguration.unknownConfigs(kafkaVersion), is(Set.of("foo")));
+        assertThat(kafkaConfiguration.unknownConfigsWithValues(kafkaVersion), is(Set.of("foo=bar")));
+    }
 }
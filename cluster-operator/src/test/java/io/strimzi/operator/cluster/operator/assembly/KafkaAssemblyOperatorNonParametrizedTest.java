@@ -10,6 +10,11 @@ import io.fabric8.kubernetes.api.model.OwnerReferenceBuilder;
 import io.fabric8.kubernetes.api.model.Secret;
 import io.fabric8.kubernetes.api.model.networking.v1.Ingress;
 import io.fabric8.kubernetes.api.model.rbac.ClusterRoleBinding;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import io.strimzi.api.kafka.model.CertificateAuthority;
 import io.strimzi.api.kafka.model.Kafka;
 import io.strimzi.api.kafka.model.KafkaBuilder;
@@ -26,6 +31,7 @@ import io.strimzi.operator.cluster.KafkaVersionTestUtils;
 import io.strimzi.operator.cluster.ResourceUtils;
 import io.strimzi.operator.cluster.model.AbstractModel;
 import io.strimzi.operator.cluster.model.KafkaCluster;
+import io.strimzi.operator.cluster.operator.resource.KafkaRoller;
 import io.strimzi.operator.cluster.operator.resource.ResourceOperatorSupplier;
 import io.strimzi.operator.cluster.operator.resource.StatefulSetOperator;
 import io.strimzi.operator.common.PasswordGenerator;
@@ -404,6 +410,34 @@ public class KafkaAssemblyOperatorNonParametrizedTest {
                 })));
     }
 
+    @Test
+    public void testRemoveClusterMetrics() {
+        MeterRegistry registry = new SimpleMeterRegistry();
+        Timer.builder(StepGraph.METRICS_STEP_DURATION)
+                .tags(Tags.of("kind", Kafka.RESOURCE_KIND, "name", NAME, "resource-namespace", NAMESPACE, "step", "reconcileCas"))
+                .register(registry);
+        Timer.builder(StepGraph.METRICS_STEP_DURATION)
+                .tags(Tags.of("kind", Kafka.RESOURCE_KIND, "name", "other-kafka", "resource-namespace", NAMESPACE, "step", "reconcileCas"))
+                .register(registry);
+        Timer.builder(KafkaAssemblyOperator.METRICS_CERT_GENERATION_DURATION)
+                .tags(Tags.of("kind", Kafka.RESOURCE_KIND, "name", NAME, "resource-namespace", NAMESPACE))
+                .register(registry);
+        Timer.builder(KafkaRoller.METRICS_ROLLING_RESTART_DURATION)
+                .tags(Tags.of("kind", Kafka.RESOURCE_KIND, "name", NAME, "resource-namespace", NAMESPACE))
+                .register(registry);
+        Counter.builder(KafkaRoller.METRICS_ROLLING_RESTART_PODS)
+                .tags(Tags.of("kind", Kafka.RESOURCE_KIND, "name", NAME, "resource-namespace", NAMESPACE))
+                .register(registry);
+
+        KafkaAssemblyOperator.removeClusterMetrics(registry, new Reconciliation("test-trigger", Kafka.RESOURCE_KIND, NAMESPACE, NAME));
+
+        assertThat(registry.find(StepGraph.METRICS_STEP_DURATION).tag("name", NAME).timer(), is(nullValue()));
+        assertThat(registry.find(StepGraph.METRICS_STEP_DURATION).tag("name", "other-kafka").timer(), is(not(nullValue())));
+        assertThat(registry.find(KafkaAssemblyOperator.METRICS_CERT_GENERATION_DURATION).tag("name", NAME).timer(), is(nullValue()));
+        assertThat(registry.find(KafkaRoller.METRICS_ROLLING_RESTART_DURATION).tag("name", NAME).timer(), is(nullValue()));
+        assertThat(registry.find(KafkaRoller.METRICS_ROLLING_RESTART_PODS).tag("name", NAME).counter(), is(nullValue()));
+    }
+
     @Test
     public void testSelectorLabels(VertxTestContext context) {
         Kafka kafka = new KafkaBuilder()
@@ -449,7 +483,10 @@ public class KafkaAssemblyOperatorNonParametrizedTest {
                 Labels.fromMap(Map.of("selectorLabel", "value")),
                 "",
                 10,
-                10_000);
+                10_000,
+                10,
+                1,
+                ClusterOperatorConfig.DEFAULT_CERT_MANAGER);
 
         KafkaAssemblyOperator op = new KafkaAssemblyOperator(vertx, new PlatformFeaturesAvailability(false, KubernetesVersion.V1_19), certManager, passwordGenerator,
                 supplier, config);
@@ -7,6 +7,7 @@ package io.strimzi.operator.cluster.operator.assembly;
 import java.io.File;
 import java.io.IOException;
 import java.nio.file.Files;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -45,6 +46,7 @@ import static org.hamcrest.Matchers.greaterThanOrEqualTo;
 import static org.hamcrest.Matchers.instanceOf;
 import static org.hamcrest.Matchers.is;
 import static org.hamcrest.Matchers.not;
+import static org.hamcrest.Matchers.nullValue;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 
@@ -189,7 +191,20 @@ public class KafkaConnectApiTest {
                         "name", "test",
                         "topic", "my-topic")));
             })))
-            .compose(config -> client.getConnectorConfig(Reconciliation.DUMMY_RECONCILIATION, new BackOff(10), "localhost", PORT, "does-not-exist"))
+            .compose(config -> client.listWithStatusAndInfo(Reconciliation.DUMMY_RECONCILIATION, "localhost", PORT))
+            .onComplete(context.succeeding(connectors -> context.verify(() -> {
+                ConnectorsSnapshot snapshot = new ConnectorsSnapshot(connectors);
+                assertThat(snapshot.names(), is(Collections.singleton("test")));
+                assertThat(snapshot.config("test"), is(TestUtils.map("connector.class", "FileStreamSource",
+                        "file", "/dev/null",
+                        "tasks.max", "1",
+                        "name", "test",
+                        "topic", "my-topic")));
+                assertThat(((Map) snapshot.status("test").get("connector")).get("state"), is("RUNNING"));
+                assertThat(snapshot.config("does-not-exist"), is(nullValue()));
+                assertThat(snapshot.status("does-not-exist"), is(nullValue()));
+            })))
+            .compose(connectors -> client.getConnectorConfig(Reconciliation.DUMMY_RECONCILIATION, new BackOff(10), "localhost", PORT, "does-not-exist"))
             .onComplete(context.failing(error -> context.verify(() -> {
                 assertThat(error, instanceOf(ConnectRestException.class));
                 assertThat(((ConnectRestException) error).getStatusCode(), is(404));
@@ -0,0 +1,125 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.cluster.operator.assembly;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.strimzi.operator.common.MetricsProvider;
+import io.strimzi.operator.common.MicrometerMetricsProvider;
+import io.vertx.core.CompositeFuture;
+import io.vertx.core.Future;
+import io.vertx.core.Vertx;
+import io.vertx.core.VertxOptions;
+import io.vertx.core.http.HttpMethod;
+import io.vertx.core.http.HttpServer;
+import io.vertx.junit5.Checkpoint;
+import io.vertx.junit5.VertxExtension;
+import io.vertx.junit5.VertxTestContext;
+import io.vertx.micrometer.MicrometerMetricsOptions;
+import io.vertx.micrometer.VertxPrometheusOptions;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+@ExtendWith(VertxExtension.class)
+public class KafkaConnectHttpClientPoolTest {
+    private static Vertx vertx;
+    private MetricsProvider metrics;
+    private HttpServer server;
+    private final Set<Object> serverConnections = ConcurrentHashMap.newKeySet();
+
+    @BeforeAll
+    public static void beforeAll() {
+        vertx = Vertx.vertx(new VertxOptions().setMetricsOptions(
+                new MicrometerMetricsOptions()
+                        .setPrometheusOptions(new VertxPrometheusOptions().setEnabled(true))
+                        .setEnabled(true)
+        ));
+    }
+
+    @AfterAll
+    public static void afterAll() throws Exception {
+        vertx.close().toCompletionStage().toCompletableFuture().get();
+    }
+
+    @BeforeEach
+    public void before() throws Exception {
+        metrics = new MicrometerMetricsProvider();
+        MeterRegistry registry = metrics.meterRegistry();
+        registry.forEachMeter(registry::remove);
+
+        serverConnections.clear();
+        server = vertx.createHttpServer()
+                .requestHandler(request -> {
+                    serverConnections.add(request.connection());
+                    request.response().end("[]");
+                })
+                .listen(0)
+                .toCompletionStage().toCompletableFuture().get();
+    }
+
+    @AfterEach
+    public void after() throws Exception {
+        server.close().toCompletionStage().toCompletableFuture().get();
+    }
+
+    private static Future<Integer> get(KafkaConnectHttpClientPool pool, int port) {
+        return pool.withHttpClient("localhost", port, (httpClient, result) ->
+                httpClient.request(HttpMethod.GET, port, "localhost", "/connectors")
+                        .compose(request -> request.send())
+                        .compose(response -> response.body().map(body -> response.statusCode()))
+                        .onComplete(result));
+    }
+
+    @Test
+    public void testConnectionsAreReused(VertxTestContext context) {
+        KafkaConnectHttpClientPool pool = new KafkaConnectHttpClientPool(vertx, metrics, "KafkaConnect", 1);
+        int port = server.actualPort();
+        Checkpoint async = context.checkpoint();
+
+        get(pool, port)
+                .compose(i -> get(pool, port))
+                .compose(i -> get(pool, port))
+                .onComplete(context.succeeding(status -> context.verify(() -> {
+                    assertThat(status, is(200));
+                    assertThat(serverConnections.size(), is(1));
+                    assertThat(pool.size(), is(1));
+                    assertThat(pool.openConnections("localhost", port), is(1));
+
+                    MeterRegistry registry = metrics.meterRegistry();
+                    assertThat(registry.get(KafkaConnectHttpClientPool.METRICS_POOL_SIZE).tag("kind", "KafkaConnect").gauge().value(), is(1.0));
+                    assertThat(registry.get(KafkaConnectHttpClientPool.METRICS_OPEN_CONNECTIONS).tag("endpoint", "localhost:" + port).gauge().value(), is(1.0));
+                })))
+                .compose(i -> pool.close("localhost", port))
+                .onComplete(context.succeeding(v -> context.verify(() -> {
+                    assertThat(pool.size(), is(0));
+                    assertThat(metrics.meterRegistry().get(KafkaConnectHttpClientPool.METRICS_POOL_SIZE).tag("kind", "KafkaConnect").gauge().value(), is(0.0));
+                    async.flag();
+                })));
+    }
+
+    @Test
+    public void testConnectionLimit(VertxTestContext context) {
+        KafkaConnectHttpClientPool pool = new KafkaConnectHttpClientPool(vertx, metrics, "KafkaConnect", 2);
+        int port = server.actualPort();
+        Checkpoint async = context.checkpoint();
+
+        CompositeFuture.join(get(pool, port), get(pool, port), get(pool, port), get(pool, port), get(pool, port))
+                .onComplete(context.succeeding(v -> context.verify(() -> {
+                    assertThat(serverConnections.size() <= 2, is(true));
+                    assertThat(pool.openConnections("localhost", port) <= 2, is(true));
+                })))
+                .compose(i -> pool.close("localhost", port))
+                .onComplete(context.succeeding(v -> async.flag()));
+    }
+}
@@ -940,7 +940,10 @@ public class KafkaRebalanceAssemblyOperatorTest {
                 Labels.fromMap(Map.of("selectorLabel", "value")),
                 "",
                 10,
-                10_000);
+                10_000,
+                10,
+                1,
+                ClusterOperatorConfig.DEFAULT_CERT_MANAGER);
 
         kcrao = new KafkaRebalanceAssemblyOperator(Vertx.vertx(), pfa, supplier, config);
 
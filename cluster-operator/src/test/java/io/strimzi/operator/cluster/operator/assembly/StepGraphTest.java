@@ -0,0 +1,154 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.cluster.operator.assembly;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.strimzi.operator.common.MetricsProvider;
+import io.strimzi.operator.common.MicrometerMetricsProvider;
+import io.strimzi.operator.common.Reconciliation;
+import io.vertx.core.Future;
+import io.vertx.core.Promise;
+import io.vertx.core.Vertx;
+import io.vertx.core.VertxOptions;
+import io.vertx.junit5.VertxExtension;
+import io.vertx.junit5.VertxTestContext;
+import io.vertx.micrometer.MicrometerMetricsOptions;
+import io.vertx.micrometer.VertxPrometheusOptions;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Supplier;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+@ExtendWith(VertxExtension.class)
+public class StepGraphTest {
+    private static final Reconciliation RECONCILIATION = new Reconciliation("test", "Kafka", "my-namespace", "my-cluster");
+
+    private static Vertx vertx;
+    private MetricsProvider metrics;
+
+    private final List<String> events = new CopyOnWriteArrayList<>();
+
+    @BeforeAll
+    public static void beforeAll() {
+        vertx = Vertx.vertx(new VertxOptions().setMetricsOptions(
+                new MicrometerMetricsOptions()
+                        .setPrometheusOptions(new VertxPrometheusOptions().setEnabled(true))
+                        .setEnabled(true)
+        ));
+    }
+
+    @AfterAll
+    public static void afterAll() throws Exception {
+        vertx.close().toCompletionStage().toCompletableFuture().get();
+    }
+
+    @BeforeEach
+    public void before() {
+        metrics = new MicrometerMetricsProvider();
+        MeterRegistry registry = metrics.meterRegistry();
+        registry.forEachMeter(registry::remove);
+
+        events.clear();
+    }
+
+    private Supplier<Future<?>> step(String name, long delayMs, String failure) {
+        return () -> {
+            events.add("start:" + name);
+            Promise<Void> promise = Promise.promise();
+
+            vertx.setTimer(delayMs, t -> {
+                events.add("end:" + name);
+
+                if (failure != null) {
+                    promise.fail(failure);
+                } else {
+                    promise.complete();
+                }
+            });
+
+            return promise.future();
+        };
+    }
+
+    @Test
+    public void testUndefinedDependency() {
+        StepGraph graph = new StepGraph(vertx, RECONCILIATION, metrics).step("a", step("a", 1, null));
+
+        assertThrows(IllegalArgumentException.class, () -> graph.step("b", step("b", 1, null), "c"));
+        assertThrows(IllegalArgumentException.class, () -> graph.step("a", step("a", 1, null)));
+    }
+
+    @Test
+    public void testIndependentStepsRunConcurrently(VertxTestContext context) {
+        new StepGraph(vertx, RECONCILIATION, metrics)
+                .step("a", step("a", 1, null))
+                .step("b", step("b", 200, null), "a")
+                .step("c", step("c", 100, null), "a")
+                .step("d", step("d", 1, null), "b", "c")
+                .execute()
+                .onComplete(context.succeeding(v -> context.verify(() -> {
+                    assertThat(events, is(List.of("start:a", "end:a", "start:b", "start:c", "end:c", "end:b", "start:d", "end:d")));
+                    context.completeNow();
+                })));
+    }
+
+    @Test
+    public void testFailureStopsTheGraph(VertxTestContext context) {
+        new StepGraph(vertx, RECONCILIATION, metrics)
+                .step("a", step("a", 1, null))
+                .step("b", step("b", 50, "failure"), "a")
+                .step("c", step("c", 200, null), "a")
+                .step("d", step("d", 1, null), "b")
+                .step("e", step("e", 1, null), "c")
+                .execute()
+                .onComplete(context.failing(e -> context.verify(() -> {
+                    // c was already running when b failed, so the graph waits for it but does not start e
+                    assertThat(events, is(List.of("start:a", "end:a", "start:b", "start:c", "end:b", "end:c")));
+                    assertThat(e.getMessage(), is("failure"));
+                    context.completeNow();
+                })));
+    }
+
+    @Test
+    public void testExceptionFailsTheGraph(VertxTestContext context) {
+        new StepGraph(vertx, RECONCILIATION, metrics)
+                .step("a", () -> {
+                    throw new RuntimeException("failure");
+                })
+                .step("b", step("b", 1, null), "a")
+                .execute()
+                .onComplete(context.failing(e -> context.verify(() -> {
+                    assertThat(events.isEmpty(), is(true));
+                    assertThat(e.getMessage(), is("failure"));
+                    context.completeNow();
+                })));
+    }
+
+    @Test
+    public void testStepDurationMetrics(VertxTestContext context) {
+        new StepGraph(vertx, RECONCILIATION, metrics)
+                .step("a", step("a", 1, null))
+                .step("b", step("b", 1, "failure"), "a")
+                .step("c", step("c", 1, null), "b")
+                .execute()
+                .onComplete(context.failing(e -> context.verify(() -> {
+                    MeterRegistry registry = metrics.meterRegistry();
+                    assertThat(registry.get(StepGraph.METRICS_STEP_DURATION).tag("name", "my-cluster").tag("resource-namespace", "my-namespace").tag("step", "a").timer().count(), is(1L));
+                    assertThat(registry.get(StepGraph.METRICS_STEP_DURATION).tag("kind", "Kafka").tag("step", "b").timer().count(), is(1L));
+                    assertThat(registry.find(StepGraph.METRICS_STEP_DURATION).tag("step", "c").timer(), is(nullValue()));
+                    context.completeNow();
+                })));
+    }
+}
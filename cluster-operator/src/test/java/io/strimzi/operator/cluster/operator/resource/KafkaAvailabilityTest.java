@@ -13,11 +13,15 @@ import org.apache.kafka.clients.admin.AdminClient;
 import org.apache.kafka.clients.admin.Config;
 import org.apache.kafka.clients.admin.ConfigEntry;
 import org.apache.kafka.clients.admin.DescribeConfigsResult;
+import org.apache.kafka.clients.admin.DescribeLogDirsResult;
 import org.apache.kafka.clients.admin.DescribeTopicsResult;
 import org.apache.kafka.clients.admin.ListTopicsResult;
+import org.apache.kafka.clients.admin.LogDirDescription;
+import org.apache.kafka.clients.admin.ReplicaInfo;
 import org.apache.kafka.clients.admin.TopicDescription;
 import org.apache.kafka.common.KafkaFuture;
 import org.apache.kafka.common.Node;
+import org.apache.kafka.common.TopicPartition;
 import org.apache.kafka.common.TopicPartitionInfo;
 import org.apache.kafka.common.config.ConfigResource;
 import org.apache.kafka.common.config.TopicConfig;
@@ -34,15 +38,19 @@ import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import java.util.stream.Collectors;
 import java.util.stream.IntStream;
 
+import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.instanceOf;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 @ExtendWith(VertxExtension.class)
@@ -53,6 +61,7 @@ public class KafkaAvailabilityTest {
         private Throwable listTopicsResult;
         private Map<String, Throwable> describeTopicsResult = new HashMap<>(1);
         private Map<ConfigResource, Throwable> describeConfigsResult = new HashMap<>(1);
+        private Throwable describeLogDirsResult;
 
         class TSB {
             class PSB {
@@ -180,6 +189,11 @@ public class KafkaAvailabilityTest {
             return this;
         }
 
+        KSB describeLogDirsResult(Throwable t) {
+            describeLogDirsResult = t;
+            return this;
+        }
+
         private Throwable notImplemented() {
             UnsupportedOperationException unsupportedOperationException = new UnsupportedOperationException("Not implemented by " + KSB.class.getName());
             //unsupportedOperationException.printStackTrace();
@@ -200,7 +214,7 @@ public class KafkaAvailabilityTest {
                 if (throwable != null) {
                     when(dtr.all()).thenReturn(failedFuture(throwable));
                 } else {
-                    Map<String, TopicDescription> tds = topics.entrySet().stream().collect(Collectors.toMap(
+                    Map<String, TopicDescription> tds = topics.entrySet().stream().filter(e -> topicNames.contains(e.getKey())).collect(Collectors.toMap(
                         e -> e.getKey(),
                         e -> {
                             TSB tsb = e.getValue();
@@ -257,6 +271,33 @@ public class KafkaAvailabilityTest {
             });
         }
 
+        void mockDescribeLogDirs(Admin mockAc) {
+            when(mockAc.describeLogDirs(any(), any())).thenAnswer(invocation -> {
+                Collection<Integer> brokerIds = invocation.getArgument(0);
+                DescribeLogDirsResult dldr = mock(DescribeLogDirsResult.class);
+                when(dldr.values()).thenThrow(notImplemented());
+                when(dldr.all()).thenThrow(notImplemented());
+                if (describeLogDirsResult != null) {
+                    when(dldr.allDescriptions()).thenReturn(failedFuture(describeLogDirsResult));
+                } else {
+                    Map<Integer, Map<String, LogDirDescription>> result = new HashMap<>();
+                    for (Integer brokerId : brokerIds) {
+                        Map<TopicPartition, ReplicaInfo> replicas = new HashMap<>();
+                        for (TSB tsb : topics.values()) {
+                            for (TSB.PSB psb : tsb.partitions.values()) {
+                                if (IntStream.of(psb.replicaOn).anyMatch(x -> x == brokerId)) {
+                                    replicas.put(new TopicPartition(tsb.name, psb.id), new ReplicaInfo(0, 0, false));
+                                }
+                            }
+                        }
+                        result.put(brokerId, Map.of("/var/lib/kafka/data", new LogDirDescription(null, replicas)));
+                    }
+                    when(dldr.allDescriptions()).thenReturn(KafkaFuture.completedFuture(result));
+                }
+                return dldr;
+            });
+        }
+
         Admin ac() {
             Admin ac = mock(AdminClient.class);
 
@@ -267,6 +308,8 @@ public class KafkaAvailabilityTest {
 
             mockDescribeConfigs(ac);
 
+            mockDescribeLogDirs(ac);
+
             return ac;
         }
     }
@@ -640,4 +683,248 @@ public class KafkaAvailabilityTest {
             }
         }
     }
+
+    @Test
+    public void testCanRollRefreshesTopicsBetweenRolls(VertxTestContext context) {
+        KSB ksb = new KSB()
+                .addNewTopic("A", false)
+                    .addToConfig(TopicConfig.MIN_IN_SYNC_REPLICAS_CONFIG, "2")
+                    .addNewPartition(0)
+                        .replicaOn(0, 1, 2)
+                        .leader(0)
+                        .isr(0, 1, 2)
+                    .endPartition()
+                .endTopic()
+                .addNewTopic("B", false)
+                    .addToConfig(TopicConfig.MIN_IN_SYNC_REPLICAS_CONFIG, "2")
+                    .addNewPartition(0)
+                        .replicaOn(0, 1, 2)
+                        .leader(1)
+                        .isr(1, 2)
+                    .endPartition()
+                .endTopic();
+
+        Admin ac = ksb.ac();
+        KafkaAvailability kafkaAvailability = new KafkaAvailability(new Reconciliation("dummy", "kind", "namespace", "A"), ac);
+
+        Checkpoint checkpoint = context.checkpoint();
+        kafkaAvailability.canRoll(0)
+            .compose(canRoll -> {
+                context.verify(() -> assertTrue(canRoll, "broker 0 should be rollable, being out of the ISR of B/0"));
+
+                // Broker 0 was rolled and caught up, topic B was deleted and topic C was created
+                ksb.topics.get("A").addNewPartition(0).isr(0, 1);
+                ksb.topics.remove("B");
+                ksb.addNewTopic("C", false)
+                        .addToConfig(TopicConfig.MIN_IN_SYNC_REPLICAS_CONFIG, "1")
+                        .addNewPartition(0)
+                            .replicaOn(2)
+                            .leader(2)
+                            .isr(2)
+                        .endPartition()
+                    .endTopic();
+
+                return kafkaAvailability.canRoll(1);
+            })
+            .compose(canRoll -> {
+                context.verify(() -> assertFalse(canRoll, "broker 1 should not be rollable, because A/0 would be below min isr"));
+                return kafkaAvailability.canRoll(2);
+            })
+            .onComplete(context.succeeding(canRoll -> context.verify(() -> {
+                assertTrue(canRoll, "broker 2 should be rollable, being out of the ISR of A/0 and C/0 having a single replica");
+                // The configs of the topics on each broker are described for each check: A and B for broker 0, A for
+                // broker 1 and A and C for broker 2
+                verify(ac, times(3)).describeConfigs(any());
+                checkpoint.flag();
+            })));
+    }
+
+    @Test
+    public void testMinIsrIsDescribedInBatches(VertxTestContext context) {
+        KSB ksb = new KSB();
+        int topics = 2 * KafkaAvailability.DESCRIBE_CONFIGS_BATCH_SIZE + 1;
+        for (int i = 0; i < topics; i++) {
+            ksb.addNewTopic("topic-" + i, false)
+                    .addToConfig(TopicConfig.MIN_IN_SYNC_REPLICAS_CONFIG, "1")
+                    .addNewPartition(0)
+                        .replicaOn(0, 1)
+                        .leader(0)
+                        .isr(0, 1)
+                    .endPartition()
+                .endTopic();
+        }
+
+        Admin ac = ksb.ac();
+        KafkaAvailability kafkaAvailability = new KafkaAvailability(new Reconciliation("dummy", "kind", "namespace", "A"), ac);
+
+        Checkpoint checkpoint = context.checkpoint();
+        kafkaAvailability.canRoll(0)
+            .compose(canRoll -> {
+                context.verify(() -> assertThat(canRoll, is(true)));
+                return kafkaAvailability.canRoll(1);
+            })
+            .onComplete(context.succeeding(canRoll -> context.verify(() -> {
+                assertThat(canRoll, is(true));
+                // Three batches for each check
+                verify(ac, times(6)).describeConfigs(any());
+                checkpoint.flag();
+            })));
+    }
+
+    @Test
+    public void testCanRollRefreshesTopicsReassignedOntoBroker(VertxTestContext context) {
+        KSB ksb = new KSB()
+                .addNewTopic("A", false)
+                    .addToConfig(TopicConfig.MIN_IN_SYNC_REPLICAS_CONFIG, "1")
+                    .addNewPartition(0)
+                        .replicaOn(0, 1, 2)
+                        .leader(0)
+                        .isr(0, 1, 2)
+                    .endPartition()
+                .endTopic()
+                .addNewTopic("B", false)
+                    .addToConfig(TopicConfig.MIN_IN_SYNC_REPLICAS_CONFIG, "2")
+                    .addNewPartition(0)
+                        .replicaOn(1, 2)
+                        .leader(1)
+                        .isr(1, 2)
+                    .endPartition()
+                .endTopic();
+
+        Admin ac = ksb.ac();
+        KafkaAvailability kafkaAvailability = new KafkaAvailability(new Reconciliation("dummy", "kind", "namespace", "A"), ac);
+
+        Checkpoint checkpoint = context.checkpoint();
+        kafkaAvailability.canRoll(0)
+            .compose(canRoll -> {
+                context.verify(() -> assertTrue(canRoll, "broker 0 should be rollable, not hosting B/0"));
+
+                // B/0 was reassigned from broker 2 onto brokers 0 and 3, which is still catching up
+                ksb.topics.get("B")
+                        .addNewPartition(0)
+                            .replicaOn(0, 1, 3)
+                            .leader(1)
+                            .isr(0, 1);
+
+                return kafkaAvailability.canRoll(0);
+            })
+            .onComplete(context.succeeding(canRoll -> context.verify(() -> {
+                assertFalse(canRoll, "broker 0 should not be rollable, because B/0 would be below min isr");
+                checkpoint.flag();
+            })));
+    }
+
+    @Test
+    public void testCanRollRereadsMinIsr(VertxTestContext context) {
+        KSB ksb = new KSB()
+                .addNewTopic("A", false)
+                    .addToConfig(TopicConfig.MIN_IN_SYNC_REPLICAS_CONFIG, "1")
+                    .addNewPartition(0)
+                        .replicaOn(0, 1, 2)
+                        .leader(0)
+                        .isr(0, 1)
+                    .endPartition()
+                .endTopic();
+
+        Admin ac = ksb.ac();
+        KafkaAvailability kafkaAvailability = new KafkaAvailability(new Reconciliation("dummy", "kind", "namespace", "A"), ac);
+
+        Checkpoint checkpoint = context.checkpoint();
+        kafkaAvailability.canRoll(0)
+            .compose(canRoll -> {
+                context.verify(() -> assertTrue(canRoll, "broker 0 should be rollable, A/0 keeping one replica in the ISR"));
+
+                ksb.topics.get("A").addToConfig(TopicConfig.MIN_IN_SYNC_REPLICAS_CONFIG, "2");
+
+                return kafkaAvailability.canRoll(0);
+            })
+            .onComplete(context.succeeding(canRoll -> context.verify(() -> {
+                assertFalse(canRoll, "broker 0 should not be rollable, because A/0 would be below the raised min isr");
+                checkpoint.flag();
+            })));
+    }
+
+    @Test
+    public void testCanRollDescribesAllTopicsWhenLogDirsFail(VertxTestContext context) {
+        KSB ksb = new KSB()
+                .addNewTopic("A", false)
+                    .addToConfig(TopicConfig.MIN_IN_SYNC_REPLICAS_CONFIG, "1")
+                    .addNewPartition(0)
+                        .replicaOn(0, 1, 2)
+                        .leader(0)
+                        .isr(0, 1, 2)
+                    .endPartition()
+                .endTopic()
+                .addNewTopic("B", false)
+                    .addToConfig(TopicConfig.MIN_IN_SYNC_REPLICAS_CONFIG, "2")
+                    .addNewPartition(0)
+                        .replicaOn(1, 2)
+                        .leader(1)
+                        .isr(1, 2)
+                    .endPartition()
+                .endTopic()
+                .describeLogDirsResult(new TimeoutException());
+
+        Admin ac = ksb.ac();
+        KafkaAvailability kafkaAvailability = new KafkaAvailability(new Reconciliation("dummy", "kind", "namespace", "A"), ac);
+
+        Checkpoint checkpoint = context.checkpoint();
+        kafkaAvailability.canRoll(0)
+            .compose(canRoll -> {
+                context.verify(() -> assertTrue(canRoll, "broker 0 should be rollable, not hosting B/0"));
+
+                // B/0 was reassigned from broker 2 onto brokers 0 and 3, which is still catching up
+                ksb.topics.get("B")
+                        .addNewPartition(0)
+                            .replicaOn(0, 1, 3)
+                            .leader(1)
+                            .isr(0, 1);
+
+                return kafkaAvailability.canRoll(0);
+            })
+            .onComplete(context.succeeding(canRoll -> context.verify(() -> {
+                assertFalse(canRoll, "broker 0 should not be rollable, because B/0 would be below min isr");
+                // Both topics are described by the load and again by the refresh
+                verify(ac, times(2)).describeTopics(Set.of("A", "B"));
+                checkpoint.flag();
+            })));
+    }
+
+    @Test
+    public void testCanRollBatch(VertxTestContext context) {
+        KSB ksb = new KSB()
+                .addNewTopic("A", false)
+                    .addToConfig(TopicConfig.MIN_IN_SYNC_REPLICAS_CONFIG, "2")
+                    .addNewPartition(0)
+                        .replicaOn(0, 1, 2)
+                        .leader(0)
+                        .isr(0, 1, 2)
+                    .endPartition()
+                .endTopic()
+                .addNewTopic("B", false)
+                    .addToConfig(TopicConfig.MIN_IN_SYNC_REPLICAS_CONFIG, "2")
+                    .addNewPartition(0)
+                        .replicaOn(3, 4, 5)
+                        .leader(3)
+                        .isr(3, 4, 5)
+                    .endPartition()
+                .endTopic();
+
+        KafkaAvailability kafkaAvailability = new KafkaAvailability(new Reconciliation("dummy", "kind", "namespace", "A"), ksb.ac());
+
+        Checkpoint checkpoint = context.checkpoint();
+        kafkaAvailability.canRoll(Set.of(0, 3))
+            .compose(canRoll -> {
+                context.verify(() -> assertTrue(canRoll, "brokers 0 and 3 should be rollable together, sharing no partition"));
+                return kafkaAvailability.canRoll(Set.of(0, 1));
+            })
+            .compose(canRoll -> {
+                context.verify(() -> assertFalse(canRoll, "brokers 0 and 1 should not be rollable together, because A/0 would be below min isr"));
+                return kafkaAvailability.canRoll(Set.of(0, 3, 4));
+            })
+            .onComplete(context.succeeding(canRoll -> context.verify(() -> {
+                assertFalse(canRoll, "brokers 0, 3 and 4 should not be rollable together, because B/0 would be below min isr");
+                checkpoint.flag();
+            })));
+    }
 }
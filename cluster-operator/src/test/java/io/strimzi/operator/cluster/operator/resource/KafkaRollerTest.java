@@ -7,8 +7,11 @@ package io.strimzi.operator.cluster.operator.resource;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.IdentityHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
 import java.util.concurrent.CountDownLatch;
@@ -22,8 +25,16 @@ import io.fabric8.kubernetes.api.model.PodBuilder;
 import io.fabric8.kubernetes.api.model.Secret;
 import io.fabric8.kubernetes.api.model.apps.StatefulSet;
 import io.fabric8.kubernetes.api.model.apps.StatefulSetBuilder;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import io.strimzi.operator.cluster.KafkaVersionTestUtils;
 import io.strimzi.operator.common.BackOff;
+import io.strimzi.operator.common.DefaultAdminClientProvider;
+import io.strimzi.operator.common.MetricsProvider;
 import io.strimzi.operator.common.Reconciliation;
 import io.strimzi.operator.common.model.Labels;
 import io.strimzi.operator.common.operator.resource.PodOperator;
@@ -35,8 +46,11 @@ import io.vertx.junit5.VertxExtension;
 import io.vertx.junit5.VertxTestContext;
 import org.apache.kafka.clients.admin.Admin;
 import org.apache.kafka.clients.admin.AdminClient;
+import org.apache.kafka.clients.admin.AlterConfigOp;
 import org.apache.kafka.clients.admin.Config;
+import org.apache.kafka.clients.admin.ConfigEntry;
 import org.apache.kafka.clients.admin.TopicDescription;
+import org.apache.kafka.common.config.ConfigResource;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import org.junit.jupiter.api.AfterAll;
@@ -49,6 +63,7 @@ import static io.vertx.core.Future.failedFuture;
 import static io.vertx.core.Future.succeededFuture;
 import static java.util.Arrays.asList;
 import static java.util.Collections.emptyList;
+import static java.util.Collections.emptyMap;
 import static java.util.Collections.singletonList;
 import static org.hamcrest.CoreMatchers.instanceOf;
 import static org.hamcrest.CoreMatchers.is;
@@ -440,6 +455,128 @@ public class KafkaRollerTest {
             asList(0, 1, 4));
     }
 
+    @Test
+    public void testRollInRackAwareBatches(VertxTestContext testContext) {
+        PodOperator podOps = mockPodOps(podId -> succeededFuture());
+        StatefulSet sts = buildStatefulSet();
+        Map<Integer, String> racks = Map.of(0, "rack-a", 1, "rack-b", 2, "rack-c", 3, "rack-a", 4, "rack-b");
+        MeterRegistry registry = new SimpleMeterRegistry();
+        // Only brokers from the same rack can be rolled together
+        TestingKafkaRoller kafkaRoller = new TestingKafkaRoller(sts, null, null, podOps,
+            noException(), null, noException(), noException(), noException(),
+            brokerId -> succeededFuture(true),
+            brokerIds -> succeededFuture(brokerIds.stream().map(racks::get).distinct().count() == 1),
+            racks, 2, metricsProvider(registry),
+            2);
+        Checkpoint async = testContext.checkpoint();
+        kafkaRoller.rollingRestart(pod -> singletonList("roll"))
+            .onComplete(testContext.succeeding(v -> testContext.verify(() -> {
+                // The controller is still rolled last
+                assertThat(restarted(), is(asList(0, 3, 1, 4, 2)));
+                assertThat(registry.get(KafkaRoller.METRICS_ROLLING_RESTART_BATCHES).counter().count(), is(3.0));
+                assertThat(registry.get(KafkaRoller.METRICS_ROLLING_RESTART_PODS).counter().count(), is(5.0));
+                assertThat(registry.get(KafkaRoller.METRICS_ROLLING_RESTART_DURATION).timer().count(), is(1L));
+                assertNoUnclosedAdminClient(testContext, kafkaRoller);
+                async.flag();
+            })));
+    }
+
+    @Test
+    public void testRollInBatchesRespectsAvailability(VertxTestContext testContext) {
+        PodOperator podOps = mockPodOps(podId -> succeededFuture());
+        StatefulSet sts = buildStatefulSet();
+        // Pods 0 and 1 cannot be rolled together and no racks are known
+        TestingKafkaRoller kafkaRoller = new TestingKafkaRoller(sts, null, null, podOps,
+            noException(), null, noException(), noException(), noException(),
+            brokerId -> succeededFuture(true),
+            brokerIds -> succeededFuture(!(brokerIds.contains(0) && brokerIds.contains(1))),
+            Map.of(), 3, null,
+            4);
+        doSuccessfulRollingRestart(testContext, kafkaRoller,
+                asList(0, 1, 2, 3, 4),
+                asList(0, 2, 3, 1, 4));
+    }
+
+    @Test
+    public void testReconfigureBrokersTogether(VertxTestContext testContext) {
+        PodOperator podOps = mockPodOps(podId -> succeededFuture());
+        StatefulSet sts = buildStatefulSet();
+        List<List<Integer>> described = new ArrayList<>();
+        List<Map<ConfigResource, Collection<AlterConfigOp>>> altered = new ArrayList<>();
+        List<Integer> describedOneByOne = new ArrayList<>();
+        TestingKafkaRoller kafkaRoller = new TestingKafkaRoller(sts, null, null, podOps,
+                noException(), null, noException(), noException(), noException(),
+                brokerId -> succeededFuture(true), 2) {
+            @Override
+            protected Map<ConfigResource, Config> describeBrokerConfigs(List<Integer> podIds) {
+                described.add(podIds);
+                Map<ConfigResource, Config> configs = new HashMap<>();
+                for (int podId : podIds) {
+                    // min.insync.replicas is not in the desired configuration anymore
+                    configs.put(new ConfigResource(ConfigResource.Type.BROKER, String.valueOf(podId)),
+                            new Config(singletonList(new ConfigEntry("min.insync.replicas", "2"))));
+                    configs.put(new ConfigResource(ConfigResource.Type.BROKER_LOGGER, String.valueOf(podId)), new Config(emptyList()));
+                }
+                return configs;
+            }
+
+            @Override
+            protected Set<ConfigResource> alterBrokerConfigs(Map<ConfigResource, Collection<AlterConfigOp>> updatedConfig) {
+                altered.add(updatedConfig);
+                // Updating broker 3 fails
+                Set<ConfigResource> updated = new HashSet<>(updatedConfig.keySet());
+                updated.remove(new ConfigResource(ConfigResource.Type.BROKER, "3"));
+                return updated;
+            }
+
+            @Override
+            protected Config brokerConfig(int brokerId) throws ForceableProblem, InterruptedException {
+                describedOneByOne.add(brokerId);
+                return super.brokerConfig(brokerId);
+            }
+        };
+
+        Checkpoint async = testContext.checkpoint();
+        kafkaRoller.rollingRestart(pod -> emptyList())
+            .onComplete(testContext.succeeding(v -> testContext.verify(() -> {
+                assertThat(restarted(), is(emptyList()));
+                assertThat(described, is(singletonList(asList(0, 1, 2, 3, 4))));
+                assertThat(altered.size(), is(1));
+                assertThat(altered.get(0).size(), is(10));
+                assertThat(altered.get(0).get(new ConfigResource(ConfigResource.Type.BROKER, "0")).iterator().next().opType(), is(AlterConfigOp.OpType.DELETE));
+                // Only the broker whose update failed is reconfigured on its own
+                assertThat(describedOneByOne, is(singletonList(3)));
+                assertNoUnclosedAdminClient(testContext, kafkaRoller);
+                async.flag();
+            })));
+    }
+
+    private static MetricsProvider metricsProvider(MeterRegistry registry) {
+        return new MetricsProvider() {
+            @Override
+            public MeterRegistry meterRegistry() {
+                return registry;
+            }
+
+            @Override
+            public Counter counter(String name, String description, Tags tags) {
+                return Counter.builder(name).tags(tags).register(registry);
+            }
+
+            @Override
+            public Timer timer(String name, String description, Tags tags) {
+                return Timer.builder(name).tags(tags).register(registry);
+            }
+
+            @Override
+            public AtomicInteger gauge(String name, String description, Tags tags) {
+                AtomicInteger gauge = new AtomicInteger(0);
+                Gauge.builder(name, () -> gauge).tags(tags).register(registry);
+                return gauge;
+            }
+        };
+    }
+
     private TestingKafkaRoller rollerWithControllers(StatefulSet sts, PodOperator podOps, int... controllers) {
         return new TestingKafkaRoller(sts, null, null, podOps,
                 noException(), null, noException(), noException(), noException(),
@@ -569,6 +706,8 @@ public class KafkaRollerTest {
         private final Function<List<Integer>, RuntimeException> acOpenException;
         private final Throwable acCloseException;
         private final Function<Integer, Future<Boolean>> canRollFn;
+        private final Function<Set<Integer>, Future<Boolean>> canRollBatchFn;
+        private final Map<Integer, String> racks;
         private final Function<Integer, Throwable> controllerException;
         private final Function<Integer, ForceableProblem> alterConfigsException;
         private final Function<Integer, ForceableProblem> getConfigsException;
@@ -583,9 +722,29 @@ public class KafkaRollerTest {
                                    Function<Integer, ForceableProblem> getConfigsException,
                                    Function<Integer, Future<Boolean>> canRollFn,
                                   int... controllers) {
+            this(sts, clusterCaCertSecret, coKeySecret, podOps, acOpenException, acCloseException, controllerException,
+                    alterConfigsException, getConfigsException, canRollFn, brokerIds -> failedFuture("Not batched"),
+                    emptyMap(), 1, null, controllers);
+        }
+
+        @SuppressWarnings("checkstyle:ParameterNumber")
+        private TestingKafkaRoller(StatefulSet sts, Secret clusterCaCertSecret, Secret coKeySecret,
+                                   PodOperator podOps,
+                                   Function<List<Integer>, RuntimeException> acOpenException,
+                                   Throwable acCloseException,
+                                   Function<Integer, Throwable> controllerException,
+                                   Function<Integer, ForceableProblem> alterConfigsException,
+                                   Function<Integer, ForceableProblem> getConfigsException,
+                                   Function<Integer, Future<Boolean>> canRollFn,
+                                   Function<Set<Integer>, Future<Boolean>> canRollBatchFn,
+                                   Map<Integer, String> racks,
+                                   int maxBatchSize,
+                                   MetricsProvider metrics,
+                                   int... controllers) {
             super(new Reconciliation("test", "Kafka", stsNamespace(), clusterName()), KafkaRollerTest.vertx, podOps, 500, 1000,
                 () -> new BackOff(10L, 2, 4),
-                sts, clusterCaCertSecret, coKeySecret, "", "", KafkaVersionTestUtils.getLatestVersion(), true);
+                sts, clusterCaCertSecret, coKeySecret, new DefaultAdminClientProvider(), "", "", KafkaVersionTestUtils.getLatestVersion(), true,
+                maxBatchSize, metrics);
             this.controllers = controllers;
             this.controllerCall = 0;
             Objects.requireNonNull(acOpenException);
@@ -595,11 +754,13 @@ public class KafkaRollerTest {
             this.getConfigsException = getConfigsException;
             this.acCloseException = acCloseException;
             this.canRollFn = canRollFn;
+            this.canRollBatchFn = canRollBatchFn;
+            this.racks = racks;
             this.unclosedAdminClients = new IdentityHashMap<>();
         }
 
         @Override
-        protected Admin adminClient(List<Integer> bootstrapBrokers, boolean b) throws ForceableProblem {
+        protected Admin adminClient(List<Integer> bootstrapBrokers, boolean b, boolean dedicated) throws ForceableProblem {
             RuntimeException exception = acOpenException.apply(bootstrapBrokers);
             if (exception != null) {
                 throw new ForceableProblem("An error while try to create the admin client", exception);
@@ -636,9 +797,19 @@ public class KafkaRollerTest {
                 Future<Boolean> canRoll(int podId) {
                     return canRollFn.apply(podId);
                 }
+
+                @Override
+                Future<Boolean> canRoll(Set<Integer> podIds) {
+                    return canRollBatchFn.apply(podIds);
+                }
             };
         }
 
+        @Override
+        protected Map<Integer, String> brokerRacks() {
+            return racks;
+        }
+
         @Override
         int controller(int podId, long timeout, TimeUnit unit, RestartContext restartContext) throws ForceableProblem {
             Throwable throwable = controllerException.apply(podId);
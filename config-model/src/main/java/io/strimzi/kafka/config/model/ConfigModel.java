@@ -4,12 +4,14 @@
  */
 package io.strimzi.kafka.config.model;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.fasterxml.jackson.annotation.JsonInclude;
 import com.fasterxml.jackson.annotation.JsonProperty;
 
 import java.util.ArrayList;
 import java.util.HashSet;
 import java.util.List;
+import java.util.regex.Pattern;
 
 import static java.util.Arrays.asList;
 import static java.util.Collections.emptyList;
@@ -20,6 +22,8 @@ import static java.util.Collections.singletonList;
  */
 @JsonInclude(JsonInclude.Include.NON_NULL)
 public class ConfigModel {
+    private static final Pattern LIST_SEPARATOR = Pattern.compile(" *, *");
+
     private Scope scope;
     private Type type;
     private Number minimum;
@@ -28,6 +32,8 @@ public class ConfigModel {
     @JsonProperty("enum")
     private List<String> values;
     private String pattern;
+    @JsonIgnore
+    private Pattern compiledPattern;
 
     /**
      * @return The scope of the parameter.
@@ -99,8 +105,15 @@ public class ConfigModel {
         return pattern;
     }
 
+    /**
+     * Sets the pattern and compiles it right away, so that the compiled pattern is reused for all validations and a
+     * model shared between threads is never changed after it was built.
+     *
+     * @param pattern   A regular expression which values must match
+     */
     public void setPattern(String pattern) {
         this.pattern = pattern;
+        this.compiledPattern = pattern != null ? Pattern.compile(pattern) : null;
     }
 
     public List<String> validate(String configName, String value) {
@@ -135,8 +148,8 @@ public class ConfigModel {
             errors = new ArrayList<>(1);
             errors.add(configName + " has value '" + value + "' which is not one of the allowed values: " + getValues());
         }
-        if (getPattern() != null
-                && !value.matches(getPattern())) {
+        if (compiledPattern != null
+                && !compiledPattern.matcher(value).matches()) {
             if (errors.isEmpty()) {
                 errors = new ArrayList<>(1);
             }
@@ -146,14 +159,14 @@ public class ConfigModel {
     }
 
     private List<String> validateBoolean(String configName, String value) {
-        if (!value.matches("true|false")) {
+        if (!"true".equals(value) && !"false".equals(value)) {
             return singletonList(configName + " has value '" + value + "' which is not a boolean");
         }
         return emptyList();
     }
 
     private List<String> validateList(String configName, String value) {
-        List<String> l = asList(value.trim().split(" *, *", -1));
+        List<String> l = asList(LIST_SEPARATOR.split(value.trim(), -1));
         if (getItems() != null) {
             HashSet<String> items = new HashSet<>(l);
             items.removeAll(getItems());
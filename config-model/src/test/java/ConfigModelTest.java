@@ -31,6 +31,8 @@ public class ConfigModelTest {
         assertThat(cm.validate("test",  "bar"), is(emptyList()));
         assertThat(cm.validate("test",  "baz"),
                 is(singletonList("test has value 'baz' which does not match the required pattern: foo|bar")));
+        cm.setPattern(null);
+        assertThat(cm.validate("test",  "baz"), is(emptyList()));
     }
 
     @Test
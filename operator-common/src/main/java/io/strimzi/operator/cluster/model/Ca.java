@@ -7,6 +7,7 @@ package io.strimzi.operator.cluster.model;
 import io.fabric8.kubernetes.api.model.OwnerReference;
 import io.fabric8.kubernetes.api.model.Secret;
 import io.fabric8.kubernetes.api.model.SecretBuilder;
+import io.micrometer.core.instrument.Timer;
 import io.strimzi.api.kafka.model.CertificateExpirationPolicy;
 import io.strimzi.certs.CertAndKey;
 import io.strimzi.certs.CertManager;
@@ -41,9 +42,17 @@ import java.util.Collection;
 import java.util.Date;
 import java.util.HashMap;
 import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Function;
 import java.util.stream.Collectors;
 
@@ -97,8 +106,16 @@ public abstract class Ca {
     public static final String ANNO_STRIMZI_IO_CLIENTS_CA_CERT_GENERATION = Annotations.STRIMZI_DOMAIN + "clients-ca-cert-generation";
     public static final int INIT_GENERATION = 0;
 
+    /**
+     * Pool used to generate the certificates of the pods in parallel. Generating the keys and signing the
+     * certificates is CPU bound, so the pool is shared by all CAs and limited to the number of available processors.
+     */
+    private static final ExecutorService CERT_GENERATION_EXECUTOR = certGenerationExecutor(Runtime.getRuntime().availableProcessors());
+
     private final PasswordGenerator passwordGenerator;
     protected final Reconciliation reconciliation;
+    private boolean parallelCertGeneration;
+    private Timer certGenerationTimer;
 
     /**
      * Set the {@code strimzi.io/force-renew} annotation on the given {@code caCert} if the given {@code caKey} has
@@ -211,6 +228,36 @@ public abstract class Ca {
         this.renewalType = RenewalType.NOOP;
     }
 
+    private static ExecutorService certGenerationExecutor(int threads) {
+        AtomicInteger threadCount = new AtomicInteger();
+        ThreadPoolExecutor executor = new ThreadPoolExecutor(threads, threads, 60, TimeUnit.SECONDS, new LinkedBlockingQueue<>(), runnable -> {
+            Thread thread = new Thread(runnable, "strimzi-cert-generation-" + threadCount.getAndIncrement());
+            thread.setDaemon(true);
+            return thread;
+        });
+        executor.allowCoreThreadTimeOut(true);
+        return executor;
+    }
+
+    /**
+     * Sets whether the certificates of the pods should be generated in parallel in the certificate generation pool
+     * shared by all CAs. By default, they are generated one by one in the calling thread.
+     *
+     * @param parallelCertGeneration    Whether the certificates should be generated in parallel
+     */
+    public void setParallelCertGeneration(boolean parallelCertGeneration) {
+        this.parallelCertGeneration = parallelCertGeneration;
+    }
+
+    /**
+     * Sets the timer used to record how long it takes to generate a single signed certificate
+     *
+     * @param certGenerationTimer   The timer or null if the generation should not be timed
+     */
+    public void setCertGenerationTimer(Timer certGenerationTimer) {
+        this.certGenerationTimer = certGenerationTimer;
+    }
+
     private static void delete(Reconciliation reconciliation, File file) {
         if (!file.delete()) {
             LOGGER.warnCr(reconciliation, "{} cannot be deleted", file.getName());
@@ -317,27 +364,90 @@ public abstract class Ca {
      * @throws IOException If the cert could not be generated.
      */
     public CertAndKey generateSignedCert(String commonName, String organization) throws IOException {
+        Subject.Builder subject = new Subject.Builder();
+
+        if (organization != null) {
+            subject.withOrganizationName(organization);
+        }
+
+        subject.withCommonName(commonName);
+
+        return generateSignedCert(subject.build());
+    }
+
+    /**
+     * Generates a certificate signed by this CA using its own temporary files, so that it can be called from multiple
+     * threads at the same time.
+     *
+     * @param subject The subject of the certificate to be generated.
+     * @return The CertAndKey
+     * @throws IOException If the cert could not be generated.
+     */
+    private CertAndKey generateSignedCert(Subject subject) throws IOException {
+        long start = System.nanoTime();
         File csrFile = File.createTempFile("tls", "csr");
         File keyFile = File.createTempFile("tls", "key");
         File certFile = File.createTempFile("tls", "cert");
         File keyStoreFile = File.createTempFile("tls", "p12");
 
-        Subject.Builder subject = new Subject.Builder();
+        try {
+            return generateSignedCert(subject, csrFile, keyFile, certFile, keyStoreFile);
+        } finally {
+            delete(reconciliation, csrFile);
+            delete(reconciliation, keyFile);
+            delete(reconciliation, certFile);
+            delete(reconciliation, keyStoreFile);
+
+            if (certGenerationTimer != null) {
+                certGenerationTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+            }
+        }
+    }
 
-        if (organization != null) {
-            subject.withOrganizationName(organization);
+    /**
+     * Generates the certificates signed by this CA for the given pods. When the parallel generation is enabled, the
+     * certificates are generated in the shared certificate generation pool and the calling thread waits until all of
+     * them are generated. Otherwise, they are generated one by one in the order of the given map.
+     *
+     * @param subjects The subjects of the certificates to be generated indexed by the pod names.
+     * @return The generated certificates indexed by the pod names.
+     * @throws IOException If any of the certs could not be generated.
+     */
+    private Map<String, CertAndKey> generateSignedCerts(Map<String, Subject> subjects) throws IOException {
+        if (!parallelCertGeneration || subjects.size() == 1) {
+            Map<String, CertAndKey> certs = new HashMap<>(subjects.size());
+            for (Map.Entry<String, Subject> entry : subjects.entrySet()) {
+                certs.put(entry.getKey(), generateSignedCert(entry.getValue()));
+            }
+            return certs;
         }
 
-        subject.withCommonName(commonName);
+        Map<String, Future<CertAndKey>> futures = new LinkedHashMap<>(subjects.size());
+        for (Map.Entry<String, Subject> entry : subjects.entrySet()) {
+            futures.put(entry.getKey(), CERT_GENERATION_EXECUTOR.submit(() -> generateSignedCert(entry.getValue())));
+        }
 
-        CertAndKey result = generateSignedCert(subject.build(),
-                csrFile, keyFile, certFile, keyStoreFile);
+        Map<String, CertAndKey> certs = new HashMap<>(subjects.size());
+        try {
+            for (Map.Entry<String, Future<CertAndKey>> entry : futures.entrySet()) {
+                certs.put(entry.getKey(), entry.getValue().get());
+            }
+        } catch (InterruptedException e) {
+            futures.values().forEach(future -> future.cancel(true));
+            Thread.currentThread().interrupt();
+            throw new IOException("Interrupted while generating certificates", e);
+        } catch (ExecutionException e) {
+            futures.values().forEach(future -> future.cancel(true));
+            if (e.getCause() instanceof IOException) {
+                throw (IOException) e.getCause();
+            } else if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            } else {
+                throw new IOException("Failed to generate certificates", e.getCause());
+            }
+        }
 
-        delete(reconciliation, csrFile);
-        delete(reconciliation, keyFile);
-        delete(reconciliation, certFile);
-        delete(reconciliation, keyStoreFile);
-        return result;
+        return certs;
     }
 
     /**
@@ -358,13 +468,10 @@ public abstract class Ca {
             replicasInSecret = (int) secret.getData().keySet().stream().filter(k -> k.contains(".crt")).count();
         }
 
-        File brokerCsrFile = File.createTempFile("tls", "broker-csr");
-        File brokerKeyFile = File.createTempFile("tls", "broker-key");
-        File brokerCertFile = File.createTempFile("tls", "broker-cert");
-        File brokerKeyStoreFile = File.createTempFile("tls", "broker-p12");
-
         int replicasInNewSecret = Math.min(replicasInSecret, replicas);
-        Map<String, CertAndKey> certs = new HashMap<>(replicasInNewSecret);
+        Map<String, CertAndKey> certs = new HashMap<>(replicas);
+        // certificates which have to be (re)generated, indexed by the pod names
+        Map<String, Subject> subjectsToGenerate = new LinkedHashMap<>(replicas);
         // copying the minimum number of certificates already existing in the secret
         // scale up -> it will copy all certificates
         // scale down -> it will copy just the requested number of replicas
@@ -406,8 +513,7 @@ public abstract class Ca {
             if (!reasons.isEmpty())  {
                 LOGGER.debugCr(reconciliation, "Certificate for pod {} need to be regenerated because: {}", podName, String.join(", ", reasons));
 
-                CertAndKey newCertAndKey = generateSignedCert(subject, brokerCsrFile, brokerKeyFile, brokerCertFile, brokerKeyStoreFile);
-                certs.put(podName, newCertAndKey);
+                subjectsToGenerate.put(podName, subject);
             }   else {
                 certs.put(podName, certAndKey);
             }
@@ -420,14 +526,12 @@ public abstract class Ca {
             String podName = podNameFn.apply(i);
 
             LOGGER.debugCr(reconciliation, "Certificate for {} to generate", podName);
-            CertAndKey k = generateSignedCert(subjectFn.apply(i),
-                    brokerCsrFile, brokerKeyFile, brokerCertFile, brokerKeyStoreFile);
-            certs.put(podName, k);
-        }
-        delete(reconciliation, brokerCsrFile);
-        delete(reconciliation, brokerKeyFile);
-        delete(reconciliation, brokerCertFile);
-        delete(reconciliation, brokerKeyStoreFile);
+            subjectsToGenerate.put(podName, subjectFn.apply(i));
+        }
+
+        if (!subjectsToGenerate.isEmpty()) {
+            certs.putAll(generateSignedCerts(subjectsToGenerate));
+        }
 
         return certs;
     }
@@ -10,10 +10,7 @@ import io.fabric8.kubernetes.client.CustomResource;
 import io.fabric8.kubernetes.client.Watch;
 import io.fabric8.kubernetes.client.WatcherException;
 import io.micrometer.core.instrument.Counter;
-import io.micrometer.core.instrument.Tag;
-import io.micrometer.core.instrument.Tags;
 import io.micrometer.core.instrument.Timer;
-import io.micrometer.core.instrument.Meter;
 import io.strimzi.api.kafka.model.Spec;
 import io.strimzi.api.kafka.model.status.Condition;
 import io.strimzi.api.kafka.model.status.ConditionBuilder;
@@ -76,6 +73,7 @@ public abstract class AbstractOperator<
     private static final long PROGRESS_WARNING = 60_000L;
     protected static final int LOCK_TIMEOUT_MS = 10000;
     public static final String METRICS_PREFIX = "strimzi.";
+    public static final int DEFAULT_MAX_CONCURRENT_RECONCILIATIONS = 10;
 
     protected final Vertx vertx;
     protected final O resourceOperator;
@@ -86,7 +84,9 @@ public abstract class AbstractOperator<
     protected final MetricsProvider metrics;
 
     private final Labels selectorLabels;
-    private Map<String, AtomicInteger> resourcesStateCounter = new ConcurrentHashMap<>(1);
+    private final WorkQueue workQueue;
+    private final ResourceStateMetrics resourceStateMetrics;
+    private final ReconciliationMemo<Set<Condition>> validationMemo;
     private Map<String, AtomicInteger> resourceCounterMap = new ConcurrentHashMap<>(1);
     private Map<String, AtomicInteger> pausedResourceCounterMap = new ConcurrentHashMap<>(1);
     private Map<String, Counter> periodicReconciliationsCounterMap = new ConcurrentHashMap<>(1);
@@ -97,12 +97,19 @@ public abstract class AbstractOperator<
     private Map<String, Timer> reconciliationsTimerMap = new ConcurrentHashMap<>(1);
 
     public AbstractOperator(Vertx vertx, String kind, O resourceOperator, MetricsProvider metrics, Labels selectorLabels) {
+        this(vertx, kind, resourceOperator, metrics, selectorLabels, DEFAULT_MAX_CONCURRENT_RECONCILIATIONS);
+    }
+
+    public AbstractOperator(Vertx vertx, String kind, O resourceOperator, MetricsProvider metrics, Labels selectorLabels, int maxConcurrentReconciliations) {
         this.vertx = vertx;
         this.kind = kind;
         this.resourceOperator = resourceOperator;
         this.selector = (selectorLabels == null || selectorLabels.toMap().isEmpty()) ? Optional.empty() : Optional.of(new LabelSelector(null, selectorLabels.toMap()));
         this.metrics = metrics;
         this.selectorLabels = selectorLabels;
+        this.workQueue = new WorkQueue(kind, maxConcurrentReconciliations, metrics, selectorLabels);
+        this.resourceStateMetrics = new ResourceStateMetrics(metrics);
+        this.validationMemo = new ReconciliationMemo<>(kind, "validation", metrics);
     }
 
     @Override
@@ -275,6 +282,19 @@ public abstract class AbstractOperator<
         return result.future();
     }
 
+    /**
+     * Queues the reconciliation in the work queue of this operator. The queue limits the number of reconciliations
+     * running at the same time and collapses repeated reconciliations of the same resource.
+     *
+     * @param reconciliation The reconciliation.
+     * @param priority The priority of the reconciliation.
+     * @return A Future which is completed with the result of the reconciliation.
+     */
+    @Override
+    public Future<Void> enqueue(Reconciliation reconciliation, WorkQueue.Priority priority) {
+        return workQueue.submit(reconciliation, priority, this::reconcile);
+    }
+
     protected void addWarningsToStatus(Status status, Set<Condition> unknownAndDeprecatedConditions)   {
         if (status != null)  {
             status.addConditions(unknownAndDeprecatedConditions);
@@ -394,6 +414,8 @@ public abstract class AbstractOperator<
      * Validate the Custom Resource.
      * This should log at the WARN level (rather than throwing)
      * if the resource can safely be reconciled (e.g. it merely using deprecated API).
+     * The validation result is memoized for each generation of the resource, so the resource is visited and the
+     * warnings are logged only after it changes and not in every periodical reconciliation.
      * @param reconciliation The reconciliation
      * @param resource The custom resource
      * @throws InvalidResourceException if the resource cannot be safely reconciled.
@@ -401,11 +423,14 @@ public abstract class AbstractOperator<
      */
     /*test*/ public Set<Condition> validate(Reconciliation reconciliation, T resource) {
         if (resource != null) {
-            Set<Condition> warningConditions = new LinkedHashSet<>(0);
-
-            ResourceVisitor.visit(reconciliation, resource, new ValidationVisitor(resource, LOGGER, warningConditions));
-
-            return warningConditions;
+            Set<Condition> warningConditions = validationMemo.computeIfAbsent(resource, () -> {
+                Set<Condition> conditions = new LinkedHashSet<>(0);
+                ResourceVisitor.visit(reconciliation, resource, new ValidationVisitor(resource, LOGGER, conditions));
+                return Collections.unmodifiableSet(conditions);
+            });
+
+            // The callers can add their own conditions to the returned set
+            return new LinkedHashSet<>(warningConditions);
         }
 
         return Collections.emptySet();
@@ -528,43 +553,21 @@ public abstract class AbstractOperator<
 
     /**
      * Updates the resource state metric for the provided reconciliation which brings kind, name and namespace
-     * of the custom resource.
+     * of the custom resource. When the custom resource does not exist anymore, its log marker is removed from the
+     * marker cache and its memoized validation result is removed as well.
      *
      * @param reconciliation reconciliation to use to update the resource state metric
      * @param ready if reconcile was successful and the resource is ready
      */
     private void updateResourceState(Reconciliation reconciliation, boolean ready, Throwable cause) {
-        String key = reconciliation.namespace() + ":" + reconciliation.kind() + "/" + reconciliation.name();
-
-        Tags metricTags = Tags.of(
-                    Tag.of("kind", reconciliation.kind()),
-                    Tag.of("name", reconciliation.name()),
-                    Tag.of("resource-namespace", reconciliation.namespace()),
-                    Tag.of("reason", cause == null ? "none" : cause.getMessage() == null ? "unknown error" : cause.getMessage()));
-
         T cr = resourceOperator.get(reconciliation.namespace(), reconciliation.name());
 
-        Optional<Meter> metric = metrics.meterRegistry().getMeters()
-                .stream()
-                .filter(meter -> meter.getId().getName().equals(METRICS_PREFIX + "resource.state") &&
-                        meter.getId().getTags().contains(Tag.of("kind", reconciliation.kind())) &&
-                        meter.getId().getTags().contains(Tag.of("name", reconciliation.name())) &&
-                        meter.getId().getTags().contains(Tag.of("resource-namespace", reconciliation.namespace()))
-                ).findFirst();
-
-        if (metric.isPresent()) {
-            // remove metric so it can be re-added with new tags
-            metrics.meterRegistry().remove(metric.get().getId());
-            resourcesStateCounter.remove(key);
-            LOGGER.debugCr(reconciliation, "Removed metric " + METRICS_PREFIX + "resource.state{}", key);
-        }
-
         if (cr != null && Util.matchesSelector(selector(), cr)) {
-            resourcesStateCounter.computeIfAbsent(key, tags ->
-                    metrics.gauge(METRICS_PREFIX + "resource.state", "Current state of the resource: 1 ready, 0 fail", metricTags)
-            );
-            resourcesStateCounter.get(key).set(ready ? 1 : 0);
-            LOGGER.debugCr(reconciliation, "Updated metric " + METRICS_PREFIX + "resource.state{} = {}", metricTags, ready ? 1 : 0);
+            resourceStateMetrics.update(reconciliation, reconciliation.kind(), reconciliation.namespace(), reconciliation.name(), ready, cause);
+        } else {
+            resourceStateMetrics.remove(reconciliation, reconciliation.kind(), reconciliation.namespace(), reconciliation.name());
+            MarkerCache.getInstance().remove(reconciliation.kind(), reconciliation.namespace(), reconciliation.name());
+            validationMemo.remove(reconciliation.namespace(), reconciliation.name());
         }
     }
 
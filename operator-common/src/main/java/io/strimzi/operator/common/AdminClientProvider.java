@@ -22,4 +22,19 @@ public interface AdminClientProvider {
      * @return Instance of Kafka Admin interface
      */
     Admin createAdminClient(String bootstrapHostnames, Secret clusterCaCertSecret, Secret keyCertSecret, String keyCertName);
+
+    /**
+     * Create a Kafka Admin interface instance which is not shared with anyone else. This should be used when the
+     * caller relies on a fresh client, for example to talk to the bootstrap broker and not to any other broker from
+     * the cluster metadata. Implementations which share their Admin clients should override this method.
+     *
+     * @param bootstrapHostnames Kafka hostname to connect to for administration operations
+     * @param clusterCaCertSecret Secret containing the cluster CA certificate for TLS encryption
+     * @param keyCertSecret Secret containing keystore for TLS client authentication
+     * @param keyCertName Key inside the keyCertSecret for getting the keystore and the corresponding password
+     * @return Instance of Kafka Admin interface
+     */
+    default Admin createDedicatedAdminClient(String bootstrapHostnames, Secret clusterCaCertSecret, Secret keyCertSecret, String keyCertName) {
+        return createAdminClient(bootstrapHostnames, clusterCaCertSecret, keyCertSecret, keyCertName);
+    }
 }
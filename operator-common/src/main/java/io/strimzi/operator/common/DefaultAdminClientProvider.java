@@ -12,14 +12,64 @@ import org.apache.kafka.common.config.SslConfigs;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 
-import java.io.File;
+import java.io.ByteArrayInputStream;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Proxy;
 import java.nio.charset.StandardCharsets;
+import java.security.Key;
+import java.security.KeyStore;
+import java.security.cert.Certificate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.Enumeration;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Properties;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
 
+/**
+ * Admin client provider which keeps a pool of long-lived Admin clients. There is one pooled client for every
+ * combination of the bootstrap address, the cluster CA Secret, the Secret with the client certificate and the
+ * certificate name.
+ *
+ * The clients returned from {@link #createAdminClient(String, Secret, Secret, String)} are leases of the pooled
+ * clients. Closing them returns the client to the pool instead of closing it. A pooled client is replaced when the
+ * resource version of one of its Secrets changes and it is closed when it was not used for longer than the idle
+ * timeout. The truststore and keystore are passed to the clients in memory in the PEM format, so no temporary files
+ * are created.
+ */
 public class DefaultAdminClientProvider implements AdminClientProvider {
-
     private static final Logger LOGGER = LogManager.getLogger(DefaultAdminClientProvider.class);
 
+    /**
+     * Default time after which unused pooled Admin clients are closed
+     */
+    public static final long DEFAULT_IDLE_TIMEOUT_MS = 300_000L;
+
+    private final long idleTimeoutNs;
+    private final Map<String, PooledAdmin> pool = new HashMap<>();
+
+    /**
+     * Constructs the Admin client provider with the default idle timeout
+     */
+    public DefaultAdminClientProvider() {
+        this(DEFAULT_IDLE_TIMEOUT_MS);
+    }
+
+    /**
+     * Constructs the Admin client provider
+     *
+     * @param idleTimeoutMs     Time in milliseconds after which unused pooled Admin clients are closed
+     */
+    public DefaultAdminClientProvider(long idleTimeoutMs) {
+        this.idleTimeoutNs = TimeUnit.MILLISECONDS.toNanos(idleTimeoutMs);
+    }
+
     /**
      * Create a Kafka Admin interface instance handling the following different scenarios:
      *
@@ -40,64 +90,291 @@ public class DefaultAdminClientProvider implements AdminClientProvider {
      * If {@code clusterCaCertSecret}, {@code keyCertSecret} and {@code keyCertName} are provided as not null, the returned
      * Admin Client instance is configured to connect to the Apache Kafka bootstrap (defined via {@code hostname}) on
      * TLS encrypted connection and with TLS client authentication.
+     *
+     * The returned instance is a lease of a pooled Admin client. Closing it returns the client to the pool.
      */
     @Override
     public Admin createAdminClient(String bootstrapHostnames, Secret clusterCaCertSecret, Secret keyCertSecret, String keyCertName) {
-        Admin ac;
-        String trustStorePassword = null;
-        File truststoreFile = null;
+        String key = bootstrapHostnames + "|" + secretName(clusterCaCertSecret) + "|" + secretName(keyCertSecret) + "|" + keyCertName;
+        String version = secretVersion(clusterCaCertSecret) + "|" + secretVersion(keyCertSecret);
+        List<PooledAdmin> toClose = new ArrayList<>();
+        PooledAdmin pooled;
+
+        synchronized (this) {
+            evictIdle(toClose);
+
+            pooled = pool.get(key);
+            if (pooled != null && !pooled.version.equals(version)) {
+                LOGGER.debug("Secrets of the pooled Admin client for {} changed and it will be replaced", bootstrapHostnames);
+                pool.remove(key);
+                pooled.invalidated = true;
+
+                if (pooled.leases == 0) {
+                    toClose.add(pooled);
+                }
+
+                pooled = null;
+            }
+
+            if (pooled == null) {
+                LOGGER.debug("Creating pooled Admin client for {}", bootstrapHostnames);
+                pooled = new PooledAdmin(createDedicatedAdminClient(bootstrapHostnames, clusterCaCertSecret, keyCertSecret, keyCertName), version);
+                pool.put(key, pooled);
+            }
+
+            pooled.leases++;
+        }
+
+        close(toClose);
+
+        return lease(pooled);
+    }
+
+    /**
+     * Create a Kafka Admin interface instance which is not pooled. See
+     * {@link #createAdminClient(String, Secret, Secret, String)} for the description of the different scenarios.
+     */
+    @Override
+    public Admin createDedicatedAdminClient(String bootstrapHostnames, Secret clusterCaCertSecret, Secret keyCertSecret, String keyCertName) {
+        Properties p = new Properties();
+        p.setProperty(AdminClientConfig.BOOTSTRAP_SERVERS_CONFIG, bootstrapHostnames);
+
         // provided Secret with cluster CA certificate for TLS encryption
         if (clusterCaCertSecret != null) {
-            PasswordGenerator pg = new PasswordGenerator(12);
-            trustStorePassword = pg.generate();
-            truststoreFile = Util.createFileTrustStore(getClass().getName(), "ts", Ca.certs(clusterCaCertSecret), trustStorePassword.toCharArray());
+            p.setProperty(AdminClientConfig.SECURITY_PROTOCOL_CONFIG, "SSL");
+
+            p.setProperty(SslConfigs.SSL_TRUSTSTORE_TYPE_CONFIG, "PEM");
+            p.setProperty(SslConfigs.SSL_TRUSTSTORE_CERTIFICATES_CONFIG, pem("CERTIFICATE", Ca.certs(clusterCaCertSecret).stream().map(DefaultAdminClientProvider::encoded).toArray(byte[][]::new)));
         }
 
-        try {
-            String keyStorePassword = null;
-            File keystoreFile = null;
-            // provided Secret and related key for getting the private key for TLS client authentication
-            if (keyCertSecret != null && keyCertName != null && !keyCertName.isEmpty()) {
-                keyStorePassword = new String(Util.decodeFromSecret(keyCertSecret, keyCertName + ".password"), StandardCharsets.US_ASCII);
-                keystoreFile = Util.createFileStore(getClass().getName(), "ts", Util.decodeFromSecret(keyCertSecret, keyCertName + ".p12"));
+        // provided Secret and related key for getting the private key for TLS client authentication
+        if (keyCertSecret != null && keyCertName != null && !keyCertName.isEmpty()) {
+            String keyStorePassword = new String(Util.decodeFromSecret(keyCertSecret, keyCertName + ".password"), StandardCharsets.US_ASCII);
+            setPemKeyStore(p, Util.decodeFromSecret(keyCertSecret, keyCertName + ".p12"), keyStorePassword.toCharArray());
+        }
+
+        p.setProperty(AdminClientConfig.METADATA_MAX_AGE_CONFIG, "30000");
+        p.setProperty(AdminClientConfig.REQUEST_TIMEOUT_MS_CONFIG, "10000");
+        p.setProperty(AdminClientConfig.RETRIES_CONFIG, "3");
+        p.setProperty(AdminClientConfig.DEFAULT_API_TIMEOUT_MS_CONFIG, "40000");
+
+        return createAdmin(p);
+    }
+
+    /**
+     * Creates the Admin client from its configuration
+     *
+     * @param config    Admin client configuration
+     *
+     * @return  New Admin client
+     */
+    protected Admin createAdmin(Properties config) {
+        return Admin.create(config);
+    }
+
+    /**
+     * Closes all pooled Admin clients which are not used by anyone. The clients which are in use are closed once
+     * their last lease is closed.
+     */
+    public void close() {
+        List<PooledAdmin> toClose = new ArrayList<>();
+
+        synchronized (this) {
+            for (PooledAdmin pooled : pool.values()) {
+                pooled.invalidated = true;
+
+                if (pooled.leases == 0) {
+                    toClose.add(pooled);
+                }
             }
 
+            pool.clear();
+        }
+
+        close(toClose);
+    }
+
+    /**
+     * @return  Number of the pooled Admin clients
+     */
+    /* test */ synchronized int size() {
+        return pool.size();
+    }
+
+    /**
+     * Removes the pooled clients which were not used for longer than the idle timeout from the pool. Has to be called
+     * while holding the lock.
+     *
+     * @param toClose   List to which the removed clients which should be closed are added
+     */
+    private void evictIdle(List<PooledAdmin> toClose) {
+        long now = System.nanoTime();
+        Iterator<PooledAdmin> iterator = pool.values().iterator();
+
+        while (iterator.hasNext()) {
+            PooledAdmin pooled = iterator.next();
+
+            if (pooled.leases == 0 && now - pooled.lastUsedNs >= idleTimeoutNs) {
+                iterator.remove();
+                toClose.add(pooled);
+            }
+        }
+    }
+
+    private void close(List<PooledAdmin> toClose) {
+        for (PooledAdmin pooled : toClose) {
             try {
-                Properties p = new Properties();
-                p.setProperty(AdminClientConfig.BOOTSTRAP_SERVERS_CONFIG, bootstrapHostnames);
+                pooled.admin.close();
+            } catch (RuntimeException e) {
+                LOGGER.debug("Exception closing pooled Admin client", e);
+            }
+        }
+    }
+
+    /**
+     * Creates a lease of the pooled Admin client. All calls are passed to the pooled client, except for the close
+     * methods which return the client to the pool.
+     *
+     * @param pooled    The pooled Admin client
+     *
+     * @return  Lease of the pooled Admin client
+     */
+    private Admin lease(PooledAdmin pooled) {
+        AtomicBoolean released = new AtomicBoolean(false);
 
-                // configuring TLS encryption if requested
-                if (truststoreFile != null && trustStorePassword != null) {
-                    p.setProperty(AdminClientConfig.SECURITY_PROTOCOL_CONFIG, "SSL");
+        return (Admin) Proxy.newProxyInstance(Admin.class.getClassLoader(), new Class<?>[] {Admin.class}, (proxy, method, args) -> {
+            switch (method.getName()) {
+                case "close":
+                    if (released.compareAndSet(false, true)) {
+                        release(pooled);
+                    }
+                    return null;
+                case "equals":
+                    return proxy == args[0];
+                case "hashCode":
+                    return System.identityHashCode(proxy);
+                case "toString":
+                    return "Lease of " + pooled.admin;
+                default:
+                    try {
+                        return method.invoke(pooled.admin, args);
+                    } catch (InvocationTargetException e) {
+                        throw e.getCause();
+                    }
+            }
+        });
+    }
 
-                    p.setProperty(SslConfigs.SSL_TRUSTSTORE_LOCATION_CONFIG, truststoreFile.getAbsolutePath());
-                    p.setProperty(SslConfigs.SSL_TRUSTSTORE_TYPE_CONFIG, "PKCS12");
-                    p.setProperty(SslConfigs.SSL_TRUSTSTORE_PASSWORD_CONFIG, trustStorePassword);
-                }
+    private void release(PooledAdmin pooled) {
+        boolean close;
 
-                // configuring TLS client authentication
-                if (keystoreFile != null && keyStorePassword != null) {
-                    p.setProperty(SslConfigs.SSL_KEYSTORE_LOCATION_CONFIG, keystoreFile.getAbsolutePath());
-                    p.setProperty(SslConfigs.SSL_KEYSTORE_TYPE_CONFIG, "PKCS12");
-                    p.setProperty(SslConfigs.SSL_KEYSTORE_PASSWORD_CONFIG, keyStorePassword);
-                }
+        synchronized (this) {
+            pooled.leases--;
+            pooled.lastUsedNs = System.nanoTime();
+            close = pooled.invalidated && pooled.leases == 0;
+        }
 
-                p.setProperty(AdminClientConfig.METADATA_MAX_AGE_CONFIG, "30000");
-                p.setProperty(AdminClientConfig.REQUEST_TIMEOUT_MS_CONFIG, "10000");
-                p.setProperty(AdminClientConfig.RETRIES_CONFIG, "3");
-                p.setProperty(AdminClientConfig.DEFAULT_API_TIMEOUT_MS_CONFIG, "40000");
+        if (close) {
+            close(List.of(pooled));
+        }
+    }
+
+    private static String secretName(Secret secret) {
+        if (secret == null || secret.getMetadata() == null) {
+            return "";
+        }
 
-                ac = Admin.create(p);
-            } finally {
-                if (keystoreFile != null && !keystoreFile.delete()) {
-                    LOGGER.warn("Unable to delete keystore file {}", keystoreFile);
+        return secret.getMetadata().getNamespace() + "/" + secret.getMetadata().getName();
+    }
+
+    /**
+     * Returns the version of the Secret. That is its resource version or the hash of its data when the Secret has no
+     * resource version.
+     *
+     * @param secret    The Secret
+     *
+     * @return  Version of the Secret
+     */
+    private static String secretVersion(Secret secret) {
+        if (secret == null) {
+            return "";
+        } else if (secret.getMetadata() != null && secret.getMetadata().getResourceVersion() != null) {
+            return secret.getMetadata().getResourceVersion();
+        } else {
+            return String.valueOf(Objects.hashCode(secret.getData()));
+        }
+    }
+
+    /**
+     * Reads the private key and its certificate chain from the PKCS12 keystore and sets them in the PEM format in
+     * the Admin client configuration
+     *
+     * @param config        Admin client configuration
+     * @param keyStore      The PKCS12 keystore
+     * @param password      Password of the PKCS12 keystore
+     */
+    private static void setPemKeyStore(Properties config, byte[] keyStore, char[] password) {
+        try {
+            KeyStore store = KeyStore.getInstance("PKCS12");
+            store.load(new ByteArrayInputStream(keyStore), password);
+
+            Enumeration<String> aliases = store.aliases();
+            while (aliases.hasMoreElements()) {
+                String alias = aliases.nextElement();
+
+                if (store.isKeyEntry(alias)) {
+                    Key key = store.getKey(alias, password);
+                    Certificate[] chain = store.getCertificateChain(alias);
+
+                    config.setProperty(SslConfigs.SSL_KEYSTORE_TYPE_CONFIG, "PEM");
+                    config.setProperty(SslConfigs.SSL_KEYSTORE_KEY_CONFIG, pem("PRIVATE KEY", key.getEncoded()));
+                    config.setProperty(SslConfigs.SSL_KEYSTORE_CERTIFICATE_CHAIN_CONFIG, pem("CERTIFICATE", Arrays.stream(chain).map(DefaultAdminClientProvider::encoded).toArray(byte[][]::new)));
+                    return;
                 }
             }
-        } finally {
-            if (truststoreFile != null && !truststoreFile.delete()) {
-                LOGGER.warn("Unable to delete truststore file {}", truststoreFile);
-            }
+
+            throw new RuntimeException("The keystore does not contain any private key");
+        } catch (RuntimeException e) {
+            throw e;
+        } catch (Exception e) {
+            throw new RuntimeException("Failed to read the keystore", e);
+        }
+    }
+
+    private static byte[] encoded(Certificate certificate) {
+        try {
+            return certificate.getEncoded();
+        } catch (Exception e) {
+            throw new RuntimeException("Failed to encode certificate", e);
+        }
+    }
+
+    private static String pem(String type, byte[]... objects) {
+        Base64.Encoder encoder = Base64.getMimeEncoder(64, "\n".getBytes(StandardCharsets.US_ASCII));
+        StringBuilder pem = new StringBuilder();
+
+        for (byte[] object : objects) {
+            pem.append("-----BEGIN ").append(type).append("-----\n")
+                    .append(encoder.encodeToString(object))
+                    .append("\n-----END ").append(type).append("-----\n");
+        }
+
+        return pem.toString();
+    }
+
+    /**
+     * Admin client in the pool
+     */
+    private static class PooledAdmin {
+        private final Admin admin;
+        private final String version;
+        private int leases = 0;
+        private boolean invalidated = false;
+        private long lastUsedNs = System.nanoTime();
+
+        PooledAdmin(Admin admin, String version) {
+            this.admin = admin;
+            this.version = version;
         }
-        return ac;
     }
 }
@@ -0,0 +1,128 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.common;
+
+import org.apache.logging.log4j.Marker;
+import org.apache.logging.log4j.MarkerManager;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Cache of the log4j markers used to identify the custom resource in the log messages of a reconciliation.
+ * Unlike {@link MarkerManager#getMarker(String)}, which keeps every marker ever created in a global map, the cache
+ * is bounded and evicts the least recently used markers. The markers of deleted resources should be removed from the
+ * cache using {@link #remove(String, String, String)}. Markers are matched by name in the log4j filters, so a marker
+ * which was evicted and created again behaves the same way as the original one.
+ */
+public class MarkerCache {
+    /**
+     * Default maximum number of markers kept in the cache
+     */
+    public static final int DEFAULT_MAX_SIZE = 10_000;
+
+    private static final MarkerCache INSTANCE = new MarkerCache(DEFAULT_MAX_SIZE);
+
+    private final Map<Key, Marker> markers;
+
+    /**
+     * Constructs the marker cache
+     *
+     * @param maxSize   Maximum number of markers kept in the cache
+     */
+    public MarkerCache(int maxSize) {
+        this.markers = new LinkedHashMap<>(16, 0.75f, true) {
+            private static final long serialVersionUID = 1L;
+
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Key, Marker> eldest) {
+                return size() > maxSize;
+            }
+        };
+    }
+
+    /**
+     * @return  The marker cache shared by the operators running in this JVM
+     */
+    public static MarkerCache getInstance() {
+        return INSTANCE;
+    }
+
+    /**
+     * Returns the marker of the custom resource. The name of the marker is {@code kind(namespace/name)}.
+     *
+     * @param kind      Kind of the custom resource
+     * @param namespace Namespace of the custom resource
+     * @param name      Name of the custom resource
+     *
+     * @return  The marker
+     */
+    public Marker get(String kind, String namespace, String name) {
+        Key key = new Key(kind, namespace, name);
+
+        synchronized (markers) {
+            return markers.computeIfAbsent(key, k -> new MarkerManager.Log4jMarker(kind + "(" + namespace + "/" + name + ")"));
+        }
+    }
+
+    /**
+     * Removes the marker of the custom resource, for example because the custom resource was deleted
+     *
+     * @param kind      Kind of the custom resource
+     * @param namespace Namespace of the custom resource
+     * @param name      Name of the custom resource
+     */
+    public void remove(String kind, String namespace, String name) {
+        Key key = new Key(kind, namespace, name);
+
+        synchronized (markers) {
+            markers.remove(key);
+        }
+    }
+
+    /**
+     * @return  Number of markers in the cache
+     */
+    /* test */ int size() {
+        synchronized (markers) {
+            return markers.size();
+        }
+    }
+
+    /**
+     * Identifies the custom resource without allocating the name of the marker
+     */
+    private static final class Key {
+        private final String kind;
+        private final String namespace;
+        private final String name;
+
+        Key(String kind, String namespace, String name) {
+            this.kind = kind;
+            this.namespace = namespace;
+            this.name = name;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            } else if (o == null || getClass() != o.getClass()) {
+                return false;
+            }
+
+            Key key = (Key) o;
+            return Objects.equals(kind, key.kind)
+                    && Objects.equals(namespace, key.namespace)
+                    && Objects.equals(name, key.name);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(kind, namespace, name);
+        }
+    }
+}
@@ -49,6 +49,18 @@ public interface Operator {
      */
     Future<Void> reconcile(Reconciliation reconciliation);
 
+    /**
+     * Queues the reconciliation of the resource identified by the given reconciliation. Operators which do not queue
+     * the reconciliations start the reconciliation immediately.
+     *
+     * @param reconciliation The resource.
+     * @param priority The priority of the reconciliation.
+     * @return A Future is completed once the resource has been reconciled.
+     */
+    default Future<Void> enqueue(Reconciliation reconciliation, WorkQueue.Priority priority) {
+        return reconcile(reconciliation);
+    }
+
     /**
      * Triggers the asynchronous reconciliation of all resources which this operator consumes.
      * The resources to reconcile are identified by {@link #allResourceNames(String)}.
@@ -76,7 +88,7 @@ public interface Operator {
             for (NamespaceAndName resourceRef : desiredNames) {
                 resourceCounter(resourceRef.getNamespace()).getAndIncrement();
                 Reconciliation reconciliation = new Reconciliation(trigger, kind(), resourceRef.getNamespace(), resourceRef.getName());
-                futures.add(reconcile(reconciliation));
+                futures.add(enqueue(reconciliation, WorkQueue.Priority.LOW));
             }
             CompositeFuture.join(futures).map((Void) null).onComplete(handler);
         } else {
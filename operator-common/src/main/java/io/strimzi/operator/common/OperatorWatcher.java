@@ -36,7 +36,7 @@ class OperatorWatcher<T extends HasMetadata> implements Watcher<T> {
             case MODIFIED:
                 Reconciliation reconciliation = new Reconciliation("watch", operator.kind(), namespace, name);
                 LOGGER.infoCr(reconciliation, "{} {} in namespace {} was {}", operator.kind(), name, namespace, action);
-                operator.reconcile(reconciliation);
+                operator.enqueue(reconciliation, WorkQueue.Priority.HIGH);
                 break;
             case ERROR:
                 LOGGER.errorCr(new Reconciliation("watch", operator.kind(), namespace, name), "Failed {} {} in namespace{} ", operator.kind(), name, namespace);
@@ -5,7 +5,6 @@
 package io.strimzi.operator.common;
 
 import org.apache.logging.log4j.Marker;
-import org.apache.logging.log4j.MarkerManager;
 
 import java.util.concurrent.atomic.AtomicInteger;
 
@@ -28,6 +27,8 @@ public class Reconciliation {
     private final String name;
     private final int id;
     private final Marker marker;
+    // Rendered lazily and cached because it is used as the prefix of every log message of this reconciliation
+    private String description;
 
     public Reconciliation(String trigger, String kind, String namespace, String assemblyName) {
         this.trigger = trigger;
@@ -35,7 +36,7 @@ public class Reconciliation {
         this.namespace = namespace;
         this.name = assemblyName;
         this.id = IDS.getAndIncrement();
-        this.marker = MarkerManager.getMarker(this.kind + "(" + this.namespace + "/" + this.name + ")");
+        this.marker = MarkerCache.getInstance().get(kind, namespace, assemblyName);
     }
 
     public String kind() {
@@ -55,6 +56,13 @@ public class Reconciliation {
     }
 
     public String toString() {
-        return "Reconciliation #" + id + "(" + trigger + ") " + kind() + "(" + namespace() + "/" + name() + ")";
+        String description = this.description;
+
+        if (description == null) {
+            description = "Reconciliation #" + id + "(" + trigger + ") " + kind() + "(" + namespace() + "/" + name() + ")";
+            this.description = description;
+        }
+
+        return description;
     }
 }
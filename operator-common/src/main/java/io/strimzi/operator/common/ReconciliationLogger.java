@@ -20,6 +20,8 @@ import org.apache.logging.log4j.util.Supplier;
  * Custom Logger interface with convenience methods for
  * the OFF, FATAL, ERROR, WARN, INFO, DEBUG, TRACE and ALL custom log levels.
  * <p>Compatible with Log4j 2.6 or higher.</p>
+ * <p>The methods which prefix the message with the reconciliation check whether the level is enabled before building
+ * the prefixed message, so that disabled log statements do not allocate.</p>
  */
 public class ReconciliationLogger implements Serializable {
     private static final long serialVersionUID = 258810740149174L;
@@ -5640,7 +5642,9 @@ public class ReconciliationLogger implements Serializable {
      * @param message the message object to log.
      */
     public void offCr(final Reconciliation reconciliation, final Object message) {
-        logger.logIfEnabled(FQCN, OFF, reconciliation.getMarker(), reconciliation.toString() + ": " + message, (Throwable) null);
+        if (logger.isEnabled(OFF, reconciliation.getMarker())) {
+            logger.logIfEnabled(FQCN, OFF, reconciliation.getMarker(), reconciliation.toString() + ": " + message, (Throwable) null);
+        }
     }
 
     /**
@@ -5651,7 +5655,9 @@ public class ReconciliationLogger implements Serializable {
      * @since Log4j-2.6
      */
     public void offCr(final Reconciliation reconciliation, final CharSequence message) {
-        logger.logIfEnabled(FQCN, OFF, reconciliation.getMarker(), reconciliation.toString() + ": " + message, (Throwable) null);
+        if (logger.isEnabled(OFF, reconciliation.getMarker())) {
+            logger.logIfEnabled(FQCN, OFF, reconciliation.getMarker(), reconciliation.toString() + ": " + message, (Throwable) null);
+        }
     }
 
     /**
@@ -5663,7 +5669,9 @@ public class ReconciliationLogger implements Serializable {
      * @param t the exception to log, including its stack trace.
      */
     public void offCr(final Reconciliation reconciliation, final Object message, final Throwable t) {
-        logger.logIfEnabled(FQCN, OFF, reconciliation.getMarker(), reconciliation.toString() + ": " + message, t);
+        if (logger.isEnabled(OFF, reconciliation.getMarker())) {
+            logger.logIfEnabled(FQCN, OFF, reconciliation.getMarker(), reconciliation.toString() + ": " + message, t);
+        }
     }
 
     /**
@@ -5676,7 +5684,9 @@ public class ReconciliationLogger implements Serializable {
      * @since Log4j-2.6
      */
     public void offCr(final Reconciliation reconciliation, final CharSequence message, final Throwable t) {
-        logger.logIfEnabled(FQCN, OFF, reconciliation.getMarker(), reconciliation.toString() + ": " + message, t);
+        if (logger.isEnabled(OFF, reconciliation.getMarker())) {
+            logger.logIfEnabled(FQCN, OFF, reconciliation.getMarker(), reconciliation.toString() + ": " + message, t);
+        }
     }
 
     /**
@@ -5686,7 +5696,9 @@ public class ReconciliationLogger implements Serializable {
      * @param message the message object to log.
      */
     public void offCr(final Reconciliation reconciliation, final String message) {
-        logger.logIfEnabled(FQCN, OFF, reconciliation.getMarker(), reconciliation.toString() + ": " + message, (Throwable) null);
+        if (logger.isEnabled(OFF, reconciliation.getMarker())) {
+            logger.logIfEnabled(FQCN, OFF, reconciliation.getMarker(), reconciliation.toString() + ": " + message, (Throwable) null);
+        }
     }
 
     /**
@@ -5697,7 +5709,9 @@ public class ReconciliationLogger implements Serializable {
      * @param params parameters to the message.
      */
     public void offCr(final Reconciliation reconciliation, final String message, final Object... params) {
-        logger.logIfEnabled(FQCN, OFF, reconciliation.getMarker(), reconciliation.toString() + ": " + message, params);
+        if (logger.isEnabled(OFF, reconciliation.getMarker())) {
+            logger.logIfEnabled(FQCN, OFF, reconciliation.getMarker(), reconciliation.toString() + ": " + message, params);
+        }
     }
 
     /**
@@ -5709,7 +5723,9 @@ public class ReconciliationLogger implements Serializable {
      * @since Log4j-2.6
      */
     public void offCr(final Reconciliation reconciliation, final String message, final Object p0) {
-        logger.logIfEnabled(FQCN, OFF, reconciliation.getMarker(), reconciliation.toString() + ": " + message, p0);
+        if (logger.isEnabled(OFF, reconciliation.getMarker())) {
+            logger.logIfEnabled(FQCN, OFF, reconciliation.getMarker(), reconciliation.toString() + ": " + message, p0);
+        }
     }
 
     /**
@@ -5722,7 +5738,9 @@ public class ReconciliationLogger implements Serializable {
      * @since Log4j-2.6
      */
     public void offCr(final Reconciliation reconciliation, final String message, final Object p0, final Object p1) {
-        logger.logIfEnabled(FQCN, OFF, reconciliation.getMarker(), reconciliation.toString() + ": " + message, p0, p1);
+        if (logger.isEnabled(OFF, reconciliation.getMarker())) {
+            logger.logIfEnabled(FQCN, OFF, reconciliation.getMarker(), reconciliation.toString() + ": " + message, p0, p1);
+        }
     }
 
     /**
@@ -5736,7 +5754,9 @@ public class ReconciliationLogger implements Serializable {
      * @since Log4j-2.6
      */
     public void offCr(final Reconciliation reconciliation, final String message, final Object p0, final Object p1, final Object p2) {
-        logger.logIfEnabled(FQCN, OFF, reconciliation.getMarker(), reconciliation.toString() + ": " + message, p0, p1, p2);
+        if (logger.isEnabled(OFF, reconciliation.getMarker())) {
+            logger.logIfEnabled(FQCN, OFF, reconciliation.getMarker(), reconciliation.toString() + ": " + message, p0, p1, p2);
+        }
     }
 
     /**
@@ -5752,7 +5772,9 @@ public class ReconciliationLogger implements Serializable {
      */
     public void offCr(final Reconciliation reconciliation, final String message, final Object p0, final Object p1, final Object p2,
                     final Object p3) {
-        logger.logIfEnabled(FQCN, OFF, reconciliation.getMarker(), reconciliation.toString() + ": " + message, p0, p1, p2, p3);
+        if (logger.isEnabled(OFF, reconciliation.getMarker())) {
+            logger.logIfEnabled(FQCN, OFF, reconciliation.getMarker(), reconciliation.toString() + ": " + message, p0, p1, p2, p3);
+        }
     }
 
     /**
@@ -5769,7 +5791,9 @@ public class ReconciliationLogger implements Serializable {
      */
     public void offCr(final Reconciliation reconciliation, final String message, final Object p0, final Object p1, final Object p2,
                     final Object p3, final Object p4) {
-        logger.logIfEnabled(FQCN, OFF, reconciliation.getMarker(), reconciliation.toString() + ": " + message, p0, p1, p2, p3, p4);
+        if (logger.isEnabled(OFF, reconciliation.getMarker())) {
+            logger.logIfEnabled(FQCN, OFF, reconciliation.getMarker(), reconciliation.toString() + ": " + message, p0, p1, p2, p3, p4);
+        }
     }
 
     /**
@@ -5787,7 +5811,9 @@ public class ReconciliationLogger implements Serializable {
      */
     public void offCr(final Reconciliation reconciliation, final String message, final Object p0, final Object p1, final Object p2,
                     final Object p3, final Object p4, final Object p5) {
-        logger.logIfEnabled(FQCN, OFF, reconciliation.getMarker(), reconciliation.toString() + ": " + message, p0, p1, p2, p3, p4, p5);
+        if (logger.isEnabled(OFF, reconciliation.getMarker())) {
+            logger.logIfEnabled(FQCN, OFF, reconciliation.getMarker(), reconciliation.toString() + ": " + message, p0, p1, p2, p3, p4, p5);
+        }
     }
 
     /**
@@ -5806,7 +5832,9 @@ public class ReconciliationLogger implements Serializable {
      */
     public void offCr(final Reconciliation reconciliation, final String message, final Object p0, final Object p1, final Object p2,
                     final Object p3, final Object p4, final Object p5, final Object p6) {
-        logger.logIfEnabled(FQCN, OFF, reconciliation.getMarker(), reconciliation.toString() + ": " + message, p0, p1, p2, p3, p4, p5, p6);
+        if (logger.isEnabled(OFF, reconciliation.getMarker())) {
+            logger.logIfEnabled(FQCN, OFF, reconciliation.getMarker(), reconciliation.toString() + ": " + message, p0, p1, p2, p3, p4, p5, p6);
+        }
     }
 
     /**
@@ -5827,7 +5855,9 @@ public class ReconciliationLogger implements Serializable {
     public void offCr(final Reconciliation reconciliation, final String message, final Object p0, final Object p1, final Object p2,
                     final Object p3, final Object p4, final Object p5, final Object p6,
                     final Object p7) {
-        logger.logIfEnabled(FQCN, OFF, reconciliation.getMarker(), reconciliation.toString() + ": " + message, p0, p1, p2, p3, p4, p5, p6, p7);
+        if (logger.isEnabled(OFF, reconciliation.getMarker())) {
+            logger.logIfEnabled(FQCN, OFF, reconciliation.getMarker(), reconciliation.toString() + ": " + message, p0, p1, p2, p3, p4, p5, p6, p7);
+        }
     }
 
     /**
@@ -5849,7 +5879,9 @@ public class ReconciliationLogger implements Serializable {
     public void offCr(final Reconciliation reconciliation, final String message, final Object p0, final Object p1, final Object p2,
                     final Object p3, final Object p4, final Object p5, final Object p6,
                     final Object p7, final Object p8) {
-        logger.logIfEnabled(FQCN, OFF, reconciliation.getMarker(), reconciliation.toString() + ": " + message, p0, p1, p2, p3, p4, p5, p6, p7, p8);
+        if (logger.isEnabled(OFF, reconciliation.getMarker())) {
+            logger.logIfEnabled(FQCN, OFF, reconciliation.getMarker(), reconciliation.toString() + ": " + message, p0, p1, p2, p3, p4, p5, p6, p7, p8);
+        }
     }
 
     /**
@@ -5872,7 +5904,9 @@ public class ReconciliationLogger implements Serializable {
     public void offCr(final Reconciliation reconciliation, final String message, final Object p0, final Object p1, final Object p2,
                     final Object p3, final Object p4, final Object p5, final Object p6,
                     final Object p7, final Object p8, final Object p9) {
-        logger.logIfEnabled(FQCN, OFF, reconciliation.getMarker(), reconciliation.toString() + ": " + message, p0, p1, p2, p3, p4, p5, p6, p7, p8, p9);
+        if (logger.isEnabled(OFF, reconciliation.getMarker())) {
+            logger.logIfEnabled(FQCN, OFF, reconciliation.getMarker(), reconciliation.toString() + ": " + message, p0, p1, p2, p3, p4, p5, p6, p7, p8, p9);
+        }
     }
 
     /**
@@ -5884,7 +5918,9 @@ public class ReconciliationLogger implements Serializable {
      * @param t the exception to log, including its stack trace.
      */
     public void offCr(final Reconciliation reconciliation, final String message, final Throwable t) {
-        logger.logIfEnabled(FQCN, OFF, reconciliation.getMarker(), reconciliation.toString() + ": " + message, t);
+        if (logger.isEnabled(OFF, reconciliation.getMarker())) {
+            logger.logIfEnabled(FQCN, OFF, reconciliation.getMarker(), reconciliation.toString() + ": " + message, t);
+        }
     }
 
     /**
@@ -5910,7 +5946,9 @@ public class ReconciliationLogger implements Serializable {
      * @since Log4j-2.4
      */
     public void offCr(final Reconciliation reconciliation, final String message, final Supplier<?>... paramSuppliers) {
-        logger.logIfEnabled(FQCN, OFF, reconciliation.getMarker(), reconciliation.toString() + ": " + message, paramSuppliers);
+        if (logger.isEnabled(OFF, reconciliation.getMarker())) {
+            logger.logIfEnabled(FQCN, OFF, reconciliation.getMarker(), reconciliation.toString() + ": " + message, paramSuppliers);
+        }
     }
 
     /**
@@ -5984,7 +6022,9 @@ public class ReconciliationLogger implements Serializable {
      * @param message the message object to log.
      */
     public void fatalCr(final Reconciliation reconciliation, final Object message) {
-        logger.logIfEnabled(FQCN, FATAL, reconciliation.getMarker(), reconciliation.toString() + ": " + message, (Throwable) null);
+        if (logger.isEnabled(FATAL, reconciliation.getMarker())) {
+            logger.logIfEnabled(FQCN, FATAL, reconciliation.getMarker(), reconciliation.toString() + ": " + message, (Throwable) null);
+        }
     }
 
     /**
@@ -5995,7 +6035,9 @@ public class ReconciliationLogger implements Serializable {
      * @since Log4j-2.6
      */
     public void fatalCr(final Reconciliation reconciliation, final CharSequence message) {
-        logger.logIfEnabled(FQCN, FATAL, reconciliation.getMarker(), reconciliation.toString() + ": " + message, (Throwable) null);
+        if (logger.isEnabled(FATAL, reconciliation.getMarker())) {
+            logger.logIfEnabled(FQCN, FATAL, reconciliation.getMarker(), reconciliation.toString() + ": " + message, (Throwable) null);
+        }
     }
 
     /**
@@ -6007,7 +6049,9 @@ public class ReconciliationLogger implements Serializable {
      * @param t the exception to log, including its stack trace.
      */
     public void fatalCr(final Reconciliation reconciliation, final Object message, final Throwable t) {
-        logger.logIfEnabled(FQCN, FATAL, reconciliation.getMarker(), reconciliation.toString() + ": " + message, t);
+        if (logger.isEnabled(FATAL, reconciliation.getMarker())) {
+            logger.logIfEnabled(FQCN, FATAL, reconciliation.getMarker(), reconciliation.toString() + ": " + message, t);
+        }
     }
 
     /**
@@ -6020,7 +6064,9 @@ public class ReconciliationLogger implements Serializable {
      * @since Log4j-2.6
      */
     public void fatalCr(final Reconciliation reconciliation, final CharSequence message, final Throwable t) {
-        logger.logIfEnabled(FQCN, FATAL, reconciliation.getMarker(), reconciliation.toString() + ": " + message, t);
+        if (logger.isEnabled(FATAL, reconciliation.getMarker())) {
+            logger.logIfEnabled(FQCN, FATAL, reconciliation.getMarker(), reconciliation.toString() + ": " + message, t);
+        }
     }
 
     /**
@@ -6030,7 +6076,9 @@ public class ReconciliationLogger implements Serializable {
      * @param message the message object to log.
      */
     public void fatalCr(final Reconciliation reconciliation, final String message) {
-        logger.logIfEnabled(FQCN, FATAL, reconciliation.getMarker(), reconciliation.toString() + ": " + message, (Throwable) null);
+        if (logger.isEnabled(FATAL, reconciliation.getMarker())) {
+            logger.logIfEnabled(FQCN, FATAL, reconciliation.getMarker(), reconciliation.toString() + ": " + message, (Throwable) null);
+        }
     }
 
     /**
@@ -6041,7 +6089,9 @@ public class ReconciliationLogger implements Serializable {
      * @param params parameters to the message.
      */
     public void fatalCr(final Reconciliation reconciliation, final String message, final Object... params) {
-        logger.logIfEnabled(FQCN, FATAL, reconciliation.getMarker(), reconciliation.toString() + ": " + message, params);
+        if (logger.isEnabled(FATAL, reconciliation.getMarker())) {
+            logger.logIfEnabled(FQCN, FATAL, reconciliation.getMarker(), reconciliation.toString() + ": " + message, params);
+        }
     }
 
     /**
@@ -6053,7 +6103,9 @@ public class ReconciliationLogger implements Serializable {
      * @since Log4j-2.6
      */
     public void fatalCr(final Reconciliation reconciliation, final String message, final Object p0) {
-        logger.logIfEnabled(FQCN, FATAL, reconciliation.getMarker(), reconciliation.toString() + ": " + message, p0);
+        if (logger.isEnabled(FATAL, reconciliation.getMarker())) {
+            logger.logIfEnabled(FQCN, FATAL, reconciliation.getMarker(), reconciliation.toString() + ": " + message, p0);
+        }
     }
 
     /**
@@ -6066,7 +6118,9 @@ public class ReconciliationLogger implements Serializable {
      * @since Log4j-2.6
      */
     public void fatalCr(final Reconciliation reconciliation, final String message, final Object p0, final Object p1) {
-        logger.logIfEnabled(FQCN, FATAL, reconciliation.getMarker(), reconciliation.toString() + ": " + message, p0, p1);
+        if (logger.isEnabled(FATAL, reconciliation.getMarker())) {
+            logger.logIfEnabled(FQCN, FATAL, reconciliation.getMarker(), reconciliation.toString() + ": " + message, p0, p1);
+        }
     }
 
     /**
@@ -6080,7 +6134,9 @@ public class ReconciliationLogger implements Serializable {
      * @since Log4j-2.6
      */
     public void fatalCr(final Reconciliation reconciliation, final String message, final Object p0, final Object p1, final Object p2) {
-        logger.logIfEnabled(FQCN, FATAL, reconciliation.getMarker(), reconciliation.toString() + ": " + message, p0, p1, p2);
+        if (logger.isEnabled(FATAL, reconciliation.getMarker())) {
+            logger.logIfEnabled(FQCN, FATAL, reconciliation.getMarker(), reconciliation.toString() + ": " + message, p0, p1, p2);
+        }
     }
 
     /**
@@ -6096,7 +6152,9 @@ public class ReconciliationLogger implements Serializable {
      */
     public void fatalCr(final Reconciliation reconciliation, final String message, final Object p0, final Object p1, final Object p2,
                       final Object p3) {
-        logger.logIfEnabled(FQCN, FATAL, reconciliation.getMarker(), reconciliation.toString() + ": " + message, p0, p1, p2, p3);
+        if (logger.isEnabled(FATAL, reconciliation.getMarker())) {
+            logger.logIfEnabled(FQCN, FATAL, reconciliation.getMarker(), reconciliation.toString() + ": " + message, p0, p1, p2, p3);
+        }
     }
 
     /**
@@ -6113,7 +6171,9 @@ public class ReconciliationLogger implements Serializable {
      */
     public void fatalCr(final Reconciliation reconciliation, final String message, final Object p0, final Object p1, final Object p2,
                       final Object p3, final Object p4) {
-        logger.logIfEnabled(FQCN, FATAL, reconciliation.getMarker(), reconciliation.toString() + ": " + message, p0, p1, p2, p3, p4);
+        if (logger.isEnabled(FATAL, reconciliation.getMarker())) {
+            logger.logIfEnabled(FQCN, FATAL, reconciliation.getMarker(), reconciliation.toString() + ": " + message, p0, p1, p2, p3, p4);
+        }
     }
 
     /**
@@ -6131,7 +6191,9 @@ public class ReconciliationLogger implements Serializable {
      */
     public void fatalCr(final Reconciliation reconciliation, final String message, final Object p0, final Object p1, final Object p2,
                       final Object p3, final Object p4, final Object p5) {
-        logger.logIfEnabled(FQCN, FATAL, reconciliation.getMarker(), reconciliation.toString() + ": " + message, p0, p1, p2, p3, p4, p5);
+        if (logger.isEnabled(FATAL, reconciliation.getMarker())) {
+            logger.logIfEnabled(FQCN, FATAL, reconciliation.getMarker(), reconciliation.toString() + ": " + message, p0, p1, p2, p3, p4, p5);
+        }
     }
 
     /**
@@ -6150,7 +6212,9 @@ public class ReconciliationLogger implements Serializable {
      */
     public void fatalCr(final Reconciliation reconciliation, final String message, final Object p0, final Object p1, final Object p2,
                       final Object p3, final Object p4, final Object p5, final Object p6) {
-        logger.logIfEnabled(FQCN, FATAL, reconciliation.getMarker(), reconciliation.toString() + ": " + message, p0, p1, p2, p3, p4, p5, p6);
+        if (logger.isEnabled(FATAL, reconciliation.getMarker())) {
+            logger.logIfEnabled(FQCN, FATAL, reconciliation.getMarker(), reconciliation.toString() + ": " + message, p0, p1, p2, p3, p4, p5, p6);
+        }
     }
 
     /**
@@ -6171,7 +6235,9 @@ public class ReconciliationLogger implements Serializable {
     public void fatalCr(final Reconciliation reconciliation, final String message, final Object p0, final Object p1, final Object p2,
                       final Object p3, final Object p4, final Object p5, final Object p6,
                       final Object p7) {
-        logger.logIfEnabled(FQCN, FATAL, reconciliation.getMarker(), reconciliation.toString() + ": " + message, p0, p1, p2, p3, p4, p5, p6, p7);
+        if (logger.isEnabled(FATAL, reconciliation.getMarker())) {
+            logger.logIfEnabled(FQCN, FATAL, reconciliation.getMarker(), reconciliation.toString() + ": " + message, p0, p1, p2, p3, p4, p5, p6, p7);
+        }
     }
 
     /**
@@ -6193,7 +6259,9 @@ public class ReconciliationLogger implements Serializable {
     public void fatalCr(final Reconciliation reconciliation, final String message, final Object p0, final Object p1, final Object p2,
                       final Object p3, final Object p4, final Object p5, final Object p6,
                       final Object p7, final Object p8) {
-        logger.logIfEnabled(FQCN, FATAL, reconciliation.getMarker(), reconciliation.toString() + ": " + message, p0, p1, p2, p3, p4, p5, p6, p7, p8);
+        if (logger.isEnabled(FATAL, reconciliation.getMarker())) {
+            logger.logIfEnabled(FQCN, FATAL, reconciliation.getMarker(), reconciliation.toString() + ": " + message, p0, p1, p2, p3, p4, p5, p6, p7, p8);
+        }
     }
 
     /**
@@ -6216,7 +6284,9 @@ public class ReconciliationLogger implements Serializable {
     public void fatalCr(final Reconciliation reconciliation, final String message, final Object p0, final Object p1, final Object p2,
                       final Object p3, final Object p4, final Object p5, final Object p6,
                       final Object p7, final Object p8, final Object p9) {
-        logger.logIfEnabled(FQCN, FATAL, reconciliation.getMarker(), reconciliation.toString() + ": " + message, p0, p1, p2, p3, p4, p5, p6, p7, p8, p9);
+        if (logger.isEnabled(FATAL, reconciliation.getMarker())) {
+            logger.logIfEnabled(FQCN, FATAL, reconciliation.getMarker(), reconciliation.toString() + ": " + message, p0, p1, p2, p3, p4, p5, p6, p7, p8, p9);
+        }
     }
 
     /**
@@ -6228,7 +6298,9 @@ public class ReconciliationLogger implements Serializable {
      * @param t the exception to log, including its stack trace.
      */
     public void fatalCr(final Reconciliation reconciliation, final String message, final Throwable t) {
-        logger.logIfEnabled(FQCN, FATAL, reconciliation.getMarker(), reconciliation.toString() + ": " + message, t);
+        if (logger.isEnabled(FATAL, reconciliation.getMarker())) {
+            logger.logIfEnabled(FQCN, FATAL, reconciliation.getMarker(), reconciliation.toString() + ": " + message, t);
+        }
     }
 
     /**
@@ -6254,7 +6326,9 @@ public class ReconciliationLogger implements Serializable {
      * @since Log4j-2.4
      */
     public void fatalCr(final Reconciliation reconciliation, final String message, final Supplier<?>... paramSuppliers) {
-        logger.logIfEnabled(FQCN, FATAL, reconciliation.getMarker(), reconciliation.toString() + ": " + message, paramSuppliers);
+        if (logger.isEnabled(FATAL, reconciliation.getMarker())) {
+            logger.logIfEnabled(FQCN, FATAL, reconciliation.getMarker(), reconciliation.toString() + ": " + message, paramSuppliers);
+        }
     }
 
     /**
@@ -6328,7 +6402,9 @@ public class ReconciliationLogger implements Serializable {
      * @param message the message object to log.
      */
     public void errorCr(final Reconciliation reconciliation, final Object message) {
-        logger.logIfEnabled(FQCN, ERROR, reconciliation.getMarker(), reconciliation.toString() + ": " + message, (Throwable) null);
+        if (logger.isEnabled(ERROR, reconciliation.getMarker())) {
+            logger.logIfEnabled(FQCN, ERROR, reconciliation.getMarker(), reconciliation.toString() + ": " + message, (Throwable) null);
+        }
     }
 
     /**
@@ -6339,7 +6415,9 @@ public class ReconciliationLogger implements Serializable {
      * @since Log4j-2.6
      */
     public void errorCr(final Reconciliation reconciliation, final CharSequence message) {
-        logger.logIfEnabled(FQCN, ERROR, reconciliation.getMarker(), reconciliation.toString() + ": " + message, (Throwable) null);
+        if (logger.isEnabled(ERROR, reconciliation.getMarker())) {
+            logger.logIfEnabled(FQCN, ERROR, reconciliation.getMarker(), reconciliation.toString() + ": " + message, (Throwable) null);
+        }
     }
 
     /**
@@ -6351,7 +6429,9 @@ public class ReconciliationLogger implements Serializable {
      * @param t the exception to log, including its stack trace.
      */
     public void errorCr(final Reconciliation reconciliation, final Object message, final Throwable t) {
-        logger.logIfEnabled(FQCN, ERROR, reconciliation.getMarker(), reconciliation.toString() + ": " + message, t);
+        if (logger.isEnabled(ERROR, reconciliation.getMarker())) {
+            logger.logIfEnabled(FQCN, ERROR, reconciliation.getMarker(), reconciliation.toString() + ": " + message, t);
+        }
     }
 
     /**
@@ -6364,7 +6444,9 @@ public class ReconciliationLogger implements Serializable {
      * @since Log4j-2.6
      */
     public void errorCr(final Reconciliation reconciliation, final CharSequence message, final Throwable t) {
-        logger.logIfEnabled(FQCN, ERROR, reconciliation.getMarker(), reconciliation.toString() + ": " + message, t);
+        if (logger.isEnabled(ERROR, reconciliation.getMarker())) {
+            logger.logIfEnabled(FQCN, ERROR, reconciliation.getMarker(), reconciliation.toString() + ": " + message, t);
+        }
     }
 
     /**
@@ -6374,7 +6456,9 @@ public class ReconciliationLogger implements Serializable {
      * @param message the message object to log.
      */
     public void errorCr(final Reconciliation reconciliation, final String message) {
-        logger.logIfEnabled(FQCN, ERROR, reconciliation.getMarker(), reconciliation.toString() + ": " + message, (Throwable) null);
+        if (logger.isEnabled(ERROR, reconciliation.getMarker())) {
+            logger.logIfEnabled(FQCN, ERROR, reconciliation.getMarker(), reconciliation.toString() + ": " + message, (Throwable) null);
+        }
     }
 
     /**
@@ -6385,7 +6469,9 @@ public class ReconciliationLogger implements Serializable {
      * @param params parameters to the message.
      */
     public void errorCr(final Reconciliation reconciliation, final String message, final Object... params) {
-        logger.logIfEnabled(FQCN, ERROR, reconciliation.getMarker(), reconciliation.toString() + ": " + message, params);
+        if (logger.isEnabled(ERROR, reconciliation.getMarker())) {
+            logger.logIfEnabled(FQCN, ERROR, reconciliation.getMarker(), reconciliation.toString() + ": " + message, params);
+        }
     }
 
     /**
@@ -6397,7 +6483,9 @@ public class ReconciliationLogger implements Serializable {
      * @since Log4j-2.6
      */
     public void errorCr(final Reconciliation reconciliation, final String message, final Object p0) {
-        logger.logIfEnabled(FQCN, ERROR, reconciliation.getMarker(), reconciliation.toString() + ": " + message, p0);
+        if (logger.isEnabled(ERROR, reconciliation.getMarker())) {
+            logger.logIfEnabled(FQCN, ERROR, reconciliation.getMarker(), reconciliation.toString() + ": " + message, p0);
+        }
     }
 
     /**
@@ -6410,7 +6498,9 @@ public class ReconciliationLogger implements Serializable {
      * @since Log4j-2.6
      */
     public void errorCr(final Reconciliation reconciliation, final String message, final Object p0, final Object p1) {
-        logger.logIfEnabled(FQCN, ERROR, reconciliation.getMarker(), reconciliation.toString() + ": " + message, p0, p1);
+        if (logger.isEnabled(ERROR, reconciliation.getMarker())) {
+            logger.logIfEnabled(FQCN, ERROR, reconciliation.getMarker(), reconciliation.toString() + ": " + message, p0, p1);
+        }
     }
 
     /**
@@ -6424,7 +6514,9 @@ public class ReconciliationLogger implements Serializable {
      * @since Log4j-2.6
      */
     public void errorCr(final Reconciliation reconciliation, final String message, final Object p0, final Object p1, final Object p2) {
-        logger.logIfEnabled(FQCN, ERROR, reconciliation.getMarker(), reconciliation.toString() + ": " + message, p0, p1, p2);
+        if (logger.isEnabled(ERROR, reconciliation.getMarker())) {
+            logger.logIfEnabled(FQCN, ERROR, reconciliation.getMarker(), reconciliation.toString() + ": " + message, p0, p1, p2);
+        }
     }
 
     /**
@@ -6440,7 +6532,9 @@ public class ReconciliationLogger implements Serializable {
      */
     public void errorCr(final Reconciliation reconciliation, final String message, final Object p0, final Object p1, final Object p2,
                       final Object p3) {
-        logger.logIfEnabled(FQCN, ERROR, reconciliation.getMarker(), reconciliation.toString() + ": " + message, p0, p1, p2, p3);
+        if (logger.isEnabled(ERROR, reconciliation.getMarker())) {
+            logger.logIfEnabled(FQCN, ERROR, reconciliation.getMarker(), reconciliation.toString() + ": " + message, p0, p1, p2, p3);
+        }
     }
 
     /**
@@ -6457,7 +6551,9 @@ public class ReconciliationLogger implements Serializable {
      */
     public void errorCr(final Reconciliation reconciliation, final String message, final Object p0, final Object p1, final Object p2,
                       final Object p3, final Object p4) {
-        logger.logIfEnabled(FQCN, ERROR, reconciliation.getMarker(), reconciliation.toString() + ": " + message, p0, p1, p2, p3, p4);
+        if (logger.isEnabled(ERROR, reconciliation.getMarker())) {
+            logger.logIfEnabled(FQCN, ERROR, reconciliation.getMarker(), reconciliation.toString() + ": " + message, p0, p1, p2, p3, p4);
+        }
     }
 
     /**
@@ -6475,7 +6571,9 @@ public class ReconciliationLogger implements Serializable {
      */
     public void errorCr(final Reconciliation reconciliation, final String message, final Object p0, final Object p1, final Object p2,
                       final Object p3, final Object p4, final Object p5) {
-        logger.logIfEnabled(FQCN, ERROR, reconciliation.getMarker(), reconciliation.toString() + ": " + message, p0, p1, p2, p3, p4, p5);
+        if (logger.isEnabled(ERROR, reconciliation.getMarker())) {
+            logger.logIfEnabled(FQCN, ERROR, reconciliation.getMarker(), reconciliation.toString() + ": " + message, p0, p1, p2, p3, p4, p5);
+        }
     }
 
     /**
@@ -6494,7 +6592,9 @@ public class ReconciliationLogger implements Serializable {
      */
     public void errorCr(final Reconciliation reconciliation, final String message, final Object p0, final Object p1, final Object p2,
                       final Object p3, final Object p4, final Object p5, final Object p6) {
-        logger.logIfEnabled(FQCN, ERROR, reconciliation.getMarker(), reconciliation.toString() + ": " + message, p0, p1, p2, p3, p4, p5, p6);
+        if (logger.isEnabled(ERROR, reconciliation.getMarker())) {
+            logger.logIfEnabled(FQCN, ERROR, reconciliation.getMarker(), reconciliation.toString() + ": " + message, p0, p1, p2, p3, p4, p5, p6);
+        }
     }
 
     /**
@@ -6515,7 +6615,9 @@ public class ReconciliationLogger implements Serializable {
     public void errorCr(final Reconciliation reconciliation, final String message, final Object p0, final Object p1, final Object p2,
                       final Object p3, final Object p4, final Object p5, final Object p6,
                       final Object p7) {
-        logger.logIfEnabled(FQCN, ERROR, reconciliation.getMarker(), reconciliation.toString() + ": " + message, p0, p1, p2, p3, p4, p5, p6, p7);
+        if (logger.isEnabled(ERROR, reconciliation.getMarker())) {
+            logger.logIfEnabled(FQCN, ERROR, reconciliation.getMarker(), reconciliation.toString() + ": " + message, p0, p1, p2, p3, p4, p5, p6, p7);
+        }
     }
 
     /**
@@ -6537,7 +6639,9 @@ public class ReconciliationLogger implements Serializable {
     public void errorCr(final Reconciliation reconciliation, final String message, final Object p0, final Object p1, final Object p2,
                       final Object p3, final Object p4, final Object p5, final Object p6,
                       final Object p7, final Object p8) {
-        logger.logIfEnabled(FQCN, ERROR, reconciliation.getMarker(), reconciliation.toString() + ": " + message, p0, p1, p2, p3, p4, p5, p6, p7, p8);
+        if (logger.isEnabled(ERROR, reconciliation.getMarker())) {
+            logger.logIfEnabled(FQCN, ERROR, reconciliation.getMarker(), reconciliation.toString() + ": " + message, p0, p1, p2, p3, p4, p5, p6, p7, p8);
+        }
     }
 
     /**
@@ -6560,7 +6664,9 @@ public class ReconciliationLogger implements Serializable {
     public void errorCr(final Reconciliation reconciliation, final String message, final Object p0, final Object p1, final Object p2,
                       final Object p3, final Object p4, final Object p5, final Object p6,
                       final Object p7, final Object p8, final Object p9) {
-        logger.logIfEnabled(FQCN, ERROR, reconciliation.getMarker(), reconciliation.toString() + ": " + message, p0, p1, p2, p3, p4, p5, p6, p7, p8, p9);
+        if (logger.isEnabled(ERROR, reconciliation.getMarker())) {
+            logger.logIfEnabled(FQCN, ERROR, reconciliation.getMarker(), reconciliation.toString() + ": " + message, p0, p1, p2, p3, p4, p5, p6, p7, p8, p9);
+        }
     }
 
     /**
@@ -6572,7 +6678,9 @@ public class ReconciliationLogger implements Serializable {
      * @param t the exception to log, including its stack trace.
      */
     public void errorCr(final Reconciliation reconciliation, final String message, final Throwable t) {
-        logger.logIfEnabled(FQCN, ERROR, reconciliation.getMarker(), reconciliation.toString() + ": " + message, t);
+        if (logger.isEnabled(ERROR, reconciliation.getMarker())) {
+            logger.logIfEnabled(FQCN, ERROR, reconciliation.getMarker(), reconciliation.toString() + ": " + message, t);
+        }
     }
 
     /**
@@ -6598,7 +6706,9 @@ public class ReconciliationLogger implements Serializable {
      * @since Log4j-2.4
      */
     public void errorCr(final Reconciliation reconciliation, final String message, final Supplier<?>... paramSuppliers) {
-        logger.logIfEnabled(FQCN, ERROR, reconciliation.getMarker(), reconciliation.toString() + ": " + message, paramSuppliers);
+        if (logger.isEnabled(ERROR, reconciliation.getMarker())) {
+            logger.logIfEnabled(FQCN, ERROR, reconciliation.getMarker(), reconciliation.toString() + ": " + message, paramSuppliers);
+        }
     }
 
     /**
@@ -6672,7 +6782,9 @@ public class ReconciliationLogger implements Serializable {
      * @param message the message object to log.
      */
     public void warnCr(final Reconciliation reconciliation, final Object message) {
-        logger.logIfEnabled(FQCN, WARN, reconciliation.getMarker(), reconciliation.toString() + ": " + message, (Throwable) null);
+        if (logger.isEnabled(WARN, reconciliation.getMarker())) {
+            logger.logIfEnabled(FQCN, WARN, reconciliation.getMarker(), reconciliation.toString() + ": " + message, (Throwable) null);
+        }
     }
 
     /**
@@ -6683,7 +6795,9 @@ public class ReconciliationLogger implements Serializable {
      * @since Log4j-2.6
      */
     public void warnCr(final Reconciliation reconciliation, final CharSequence message) {
-        logger.logIfEnabled(FQCN, WARN, reconciliation.getMarker(), reconciliation.toString() + ": " + message, (Throwable) null);
+        if (logger.isEnabled(WARN, reconciliation.getMarker())) {
+            logger.logIfEnabled(FQCN, WARN, reconciliation.getMarker(), reconciliation.toString() + ": " + message, (Throwable) null);
+        }
     }
 
     /**
@@ -6695,7 +6809,9 @@ public class ReconciliationLogger implements Serializable {
      * @param t the exception to log, including its stack trace.
      */
     public void warnCr(final Reconciliation reconciliation, final Object message, final Throwable t) {
-        logger.logIfEnabled(FQCN, WARN, reconciliation.getMarker(), reconciliation.toString() + ": " + message, t);
+        if (logger.isEnabled(WARN, reconciliation.getMarker())) {
+            logger.logIfEnabled(FQCN, WARN, reconciliation.getMarker(), reconciliation.toString() + ": " + message, t);
+        }
     }
 
     /**
@@ -6708,7 +6824,9 @@ public class ReconciliationLogger implements Serializable {
      * @since Log4j-2.6
      */
     public void warnCr(final Reconciliation reconciliation, final CharSequence message, final Throwable t) {
-        logger.logIfEnabled(FQCN, WARN, reconciliation.getMarker(), reconciliation.toString() + ": " + message, t);
+        if (logger.isEnabled(WARN, reconciliation.getMarker())) {
+            logger.logIfEnabled(FQCN, WARN, reconciliation.getMarker(), reconciliation.toString() + ": " + message, t);
+        }
     }
 
     /**
@@ -6718,7 +6836,9 @@ public class ReconciliationLogger implements Serializable {
      * @param message the message object to log.
      */
     public void warnCr(final Reconciliation reconciliation, final String message) {
-        logger.logIfEnabled(FQCN, WARN, reconciliation.getMarker(), reconciliation.toString() + ": " + message, (Throwable) null);
+        if (logger.isEnabled(WARN, reconciliation.getMarker())) {
+            logger.logIfEnabled(FQCN, WARN, reconciliation.getMarker(), reconciliation.toString() + ": " + message, (Throwable) null);
+        }
     }
 
     /**
@@ -6729,7 +6849,9 @@ public class ReconciliationLogger implements Serializable {
      * @param params parameters to the message.
      */
     public void warnCr(final Reconciliation reconciliation, final String message, final Object... params) {
-        logger.logIfEnabled(FQCN, WARN, reconciliation.getMarker(), reconciliation.toString() + ": " + message, params);
+        if (logger.isEnabled(WARN, reconciliation.getMarker())) {
+            logger.logIfEnabled(FQCN, WARN, reconciliation.getMarker(), reconciliation.toString() + ": " + message, params);
+        }
     }
 
     /**
@@ -6741,7 +6863,9 @@ public class ReconciliationLogger implements Serializable {
      * @since Log4j-2.6
      */
     public void warnCr(final Reconciliation reconciliation, final String message, final Object p0) {
-        logger.logIfEnabled(FQCN, WARN, reconciliation.getMarker(), reconciliation.toString() + ": " + message, p0);
+        if (logger.isEnabled(WARN, reconciliation.getMarker())) {
+            logger.logIfEnabled(FQCN, WARN, reconciliation.getMarker(), reconciliation.toString() + ": " + message, p0);
+        }
     }
 
     /**
@@ -6754,7 +6878,9 @@ public class ReconciliationLogger implements Serializable {
      * @since Log4j-2.6
      */
     public void warnCr(final Reconciliation reconciliation, final String message, final Object p0, final Object p1) {
-        logger.logIfEnabled(FQCN, WARN, reconciliation.getMarker(), reconciliation.toString() + ": " + message, p0, p1);
+        if (logger.isEnabled(WARN, reconciliation.getMarker())) {
+            logger.logIfEnabled(FQCN, WARN, reconciliation.getMarker(), reconciliation.toString() + ": " + message, p0, p1);
+        }
     }
 
     /**
@@ -6768,7 +6894,9 @@ public class ReconciliationLogger implements Serializable {
      * @since Log4j-2.6
      */
     public void warnCr(final Reconciliation reconciliation, final String message, final Object p0, final Object p1, final Object p2) {
-        logger.logIfEnabled(FQCN, WARN, reconciliation.getMarker(), reconciliation.toString() + ": " + message, p0, p1, p2);
+        if (logger.isEnabled(WARN, reconciliation.getMarker())) {
+            logger.logIfEnabled(FQCN, WARN, reconciliation.getMarker(), reconciliation.toString() + ": " + message, p0, p1, p2);
+        }
     }
 
     /**
@@ -6784,7 +6912,9 @@ public class ReconciliationLogger implements Serializable {
      */
     public void warnCr(final Reconciliation reconciliation, final String message, final Object p0, final Object p1, final Object p2,
                      final Object p3) {
-        logger.logIfEnabled(FQCN, WARN, reconciliation.getMarker(), reconciliation.toString() + ": " + message, p0, p1, p2, p3);
+        if (logger.isEnabled(WARN, reconciliation.getMarker())) {
+            logger.logIfEnabled(FQCN, WARN, reconciliation.getMarker(), reconciliation.toString() + ": " + message, p0, p1, p2, p3);
+        }
     }
 
     /**
@@ -6801,7 +6931,9 @@ public class ReconciliationLogger implements Serializable {
      */
     public void warnCr(final Reconciliation reconciliation, final String message, final Object p0, final Object p1, final Object p2,
                      final Object p3, final Object p4) {
-        logger.logIfEnabled(FQCN, WARN, reconciliation.getMarker(), reconciliation.toString() + ": " + message, p0, p1, p2, p3, p4);
+        if (logger.isEnabled(WARN, reconciliation.getMarker())) {
+            logger.logIfEnabled(FQCN, WARN, reconciliation.getMarker(), reconciliation.toString() + ": " + message, p0, p1, p2, p3, p4);
+        }
     }
 
     /**
@@ -6819,7 +6951,9 @@ public class ReconciliationLogger implements Serializable {
      */
     public void warnCr(final Reconciliation reconciliation, final String message, final Object p0, final Object p1, final Object p2,
                      final Object p3, final Object p4, final Object p5) {
-        logger.logIfEnabled(FQCN, WARN, reconciliation.getMarker(), reconciliation.toString() + ": " + message, p0, p1, p2, p3, p4, p5);
+        if (logger.isEnabled(WARN, reconciliation.getMarker())) {
+            logger.logIfEnabled(FQCN, WARN, reconciliation.getMarker(), reconciliation.toString() + ": " + message, p0, p1, p2, p3, p4, p5);
+        }
     }
 
     /**
@@ -6838,7 +6972,9 @@ public class ReconciliationLogger implements Serializable {
      */
     public void warnCr(final Reconciliation reconciliation, final String message, final Object p0, final Object p1, final Object p2,
                      final Object p3, final Object p4, final Object p5, final Object p6) {
-        logger.logIfEnabled(FQCN, WARN, reconciliation.getMarker(), reconciliation.toString() + ": " + message, p0, p1, p2, p3, p4, p5, p6);
+        if (logger.isEnabled(WARN, reconciliation.getMarker())) {
+            logger.logIfEnabled(FQCN, WARN, reconciliation.getMarker(), reconciliation.toString() + ": " + message, p0, p1, p2, p3, p4, p5, p6);
+        }
     }
 
     /**
@@ -6859,7 +6995,9 @@ public class ReconciliationLogger implements Serializable {
     public void warnCr(final Reconciliation reconciliation, final String message, final Object p0, final Object p1, final Object p2,
                      final Object p3, final Object p4, final Object p5, final Object p6,
                      final Object p7) {
-        logger.logIfEnabled(FQCN, WARN, reconciliation.getMarker(), reconciliation.toString() + ": " + message, p0, p1, p2, p3, p4, p5, p6, p7);
+        if (logger.isEnabled(WARN, reconciliation.getMarker())) {
+            logger.logIfEnabled(FQCN, WARN, reconciliation.getMarker(), reconciliation.toString() + ": " + message, p0, p1, p2, p3, p4, p5, p6, p7);
+        }
     }
 
     /**
@@ -6881,7 +7019,9 @@ public class ReconciliationLogger implements Serializable {
     public void warnCr(final Reconciliation reconciliation, final String message, final Object p0, final Object p1, final Object p2,
                      final Object p3, final Object p4, final Object p5, final Object p6,
                      final Object p7, final Object p8) {
-        logger.logIfEnabled(FQCN, WARN, reconciliation.getMarker(), reconciliation.toString() + ": " + message, p0, p1, p2, p3, p4, p5, p6, p7, p8);
+        if (logger.isEnabled(WARN, reconciliation.getMarker())) {
+            logger.logIfEnabled(FQCN, WARN, reconciliation.getMarker(), reconciliation.toString() + ": " + message, p0, p1, p2, p3, p4, p5, p6, p7, p8);
+        }
     }
 
     /**
@@ -6904,7 +7044,9 @@ public class ReconciliationLogger implements Serializable {
     public void warnCr(final Reconciliation reconciliation, final String message, final Object p0, final Object p1, final Object p2,
                      final Object p3, final Object p4, final Object p5, final Object p6,
                      final Object p7, final Object p8, final Object p9) {
-        logger.logIfEnabled(FQCN, WARN, reconciliation.getMarker(), reconciliation.toString() + ": " + message, p0, p1, p2, p3, p4, p5, p6, p7, p8, p9);
+        if (logger.isEnabled(WARN, reconciliation.getMarker())) {
+            logger.logIfEnabled(FQCN, WARN, reconciliation.getMarker(), reconciliation.toString() + ": " + message, p0, p1, p2, p3, p4, p5, p6, p7, p8, p9);
+        }
     }
 
     /**
@@ -6916,7 +7058,9 @@ public class ReconciliationLogger implements Serializable {
      * @param t the exception to log, including its stack trace.
      */
     public void warnCr(final Reconciliation reconciliation, final String message, final Throwable t) {
-        logger.logIfEnabled(FQCN, WARN, reconciliation.getMarker(), reconciliation.toString() + ": " + message, t);
+        if (logger.isEnabled(WARN, reconciliation.getMarker())) {
+            logger.logIfEnabled(FQCN, WARN, reconciliation.getMarker(), reconciliation.toString() + ": " + message, t);
+        }
     }
 
     /**
@@ -6966,7 +7110,9 @@ public class ReconciliationLogger implements Serializable {
      * @since Log4j-2.4
      */
     public void warnCr(final Reconciliation reconciliation, final String message, final Supplier<?>... paramSuppliers) {
-        logger.logIfEnabled(FQCN, WARN, reconciliation.getMarker(), reconciliation.toString() + ": " + message, paramSuppliers);
+        if (logger.isEnabled(WARN, reconciliation.getMarker())) {
+            logger.logIfEnabled(FQCN, WARN, reconciliation.getMarker(), reconciliation.toString() + ": " + message, paramSuppliers);
+        }
     }
 
     /**
@@ -7040,7 +7186,9 @@ public class ReconciliationLogger implements Serializable {
      * @param message the message object to log.
      */
     public void infoCr(final Reconciliation reconciliation, final Object message) {
-        logger.logIfEnabled(FQCN, INFO, reconciliation.getMarker(), reconciliation.toString() + ": " + message, (Throwable) null);
+        if (logger.isEnabled(INFO, reconciliation.getMarker())) {
+            logger.logIfEnabled(FQCN, INFO, reconciliation.getMarker(), reconciliation.toString() + ": " + message, (Throwable) null);
+        }
     }
 
     /**
@@ -7051,7 +7199,9 @@ public class ReconciliationLogger implements Serializable {
      * @since Log4j-2.6
      */
     public void infoCr(final Reconciliation reconciliation, final CharSequence message) {
-        logger.logIfEnabled(FQCN, INFO, reconciliation.getMarker(), reconciliation.toString() + ": " + message, (Throwable) null);
+        if (logger.isEnabled(INFO, reconciliation.getMarker())) {
+            logger.logIfEnabled(FQCN, INFO, reconciliation.getMarker(), reconciliation.toString() + ": " + message, (Throwable) null);
+        }
     }
 
     /**
@@ -7063,7 +7213,9 @@ public class ReconciliationLogger implements Serializable {
      * @param t the exception to log, including its stack trace.
      */
     public void infoCr(final Reconciliation reconciliation, final Object message, final Throwable t) {
-        logger.logIfEnabled(FQCN, INFO, reconciliation.getMarker(), reconciliation.toString() + ": " + message, t);
+        if (logger.isEnabled(INFO, reconciliation.getMarker())) {
+            logger.logIfEnabled(FQCN, INFO, reconciliation.getMarker(), reconciliation.toString() + ": " + message, t);
+        }
     }
 
     /**
@@ -7076,7 +7228,9 @@ public class ReconciliationLogger implements Serializable {
      * @since Log4j-2.6
      */
     public void infoCr(final Reconciliation reconciliation, final CharSequence message, final Throwable t) {
-        logger.logIfEnabled(FQCN, INFO, reconciliation.getMarker(), reconciliation.toString() + ": " + message, t);
+        if (logger.isEnabled(INFO, reconciliation.getMarker())) {
+            logger.logIfEnabled(FQCN, INFO, reconciliation.getMarker(), reconciliation.toString() + ": " + message, t);
+        }
     }
 
     /**
@@ -7086,7 +7240,9 @@ public class ReconciliationLogger implements Serializable {
      * @param message the message object to log.
      */
     public void infoCr(final Reconciliation reconciliation, final String message) {
-        logger.logIfEnabled(FQCN, INFO, reconciliation.getMarker(), reconciliation.toString() + ": " + message, (Throwable) null);
+        if (logger.isEnabled(INFO, reconciliation.getMarker())) {
+            logger.logIfEnabled(FQCN, INFO, reconciliation.getMarker(), reconciliation.toString() + ": " + message, (Throwable) null);
+        }
     }
 
     /**
@@ -7097,7 +7253,9 @@ public class ReconciliationLogger implements Serializable {
      * @param params parameters to the message.
      */
     public void infoCr(final Reconciliation reconciliation, final String message, final Object... params) {
-        logger.logIfEnabled(FQCN, INFO, reconciliation.getMarker(), reconciliation.toString() + ": " + message, params);
+        if (logger.isEnabled(INFO, reconciliation.getMarker())) {
+            logger.logIfEnabled(FQCN, INFO, reconciliation.getMarker(), reconciliation.toString() + ": " + message, params);
+        }
     }
 
     /**
@@ -7109,7 +7267,9 @@ public class ReconciliationLogger implements Serializable {
      * @since Log4j-2.6
      */
     public void infoCr(final Reconciliation reconciliation, final String message, final Object p0) {
-        logger.logIfEnabled(FQCN, INFO, reconciliation.getMarker(), reconciliation.toString() + ": " + message, p0);
+        if (logger.isEnabled(INFO, reconciliation.getMarker())) {
+            logger.logIfEnabled(FQCN, INFO, reconciliation.getMarker(), reconciliation.toString() + ": " + message, p0);
+        }
     }
 
     /**
@@ -7122,7 +7282,9 @@ public class ReconciliationLogger implements Serializable {
      * @since Log4j-2.6
      */
     public void infoCr(final Reconciliation reconciliation, final String message, final Object p0, final Object p1) {
-        logger.logIfEnabled(FQCN, INFO, reconciliation.getMarker(), reconciliation.toString() + ": " + message, p0, p1);
+        if (logger.isEnabled(INFO, reconciliation.getMarker())) {
+            logger.logIfEnabled(FQCN, INFO, reconciliation.getMarker(), reconciliation.toString() + ": " + message, p0, p1);
+        }
     }
 
     /**
@@ -7136,7 +7298,9 @@ public class ReconciliationLogger implements Serializable {
      * @since Log4j-2.6
      */
     public void infoCr(final Reconciliation reconciliation, final String message, final Object p0, final Object p1, final Object p2) {
-        logger.logIfEnabled(FQCN, INFO, reconciliation.getMarker(), reconciliation.toString() + ": " + message, p0, p1, p2);
+        if (logger.isEnabled(INFO, reconciliation.getMarker())) {
+            logger.logIfEnabled(FQCN, INFO, reconciliation.getMarker(), reconciliation.toString() + ": " + message, p0, p1, p2);
+        }
     }
 
     /**
@@ -7152,7 +7316,9 @@ public class ReconciliationLogger implements Serializable {
      */
     public void infoCr(final Reconciliation reconciliation, final String message, final Object p0, final Object p1, final Object p2,
                      final Object p3) {
-        logger.logIfEnabled(FQCN, INFO, reconciliation.getMarker(), reconciliation.toString() + ": " + message, p0, p1, p2, p3);
+        if (logger.isEnabled(INFO, reconciliation.getMarker())) {
+            logger.logIfEnabled(FQCN, INFO, reconciliation.getMarker(), reconciliation.toString() + ": " + message, p0, p1, p2, p3);
+        }
     }
 
     /**
@@ -7169,7 +7335,9 @@ public class ReconciliationLogger implements Serializable {
      */
     public void infoCr(final Reconciliation reconciliation, final String message, final Object p0, final Object p1, final Object p2,
                      final Object p3, final Object p4) {
-        logger.logIfEnabled(FQCN, INFO, reconciliation.getMarker(), reconciliation.toString() + ": " + message, p0, p1, p2, p3, p4);
+        if (logger.isEnabled(INFO, reconciliation.getMarker())) {
+            logger.logIfEnabled(FQCN, INFO, reconciliation.getMarker(), reconciliation.toString() + ": " + message, p0, p1, p2, p3, p4);
+        }
     }
 
     /**
@@ -7187,7 +7355,9 @@ public class ReconciliationLogger implements Serializable {
      */
     public void infoCr(final Reconciliation reconciliation, final String message, final Object p0, final Object p1, final Object p2,
                      final Object p3, final Object p4, final Object p5) {
-        logger.logIfEnabled(FQCN, INFO, reconciliation.getMarker(), reconciliation.toString() + ": " + message, p0, p1, p2, p3, p4, p5);
+        if (logger.isEnabled(INFO, reconciliation.getMarker())) {
+            logger.logIfEnabled(FQCN, INFO, reconciliation.getMarker(), reconciliation.toString() + ": " + message, p0, p1, p2, p3, p4, p5);
+        }
     }
 
     /**
@@ -7206,7 +7376,9 @@ public class ReconciliationLogger implements Serializable {
      */
     public void infoCr(final Reconciliation reconciliation, final String message, final Object p0, final Object p1, final Object p2,
                      final Object p3, final Object p4, final Object p5, final Object p6) {
-        logger.logIfEnabled(FQCN, INFO, reconciliation.getMarker(), reconciliation.toString() + ": " + message, p0, p1, p2, p3, p4, p5, p6);
+        if (logger.isEnabled(INFO, reconciliation.getMarker())) {
+            logger.logIfEnabled(FQCN, INFO, reconciliation.getMarker(), reconciliation.toString() + ": " + message, p0, p1, p2, p3, p4, p5, p6);
+        }
     }
 
     /**
@@ -7227,7 +7399,9 @@ public class ReconciliationLogger implements Serializable {
     public void infoCr(final Reconciliation reconciliation, final String message, final Object p0, final Object p1, final Object p2,
                      final Object p3, final Object p4, final Object p5, final Object p6,
                      final Object p7) {
-        logger.logIfEnabled(FQCN, INFO, reconciliation.getMarker(), reconciliation.toString() + ": " + message, p0, p1, p2, p3, p4, p5, p6, p7);
+        if (logger.isEnabled(INFO, reconciliation.getMarker())) {
+            logger.logIfEnabled(FQCN, INFO, reconciliation.getMarker(), reconciliation.toString() + ": " + message, p0, p1, p2, p3, p4, p5, p6, p7);
+        }
     }
 
     /**
@@ -7249,7 +7423,9 @@ public class ReconciliationLogger implements Serializable {
     public void infoCr(final Reconciliation reconciliation, final String message, final Object p0, final Object p1, final Object p2,
                      final Object p3, final Object p4, final Object p5, final Object p6,
                      final Object p7, final Object p8) {
-        logger.logIfEnabled(FQCN, INFO, reconciliation.getMarker(), reconciliation.toString() + ": " + message, p0, p1, p2, p3, p4, p5, p6, p7, p8);
+        if (logger.isEnabled(INFO, reconciliation.getMarker())) {
+            logger.logIfEnabled(FQCN, INFO, reconciliation.getMarker(), reconciliation.toString() + ": " + message, p0, p1, p2, p3, p4, p5, p6, p7, p8);
+        }
     }
 
     /**
@@ -7272,7 +7448,9 @@ public class ReconciliationLogger implements Serializable {
     public void infoCr(final Reconciliation reconciliation, final String message, final Object p0, final Object p1, final Object p2,
                      final Object p3, final Object p4, final Object p5, final Object p6,
                      final Object p7, final Object p8, final Object p9) {
-        logger.logIfEnabled(FQCN, INFO, reconciliation.getMarker(), reconciliation.toString() + ": " + message, p0, p1, p2, p3, p4, p5, p6, p7, p8, p9);
+        if (logger.isEnabled(INFO, reconciliation.getMarker())) {
+            logger.logIfEnabled(FQCN, INFO, reconciliation.getMarker(), reconciliation.toString() + ": " + message, p0, p1, p2, p3, p4, p5, p6, p7, p8, p9);
+        }
     }
 
     /**
@@ -7284,7 +7462,9 @@ public class ReconciliationLogger implements Serializable {
      * @param t the exception to log, including its stack trace.
      */
     public void infoCr(final Reconciliation reconciliation, final String message, final Throwable t) {
-        logger.logIfEnabled(FQCN, INFO, reconciliation.getMarker(), reconciliation.toString() + ": " + message, t);
+        if (logger.isEnabled(INFO, reconciliation.getMarker())) {
+            logger.logIfEnabled(FQCN, INFO, reconciliation.getMarker(), reconciliation.toString() + ": " + message, t);
+        }
     }
 
     /**
@@ -7310,7 +7490,9 @@ public class ReconciliationLogger implements Serializable {
      * @since Log4j-2.4
      */
     public void infoCr(final Reconciliation reconciliation, final String message, final Supplier<?>... paramSuppliers) {
-        logger.logIfEnabled(FQCN, INFO, reconciliation.getMarker(), reconciliation.toString() + ": " + message, paramSuppliers);
+        if (logger.isEnabled(INFO, reconciliation.getMarker())) {
+            logger.logIfEnabled(FQCN, INFO, reconciliation.getMarker(), reconciliation.toString() + ": " + message, paramSuppliers);
+        }
     }
 
     /**
@@ -7384,7 +7566,9 @@ public class ReconciliationLogger implements Serializable {
      * @param message the message object to log.
      */
     public void debugCr(final Reconciliation reconciliation, final Object message) {
-        logger.logIfEnabled(FQCN, DEBUG, reconciliation.getMarker(), reconciliation.toString() + ": " + message, (Throwable) null);
+        if (logger.isEnabled(DEBUG, reconciliation.getMarker())) {
+            logger.logIfEnabled(FQCN, DEBUG, reconciliation.getMarker(), reconciliation.toString() + ": " + message, (Throwable) null);
+        }
     }
 
     /**
@@ -7395,7 +7579,9 @@ public class ReconciliationLogger implements Serializable {
      * @since Log4j-2.6
      */
     public void debugCr(final Reconciliation reconciliation, final CharSequence message) {
-        logger.logIfEnabled(FQCN, DEBUG, reconciliation.getMarker(), reconciliation.toString() + ": " + message, (Throwable) null);
+        if (logger.isEnabled(DEBUG, reconciliation.getMarker())) {
+            logger.logIfEnabled(FQCN, DEBUG, reconciliation.getMarker(), reconciliation.toString() + ": " + message, (Throwable) null);
+        }
     }
 
     /**
@@ -7407,7 +7593,9 @@ public class ReconciliationLogger implements Serializable {
      * @param t the exception to log, including its stack trace.
      */
     public void debugCr(final Reconciliation reconciliation, final Object message, final Throwable t) {
-        logger.logIfEnabled(FQCN, DEBUG, reconciliation.getMarker(), reconciliation.toString() + ": " + message, t);
+        if (logger.isEnabled(DEBUG, reconciliation.getMarker())) {
+            logger.logIfEnabled(FQCN, DEBUG, reconciliation.getMarker(), reconciliation.toString() + ": " + message, t);
+        }
     }
 
     /**
@@ -7420,7 +7608,9 @@ public class ReconciliationLogger implements Serializable {
      * @since Log4j-2.6
      */
     public void debugCr(final Reconciliation reconciliation, final CharSequence message, final Throwable t) {
-        logger.logIfEnabled(FQCN, DEBUG, reconciliation.getMarker(), reconciliation.toString() + ": " + message, t);
+        if (logger.isEnabled(DEBUG, reconciliation.getMarker())) {
+            logger.logIfEnabled(FQCN, DEBUG, reconciliation.getMarker(), reconciliation.toString() + ": " + message, t);
+        }
     }
 
     /**
@@ -7430,7 +7620,9 @@ public class ReconciliationLogger implements Serializable {
      * @param message the message object to log.
      */
     public void debugCr(final Reconciliation reconciliation, final String message) {
-        logger.logIfEnabled(FQCN, DEBUG, reconciliation.getMarker(), reconciliation.toString() + ": " + message, (Throwable) null);
+        if (logger.isEnabled(DEBUG, reconciliation.getMarker())) {
+            logger.logIfEnabled(FQCN, DEBUG, reconciliation.getMarker(), reconciliation.toString() + ": " + message, (Throwable) null);
+        }
     }
 
     /**
@@ -7441,7 +7633,9 @@ public class ReconciliationLogger implements Serializable {
      * @param params parameters to the message.
      */
     public void debugCr(final Reconciliation reconciliation, final String message, final Object... params) {
-        logger.logIfEnabled(FQCN, DEBUG, reconciliation.getMarker(), reconciliation.toString() + ": " + message, params);
+        if (logger.isEnabled(DEBUG, reconciliation.getMarker())) {
+            logger.logIfEnabled(FQCN, DEBUG, reconciliation.getMarker(), reconciliation.toString() + ": " + message, params);
+        }
     }
 
     /**
@@ -7453,7 +7647,9 @@ public class ReconciliationLogger implements Serializable {
      * @since Log4j-2.6
      */
     public void debugCr(final Reconciliation reconciliation, final String message, final Object p0) {
-        logger.logIfEnabled(FQCN, DEBUG, reconciliation.getMarker(), reconciliation.toString() + ": " + message, p0);
+        if (logger.isEnabled(DEBUG, reconciliation.getMarker())) {
+            logger.logIfEnabled(FQCN, DEBUG, reconciliation.getMarker(), reconciliation.toString() + ": " + message, p0);
+        }
     }
 
     /**
@@ -7466,7 +7662,9 @@ public class ReconciliationLogger implements Serializable {
      * @since Log4j-2.6
      */
     public void debugCr(final Reconciliation reconciliation, final String message, final Object p0, final Object p1) {
-        logger.logIfEnabled(FQCN, DEBUG, reconciliation.getMarker(), reconciliation.toString() + ": " + message, p0, p1);
+        if (logger.isEnabled(DEBUG, reconciliation.getMarker())) {
+            logger.logIfEnabled(FQCN, DEBUG, reconciliation.getMarker(), reconciliation.toString() + ": " + message, p0, p1);
+        }
     }
 
     /**
@@ -7480,7 +7678,9 @@ public class ReconciliationLogger implements Serializable {
      * @since Log4j-2.6
      */
     public void debugCr(final Reconciliation reconciliation, final String message, final Object p0, final Object p1, final Object p2) {
-        logger.logIfEnabled(FQCN, DEBUG, reconciliation.getMarker(), reconciliation.toString() + ": " + message, p0, p1, p2);
+        if (logger.isEnabled(DEBUG, reconciliation.getMarker())) {
+            logger.logIfEnabled(FQCN, DEBUG, reconciliation.getMarker(), reconciliation.toString() + ": " + message, p0, p1, p2);
+        }
     }
 
     /**
@@ -7496,7 +7696,9 @@ public class ReconciliationLogger implements Serializable {
      */
     public void debugCr(final Reconciliation reconciliation, final String message, final Object p0, final Object p1, final Object p2,
                       final Object p3) {
-        logger.logIfEnabled(FQCN, DEBUG, reconciliation.getMarker(), reconciliation.toString() + ": " + message, p0, p1, p2, p3);
+        if (logger.isEnabled(DEBUG, reconciliation.getMarker())) {
+            logger.logIfEnabled(FQCN, DEBUG, reconciliation.getMarker(), reconciliation.toString() + ": " + message, p0, p1, p2, p3);
+        }
     }
 
     /**
@@ -7513,7 +7715,9 @@ public class ReconciliationLogger implements Serializable {
      */
     public void debugCr(final Reconciliation reconciliation, final String message, final Object p0, final Object p1, final Object p2,
                       final Object p3, final Object p4) {
-        logger.logIfEnabled(FQCN, DEBUG, reconciliation.getMarker(), reconciliation.toString() + ": " + message, p0, p1, p2, p3, p4);
+        if (logger.isEnabled(DEBUG, reconciliation.getMarker())) {
+            logger.logIfEnabled(FQCN, DEBUG, reconciliation.getMarker(), reconciliation.toString() + ": " + message, p0, p1, p2, p3, p4);
+        }
     }
 
     /**
@@ -7531,7 +7735,9 @@ public class ReconciliationLogger implements Serializable {
      */
     public void debugCr(final Reconciliation reconciliation, final String message, final Object p0, final Object p1, final Object p2,
                       final Object p3, final Object p4, final Object p5) {
-        logger.logIfEnabled(FQCN, DEBUG, reconciliation.getMarker(), reconciliation.toString() + ": " + message, p0, p1, p2, p3, p4, p5);
+        if (logger.isEnabled(DEBUG, reconciliation.getMarker())) {
+            logger.logIfEnabled(FQCN, DEBUG, reconciliation.getMarker(), reconciliation.toString() + ": " + message, p0, p1, p2, p3, p4, p5);
+        }
     }
 
     /**
@@ -7550,7 +7756,9 @@ public class ReconciliationLogger implements Serializable {
      */
     public void debugCr(final Reconciliation reconciliation, final String message, final Object p0, final Object p1, final Object p2,
                       final Object p3, final Object p4, final Object p5, final Object p6) {
-        logger.logIfEnabled(FQCN, DEBUG, reconciliation.getMarker(), reconciliation.toString() + ": " + message, p0, p1, p2, p3, p4, p5, p6);
+        if (logger.isEnabled(DEBUG, reconciliation.getMarker())) {
+            logger.logIfEnabled(FQCN, DEBUG, reconciliation.getMarker(), reconciliation.toString() + ": " + message, p0, p1, p2, p3, p4, p5, p6);
+        }
     }
 
     /**
@@ -7571,7 +7779,9 @@ public class ReconciliationLogger implements Serializable {
     public void debugCr(final Reconciliation reconciliation, final String message, final Object p0, final Object p1, final Object p2,
                       final Object p3, final Object p4, final Object p5, final Object p6,
                       final Object p7) {
-        logger.logIfEnabled(FQCN, DEBUG, reconciliation.getMarker(), reconciliation.toString() + ": " + message, p0, p1, p2, p3, p4, p5, p6, p7);
+        if (logger.isEnabled(DEBUG, reconciliation.getMarker())) {
+            logger.logIfEnabled(FQCN, DEBUG, reconciliation.getMarker(), reconciliation.toString() + ": " + message, p0, p1, p2, p3, p4, p5, p6, p7);
+        }
     }
 
     /**
@@ -7593,7 +7803,9 @@ public class ReconciliationLogger implements Serializable {
     public void debugCr(final Reconciliation reconciliation, final String message, final Object p0, final Object p1, final Object p2,
                       final Object p3, final Object p4, final Object p5, final Object p6,
                       final Object p7, final Object p8) {
-        logger.logIfEnabled(FQCN, DEBUG, reconciliation.getMarker(), reconciliation.toString() + ": " + message, p0, p1, p2, p3, p4, p5, p6, p7, p8);
+        if (logger.isEnabled(DEBUG, reconciliation.getMarker())) {
+            logger.logIfEnabled(FQCN, DEBUG, reconciliation.getMarker(), reconciliation.toString() + ": " + message, p0, p1, p2, p3, p4, p5, p6, p7, p8);
+        }
     }
 
     /**
@@ -7616,7 +7828,9 @@ public class ReconciliationLogger implements Serializable {
     public void debugCr(final Reconciliation reconciliation, final String message, final Object p0, final Object p1, final Object p2,
                       final Object p3, final Object p4, final Object p5, final Object p6,
                       final Object p7, final Object p8, final Object p9) {
-        logger.logIfEnabled(FQCN, DEBUG, reconciliation.getMarker(), reconciliation.toString() + ": " + message, p0, p1, p2, p3, p4, p5, p6, p7, p8, p9);
+        if (logger.isEnabled(DEBUG, reconciliation.getMarker())) {
+            logger.logIfEnabled(FQCN, DEBUG, reconciliation.getMarker(), reconciliation.toString() + ": " + message, p0, p1, p2, p3, p4, p5, p6, p7, p8, p9);
+        }
     }
 
     /**
@@ -7628,7 +7842,9 @@ public class ReconciliationLogger implements Serializable {
      * @param t the exception to log, including its stack trace.
      */
     public void debugCr(final Reconciliation reconciliation, final String message, final Throwable t) {
-        logger.logIfEnabled(FQCN, DEBUG, reconciliation.getMarker(), reconciliation.toString() + ": " + message, t);
+        if (logger.isEnabled(DEBUG, reconciliation.getMarker())) {
+            logger.logIfEnabled(FQCN, DEBUG, reconciliation.getMarker(), reconciliation.toString() + ": " + message, t);
+        }
     }
 
     /**
@@ -7678,7 +7894,9 @@ public class ReconciliationLogger implements Serializable {
      * @since Log4j-2.4
      */
     public void debugCr(final Reconciliation reconciliation, final String message, final Supplier<?>... paramSuppliers) {
-        logger.logIfEnabled(FQCN, DEBUG, reconciliation.getMarker(), reconciliation.toString() + ": " + message, paramSuppliers);
+        if (logger.isEnabled(DEBUG, reconciliation.getMarker())) {
+            logger.logIfEnabled(FQCN, DEBUG, reconciliation.getMarker(), reconciliation.toString() + ": " + message, paramSuppliers);
+        }
     }
 
     /**
@@ -7752,7 +7970,9 @@ public class ReconciliationLogger implements Serializable {
      * @param message the message object to log.
      */
     public void traceCr(final Reconciliation reconciliation, final Object message) {
-        logger.logIfEnabled(FQCN, TRACE, reconciliation.getMarker(), reconciliation.toString() + ": " + message, (Throwable) null);
+        if (logger.isEnabled(TRACE, reconciliation.getMarker())) {
+            logger.logIfEnabled(FQCN, TRACE, reconciliation.getMarker(), reconciliation.toString() + ": " + message, (Throwable) null);
+        }
     }
 
     /**
@@ -7763,7 +7983,9 @@ public class ReconciliationLogger implements Serializable {
      * @since Log4j-2.6
      */
     public void traceCr(final Reconciliation reconciliation, final CharSequence message) {
-        logger.logIfEnabled(FQCN, TRACE, reconciliation.getMarker(), reconciliation.toString() + ": " + message, (Throwable) null);
+        if (logger.isEnabled(TRACE, reconciliation.getMarker())) {
+            logger.logIfEnabled(FQCN, TRACE, reconciliation.getMarker(), reconciliation.toString() + ": " + message, (Throwable) null);
+        }
     }
 
     /**
@@ -7775,7 +7997,9 @@ public class ReconciliationLogger implements Serializable {
      * @param t the exception to log, including its stack trace.
      */
     public void traceCr(final Reconciliation reconciliation, final Object message, final Throwable t) {
-        logger.logIfEnabled(FQCN, TRACE, reconciliation.getMarker(), reconciliation.toString() + ": " + message, t);
+        if (logger.isEnabled(TRACE, reconciliation.getMarker())) {
+            logger.logIfEnabled(FQCN, TRACE, reconciliation.getMarker(), reconciliation.toString() + ": " + message, t);
+        }
     }
 
     /**
@@ -7788,7 +8012,9 @@ public class ReconciliationLogger implements Serializable {
      * @since Log4j-2.6
      */
     public void traceCr(final Reconciliation reconciliation, final CharSequence message, final Throwable t) {
-        logger.logIfEnabled(FQCN, TRACE, reconciliation.getMarker(), reconciliation.toString() + ": " + message, t);
+        if (logger.isEnabled(TRACE, reconciliation.getMarker())) {
+            logger.logIfEnabled(FQCN, TRACE, reconciliation.getMarker(), reconciliation.toString() + ": " + message, t);
+        }
     }
 
     /**
@@ -7798,7 +8024,9 @@ public class ReconciliationLogger implements Serializable {
      * @param message the message object to log.
      */
     public void traceCr(final Reconciliation reconciliation, final String message) {
-        logger.logIfEnabled(FQCN, TRACE, reconciliation.getMarker(), reconciliation.toString() + ": " + message, (Throwable) null);
+        if (logger.isEnabled(TRACE, reconciliation.getMarker())) {
+            logger.logIfEnabled(FQCN, TRACE, reconciliation.getMarker(), reconciliation.toString() + ": " + message, (Throwable) null);
+        }
     }
 
     /**
@@ -7809,7 +8037,9 @@ public class ReconciliationLogger implements Serializable {
      * @param params parameters to the message.
      */
     public void traceCr(final Reconciliation reconciliation, final String message, final Object... params) {
-        logger.logIfEnabled(FQCN, TRACE, reconciliation.getMarker(), reconciliation.toString() + ": " + message, params);
+        if (logger.isEnabled(TRACE, reconciliation.getMarker())) {
+            logger.logIfEnabled(FQCN, TRACE, reconciliation.getMarker(), reconciliation.toString() + ": " + message, params);
+        }
     }
 
     /**
@@ -7821,7 +8051,9 @@ public class ReconciliationLogger implements Serializable {
      * @since Log4j-2.6
      */
     public void traceCr(final Reconciliation reconciliation, final String message, final Object p0) {
-        logger.logIfEnabled(FQCN, TRACE, reconciliation.getMarker(), reconciliation.toString() + ": " + message, p0);
+        if (logger.isEnabled(TRACE, reconciliation.getMarker())) {
+            logger.logIfEnabled(FQCN, TRACE, reconciliation.getMarker(), reconciliation.toString() + ": " + message, p0);
+        }
     }
 
     /**
@@ -7834,7 +8066,9 @@ public class ReconciliationLogger implements Serializable {
      * @since Log4j-2.6
      */
     public void traceCr(final Reconciliation reconciliation, final String message, final Object p0, final Object p1) {
-        logger.logIfEnabled(FQCN, TRACE, reconciliation.getMarker(), reconciliation.toString() + ": " + message, p0, p1);
+        if (logger.isEnabled(TRACE, reconciliation.getMarker())) {
+            logger.logIfEnabled(FQCN, TRACE, reconciliation.getMarker(), reconciliation.toString() + ": " + message, p0, p1);
+        }
     }
 
     /**
@@ -7848,7 +8082,9 @@ public class ReconciliationLogger implements Serializable {
      * @since Log4j-2.6
      */
     public void traceCr(final Reconciliation reconciliation, final String message, final Object p0, final Object p1, final Object p2) {
-        logger.logIfEnabled(FQCN, TRACE, reconciliation.getMarker(), reconciliation.toString() + ": " + message, p0, p1, p2);
+        if (logger.isEnabled(TRACE, reconciliation.getMarker())) {
+            logger.logIfEnabled(FQCN, TRACE, reconciliation.getMarker(), reconciliation.toString() + ": " + message, p0, p1, p2);
+        }
     }
 
     /**
@@ -7864,7 +8100,9 @@ public class ReconciliationLogger implements Serializable {
      */
     public void traceCr(final Reconciliation reconciliation, final String message, final Object p0, final Object p1, final Object p2,
                       final Object p3) {
-        logger.logIfEnabled(FQCN, TRACE, reconciliation.getMarker(), reconciliation.toString() + ": " + message, p0, p1, p2, p3);
+        if (logger.isEnabled(TRACE, reconciliation.getMarker())) {
+            logger.logIfEnabled(FQCN, TRACE, reconciliation.getMarker(), reconciliation.toString() + ": " + message, p0, p1, p2, p3);
+        }
     }
 
     /**
@@ -7881,7 +8119,9 @@ public class ReconciliationLogger implements Serializable {
      */
     public void traceCr(final Reconciliation reconciliation, final String message, final Object p0, final Object p1, final Object p2,
                       final Object p3, final Object p4) {
-        logger.logIfEnabled(FQCN, TRACE, reconciliation.getMarker(), reconciliation.toString() + ": " + message, p0, p1, p2, p3, p4);
+        if (logger.isEnabled(TRACE, reconciliation.getMarker())) {
+            logger.logIfEnabled(FQCN, TRACE, reconciliation.getMarker(), reconciliation.toString() + ": " + message, p0, p1, p2, p3, p4);
+        }
     }
 
     /**
@@ -7899,7 +8139,9 @@ public class ReconciliationLogger implements Serializable {
      */
     public void traceCr(final Reconciliation reconciliation, final String message, final Object p0, final Object p1, final Object p2,
                       final Object p3, final Object p4, final Object p5) {
-        logger.logIfEnabled(FQCN, TRACE, reconciliation.getMarker(), reconciliation.toString() + ": " + message, p0, p1, p2, p3, p4, p5);
+        if (logger.isEnabled(TRACE, reconciliation.getMarker())) {
+            logger.logIfEnabled(FQCN, TRACE, reconciliation.getMarker(), reconciliation.toString() + ": " + message, p0, p1, p2, p3, p4, p5);
+        }
     }
 
     /**
@@ -7918,7 +8160,9 @@ public class ReconciliationLogger implements Serializable {
      */
     public void traceCr(final Reconciliation reconciliation, final String message, final Object p0, final Object p1, final Object p2,
                       final Object p3, final Object p4, final Object p5, final Object p6) {
-        logger.logIfEnabled(FQCN, TRACE, reconciliation.getMarker(), reconciliation.toString() + ": " + message, p0, p1, p2, p3, p4, p5, p6);
+        if (logger.isEnabled(TRACE, reconciliation.getMarker())) {
+            logger.logIfEnabled(FQCN, TRACE, reconciliation.getMarker(), reconciliation.toString() + ": " + message, p0, p1, p2, p3, p4, p5, p6);
+        }
     }
 
     /**
@@ -7939,7 +8183,9 @@ public class ReconciliationLogger implements Serializable {
     public void traceCr(final Reconciliation reconciliation, final String message, final Object p0, final Object p1, final Object p2,
                       final Object p3, final Object p4, final Object p5, final Object p6,
                       final Object p7) {
-        logger.logIfEnabled(FQCN, TRACE, reconciliation.getMarker(), reconciliation.toString() + ": " + message, p0, p1, p2, p3, p4, p5, p6, p7);
+        if (logger.isEnabled(TRACE, reconciliation.getMarker())) {
+            logger.logIfEnabled(FQCN, TRACE, reconciliation.getMarker(), reconciliation.toString() + ": " + message, p0, p1, p2, p3, p4, p5, p6, p7);
+        }
     }
 
     /**
@@ -7961,7 +8207,9 @@ public class ReconciliationLogger implements Serializable {
     public void traceCr(final Reconciliation reconciliation, final String message, final Object p0, final Object p1, final Object p2,
                       final Object p3, final Object p4, final Object p5, final Object p6,
                       final Object p7, final Object p8) {
-        logger.logIfEnabled(FQCN, TRACE, reconciliation.getMarker(), reconciliation.toString() + ": " + message, p0, p1, p2, p3, p4, p5, p6, p7, p8);
+        if (logger.isEnabled(TRACE, reconciliation.getMarker())) {
+            logger.logIfEnabled(FQCN, TRACE, reconciliation.getMarker(), reconciliation.toString() + ": " + message, p0, p1, p2, p3, p4, p5, p6, p7, p8);
+        }
     }
 
     /**
@@ -7984,7 +8232,9 @@ public class ReconciliationLogger implements Serializable {
     public void traceCr(final Reconciliation reconciliation, final String message, final Object p0, final Object p1, final Object p2,
                       final Object p3, final Object p4, final Object p5, final Object p6,
                       final Object p7, final Object p8, final Object p9) {
-        logger.logIfEnabled(FQCN, TRACE, reconciliation.getMarker(), reconciliation.toString() + ": " + message, p0, p1, p2, p3, p4, p5, p6, p7, p8, p9);
+        if (logger.isEnabled(TRACE, reconciliation.getMarker())) {
+            logger.logIfEnabled(FQCN, TRACE, reconciliation.getMarker(), reconciliation.toString() + ": " + message, p0, p1, p2, p3, p4, p5, p6, p7, p8, p9);
+        }
     }
 
     /**
@@ -7996,7 +8246,9 @@ public class ReconciliationLogger implements Serializable {
      * @param t the exception to log, including its stack trace.
      */
     public void traceCr(final Reconciliation reconciliation, final String message, final Throwable t) {
-        logger.logIfEnabled(FQCN, TRACE, reconciliation.getMarker(), reconciliation.toString() + ": " + message, t);
+        if (logger.isEnabled(TRACE, reconciliation.getMarker())) {
+            logger.logIfEnabled(FQCN, TRACE, reconciliation.getMarker(), reconciliation.toString() + ": " + message, t);
+        }
     }
 
     /**
@@ -8022,7 +8274,9 @@ public class ReconciliationLogger implements Serializable {
      * @since Log4j-2.4
      */
     public void traceCr(final Reconciliation reconciliation, final String message, final Supplier<?>... paramSuppliers) {
-        logger.logIfEnabled(FQCN, TRACE, reconciliation.getMarker(), reconciliation.toString() + ": " + message, paramSuppliers);
+        if (logger.isEnabled(TRACE, reconciliation.getMarker())) {
+            logger.logIfEnabled(FQCN, TRACE, reconciliation.getMarker(), reconciliation.toString() + ": " + message, paramSuppliers);
+        }
     }
 
     /**
@@ -8096,7 +8350,9 @@ public class ReconciliationLogger implements Serializable {
      * @param message the message object to log.
      */
     public void allCr(final Reconciliation reconciliation, final Object message) {
-        logger.logIfEnabled(FQCN, ALL, reconciliation.getMarker(), reconciliation.toString() + ": " + message, (Throwable) null);
+        if (logger.isEnabled(ALL, reconciliation.getMarker())) {
+            logger.logIfEnabled(FQCN, ALL, reconciliation.getMarker(), reconciliation.toString() + ": " + message, (Throwable) null);
+        }
     }
 
     /**
@@ -8107,7 +8363,9 @@ public class ReconciliationLogger implements Serializable {
      * @since Log4j-2.6
      */
     public void allCr(final Reconciliation reconciliation, final CharSequence message) {
-        logger.logIfEnabled(FQCN, ALL, reconciliation.getMarker(), reconciliation.toString() + ": " + message, (Throwable) null);
+        if (logger.isEnabled(ALL, reconciliation.getMarker())) {
+            logger.logIfEnabled(FQCN, ALL, reconciliation.getMarker(), reconciliation.toString() + ": " + message, (Throwable) null);
+        }
     }
 
     /**
@@ -8119,7 +8377,9 @@ public class ReconciliationLogger implements Serializable {
      * @param t the exception to log, including its stack trace.
      */
     public void allCr(final Reconciliation reconciliation, final Object message, final Throwable t) {
-        logger.logIfEnabled(FQCN, ALL, reconciliation.getMarker(), reconciliation.toString() + ": " + message, t);
+        if (logger.isEnabled(ALL, reconciliation.getMarker())) {
+            logger.logIfEnabled(FQCN, ALL, reconciliation.getMarker(), reconciliation.toString() + ": " + message, t);
+        }
     }
 
     /**
@@ -8132,7 +8392,9 @@ public class ReconciliationLogger implements Serializable {
      * @since Log4j-2.6
      */
     public void allCr(final Reconciliation reconciliation, final CharSequence message, final Throwable t) {
-        logger.logIfEnabled(FQCN, ALL, reconciliation.getMarker(), reconciliation.toString() + ": " + message, t);
+        if (logger.isEnabled(ALL, reconciliation.getMarker())) {
+            logger.logIfEnabled(FQCN, ALL, reconciliation.getMarker(), reconciliation.toString() + ": " + message, t);
+        }
     }
 
     /**
@@ -8142,7 +8404,9 @@ public class ReconciliationLogger implements Serializable {
      * @param message the message object to log.
      */
     public void allCr(final Reconciliation reconciliation, final String message) {
-        logger.logIfEnabled(FQCN, ALL, reconciliation.getMarker(), reconciliation.toString() + ": " + message, (Throwable) null);
+        if (logger.isEnabled(ALL, reconciliation.getMarker())) {
+            logger.logIfEnabled(FQCN, ALL, reconciliation.getMarker(), reconciliation.toString() + ": " + message, (Throwable) null);
+        }
     }
 
     /**
@@ -8153,7 +8417,9 @@ public class ReconciliationLogger implements Serializable {
      * @param params parameters to the message.
      */
     public void allCr(final Reconciliation reconciliation, final String message, final Object... params) {
-        logger.logIfEnabled(FQCN, ALL, reconciliation.getMarker(), reconciliation.toString() + ": " + message, params);
+        if (logger.isEnabled(ALL, reconciliation.getMarker())) {
+            logger.logIfEnabled(FQCN, ALL, reconciliation.getMarker(), reconciliation.toString() + ": " + message, params);
+        }
     }
 
     /**
@@ -8165,7 +8431,9 @@ public class ReconciliationLogger implements Serializable {
      * @since Log4j-2.6
      */
     public void allCr(final Reconciliation reconciliation, final String message, final Object p0) {
-        logger.logIfEnabled(FQCN, ALL, reconciliation.getMarker(), reconciliation.toString() + ": " + message, p0);
+        if (logger.isEnabled(ALL, reconciliation.getMarker())) {
+            logger.logIfEnabled(FQCN, ALL, reconciliation.getMarker(), reconciliation.toString() + ": " + message, p0);
+        }
     }
 
     /**
@@ -8178,7 +8446,9 @@ public class ReconciliationLogger implements Serializable {
      * @since Log4j-2.6
      */
     public void allCr(final Reconciliation reconciliation, final String message, final Object p0, final Object p1) {
-        logger.logIfEnabled(FQCN, ALL, reconciliation.getMarker(), reconciliation.toString() + ": " + message, p0, p1);
+        if (logger.isEnabled(ALL, reconciliation.getMarker())) {
+            logger.logIfEnabled(FQCN, ALL, reconciliation.getMarker(), reconciliation.toString() + ": " + message, p0, p1);
+        }
     }
 
     /**
@@ -8192,7 +8462,9 @@ public class ReconciliationLogger implements Serializable {
      * @since Log4j-2.6
      */
     public void allCr(final Reconciliation reconciliation, final String message, final Object p0, final Object p1, final Object p2) {
-        logger.logIfEnabled(FQCN, ALL, reconciliation.getMarker(), reconciliation.toString() + ": " + message, p0, p1, p2);
+        if (logger.isEnabled(ALL, reconciliation.getMarker())) {
+            logger.logIfEnabled(FQCN, ALL, reconciliation.getMarker(), reconciliation.toString() + ": " + message, p0, p1, p2);
+        }
     }
 
     /**
@@ -8208,7 +8480,9 @@ public class ReconciliationLogger implements Serializable {
      */
     public void allCr(final Reconciliation reconciliation, final String message, final Object p0, final Object p1, final Object p2,
                     final Object p3) {
-        logger.logIfEnabled(FQCN, ALL, reconciliation.getMarker(), reconciliation.toString() + ": " + message, p0, p1, p2, p3);
+        if (logger.isEnabled(ALL, reconciliation.getMarker())) {
+            logger.logIfEnabled(FQCN, ALL, reconciliation.getMarker(), reconciliation.toString() + ": " + message, p0, p1, p2, p3);
+        }
     }
 
     /**
@@ -8225,7 +8499,9 @@ public class ReconciliationLogger implements Serializable {
      */
     public void allCr(final Reconciliation reconciliation, final String message, final Object p0, final Object p1, final Object p2,
                     final Object p3, final Object p4) {
-        logger.logIfEnabled(FQCN, ALL, reconciliation.getMarker(), reconciliation.toString() + ": " + message, p0, p1, p2, p3, p4);
+        if (logger.isEnabled(ALL, reconciliation.getMarker())) {
+            logger.logIfEnabled(FQCN, ALL, reconciliation.getMarker(), reconciliation.toString() + ": " + message, p0, p1, p2, p3, p4);
+        }
     }
 
     /**
@@ -8243,7 +8519,9 @@ public class ReconciliationLogger implements Serializable {
      */
     public void allCr(final Reconciliation reconciliation, final String message, final Object p0, final Object p1, final Object p2,
                     final Object p3, final Object p4, final Object p5) {
-        logger.logIfEnabled(FQCN, ALL, reconciliation.getMarker(), reconciliation.toString() + ": " + message, p0, p1, p2, p3, p4, p5);
+        if (logger.isEnabled(ALL, reconciliation.getMarker())) {
+            logger.logIfEnabled(FQCN, ALL, reconciliation.getMarker(), reconciliation.toString() + ": " + message, p0, p1, p2, p3, p4, p5);
+        }
     }
 
     /**
@@ -8262,7 +8540,9 @@ public class ReconciliationLogger implements Serializable {
      */
     public void allCr(final Reconciliation reconciliation, final String message, final Object p0, final Object p1, final Object p2,
                     final Object p3, final Object p4, final Object p5, final Object p6) {
-        logger.logIfEnabled(FQCN, ALL, reconciliation.getMarker(), reconciliation.toString() + ": " + message, p0, p1, p2, p3, p4, p5, p6);
+        if (logger.isEnabled(ALL, reconciliation.getMarker())) {
+            logger.logIfEnabled(FQCN, ALL, reconciliation.getMarker(), reconciliation.toString() + ": " + message, p0, p1, p2, p3, p4, p5, p6);
+        }
     }
 
     /**
@@ -8283,7 +8563,9 @@ public class ReconciliationLogger implements Serializable {
     public void allCr(final Reconciliation reconciliation, final String message, final Object p0, final Object p1, final Object p2,
                     final Object p3, final Object p4, final Object p5, final Object p6,
                     final Object p7) {
-        logger.logIfEnabled(FQCN, ALL, reconciliation.getMarker(), reconciliation.toString() + ": " + message, p0, p1, p2, p3, p4, p5, p6, p7);
+        if (logger.isEnabled(ALL, reconciliation.getMarker())) {
+            logger.logIfEnabled(FQCN, ALL, reconciliation.getMarker(), reconciliation.toString() + ": " + message, p0, p1, p2, p3, p4, p5, p6, p7);
+        }
     }
 
     /**
@@ -8305,7 +8587,9 @@ public class ReconciliationLogger implements Serializable {
     public void allCr(final Reconciliation reconciliation, final String message, final Object p0, final Object p1, final Object p2,
                     final Object p3, final Object p4, final Object p5, final Object p6,
                     final Object p7, final Object p8) {
-        logger.logIfEnabled(FQCN, ALL, reconciliation.getMarker(), reconciliation.toString() + ": " + message, p0, p1, p2, p3, p4, p5, p6, p7, p8);
+        if (logger.isEnabled(ALL, reconciliation.getMarker())) {
+            logger.logIfEnabled(FQCN, ALL, reconciliation.getMarker(), reconciliation.toString() + ": " + message, p0, p1, p2, p3, p4, p5, p6, p7, p8);
+        }
     }
 
     /**
@@ -8328,7 +8612,9 @@ public class ReconciliationLogger implements Serializable {
     public void allCr(final Reconciliation reconciliation, final String message, final Object p0, final Object p1, final Object p2,
                     final Object p3, final Object p4, final Object p5, final Object p6,
                     final Object p7, final Object p8, final Object p9) {
-        logger.logIfEnabled(FQCN, ALL, reconciliation.getMarker(), reconciliation.toString() + ": " + message, p0, p1, p2, p3, p4, p5, p6, p7, p8, p9);
+        if (logger.isEnabled(ALL, reconciliation.getMarker())) {
+            logger.logIfEnabled(FQCN, ALL, reconciliation.getMarker(), reconciliation.toString() + ": " + message, p0, p1, p2, p3, p4, p5, p6, p7, p8, p9);
+        }
     }
 
     /**
@@ -8340,7 +8626,9 @@ public class ReconciliationLogger implements Serializable {
      * @param t the exception to log, including its stack trace.
      */
     public void allCr(final Reconciliation reconciliation, final String message, final Throwable t) {
-        logger.logIfEnabled(FQCN, ALL, reconciliation.getMarker(), reconciliation.toString() + ": " + message, t);
+        if (logger.isEnabled(ALL, reconciliation.getMarker())) {
+            logger.logIfEnabled(FQCN, ALL, reconciliation.getMarker(), reconciliation.toString() + ": " + message, t);
+        }
     }
 
     /**
@@ -8366,7 +8654,9 @@ public class ReconciliationLogger implements Serializable {
      * @since Log4j-2.4
      */
     public void allCr(final Reconciliation reconciliation, final String message, final Supplier<?>... paramSuppliers) {
-        logger.logIfEnabled(FQCN, ALL, reconciliation.getMarker(), reconciliation.toString() + ": " + message, paramSuppliers);
+        if (logger.isEnabled(ALL, reconciliation.getMarker())) {
+            logger.logIfEnabled(FQCN, ALL, reconciliation.getMarker(), reconciliation.toString() + ": " + message, paramSuppliers);
+        }
     }
 
     /**
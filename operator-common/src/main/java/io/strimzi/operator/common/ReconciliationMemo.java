@@ -0,0 +1,120 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.common;
+
+import io.fabric8.kubernetes.api.model.HasMetadata;
+import io.fabric8.kubernetes.api.model.ObjectMeta;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Tags;
+
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+/**
+ * Remembers a value computed from a custom resource, such as the result of its validation, for as long as the
+ * custom resource does not change. The value is keyed by the UID and the generation of the custom resource. The
+ * generation is increased by Kubernetes only when the spec changes, so the value is computed again after every change
+ * of the spec but not when only the status or the metadata of the resource change. Only one value is remembered for
+ * each custom resource and the values of deleted resources should be removed using {@link #remove(String, String)}.
+ * <p>
+ * Resources without generation, for example the ones which were not stored in Kubernetes yet, are never memoized.
+ * The number of hits and misses is exposed in the {@code strimzi.reconciliation.memo.hits} and
+ * {@code strimzi.reconciliation.memo.misses} counters.
+ *
+ * @param <V> Type of the memoized value
+ */
+public class ReconciliationMemo<V> {
+    public static final String METRICS_MEMO_HITS = AbstractOperator.METRICS_PREFIX + "reconciliation.memo.hits";
+    public static final String METRICS_MEMO_MISSES = AbstractOperator.METRICS_PREFIX + "reconciliation.memo.misses";
+
+    private final Map<String, Entry<V>> entries = new ConcurrentHashMap<>();
+    private final Counter hits;
+    private final Counter misses;
+
+    /**
+     * Constructs the memo
+     *
+     * @param kind      Kind of the custom resources
+     * @param memo      Name of the memoized value used to tag the metrics
+     * @param metrics   Metrics provider used to create the hit and miss counters
+     */
+    public ReconciliationMemo(String kind, String memo, MetricsProvider metrics) {
+        Tags tags = Tags.of("kind", kind, "memo", memo);
+        this.hits = metrics.counter(METRICS_MEMO_HITS, "Number of reconciliations which reused a value computed for the same generation of the resource", tags);
+        this.misses = metrics.counter(METRICS_MEMO_MISSES, "Number of reconciliations which had to compute a value because the resource changed", tags);
+    }
+
+    /**
+     * Returns the value memoized for the current generation of the resource. When there is no such value, it is
+     * computed using the supplier and memoized. When the supplier throws an exception, nothing is memoized.
+     *
+     * @param resource  The custom resource
+     * @param supplier  Computes the value
+     *
+     * @return  The memoized or computed value
+     */
+    public V computeIfAbsent(HasMetadata resource, Supplier<V> supplier) {
+        ObjectMeta metadata = resource.getMetadata();
+        if (metadata == null || metadata.getGeneration() == null) {
+            misses.increment();
+            return supplier.get();
+        }
+
+        String key = key(metadata.getNamespace(), metadata.getName());
+        Entry<V> entry = entries.get(key);
+
+        if (entry != null && entry.matches(metadata)) {
+            hits.increment();
+            return entry.value;
+        }
+
+        misses.increment();
+        V value = supplier.get();
+        entries.put(key, new Entry<>(metadata.getUid(), metadata.getGeneration(), value));
+        return value;
+    }
+
+    /**
+     * Removes the memoized value of the resource, for example because the resource was deleted
+     *
+     * @param namespace Namespace of the resource
+     * @param name      Name of the resource
+     */
+    public void remove(String namespace, String name) {
+        entries.remove(key(namespace, name));
+    }
+
+    /**
+     * @return  Number of resources with memoized value
+     */
+    /* test */ int size() {
+        return entries.size();
+    }
+
+    private static String key(String namespace, String name) {
+        return namespace + "/" + name;
+    }
+
+    /**
+     * Value memoized for a single generation of a resource
+     */
+    private static final class Entry<V> {
+        private final String uid;
+        private final long generation;
+        private final V value;
+
+        Entry(String uid, long generation, V value) {
+            this.uid = uid;
+            this.generation = generation;
+            this.value = value;
+        }
+
+        boolean matches(ObjectMeta metadata) {
+            return generation == metadata.getGeneration() && Objects.equals(uid, metadata.getUid());
+        }
+    }
+}
@@ -0,0 +1,127 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.common;
+
+import io.micrometer.core.instrument.Meter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tag;
+import io.micrometer.core.instrument.Tags;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Maintains the {@code strimzi.resource.state} gauges which report whether a custom resource is ready (1) or not (0).
+ * Besides the kind, name and namespace of the resource, the gauge is tagged with the reason of the last failure. The
+ * gauges are indexed by the kind, namespace and name of the resource, so that the gauge with the previous reason can
+ * be found and replaced without scanning all the meters in the registry.
+ */
+public class ResourceStateMetrics {
+    private static final ReconciliationLogger LOGGER = ReconciliationLogger.create(ResourceStateMetrics.class);
+
+    public static final String METRICS_RESOURCE_STATE = AbstractOperator.METRICS_PREFIX + "resource.state";
+    private static final String DESCRIPTION = "Current state of the resource: 1 ready, 0 fail";
+
+    private final MetricsProvider metrics;
+    private final Map<String, State> states = new ConcurrentHashMap<>();
+
+    /**
+     * Constructs the resource state metrics
+     *
+     * @param metrics   Metrics provider used to register the gauges
+     */
+    public ResourceStateMetrics(MetricsProvider metrics) {
+        this.metrics = metrics;
+    }
+
+    /**
+     * Sets the state of the resource. When the reason differs from the reason of the current gauge, the current gauge
+     * is removed and a new one with the new reason is registered.
+     *
+     * @param reconciliation    Reconciliation used for logging
+     * @param kind              Kind of the resource
+     * @param namespace         Namespace of the resource
+     * @param name              Name of the resource
+     * @param ready             Whether the resource is ready
+     * @param cause             Cause of the failure or null if the reconciliation succeeded
+     */
+    public void update(Reconciliation reconciliation, String kind, String namespace, String name, boolean ready, Throwable cause) {
+        String reason = cause == null ? "none" : cause.getMessage() == null ? "unknown error" : cause.getMessage();
+
+        State state = states.compute(key(kind, namespace, name), (key, current) -> {
+            if (current != null && current.reason.equals(reason)) {
+                return current;
+            }
+
+            if (current != null) {
+                // remove metric so it can be re-added with new tags
+                remove(current);
+                LOGGER.debugCr(reconciliation, "Removed metric {}{}", METRICS_RESOURCE_STATE, current.tags);
+            }
+
+            Tags tags = Tags.of(
+                    Tag.of("kind", kind),
+                    Tag.of("name", name),
+                    Tag.of("resource-namespace", namespace),
+                    Tag.of("reason", reason));
+            return new State(reason, tags, metrics.gauge(METRICS_RESOURCE_STATE, DESCRIPTION, tags));
+        });
+
+        state.gauge.set(ready ? 1 : 0);
+        LOGGER.debugCr(reconciliation, "Updated metric {}{} = {}", METRICS_RESOURCE_STATE, state.tags, ready ? 1 : 0);
+    }
+
+    /**
+     * Removes the state of the resource, for example because the resource was deleted
+     *
+     * @param reconciliation    Reconciliation used for logging
+     * @param kind              Kind of the resource
+     * @param namespace         Namespace of the resource
+     * @param name              Name of the resource
+     */
+    public void remove(Reconciliation reconciliation, String kind, String namespace, String name) {
+        State state = states.remove(key(kind, namespace, name));
+
+        if (state != null) {
+            remove(state);
+            LOGGER.debugCr(reconciliation, "Removed metric {}{}", METRICS_RESOURCE_STATE, state.tags);
+        }
+    }
+
+    /**
+     * @return  Number of resources with a state gauge
+     */
+    /* test */ int size() {
+        return states.size();
+    }
+
+    private void remove(State state) {
+        MeterRegistry registry = metrics.meterRegistry();
+
+        if (registry != null) {
+            registry.remove(new Meter.Id(METRICS_RESOURCE_STATE, state.tags, null, DESCRIPTION, Meter.Type.GAUGE));
+        }
+    }
+
+    private static String key(String kind, String namespace, String name) {
+        return namespace + ":" + kind + "/" + name;
+    }
+
+    /**
+     * The gauge of a single resource
+     */
+    private static class State {
+        private final String reason;
+        private final Tags tags;
+        private final AtomicInteger gauge;
+
+        State(String reason, Tags tags, AtomicInteger gauge) {
+            this.reason = reason;
+            this.tags = tags;
+            this.gauge = gauge;
+        }
+    }
+}
@@ -0,0 +1,229 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.common;
+
+import io.micrometer.core.instrument.Tag;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+import io.strimzi.operator.common.model.Labels;
+import io.vertx.core.Future;
+import io.vertx.core.Promise;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+/**
+ * Bounded queue of reconciliations for a single kind of resource.
+ *
+ * <ul>
+ * <li>Reconciliations of the same resource are deduplicated. When a reconciliation is submitted for a resource which
+ *     is already waiting in the queue, the two are collapsed into a single run and share the same result.
+ * <li>At most {@code maxInFlight} reconciliations run at the same time and a resource is never reconciled by two
+ *     runs from this queue at the same time.
+ * <li>Reconciliations with {@link Priority#HIGH} (for example the ones triggered by watch events) are started before
+ *     the ones with {@link Priority#LOW} (for example the periodic reconciliations).
+ * </ul>
+ */
+public class WorkQueue {
+    private static final ReconciliationLogger LOGGER = ReconciliationLogger.create(WorkQueue.class);
+
+    /**
+     * Priority of the queued reconciliation
+     */
+    public enum Priority {
+        HIGH,
+        LOW
+    }
+
+    private final int maxInFlight;
+
+    private final Map<String, Item> highPriority = new LinkedHashMap<>();
+    private final Map<String, Item> lowPriority = new LinkedHashMap<>();
+    private final Set<String> running = new HashSet<>();
+
+    private final AtomicInteger depthGauge;
+    private final AtomicInteger inFlightGauge;
+    private final Timer waitTimer;
+    private final Timer processingTimer;
+
+    /**
+     * Constructs the work queue
+     *
+     * @param kind              Kind of the reconciled resources (used for metrics)
+     * @param maxInFlight       Maximal number of reconciliations running at the same time
+     * @param metrics           Metrics provider
+     * @param selectorLabels    Selector labels of the operator (used for metrics)
+     */
+    public WorkQueue(String kind, int maxInFlight, MetricsProvider metrics, Labels selectorLabels) {
+        if (maxInFlight < 1) {
+            throw new IllegalArgumentException("The maximal number of in-flight reconciliations has to be at least 1");
+        }
+
+        this.maxInFlight = maxInFlight;
+
+        Tags tags = Tags.of(Tag.of("kind", kind), Tag.of("selector", selectorLabels != null ? selectorLabels.toSelectorString() : ""));
+        this.depthGauge = metrics.gauge(AbstractOperator.METRICS_PREFIX + "work.queue.depth", "Number of reconciliations waiting in the work queue", tags);
+        this.inFlightGauge = metrics.gauge(AbstractOperator.METRICS_PREFIX + "work.queue.in.flight", "Number of reconciliations from the work queue which are running", tags);
+        this.waitTimer = metrics.timer(AbstractOperator.METRICS_PREFIX + "work.queue.wait.time", "The time the reconciliation waited in the work queue before it was started", tags);
+        this.processingTimer = metrics.timer(AbstractOperator.METRICS_PREFIX + "work.queue.processing.time", "The time it took to process the reconciliation from the work queue", tags);
+    }
+
+    /**
+     * Submits the reconciliation to the queue. If a reconciliation of the same resource is already waiting in the
+     * queue, the submitted reconciliation is collapsed into it and the returned future completes with the result of
+     * the queued reconciliation.
+     *
+     * @param reconciliation    The reconciliation
+     * @param priority          Priority of the reconciliation
+     * @param work              Function doing the reconciliation
+     *
+     * @return  Future which completes when the reconciliation is processed
+     */
+    public Future<Void> submit(Reconciliation reconciliation, Priority priority, Function<Reconciliation, Future<Void>> work) {
+        String key = reconciliation.namespace() + "/" + reconciliation.name();
+        Future<Void> result;
+
+        synchronized (this) {
+            Item queued = highPriority.get(key);
+            if (queued == null) {
+                queued = lowPriority.get(key);
+
+                if (queued != null && priority == Priority.HIGH) {
+                    // Promote the already queued reconciliation
+                    lowPriority.remove(key);
+                    queued.reconciliation = reconciliation;
+                    highPriority.put(key, queued);
+                }
+            }
+
+            if (queued != null) {
+                LOGGER.debugCr(reconciliation, "Reconciliation is already queued and will be collapsed with {}", queued.reconciliation);
+                return queued.promise.future();
+            }
+
+            Item item = new Item(key, reconciliation, work);
+            (priority == Priority.HIGH ? highPriority : lowPriority).put(key, item);
+            result = item.promise.future();
+        }
+
+        dispatch();
+
+        return result;
+    }
+
+    /**
+     * @return  Number of reconciliations waiting in the queue
+     */
+    public synchronized int depth() {
+        return highPriority.size() + lowPriority.size();
+    }
+
+    /**
+     * @return  Number of running reconciliations
+     */
+    public synchronized int inFlight() {
+        return running.size();
+    }
+
+    /**
+     * Starts the queued reconciliations while the in-flight limit allows it
+     */
+    private void dispatch() {
+        List<Item> toStart = new ArrayList<>();
+
+        synchronized (this) {
+            while (running.size() < maxInFlight) {
+                Item next = pollNotRunning(highPriority);
+                if (next == null) {
+                    next = pollNotRunning(lowPriority);
+                }
+
+                if (next == null) {
+                    break;
+                }
+
+                running.add(next.key);
+                toStart.add(next);
+            }
+
+            depthGauge.set(highPriority.size() + lowPriority.size());
+            inFlightGauge.set(running.size());
+        }
+
+        for (Item item : toStart) {
+            start(item);
+        }
+    }
+
+    /**
+     * Removes and returns the first item from the queue which does not have a reconciliation running.
+     *
+     * @param queue     Queue from which the item should be taken
+     *
+     * @return  The first queued item which is not running or null if there is none
+     */
+    private Item pollNotRunning(Map<String, Item> queue) {
+        Iterator<Item> iterator = queue.values().iterator();
+
+        while (iterator.hasNext()) {
+            Item item = iterator.next();
+
+            if (!running.contains(item.key)) {
+                iterator.remove();
+                return item;
+            }
+        }
+
+        return null;
+    }
+
+    private void start(Item item) {
+        waitTimer.record(System.nanoTime() - item.queuedNanos, TimeUnit.NANOSECONDS);
+        long startNanos = System.nanoTime();
+
+        Future<Void> work;
+        try {
+            work = item.work.apply(item.reconciliation);
+        } catch (Throwable t) {
+            work = Future.failedFuture(t);
+        }
+
+        work.onComplete(res -> {
+            processingTimer.record(System.nanoTime() - startNanos, TimeUnit.NANOSECONDS);
+
+            synchronized (this) {
+                running.remove(item.key);
+            }
+
+            item.promise.handle(res);
+            dispatch();
+        });
+    }
+
+    /**
+     * Single queued reconciliation
+     */
+    private static class Item {
+        private final String key;
+        private final Function<Reconciliation, Future<Void>> work;
+        private final Promise<Void> promise = Promise.promise();
+        private final long queuedNanos = System.nanoTime();
+        private Reconciliation reconciliation;
+
+        Item(String key, Reconciliation reconciliation, Function<Reconciliation, Future<Void>> work) {
+            this.key = key;
+            this.reconciliation = reconciliation;
+            this.work = work;
+        }
+    }
+}
@@ -8,12 +8,19 @@ import io.fabric8.kubernetes.api.model.HasMetadata;
 import io.strimzi.operator.common.Reconciliation;
 import io.strimzi.operator.common.ReconciliationLogger;
 
+import java.lang.annotation.Annotation;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
 import java.lang.reflect.AnnotatedElement;
 import java.lang.reflect.Field;
+import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Member;
 import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
@@ -22,6 +29,20 @@ public class ResourceVisitor {
 
     private static final ReconciliationLogger LOGGER = ReconciliationLogger.create(ResourceVisitor.class);
 
+    private static final MethodHandles.Lookup LOOKUP = MethodHandles.publicLookup();
+    private static final MethodType GETTER_TYPE = MethodType.methodType(Object.class, Object.class);
+
+    /**
+     * Pre-classified properties of the visited classes, so that the reflective lookups and the classification of the
+     * properties are done only once per class instead of for every visited object.
+     */
+    private static final ClassValue<List<CachedProperty<?>>> PROPERTIES = new ClassValue<>() {
+        @Override
+        protected List<CachedProperty<?>> computeValue(Class<?> cls) {
+            return properties(cls);
+        }
+    };
+
     public interface Visitor {
         /**
          * Called when a property is visited.
@@ -87,12 +108,22 @@ public class ResourceVisitor {
     }
 
     private static void visit(Reconciliation reconciliation, List<String> path, Object resource, Visitor visitor) throws ReflectiveOperationException {
-        Class<?> cls = resource.getClass();
         visitor.visitObject(reconciliation, path, resource);
+        for (CachedProperty<?> property : PROPERTIES.get(resource.getClass())) {
+            property.visit(reconciliation, path, resource, visitor);
+        }
+    }
+
+    /**
+     * Finds the properties of the class: its public fields followed by its getters.
+     *
+     * @param cls The class
+     * @return The properties of the class
+     */
+    private static List<CachedProperty<?>> properties(Class<?> cls) {
+        List<CachedProperty<?>> properties = new ArrayList<>();
         for (Field field : cls.getFields()) {
-            Object propertyValue = field.get(resource);
-            visitor.visitFieldProperty(reconciliation, path, resource, field, FIELD_PROPERTY, propertyValue);
-            visitProperty(reconciliation, path, field, FIELD_PROPERTY, propertyValue, visitor);
+            properties.add(new CachedProperty<>(field, FIELD_PROPERTY, getter(field)));
         }
         for (Method method : cls.getMethods()) {
             String name = method.getName();
@@ -110,12 +141,30 @@ public class ResourceVisitor {
                     property = IS_METHOD_PROPERTY;
                 }
                 if (property != null) {
-                    Object propertyValue = method.invoke(resource);
-                    visitor.visitMethodProperty(reconciliation, path, resource, method, property, propertyValue);
-                    visitProperty(reconciliation, path, method, property, propertyValue, visitor);
+                    properties.add(new CachedProperty<>(method, property, getter(method)));
                 }
             }
         }
+        return Collections.unmodifiableList(properties);
+    }
+
+    /**
+     * Creates a method handle of type {@code (Object)Object} for reading the property.
+     *
+     * @param member The field or getter
+     * @return The method handle or null when the member is not accessible, in which case the property is read using
+     * reflection (which fails the same way)
+     */
+    private static MethodHandle getter(Member member) {
+        try {
+            MethodHandle handle = member instanceof Field ? LOOKUP.unreflectGetter((Field) member) : LOOKUP.unreflect((Method) member);
+            if (Modifier.isStatic(member.getModifiers())) {
+                handle = MethodHandles.dropArguments(handle, 0, Object.class);
+            }
+            return handle.asType(GETTER_TYPE);
+        } catch (IllegalAccessException e) {
+            return null;
+        }
     }
 
     private static boolean isScalar(Class<?> returnType) {
@@ -136,34 +185,67 @@ public class ResourceVisitor {
                                                                     Property<M> property, Object propertyValue,
                                                                     Visitor visitor)
             throws ReflectiveOperationException {
-        String propertyName = property.propertyName(member);
         Class<?> returnType = property.type(member);
+        visitProperty(reconciliation, path, property.propertyName(member), PropertyKind.of(returnType), propertyValue, visitor);
+    }
+
+    private static void visitProperty(Reconciliation reconciliation, List<String> path, String propertyName,
+                                      PropertyKind kind, Object propertyValue, Visitor visitor)
+            throws ReflectiveOperationException {
         if (propertyValue != null) {
-            if (returnType.isArray()) {
-                path.add(propertyName);
-                if (propertyValue instanceof Object[]) {
-                    for (Object element : (Object[]) propertyValue) {
-                        visit(reconciliation, path, element, visitor);
+            switch (kind) {
+                case ARRAY:
+                    path.add(propertyName);
+                    if (propertyValue instanceof Object[]) {
+                        for (Object element : (Object[]) propertyValue) {
+                            visit(reconciliation, path, element, visitor);
+                        }
                     }
-                }
-                // otherwise it's an array of primitives, in which case there are not further objects to visit
-                path.remove(path.size() - 1);
-            } else if (Collection.class.isAssignableFrom(returnType)) {
-                path.add(propertyName);
-                for (Object element : (Collection<?>) propertyValue) {
-                    if (element != null
-                            && !element.getClass().isEnum()
-                            && !isScalar(element.getClass())) {
-                        visit(reconciliation, path, element, visitor);
+                    // otherwise it's an array of primitives, in which case there are not further objects to visit
+                    path.remove(path.size() - 1);
+                    break;
+                case COLLECTION:
+                    path.add(propertyName);
+                    for (Object element : (Collection<?>) propertyValue) {
+                        if (element != null
+                                && !element.getClass().isEnum()
+                                && !isScalar(element.getClass())) {
+                            visit(reconciliation, path, element, visitor);
+                        }
                     }
-                }
-                path.remove(path.size() - 1);
-            } else if (!isScalar(returnType)
-                    && !Map.class.isAssignableFrom(returnType)
-                    && !returnType.isEnum()) {
-                path.add(propertyName);
-                visit(reconciliation, path, propertyValue, visitor);
-                path.remove(path.size() - 1);
+                    path.remove(path.size() - 1);
+                    break;
+                case OBJECT:
+                    path.add(propertyName);
+                    visit(reconciliation, path, propertyValue, visitor);
+                    path.remove(path.size() - 1);
+                    break;
+                default:
+                    // Scalars, enums and maps do not contain further objects to visit
+            }
+        }
+    }
+
+    /**
+     * How the value of a property is visited, determined by the type of the property
+     */
+    private enum PropertyKind {
+        ARRAY,
+        COLLECTION,
+        OBJECT,
+        LEAF;
+
+        static PropertyKind of(Class<?> type) {
+            if (type.isArray()) {
+                return ARRAY;
+            } else if (Collection.class.isAssignableFrom(type)) {
+                return COLLECTION;
+            } else if (!isScalar(type)
+                    && !Map.class.isAssignableFrom(type)
+                    && !type.isEnum()) {
+                return OBJECT;
+            } else {
+                return LEAF;
             }
         }
     }
@@ -171,6 +253,92 @@ public class ResourceVisitor {
     public interface Property<M extends Member> {
         String propertyName(M i);
         Class<?> type(M i);
+
+        /**
+         * Returns the annotation of the given type on the member.
+         *
+         * @param i The member
+         * @param annotationClass The type of the annotation
+         * @param <A> The type of the annotation
+         * @return The annotation or null if the member is not annotated with it
+         */
+        default <A extends Annotation> A annotation(M i, Class<A> annotationClass) {
+            return ((AnnotatedElement) i).getAnnotation(annotationClass);
+        }
+    }
+
+    /**
+     * Property of a visited class with its name, type, kind, annotations and a method handle for reading its value
+     * resolved once when the class is visited for the first time.
+     *
+     * @param <M> The type of member ({@code Field} or {@code Method}).
+     */
+    private static final class CachedProperty<M extends AnnotatedElement & Member> implements Property<M> {
+        private final M member;
+        private final Property<M> delegate;
+        private final MethodHandle getter;
+        private final String propertyName;
+        private final Class<?> type;
+        private final PropertyKind kind;
+        private final Annotation[] annotations;
+
+        CachedProperty(M member, Property<M> delegate, MethodHandle getter) {
+            this.member = member;
+            this.delegate = delegate;
+            this.getter = getter;
+            this.propertyName = delegate.propertyName(member);
+            this.type = delegate.type(member);
+            this.kind = PropertyKind.of(type);
+            this.annotations = member.getAnnotations();
+        }
+
+        @Override
+        public String propertyName(M i) {
+            return i == member ? propertyName : delegate.propertyName(i);
+        }
+
+        @Override
+        public Class<?> type(M i) {
+            return i == member ? type : delegate.type(i);
+        }
+
+        @Override
+        public <A extends Annotation> A annotation(M i, Class<A> annotationClass) {
+            if (i != member) {
+                return delegate.annotation(i, annotationClass);
+            }
+
+            for (Annotation annotation : annotations) {
+                if (annotation.annotationType() == annotationClass) {
+                    return annotationClass.cast(annotation);
+                }
+            }
+            return null;
+        }
+
+        private Object get(Object owner) throws ReflectiveOperationException {
+            if (getter == null) {
+                return member instanceof Field ? ((Field) member).get(owner) : ((Method) member).invoke(owner);
+            }
+
+            try {
+                return (Object) getter.invokeExact(owner);
+            } catch (Throwable t) {
+                // Wrapped the same way as by Method.invoke()
+                throw new InvocationTargetException(t);
+            }
+        }
+
+        @SuppressWarnings("unchecked")
+        private void visit(Reconciliation reconciliation, List<String> path, Object owner, Visitor visitor) throws ReflectiveOperationException {
+            Object propertyValue = get(owner);
+            if (member instanceof Field) {
+                visitor.visitFieldProperty(reconciliation, path, owner, (Field) member, (Property<Field>) this, propertyValue);
+            } else {
+                visitor.visitMethodProperty(reconciliation, path, owner, (Method) member, (Property<Method>) this, propertyValue);
+            }
+            visitProperty(reconciliation, path, propertyName, kind, propertyValue, visitor);
+        }
     }
 
     static class MethodProperty implements Property<Method> {
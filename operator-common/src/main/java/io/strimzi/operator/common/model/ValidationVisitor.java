@@ -19,9 +19,20 @@ import java.lang.reflect.Member;
 import java.util.Collection;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 import java.util.Set;
 
 public class ValidationVisitor implements ResourceVisitor.Visitor {
+    /**
+     * The {@code @DeprecatedType} annotations of the classes of the visited values, resolved once per class
+     */
+    private static final ClassValue<Optional<DeprecatedType>> DEPRECATED_TYPES = new ClassValue<>() {
+        @Override
+        protected Optional<DeprecatedType> computeValue(Class<?> type) {
+            return Optional.ofNullable(type.getAnnotation(DeprecatedType.class));
+        }
+    };
+
     private final ReconciliationLogger logger;
     private final HasMetadata resource;
     private final Set<Condition> warningConditions;
@@ -33,9 +44,9 @@ public class ValidationVisitor implements ResourceVisitor.Visitor {
         this.warningConditions = warningConditions;
     }
 
-    <M extends AnnotatedElement & Member> boolean isPresent(M member,
+    <M extends AnnotatedElement & Member> boolean isPresent(M member, ResourceVisitor.Property<M> property,
                       Object propertyValue) {
-        JsonInclude annotation = member.getAnnotation(JsonInclude.class);
+        JsonInclude annotation = property.annotation(member, JsonInclude.class);
         if (annotation != null) {
             if (propertyValue == null) {
                 return false;
@@ -69,12 +80,13 @@ public class ValidationVisitor implements ResourceVisitor.Visitor {
     private <M extends AnnotatedElement & Member> void checkForDeprecated(Reconciliation reconciliation,
                                                                           List<String> path,
                                                                           M member,
+                                                                          ResourceVisitor.Property<M> property,
                                                                           Object propertyValue,
                                                                           String propertyName) {
         // Look for deprecated field
-        DeprecatedProperty deprecated = member.getAnnotation(DeprecatedProperty.class);
+        DeprecatedProperty deprecated = property.annotation(member, DeprecatedProperty.class);
         if (deprecated != null
-            && isPresent(member, propertyValue)) {
+            && isPresent(member, property, propertyValue)) {
             String msg = String.format("In API version %s the %s property at path %s has been deprecated",
                     resource.getApiVersion(),
                     propertyName,
@@ -97,9 +109,9 @@ public class ValidationVisitor implements ResourceVisitor.Visitor {
         // Look for deprecated objects. With OneOf, the field might not be deprecated, but the used value might be
         // replaced with something new
         if (propertyValue != null) {
-            DeprecatedType deprecatedType = propertyValue.getClass().getAnnotation(DeprecatedType.class);
+            DeprecatedType deprecatedType = DEPRECATED_TYPES.get(propertyValue.getClass()).orElse(null);
             if (deprecatedType != null
-                    && isPresent(member, propertyValue)) {
+                    && isPresent(member, property, propertyValue)) {
                 String msg = String.format("In API version %s the object %s at path %s has been deprecated. ",
                         resource.getApiVersion(),
                         propertyName,
@@ -125,7 +137,7 @@ public class ValidationVisitor implements ResourceVisitor.Visitor {
     @Override
     public <M extends AnnotatedElement & Member> void visitProperty(Reconciliation reconciliation, List<String> path, Object resource,
                                     M method, ResourceVisitor.Property<M> property, Object propertyValue) {
-        checkForDeprecated(reconciliation, path, method, propertyValue, property.propertyName(method));
+        checkForDeprecated(reconciliation, path, method, property, propertyValue, property.propertyName(method));
     }
 
     @Override
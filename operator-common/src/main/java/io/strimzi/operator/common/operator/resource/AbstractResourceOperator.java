@@ -9,25 +9,28 @@ import io.fabric8.kubernetes.api.model.HasMetadata;
 import io.fabric8.kubernetes.api.model.KubernetesResourceList;
 import io.fabric8.kubernetes.api.model.LabelSelector;
 import io.fabric8.kubernetes.client.KubernetesClient;
+import io.fabric8.kubernetes.client.KubernetesClientException;
 import io.fabric8.kubernetes.client.Watcher;
 import io.fabric8.kubernetes.client.dsl.FilterWatchListDeletable;
 import io.fabric8.kubernetes.client.dsl.FilterWatchListMultiDeletable;
 import io.fabric8.kubernetes.client.dsl.MixedOperation;
 import io.fabric8.kubernetes.client.dsl.NonNamespaceOperation;
 import io.fabric8.kubernetes.client.dsl.Resource;
+import io.strimzi.operator.common.MetricsProvider;
 import io.strimzi.operator.common.Reconciliation;
 import io.strimzi.operator.common.ReconciliationLogger;
-import io.strimzi.operator.common.Util;
 import io.strimzi.operator.common.model.Labels;
 import io.vertx.core.CompositeFuture;
 import io.vertx.core.Future;
 import io.vertx.core.Promise;
 import io.vertx.core.Vertx;
 
+import java.net.HttpURLConnection;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.BiPredicate;
 import java.util.regex.Pattern;
 
@@ -55,6 +58,7 @@ public abstract class AbstractResourceOperator<C extends KubernetesClient,
     protected final C client;
     protected final String resourceKind;
     protected final ResourceSupport resourceSupport;
+    private final Map<String, ResourceCache<T>> caches = new ConcurrentHashMap<>(1);
 
     /**
      * Constructor.
@@ -105,26 +109,28 @@ public abstract class AbstractResourceOperator<C extends KubernetesClient,
         Promise<ReconcileResult<T>> promise = Promise.promise();
         vertx.createSharedWorkerExecutor("kubernetes-ops-pool").executeBlocking(
             future -> {
-                T current = operation().inNamespace(namespace).withName(name).get();
-                if (desired != null) {
-                    if (current == null) {
-                        LOGGER.debugCr(reconciliation, "{} {}/{} does not exist, creating it", resourceKind, namespace, name);
-                        internalCreate(reconciliation, namespace, name, desired).onComplete(future);
-                    } else {
-                        LOGGER.debugCr(reconciliation, "{} {}/{} already exists, patching it", resourceKind, namespace, name);
-                        internalPatch(reconciliation, namespace, name, current, desired).onComplete(future);
-                    }
+                ResourceCache<T> cache = readyCache(namespace, name);
+
+                if (cache != null) {
+                    T current = cache.get(namespace, name);
+                    internalReconcile(reconciliation, namespace, name, current, desired)
+                            .recover(error -> {
+                                if (isConflict(error)) {
+                                    // The cached state was stale => we read the fresh state and try again
+                                    LOGGER.debugCr(reconciliation, "{} {}/{} was changed in the meantime, retrying with the current state", resourceKind, namespace, name);
+                                    return internalReconcile(reconciliation, namespace, name, operation().inNamespace(namespace).withName(name).get(), desired);
+                                } else {
+                                    return Future.failedFuture(error);
+                                }
+                            })
+                            .onSuccess(result -> written(namespace, name, result.resourceOpt().orElse(null)))
+                            .onComplete(future);
                 } else {
-                    if (current != null) {
-                        // Deletion is desired
-                        LOGGER.debugCr(reconciliation, "{} {}/{} exist, deleting it", resourceKind, namespace, name);
-                        internalDelete(reconciliation, namespace, name).onComplete(future);
-                    } else {
-                        LOGGER.debugCr(reconciliation, "{} {}/{} does not exist, noop", resourceKind, namespace, name);
-                        future.complete(ReconcileResult.noop(null));
-                    }
+                    T current = operation().inNamespace(namespace).withName(name).get();
+                    internalReconcile(reconciliation, namespace, name, current, desired)
+                            .onSuccess(result -> written(namespace, name, result.resourceOpt().orElse(null)))
+                            .onComplete(future);
                 }
-
             },
             false,
             promise
@@ -132,6 +138,56 @@ public abstract class AbstractResourceOperator<C extends KubernetesClient,
         return promise.future();
     }
 
+    /**
+     * Creates, patches or deletes the resource based on its current and desired state.
+     *
+     * @param reconciliation    The reconciliation
+     * @param namespace         The namespace of the resource to reconcile
+     * @param name              The name of the resource to reconcile
+     * @param current           The current state of the resource
+     * @param desired           The desired state of the resource
+     *
+     * @return  A future which completes when the resource has been updated.
+     */
+    private Future<ReconcileResult<T>> internalReconcile(Reconciliation reconciliation, String namespace, String name, T current, T desired) {
+        if (desired != null) {
+            if (current == null) {
+                LOGGER.debugCr(reconciliation, "{} {}/{} does not exist, creating it", resourceKind, namespace, name);
+                return internalCreate(reconciliation, namespace, name, desired);
+            } else {
+                LOGGER.debugCr(reconciliation, "{} {}/{} already exists, patching it", resourceKind, namespace, name);
+                return internalPatch(reconciliation, namespace, name, current, desired);
+            }
+        } else {
+            if (current != null) {
+                // Deletion is desired
+                LOGGER.debugCr(reconciliation, "{} {}/{} exist, deleting it", resourceKind, namespace, name);
+                return internalDelete(reconciliation, namespace, name);
+            } else {
+                LOGGER.debugCr(reconciliation, "{} {}/{} does not exist, noop", resourceKind, namespace, name);
+                return Future.succeededFuture(ReconcileResult.noop(null));
+            }
+        }
+    }
+
+    /**
+     * Checks whether the error indicates that the state of the resource used for the operation differs from the state
+     * in the Kubernetes API server. This is a conflict (for example the resource already exists when we try to create
+     * it) or the resource not being found (for example when we try to patch an already deleted resource).
+     *
+     * @param error     The error which should be checked
+     *
+     * @return  True if the error was caused by stale state of the resource
+     */
+    private static boolean isConflict(Throwable error) {
+        if (error instanceof KubernetesClientException) {
+            int code = ((KubernetesClientException) error).getCode();
+            return code == HttpURLConnection.HTTP_CONFLICT || code == HttpURLConnection.HTTP_NOT_FOUND;
+        } else {
+            return false;
+        }
+    }
+
     /**
      * Deletes the resource with the given namespace and name and completes the given future accordingly.
      * This method will do a cascading delete.
@@ -290,7 +346,14 @@ public abstract class AbstractResourceOperator<C extends KubernetesClient,
         if (name == null || name.isEmpty()) {
             throw new IllegalArgumentException(namespace + "/" + resourceKind + " with an empty name cannot be configured. Please provide a name.");
         }
-        return operation().inNamespace(namespace).withName(name).get();
+        ResourceCache<T> cache = readyCache(namespace, name);
+        if (cache != null) {
+            return cache.get(namespace, name);
+        }
+
+        T resource = operation().inNamespace(namespace).withName(name).get();
+        observed(namespace, name, resource);
+        return resource;
     }
 
     /**
@@ -303,7 +366,13 @@ public abstract class AbstractResourceOperator<C extends KubernetesClient,
         if (name == null || name.isEmpty()) {
             throw new IllegalArgumentException(namespace + "/" + resourceKind + " with an empty name cannot be configured. Please provide a name.");
         }
-        return resourceSupport.getAsync(operation().inNamespace(namespace).withName(name));
+        ResourceCache<T> cache = readyCache(namespace, name);
+        if (cache != null) {
+            return Future.succeededFuture(cache.get(namespace, name));
+        }
+
+        return resourceSupport.<T>getAsync(operation().inNamespace(namespace).withName(name))
+                .onSuccess(resource -> observed(namespace, name, resource));
     }
 
     /**
@@ -360,6 +429,11 @@ public abstract class AbstractResourceOperator<C extends KubernetesClient,
      * @return A Future with a list of matching resources.
      */
     public Future<List<T>> listAsync(String namespace, Labels selector) {
+        ResourceCache<T> cache = readyCache(namespace);
+        if (cache != null) {
+            return Future.succeededFuture(cache.list(namespace, resource -> selector == null || matchesLabels(selector.toMap(), resource)));
+        }
+
         FilterWatchListDeletable<T, L> x;
 
         if (ANY_NAMESPACE.equals(namespace))  {
@@ -375,6 +449,12 @@ public abstract class AbstractResourceOperator<C extends KubernetesClient,
     }
 
     public Future<List<T>> listAsync(String namespace, Optional<LabelSelector> selector) {
+        ResourceCache<T> cache = readyCache(namespace);
+        if (cache != null
+                && (selector.isEmpty() || selector.get().getMatchExpressions() == null || selector.get().getMatchExpressions().isEmpty())) {
+            return Future.succeededFuture(cache.list(namespace, resource -> selector.isEmpty() || matchesLabels(selector.get().getMatchLabels(), resource)));
+        }
+
         FilterWatchListDeletable<T, L> x;
 
         if (ANY_NAMESPACE.equals(namespace))  {
@@ -389,6 +469,144 @@ public abstract class AbstractResourceOperator<C extends KubernetesClient,
         return resourceSupport.listAsync(x);
     }
 
+    private static boolean matchesLabels(Map<String, String> matchLabels, HasMetadata resource) {
+        if (matchLabels == null || matchLabels.isEmpty()) {
+            return true;
+        } else if (resource.getMetadata().getLabels() == null) {
+            return false;
+        } else {
+            return resource.getMetadata().getLabels().entrySet().containsAll(matchLabels.entrySet());
+        }
+    }
+
+    /**
+     * Starts an informer based cache for the resources in the given {@code namespace}. Once the cache is synced, the
+     * {@link #get(String, String)}, {@link #getAsync(String, String)} and {@code listAsync} methods read the
+     * resources from the cache instead of the Kubernetes API server. Until then, they keep using the API server.
+     *
+     * @param namespace     The namespace which should be cached or {@code *} for all namespaces
+     * @param resyncMs      Resync period of the informer in milliseconds (0 disables the resync)
+     * @param metrics       Metrics provider used for the cache metrics
+     *
+     * @return  A future which completes when the cache is synced
+     */
+    public Future<Void> startCache(String namespace, long resyncMs, MetricsProvider metrics) {
+        ResourceCache<T> cache = caches.computeIfAbsent(namespace, ns -> {
+            FilterWatchListDeletable<T, L> informable = ANY_NAMESPACE.equals(ns) ? operation().inAnyNamespace() : operation().inNamespace(ns);
+            return new ResourceCache<>(resourceKind, ns, informable.runnableInformer(resyncMs), metrics);
+        });
+
+        return resourceSupport.executeBlocking(future -> {
+            try {
+                cache.run();
+                future.complete();
+            } catch (Throwable t) {
+                future.fail(t);
+            }
+        });
+    }
+
+    /**
+     * Stops all the resource caches used by this operator
+     */
+    public void stopCaches() {
+        caches.values().forEach(ResourceCache::stop);
+        caches.clear();
+    }
+
+    /**
+     * Checks whether the resources in the given namespace are read from a cache. When they are, the resources used
+     * for updates might be stale and the update should be retried with a fresh resource in case of a conflict.
+     *
+     * @param namespace     The namespace
+     *
+     * @return  True if the resources from given namespace are currently read from a cache. False otherwise.
+     */
+    protected boolean isCached(String namespace) {
+        return cache(namespace) != null;
+    }
+
+    /**
+     * Records a write of the resource in the cache (if any) so that the resource is not read from the cache until the
+     * cache receives the write. This method should be used by all operations which change the resources.
+     *
+     * @param namespace     Namespace of the resource
+     * @param name          Name of the resource
+     * @param resource      The resource returned by the Kubernetes API server after the write or null if it was deleted
+     */
+    protected void written(String namespace, String name, T resource) {
+        ResourceCache<T> cache = cache(namespace);
+        if (cache != null) {
+            cache.written(namespace, name, resource);
+        }
+    }
+
+    private void observed(String namespace, String name, T resource) {
+        ResourceCache<T> cache = cache(namespace);
+        if (cache != null) {
+            cache.observed(namespace, name, resource);
+        }
+    }
+
+    /**
+     * Finds the cache used for the resources in the given namespace.
+     *
+     * @param namespace     The namespace
+     *
+     * @return  The cache for the given namespace or null if no cache is used for it
+     */
+    private ResourceCache<T> cache(String namespace) {
+        if (caches.isEmpty()) {
+            return null;
+        }
+
+        ResourceCache<T> cache = caches.get(namespace);
+        if (cache == null && !ANY_NAMESPACE.equals(namespace)) {
+            cache = caches.get(ANY_NAMESPACE);
+        }
+
+        return cache;
+    }
+
+    /**
+     * Finds the cache which can be used to read resources in the given namespace.
+     *
+     * @param namespace     The namespace
+     *
+     * @return  The cache for the given namespace or null if no synced cache is available or if it did not receive
+     *          all writes done in the namespace yet
+     */
+    private ResourceCache<T> readyCache(String namespace) {
+        ResourceCache<T> cache = cache(namespace);
+
+        if (cache != null && (!cache.isReady() || cache.isStale(namespace))) {
+            cache.miss();
+            return null;
+        }
+
+        return cache;
+    }
+
+    /**
+     * Finds the cache which can be used to read the given resource.
+     *
+     * @param namespace     The namespace of the resource
+     * @param name          The name of the resource
+     *
+     * @return  The cache for the given namespace or null if no synced cache is available or if it did not receive
+     *          the last write of the resource yet
+     */
+    private ResourceCache<T> readyCache(String namespace, String name) {
+        ResourceCache<T> cache = cache(namespace);
+
+        if (cache != null && (!cache.isReady() || cache.isStale(namespace, name))) {
+            cache.miss();
+            return null;
+        }
+
+        return cache;
+    }
+
     /**
      * Returns a future that completes when the resource identified by the given {@code namespace} and {@code name}
      * is ready.
@@ -421,7 +639,8 @@ public abstract class AbstractResourceOperator<C extends KubernetesClient,
      * is ready.
      */
     public Future<Void> waitFor(Reconciliation reconciliation, String namespace, String name, String logState, long pollIntervalMs, final long timeoutMs, BiPredicate<String, String> predicate) {
-        return Util.waitFor(reconciliation, vertx,
+        return resourceSupport.<T>waitFor(reconciliation,
+            watcher -> operation().inNamespace(namespace).withName(name).watch(watcher),
             String.format("%s resource %s in namespace %s", resourceKind, name, namespace),
             logState,
             pollIntervalMs,
@@ -440,6 +659,8 @@ public abstract class AbstractResourceOperator<C extends KubernetesClient,
      * @return                  A Future with True if the deletion succeeded and False when it failed.
      */
     public Future<Void> deleteAsync(Reconciliation reconciliation, String namespace, String name, boolean cascading) {
-        return internalDelete(reconciliation, namespace, name, cascading).map((Void) null);
+        return internalDelete(reconciliation, namespace, name, cascading)
+                .onSuccess(result -> written(namespace, name, null))
+                .map((Void) null);
     }
 }
@@ -9,6 +9,7 @@ import io.fabric8.kubernetes.api.model.DeletionPropagation;
 import io.fabric8.kubernetes.client.CustomResource;
 import io.fabric8.kubernetes.client.CustomResourceList;
 import io.fabric8.kubernetes.client.KubernetesClient;
+import io.fabric8.kubernetes.client.KubernetesClientException;
 import io.fabric8.kubernetes.client.dsl.MixedOperation;
 import io.fabric8.kubernetes.client.dsl.Resource;
 import io.strimzi.operator.common.Reconciliation;
@@ -19,6 +20,9 @@ import io.vertx.core.Future;
 import io.vertx.core.Promise;
 import io.vertx.core.Vertx;
 
+import java.net.HttpURLConnection;
+import java.util.Objects;
+
 @SuppressFBWarnings(value = "RCN_REDUNDANT_NULLCHECK_OF_NONNULL_VALUE",
         justification = "Erroneous on Java 11: https://github.com/spotbugs/spotbugs/issues/756")
 public class CrdOperator<C extends KubernetesClient,
@@ -91,6 +95,7 @@ public class CrdOperator<C extends KubernetesClient,
             try {
                 T result = operation().inNamespace(namespace).withName(name).withPropagationPolicy(cascading ? DeletionPropagation.FOREGROUND : DeletionPropagation.ORPHAN).patch(resource);
                 LOGGER.debugCr(reconciliation, "{} {} in namespace {} has been patched", resourceKind, name, namespace);
+                written(namespace, name, result);
                 future.complete(result);
             } catch (Exception e) {
                 LOGGER.debugCr(reconciliation, "Caught exception while patching {} {} in namespace {}", resourceKind, name, namespace, e);
@@ -109,8 +114,20 @@ public class CrdOperator<C extends KubernetesClient,
             String name = resource.getMetadata().getName();
 
             try {
-                T result = operation().inNamespace(namespace).withName(name).replaceStatus(resource);
+                T result;
+
+                try {
+                    result = operation().inNamespace(namespace).withName(name).replaceStatus(resource);
+                } catch (KubernetesClientException e) {
+                    if (e.getCode() == HttpURLConnection.HTTP_CONFLICT && isCached(namespace)) {
+                        result = replaceStatusOfCurrentResource(reconciliation, resource, e);
+                    } else {
+                        throw e;
+                    }
+                }
+
                 LOGGER.infoCr(reconciliation, "Status of {} {} in namespace {} has been updated", resourceKind, name, namespace);
+                written(namespace, name, result);
                 future.complete(result);
             } catch (Exception e) {
                 LOGGER.debugCr(reconciliation, "Caught exception while updating status of {} {} in namespace {}", resourceKind, name, namespace, e);
@@ -120,4 +137,32 @@ public class CrdOperator<C extends KubernetesClient,
 
         return blockingPromise.future();
     }
+
+    /**
+     * Retries the status update after a conflict. The resource might have been read from a stale cache, so the status
+     * is set on a fresh copy of the resource read from the Kubernetes API server. The status is replaced only when the
+     * current resource has the same generation as the resource the status was computed for. Otherwise, the conflict is
+     * thrown and the status is updated by the next reconciliation. The resource passed by the caller is not modified.
+     *
+     * @param reconciliation    The reconciliation
+     * @param resource          The resource with the desired status
+     * @param conflict          The conflict returned by the first status update
+     *
+     * @return  The resource returned by the Kubernetes API server after the status update
+     */
+    @SuppressWarnings("unchecked") // CustomResource is used as a raw type
+    private T replaceStatusOfCurrentResource(Reconciliation reconciliation, T resource, KubernetesClientException conflict) {
+        String namespace = resource.getMetadata().getNamespace();
+        String name = resource.getMetadata().getName();
+        T current = operation().inNamespace(namespace).withName(name).get();
+
+        if (current == null || !Objects.equals(current.getMetadata().getGeneration(), resource.getMetadata().getGeneration())) {
+            LOGGER.debugCr(reconciliation, "Conflict while updating status of {} {} in namespace {}, the resource was changed or deleted", resourceKind, name, namespace);
+            throw conflict;
+        }
+
+        LOGGER.debugCr(reconciliation, "Conflict while updating status of {} {} in namespace {}, retrying with the current resource", resourceKind, name, namespace);
+        current.setStatus(resource.getStatus());
+        return operation().inNamespace(namespace).withName(name).replaceStatus(current);
+    }
 }
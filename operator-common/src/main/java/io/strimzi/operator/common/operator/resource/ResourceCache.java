@@ -0,0 +1,271 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.common.operator.resource;
+
+import io.fabric8.kubernetes.api.model.HasMetadata;
+import io.fabric8.kubernetes.client.informers.ResourceEventHandler;
+import io.fabric8.kubernetes.client.informers.SharedIndexInformer;
+import io.fabric8.kubernetes.client.informers.cache.Cache;
+import io.fabric8.kubernetes.client.utils.Serialization;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.Tag;
+import io.micrometer.core.instrument.Tags;
+import io.strimzi.operator.common.MetricsProvider;
+import io.strimzi.operator.common.ReconciliationLogger;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+
+/**
+ * Read cache for a single Kubernetes resource type backed by a shared index informer. The informer does an initial
+ * list of all the resources in the namespace (or in all namespaces) and then keeps them up to date using a watch
+ * starting from the resource version of the list.
+ *
+ * The resources returned by this cache are copies of the cached objects, so the callers are free to modify them.
+ *
+ * The writes done by the operator are recorded in the cache. Until the informer receives the written resource version
+ * (or the deletion), the resource is considered stale in the cache and has to be read from the Kubernetes API server.
+ * This makes sure that a reconciliation always reads back the resources it has written itself.
+ *
+ * @param <T>   Type of the cached resource
+ */
+public class ResourceCache<T extends HasMetadata> {
+    private static final ReconciliationLogger LOGGER = ReconciliationLogger.create(ResourceCache.class);
+
+    public static final String METRICS_PREFIX = "strimzi.resource.cache.";
+
+    private final String kind;
+    private final String namespace;
+    private final SharedIndexInformer<T> informer;
+
+    private final Counter hits;
+    private final Counter misses;
+
+    private static final String DELETED = "";
+
+    private volatile long lastWatchingMs;
+
+    // Resource versions written by the operator which were not received by the informer yet
+    private final Map<String, String> pendingWrites = new ConcurrentHashMap<>();
+
+    /**
+     * Constructs the resource cache. The cache needs to be started using {@link #run()} before it can be used.
+     *
+     * @param kind          Kind of the cached resource (used for logging and metrics)
+     * @param namespace     Namespace of the cached resources or {@code *} for all namespaces
+     * @param informer      Informer which should be used to fill and update the cache
+     * @param metrics       Metrics provider used to register the cache metrics
+     */
+    public ResourceCache(String kind, String namespace, SharedIndexInformer<T> informer, MetricsProvider metrics) {
+        this.kind = kind;
+        this.namespace = namespace;
+        this.informer = informer;
+        this.lastWatchingMs = System.currentTimeMillis();
+
+        Tags tags = Tags.of(Tag.of("kind", kind), Tag.of("namespace", AbstractResourceOperator.ANY_NAMESPACE.equals(namespace) ? "" : namespace));
+
+        this.hits = metrics.counter(METRICS_PREFIX + "hits", "Number of reads served from the resource cache", tags);
+        this.misses = metrics.counter(METRICS_PREFIX + "misses", "Number of reads which were not served from the resource cache because it was not synced", tags);
+
+        Gauge.builder(METRICS_PREFIX + "hit.ratio", this, ResourceCache::hitRatio)
+                .description("Ratio of reads served from the resource cache")
+                .tags(tags)
+                .register(metrics.meterRegistry());
+
+        Gauge.builder(METRICS_PREFIX + "staleness", this, ResourceCache::stalenessMs)
+                .description("Time in milliseconds for which the resource cache has not been watching the Kubernetes API server")
+                .tags(tags)
+                .register(metrics.meterRegistry());
+
+        Gauge.builder(METRICS_PREFIX + "size", this, cache -> cache.informer.getStore().listKeys().size())
+                .description("Number of resources in the resource cache")
+                .tags(tags)
+                .register(metrics.meterRegistry());
+
+        informer.addEventHandler(new ResourceEventHandler<T>() {
+            @Override
+            public void onAdd(T obj) {
+                lastWatchingMs = System.currentTimeMillis();
+                pendingWrites.remove(key(obj), resourceVersion(obj));
+            }
+
+            @Override
+            public void onUpdate(T oldObj, T newObj) {
+                lastWatchingMs = System.currentTimeMillis();
+                pendingWrites.remove(key(newObj), resourceVersion(newObj));
+            }
+
+            @Override
+            public void onDelete(T obj, boolean deletedFinalStateUnknown) {
+                lastWatchingMs = System.currentTimeMillis();
+                pendingWrites.remove(key(obj), DELETED);
+            }
+        });
+    }
+
+    /**
+     * Starts the informer. This method blocks until the initial list is done and should be called from a worker
+     * thread.
+     */
+    public void run() {
+        LOGGER.infoOp("Starting {} resource cache in namespace {}", kind, namespace);
+        informer.run();
+        LOGGER.infoOp("{} resource cache in namespace {} synced at resource version {}", kind, namespace, informer.lastSyncResourceVersion());
+    }
+
+    /**
+     * Stops the informer
+     */
+    public void stop() {
+        LOGGER.infoOp("Stopping {} resource cache in namespace {}", kind, namespace);
+        informer.stop();
+    }
+
+    /**
+     * @return  True if the cache finished its initial sync and can be used to serve reads. False otherwise.
+     */
+    public boolean isReady() {
+        return informer.isRunning() && informer.hasSynced();
+    }
+
+    /**
+     * Records a read which could not be served from this cache
+     */
+    public void miss() {
+        misses.increment();
+    }
+
+    /**
+     * Gets the resource from the cache.
+     *
+     * @param namespace     Namespace of the resource
+     * @param name          Name of the resource
+     *
+     * @return  Copy of the cached resource or null if it does not exist
+     */
+    public T get(String namespace, String name) {
+        hits.increment();
+        T resource = informer.getStore().getByKey(Cache.namespaceKeyFunc(namespace, name));
+        return resource != null ? Serialization.clone(resource) : null;
+    }
+
+    /**
+     * Lists the resources in the cache.
+     *
+     * @param namespace     Namespace of the resources or {@code *} for all namespaces
+     * @param filter        Predicate used to select the resources which should be returned
+     *
+     * @return  List with copies of the cached resources
+     */
+    public List<T> list(String namespace, Predicate<T> filter) {
+        hits.increment();
+        return informer.getStore().list()
+                .stream()
+                .filter(resource -> AbstractResourceOperator.ANY_NAMESPACE.equals(namespace) || namespace.equals(resource.getMetadata().getNamespace()))
+                .filter(filter)
+                .map(Serialization::clone)
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * Records a write of the resource done by the operator. The resource is read from the Kubernetes API server until
+     * the informer receives the written resource version.
+     *
+     * @param namespace     Namespace of the resource
+     * @param name          Name of the resource
+     * @param resource      The resource as returned by the Kubernetes API server after the write or null if it was
+     *                      deleted
+     */
+    public void written(String namespace, String name, T resource) {
+        expect(Cache.namespaceKeyFunc(namespace, name), resource);
+    }
+
+    /**
+     * Records the state of the resource read from the Kubernetes API server while it was considered stale in the
+     * cache. The resource is read from the cache again once the informer receives this state. This makes sure that
+     * the stale state is not kept forever when the resource was changed by someone else after our write and the
+     * informer never sees the written resource version.
+     *
+     * @param namespace     Namespace of the resource
+     * @param name          Name of the resource
+     * @param resource      The resource read from the Kubernetes API server or null if it does not exist
+     */
+    public void observed(String namespace, String name, T resource) {
+        String key = Cache.namespaceKeyFunc(namespace, name);
+
+        if (pendingWrites.containsKey(key)) {
+            expect(key, resource);
+        }
+    }
+
+    /**
+     * Checks whether the operator wrote the resource and the informer did not receive the write yet
+     *
+     * @param namespace     Namespace of the resource
+     * @param name          Name of the resource
+     *
+     * @return  True if the cached resource is older than the last write done by the operator. False otherwise.
+     */
+    public boolean isStale(String namespace, String name) {
+        return pendingWrites.containsKey(Cache.namespaceKeyFunc(namespace, name));
+    }
+
+    /**
+     * Checks whether the operator wrote any resources in the given namespace which the informer did not receive yet
+     *
+     * @param namespace     Namespace of the resources or {@code *} for all namespaces
+     *
+     * @return  True if any resource in the namespace is older in the cache than the last write done by the operator.
+     *          False otherwise.
+     */
+    public boolean isStale(String namespace) {
+        if (AbstractResourceOperator.ANY_NAMESPACE.equals(namespace)) {
+            return !pendingWrites.isEmpty();
+        } else {
+            String prefix = namespace + "/";
+            return pendingWrites.keySet().stream().anyMatch(key -> key.startsWith(prefix));
+        }
+    }
+
+    private void expect(String key, T resource) {
+        String expected = resource != null ? resourceVersion(resource) : DELETED;
+        pendingWrites.put(key, expected);
+
+        // The informer might have received the resource version already before it was recorded
+        T cached = informer.getStore().getByKey(key);
+        if (Objects.equals(expected, cached != null ? resourceVersion(cached) : DELETED)) {
+            pendingWrites.remove(key, expected);
+        }
+    }
+
+    private static String key(HasMetadata resource) {
+        return Cache.namespaceKeyFunc(resource.getMetadata().getNamespace(), resource.getMetadata().getName());
+    }
+
+    private static String resourceVersion(HasMetadata resource) {
+        return resource.getMetadata().getResourceVersion() != null ? resource.getMetadata().getResourceVersion() : DELETED;
+    }
+
+    private double hitRatio() {
+        double total = hits.count() + misses.count();
+        return total == 0 ? 0 : hits.count() / total;
+    }
+
+    private double stalenessMs() {
+        long now = System.currentTimeMillis();
+
+        if (informer.isWatching()) {
+            lastWatchingMs = now;
+            return 0;
+        } else {
+            return now - lastWatchingMs;
+        }
+    }
+}
@@ -17,6 +17,7 @@ import io.strimzi.operator.common.Reconciliation;
 import io.strimzi.operator.common.ReconciliationLogger;
 import io.vertx.core.AsyncResult;
 import io.vertx.core.CompositeFuture;
+import io.vertx.core.Context;
 import io.vertx.core.Future;
 import io.vertx.core.Promise;
 import io.vertx.core.Handler;
@@ -25,6 +26,7 @@ import io.vertx.core.Vertx;
 import java.io.Closeable;
 import java.util.List;
 import java.util.function.BiFunction;
+import java.util.function.BooleanSupplier;
 import java.util.function.Function;
 
 public class ResourceSupport {
@@ -214,6 +216,176 @@ public class ResourceSupport {
         }.resultPromise.future();
     }
 
+    /**
+     * Returns a Future which completes when the given {@code completed} supplier returns true, or fails after a timeout.
+     *
+     * Unlike {@link io.strimzi.operator.common.Util#waitFor(Reconciliation, Vertx, String, String, long, long, BooleanSupplier)},
+     * the {@code completed} supplier is not invoked periodically. It is invoked on a worker thread once the watch opened
+     * by the given {@code watchFn} is open and then every time the watch receives an event, so the wait completes
+     * as soon as the watched resource reaches the desired state. Only when the watch cannot be opened or is closed
+     * with an error, the supplier is invoked approximately every {@code pollIntervalMs} milliseconds instead.
+     *
+     * @param reconciliation The reconciliation
+     * @param watchFn Opens the watch on the resource using the given watcher. It is invoked on a worker thread.
+     * @param logContext A string used for context in logging.
+     * @param logState The state we are waiting for use in log messages
+     * @param pollIntervalMs The poll interval in milliseconds used when the watch fails.
+     * @param timeoutMs The timeout, in milliseconds.
+     * @param completed Determines when the wait is complete by returning true.
+     * @param <T> The type of the watched resource.
+     *
+     * @return A future that completes when the given {@code completed} indicates readiness.
+     */
+    <T> Future<Void> waitFor(Reconciliation reconciliation, Function<Watcher<T>, Watch> watchFn, String logContext, String logState,
+                             long pollIntervalMs, long timeoutMs, BooleanSupplier completed) {
+        return new WatchedWait<T>(reconciliation, watchFn, logContext, logState, pollIntervalMs, timeoutMs, completed).start();
+    }
+
+    /**
+     * State of a single wait started by {@link #waitFor(Reconciliation, Function, String, String, long, long, BooleanSupplier)}.
+     * Apart from the watcher callbacks, all the methods are called on the Vert.x context on which the wait was started.
+     */
+    private class WatchedWait<T> implements Watcher<T> {
+        private final Reconciliation reconciliation;
+        private final Function<Watcher<T>, Watch> watchFn;
+        private final String logContext;
+        private final String logState;
+        private final long pollIntervalMs;
+        private final long timeoutMs;
+        private final BooleanSupplier completed;
+        private final Context context;
+        private final Promise<Void> promise = Promise.promise();
+
+        private Watch watch;
+        private long timeoutTimerId;
+        private boolean done = false;
+        private boolean polling = false;
+        private boolean checking = false;
+        private boolean checkPending = false;
+
+        WatchedWait(Reconciliation reconciliation, Function<Watcher<T>, Watch> watchFn, String logContext, String logState,
+                    long pollIntervalMs, long timeoutMs, BooleanSupplier completed) {
+            this.reconciliation = reconciliation;
+            this.watchFn = watchFn;
+            this.logContext = logContext;
+            this.logState = logState;
+            this.pollIntervalMs = pollIntervalMs;
+            this.timeoutMs = timeoutMs;
+            this.completed = completed;
+            this.context = vertx.getOrCreateContext();
+        }
+
+        Future<Void> start() {
+            LOGGER.debugCr(reconciliation, "Waiting for {} to get {}", logContext, logState);
+            context.runOnContext(ignored -> {
+                timeoutTimerId = vertx.setTimer(timeoutMs, timerId -> {
+                    String exceptionMessage = String.format("Exceeded timeout of %dms while waiting for %s to be %s", timeoutMs, logContext, logState);
+                    LOGGER.errorCr(reconciliation, exceptionMessage);
+                    finish(Future.failedFuture(new TimeoutException(exceptionMessage)));
+                });
+
+                ResourceSupport.this.<Watch>executeBlocking(blockingFuture -> {
+                    try {
+                        blockingFuture.complete(watchFn.apply(this));
+                    } catch (Throwable t) {
+                        blockingFuture.fail(t);
+                    }
+                }).onComplete(res -> {
+                    if (res.succeeded() && res.result() != null) {
+                        watch = res.result();
+                        if (done) {
+                            closeWatch();
+                        }
+                    } else {
+                        LOGGER.debugCr(reconciliation, "Failed to watch {}, falling back to polling", logContext, res.cause());
+                        polling = true;
+                    }
+                    // The first check is done after the watch is open to make sure we do not miss any event
+                    check();
+                });
+            });
+
+            return promise.future();
+        }
+
+        @Override
+        public void eventReceived(Action action, T resource) {
+            LOGGER.traceCr(reconciliation, "Received {} event while waiting for {} to get {}", action, logContext, logState);
+            context.runOnContext(ignored -> check());
+        }
+
+        @Override
+        public void onClose(WatcherException cause) {
+            context.runOnContext(ignored -> {
+                if (!done) {
+                    LOGGER.debugCr(reconciliation, "Watch for {} was closed, falling back to polling", logContext, cause);
+                    watch = null;
+                    polling = true;
+                    check();
+                }
+            });
+        }
+
+        /**
+         * Invokes the {@code completed} supplier on a worker thread. Only a single invocation runs at a time, events
+         * received in the meantime cause another invocation once the current one finishes.
+         */
+        private void check() {
+            if (done) {
+                return;
+            } else if (checking) {
+                checkPending = true;
+                return;
+            }
+
+            checking = true;
+            ResourceSupport.this.<Boolean>executeBlocking(blockingFuture -> {
+                try {
+                    blockingFuture.complete(completed.getAsBoolean());
+                } catch (Throwable t) {
+                    LOGGER.warnCr(reconciliation, "Caught exception while waiting for {} to get {}", logContext, logState, t);
+                    blockingFuture.complete(false);
+                }
+            }).onComplete(res -> {
+                checking = false;
+
+                if (res.succeeded() && res.result()) {
+                    LOGGER.debugCr(reconciliation, "{} is {}", logContext, logState);
+                    finish(Future.succeededFuture());
+                } else if (checkPending) {
+                    checkPending = false;
+                    check();
+                } else {
+                    LOGGER.traceCr(reconciliation, "{} is not {}", logContext, logState);
+                    if (polling && !done) {
+                        vertx.setTimer(pollIntervalMs, timerId -> check());
+                    }
+                }
+            });
+        }
+
+        /**
+         * Closes the watch and then completes the returned future with the given result
+         */
+        private void finish(AsyncResult<Void> result) {
+            if (!done) {
+                done = true;
+                vertx.cancelTimer(timeoutTimerId);
+                closeWatch().onComplete(ignored -> promise.handle(result));
+            }
+        }
+
+        private Future<Void> closeWatch() {
+            if (watch != null) {
+                Future<Void> closeFuture = closeOnWorkerThread(watch);
+                watch = null;
+                return closeFuture;
+            } else {
+                return Future.succeededFuture();
+            }
+        }
+    }
+
     /**
      * Asynchronously deletes the given resource(s), returning a Future which completes on the context thread.
      * <strong>Note: The API server can return asynchronously, meaning the resource is still accessible from the API server
@@ -0,0 +1,62 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.common;
+
+import org.apache.logging.log4j.Marker;
+import org.apache.logging.log4j.MarkerManager;
+import org.junit.jupiter.api.Test;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.not;
+import static org.hamcrest.CoreMatchers.sameInstance;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+public class MarkerCacheTest {
+    @Test
+    public void testMarkersAreCached() {
+        MarkerCache cache = new MarkerCache(10);
+
+        Marker marker = cache.get("Kafka", "my-namespace", "my-cluster");
+        assertThat(marker.getName(), is("Kafka(my-namespace/my-cluster)"));
+        assertThat(cache.get("Kafka", "my-namespace", "my-cluster"), sameInstance(marker));
+        assertThat(cache.get("KafkaConnect", "my-namespace", "my-cluster"), not(sameInstance(marker)));
+        assertThat(cache.size(), is(2));
+
+        // The markers are not interned in the global log4j marker map
+        assertThat(MarkerManager.exists("Kafka(my-namespace/my-cluster)"), is(false));
+    }
+
+    @Test
+    public void testLeastRecentlyUsedMarkersAreEvicted() {
+        MarkerCache cache = new MarkerCache(2);
+
+        Marker first = cache.get("Kafka", "my-namespace", "first");
+        Marker second = cache.get("Kafka", "my-namespace", "second");
+        // Use the first marker so that the second one is the least recently used
+        cache.get("Kafka", "my-namespace", "first");
+        cache.get("Kafka", "my-namespace", "third");
+
+        assertThat(cache.size(), is(2));
+        assertThat(cache.get("Kafka", "my-namespace", "first"), sameInstance(first));
+        assertThat(cache.get("Kafka", "my-namespace", "second"), not(sameInstance(second)));
+        assertThat(cache.get("Kafka", "my-namespace", "second").getName(), is(second.getName()));
+    }
+
+    @Test
+    public void testRemove() {
+        MarkerCache cache = new MarkerCache(10);
+
+        Marker marker = cache.get("Kafka", "my-namespace", "my-cluster");
+        cache.get("Kafka", "my-namespace", "other-cluster");
+
+        cache.remove("Kafka", "my-namespace", "my-cluster");
+        assertThat(cache.size(), is(1));
+        assertThat(cache.get("Kafka", "my-namespace", "my-cluster"), not(sameInstance(marker)));
+
+        // Removing an unknown marker is a no-op
+        cache.remove("Kafka", "my-namespace", "unknown");
+        assertThat(cache.size(), is(2));
+    }
+}
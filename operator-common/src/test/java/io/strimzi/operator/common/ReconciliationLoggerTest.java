@@ -0,0 +1,83 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.common;
+
+import org.apache.logging.log4j.Level;
+import org.apache.logging.log4j.core.config.Configurator;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.sameInstance;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+public class ReconciliationLoggerTest {
+    private static final ReconciliationLogger LOGGER = ReconciliationLogger.create(ReconciliationLoggerTest.class);
+
+    @BeforeAll
+    public static void before() {
+        Configurator.setLevel(ReconciliationLoggerTest.class.getName(), Level.INFO);
+    }
+
+    @AfterAll
+    public static void after() {
+        Configurator.setLevel(ReconciliationLoggerTest.class.getName(), null);
+    }
+
+    /**
+     * Reconciliation which counts how many times it was rendered
+     */
+    static class CountingReconciliation extends Reconciliation {
+        final AtomicInteger rendered = new AtomicInteger();
+
+        CountingReconciliation() {
+            super("test", "kind", "namespace", "name");
+        }
+
+        @Override
+        public String toString() {
+            rendered.incrementAndGet();
+            return super.toString();
+        }
+    }
+
+    @Test
+    public void testDisabledLevelDoesNotRenderMessage() {
+        CountingReconciliation reconciliation = new CountingReconciliation();
+        AtomicInteger formatted = new AtomicInteger();
+        Object param = new Object() {
+            @Override
+            public String toString() {
+                formatted.incrementAndGet();
+                return "param";
+            }
+        };
+
+        LOGGER.debugCr(reconciliation, "Message");
+        LOGGER.debugCr(reconciliation, "Message {}", param);
+        LOGGER.debugCr(reconciliation, "Message {} {}", param, param);
+        LOGGER.traceCr(reconciliation, "Message {}", param);
+        LOGGER.traceCr(reconciliation, (Object) "Message", new RuntimeException());
+
+        assertThat(reconciliation.rendered.get(), is(0));
+        assertThat(formatted.get(), is(0));
+
+        LOGGER.infoCr(reconciliation, "Message {}", param);
+
+        assertThat(reconciliation.rendered.get(), is(1));
+        assertThat(formatted.get(), is(1));
+    }
+
+    @Test
+    public void testReconciliationDescriptionIsCached() {
+        Reconciliation reconciliation = new Reconciliation("test", "kind", "namespace", "name");
+
+        assertThat(reconciliation.toString().matches("Reconciliation #[0-9]+\\(test\\) kind\\(namespace/name\\)"), is(true));
+        assertThat(reconciliation.toString(), sameInstance(reconciliation.toString()));
+    }
+}
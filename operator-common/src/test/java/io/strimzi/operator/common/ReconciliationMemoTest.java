@@ -0,0 +1,112 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.common;
+
+import io.fabric8.kubernetes.api.model.ConfigMap;
+import io.fabric8.kubernetes.api.model.ConfigMapBuilder;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class ReconciliationMemoTest {
+    private static MetricsProvider metricsProvider(MeterRegistry registry) {
+        return new MetricsProvider() {
+            @Override
+            public MeterRegistry meterRegistry() {
+                return registry;
+            }
+
+            @Override
+            public Counter counter(String name, String description, Tags tags) {
+                return Counter.builder(name).tags(tags).register(registry);
+            }
+
+            @Override
+            public Timer timer(String name, String description, Tags tags) {
+                return Timer.builder(name).tags(tags).register(registry);
+            }
+
+            @Override
+            public AtomicInteger gauge(String name, String description, Tags tags) {
+                AtomicInteger gauge = new AtomicInteger(0);
+                Gauge.builder(name, () -> gauge).description(description).tags(tags).register(registry);
+                return gauge;
+            }
+        };
+    }
+
+    private static ConfigMap resource(String uid, Long generation) {
+        return new ConfigMapBuilder()
+                .withNewMetadata()
+                    .withNamespace("my-namespace")
+                    .withName("my-resource")
+                    .withUid(uid)
+                    .withGeneration(generation)
+                .endMetadata()
+                .build();
+    }
+
+    private static double count(MeterRegistry registry, String name) {
+        return registry.get(name).tag("kind", "ConfigMap").tag("memo", "test").counter().count();
+    }
+
+    @Test
+    public void testValueIsMemoizedPerGeneration() {
+        MeterRegistry registry = new SimpleMeterRegistry();
+        ReconciliationMemo<String> memo = new ReconciliationMemo<>("ConfigMap", "test", metricsProvider(registry));
+        AtomicInteger computed = new AtomicInteger();
+
+        assertThat(memo.computeIfAbsent(resource("uid-1", 1L), () -> "value-" + computed.incrementAndGet()), is("value-1"));
+        assertThat(memo.computeIfAbsent(resource("uid-1", 1L), () -> "value-" + computed.incrementAndGet()), is("value-1"));
+        assertThat(computed.get(), is(1));
+
+        // New generation
+        assertThat(memo.computeIfAbsent(resource("uid-1", 2L), () -> "value-" + computed.incrementAndGet()), is("value-2"));
+        // Resource deleted and created again with the same name
+        assertThat(memo.computeIfAbsent(resource("uid-2", 2L), () -> "value-" + computed.incrementAndGet()), is("value-3"));
+        assertThat(memo.size(), is(1));
+
+        assertThat(count(registry, ReconciliationMemo.METRICS_MEMO_HITS), is(1.0));
+        assertThat(count(registry, ReconciliationMemo.METRICS_MEMO_MISSES), is(3.0));
+
+        memo.remove("my-namespace", "my-resource");
+        assertThat(memo.size(), is(0));
+    }
+
+    @Test
+    public void testResourceWithoutGenerationIsNotMemoized() {
+        MeterRegistry registry = new SimpleMeterRegistry();
+        ReconciliationMemo<String> memo = new ReconciliationMemo<>("ConfigMap", "test", metricsProvider(registry));
+        AtomicInteger computed = new AtomicInteger();
+
+        memo.computeIfAbsent(resource("uid-1", null), () -> "value-" + computed.incrementAndGet());
+        memo.computeIfAbsent(resource("uid-1", null), () -> "value-" + computed.incrementAndGet());
+
+        assertThat(computed.get(), is(2));
+        assertThat(memo.size(), is(0));
+        assertThat(count(registry, ReconciliationMemo.METRICS_MEMO_MISSES), is(2.0));
+    }
+
+    @Test
+    public void testFailureIsNotMemoized() {
+        ReconciliationMemo<String> memo = new ReconciliationMemo<>("ConfigMap", "test", metricsProvider(new SimpleMeterRegistry()));
+
+        assertThrows(IllegalStateException.class, () -> memo.computeIfAbsent(resource("uid-1", 1L), () -> {
+            throw new IllegalStateException();
+        }));
+        assertThat(memo.size(), is(0));
+        assertThat(memo.computeIfAbsent(resource("uid-1", 1L), () -> "value"), is("value"));
+    }
+}
@@ -0,0 +1,113 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.common;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+public class ResourceStateMetricsTest {
+    private static final Reconciliation RECONCILIATION = new Reconciliation("test", "KafkaTopic", "my-namespace", "my-topic");
+
+    private static MetricsProvider metricsProvider(MeterRegistry registry) {
+        return new MetricsProvider() {
+            @Override
+            public MeterRegistry meterRegistry() {
+                return registry;
+            }
+
+            @Override
+            public Counter counter(String name, String description, Tags tags) {
+                return Counter.builder(name).tags(tags).register(registry);
+            }
+
+            @Override
+            public Timer timer(String name, String description, Tags tags) {
+                return Timer.builder(name).tags(tags).register(registry);
+            }
+
+            @Override
+            public AtomicInteger gauge(String name, String description, Tags tags) {
+                AtomicInteger gauge = new AtomicInteger(0);
+                Gauge.builder(name, () -> gauge).description(description).tags(tags).register(registry);
+                return gauge;
+            }
+        };
+    }
+
+    private static Gauge gauge(MeterRegistry registry, String name, String reason) {
+        return registry.find(ResourceStateMetrics.METRICS_RESOURCE_STATE)
+                .tag("kind", "KafkaTopic")
+                .tag("name", name)
+                .tag("resource-namespace", "my-namespace")
+                .tag("reason", reason)
+                .gauge();
+    }
+
+    @Test
+    public void testReasonIsReplaced() {
+        MeterRegistry registry = new SimpleMeterRegistry();
+        ResourceStateMetrics resourceState = new ResourceStateMetrics(metricsProvider(registry));
+
+        resourceState.update(RECONCILIATION, "KafkaTopic", "my-namespace", "my-topic", true, null);
+        assertThat(gauge(registry, "my-topic", "none").value(), is(1.0));
+
+        resourceState.update(RECONCILIATION, "KafkaTopic", "my-namespace", "my-topic", false, new RuntimeException("failure"));
+        assertThat(gauge(registry, "my-topic", "none"), is(nullValue()));
+        assertThat(gauge(registry, "my-topic", "failure").value(), is(0.0));
+
+        resourceState.update(RECONCILIATION, "KafkaTopic", "my-namespace", "my-topic", false, new RuntimeException());
+        assertThat(gauge(registry, "my-topic", "failure"), is(nullValue()));
+        assertThat(gauge(registry, "my-topic", "unknown error").value(), is(0.0));
+
+        resourceState.update(RECONCILIATION, "KafkaTopic", "my-namespace", "my-topic", true, null);
+        assertThat(gauge(registry, "my-topic", "unknown error"), is(nullValue()));
+        assertThat(gauge(registry, "my-topic", "none").value(), is(1.0));
+
+        assertThat(resourceState.size(), is(1));
+        assertThat(registry.find(ResourceStateMetrics.METRICS_RESOURCE_STATE).gauges().size(), is(1));
+    }
+
+    @Test
+    public void testSameReasonKeepsGauge() {
+        MeterRegistry registry = new SimpleMeterRegistry();
+        ResourceStateMetrics resourceState = new ResourceStateMetrics(metricsProvider(registry));
+
+        resourceState.update(RECONCILIATION, "KafkaTopic", "my-namespace", "my-topic", false, new RuntimeException("failure"));
+        Gauge gauge = gauge(registry, "my-topic", "failure");
+
+        resourceState.update(RECONCILIATION, "KafkaTopic", "my-namespace", "my-topic", true, new RuntimeException("failure"));
+        assertThat(gauge(registry, "my-topic", "failure") == gauge, is(true));
+        assertThat(gauge.value(), is(1.0));
+    }
+
+    @Test
+    public void testRemove() {
+        MeterRegistry registry = new SimpleMeterRegistry();
+        ResourceStateMetrics resourceState = new ResourceStateMetrics(metricsProvider(registry));
+
+        resourceState.update(RECONCILIATION, "KafkaTopic", "my-namespace", "my-topic", true, null);
+        resourceState.update(RECONCILIATION, "KafkaTopic", "my-namespace", "other-topic", true, null);
+
+        resourceState.remove(RECONCILIATION, "KafkaTopic", "my-namespace", "my-topic");
+        assertThat(gauge(registry, "my-topic", "none"), is(nullValue()));
+        assertThat(gauge(registry, "other-topic", "none").value(), is(1.0));
+        assertThat(resourceState.size(), is(1));
+
+        // Removing an unknown resource is a no-op
+        resourceState.remove(RECONCILIATION, "KafkaTopic", "my-namespace", "my-topic");
+        assertThat(resourceState.size(), is(1));
+    }
+}
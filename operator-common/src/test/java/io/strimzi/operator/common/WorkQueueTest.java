@@ -0,0 +1,177 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.common;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.vertx.core.Future;
+import io.vertx.core.Promise;
+import io.vertx.core.Vertx;
+import io.vertx.core.VertxOptions;
+import io.vertx.micrometer.MicrometerMetricsOptions;
+import io.vertx.micrometer.VertxPrometheusOptions;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class WorkQueueTest {
+    private static Vertx vertx;
+    private MetricsProvider metrics;
+
+    private final List<String> started = new ArrayList<>();
+    private final Map<String, Promise<Void>> promises = new HashMap<>();
+    private final Function<Reconciliation, Future<Void>> work = reconciliation -> {
+        started.add(reconciliation.name());
+        Promise<Void> promise = Promise.promise();
+        promises.put(reconciliation.name(), promise);
+        return promise.future();
+    };
+
+    @BeforeAll
+    public static void beforeAll() {
+        vertx = Vertx.vertx(new VertxOptions().setMetricsOptions(
+                new MicrometerMetricsOptions()
+                        .setPrometheusOptions(new VertxPrometheusOptions().setEnabled(true))
+                        .setEnabled(true)
+        ));
+    }
+
+    @AfterAll
+    public static void afterAll() throws Exception {
+        vertx.close().toCompletionStage().toCompletableFuture().get();
+    }
+
+    @BeforeEach
+    public void before() {
+        metrics = new MicrometerMetricsProvider();
+        MeterRegistry registry = metrics.meterRegistry();
+        registry.forEachMeter(registry::remove);
+
+        started.clear();
+        promises.clear();
+    }
+
+    private static Reconciliation reconciliation(String name) {
+        return new Reconciliation("test", "TestResource", "my-namespace", name);
+    }
+
+    @Test
+    public void testInvalidMaxInFlight() {
+        assertThrows(IllegalArgumentException.class, () -> new WorkQueue("TestResource", 0, metrics, null));
+    }
+
+    @Test
+    public void testMaxInFlight() {
+        WorkQueue queue = new WorkQueue("TestResource", 2, metrics, null);
+
+        Future<Void> a = queue.submit(reconciliation("a"), WorkQueue.Priority.LOW, work);
+        queue.submit(reconciliation("b"), WorkQueue.Priority.LOW, work);
+        queue.submit(reconciliation("c"), WorkQueue.Priority.LOW, work);
+
+        assertThat(started, is(List.of("a", "b")));
+        assertThat(queue.inFlight(), is(2));
+        assertThat(queue.depth(), is(1));
+
+        promises.get("a").complete();
+
+        assertThat(a.succeeded(), is(true));
+        assertThat(started, is(List.of("a", "b", "c")));
+        assertThat(queue.inFlight(), is(2));
+        assertThat(queue.depth(), is(0));
+    }
+
+    @Test
+    public void testDuplicatesAreCollapsed() {
+        WorkQueue queue = new WorkQueue("TestResource", 1, metrics, null);
+
+        queue.submit(reconciliation("a"), WorkQueue.Priority.LOW, work);
+        Future<Void> b1 = queue.submit(reconciliation("b"), WorkQueue.Priority.LOW, work);
+        Future<Void> b2 = queue.submit(reconciliation("b"), WorkQueue.Priority.HIGH, work);
+
+        assertThat(queue.depth(), is(1));
+
+        promises.get("a").complete();
+        assertThat(started, is(List.of("a", "b")));
+
+        promises.get("b").fail("failure");
+        assertThat(b1.failed(), is(true));
+        assertThat(b2.failed(), is(true));
+    }
+
+    @Test
+    public void testSameResourceIsNotReconciledConcurrently() {
+        WorkQueue queue = new WorkQueue("TestResource", 2, metrics, null);
+
+        queue.submit(reconciliation("a"), WorkQueue.Priority.LOW, work);
+        queue.submit(reconciliation("a"), WorkQueue.Priority.HIGH, work);
+
+        assertThat(started, is(List.of("a")));
+        assertThat(queue.depth(), is(1));
+
+        promises.get("a").complete();
+
+        assertThat(started, is(List.of("a", "a")));
+        assertThat(queue.depth(), is(0));
+    }
+
+    @Test
+    public void testHighPriorityIsStartedFirst() {
+        WorkQueue queue = new WorkQueue("TestResource", 1, metrics, null);
+
+        queue.submit(reconciliation("a"), WorkQueue.Priority.LOW, work);
+        queue.submit(reconciliation("b"), WorkQueue.Priority.LOW, work);
+        queue.submit(reconciliation("c"), WorkQueue.Priority.LOW, work);
+        queue.submit(reconciliation("d"), WorkQueue.Priority.HIGH, work);
+        queue.submit(reconciliation("c"), WorkQueue.Priority.HIGH, work);
+
+        promises.get("a").complete();
+        promises.get("d").complete();
+        promises.get("c").complete();
+
+        assertThat(started, is(List.of("a", "d", "c", "b")));
+    }
+
+    @Test
+    public void testExceptionFailsTheReconciliation() {
+        WorkQueue queue = new WorkQueue("TestResource", 1, metrics, null);
+
+        Future<Void> result = queue.submit(reconciliation("a"), WorkQueue.Priority.LOW, r -> {
+            throw new RuntimeException("failure");
+        });
+
+        assertThat(result.failed(), is(true));
+        assertThat(queue.inFlight(), is(0));
+    }
+
+    @Test
+    public void testMetrics() {
+        WorkQueue queue = new WorkQueue("TestResource", 1, metrics, null);
+
+        queue.submit(reconciliation("a"), WorkQueue.Priority.LOW, work);
+        queue.submit(reconciliation("b"), WorkQueue.Priority.LOW, work);
+
+        MeterRegistry registry = metrics.meterRegistry();
+        assertThat(registry.get(AbstractOperator.METRICS_PREFIX + "work.queue.depth").tag("kind", "TestResource").gauge().value(), is(1.0));
+        assertThat(registry.get(AbstractOperator.METRICS_PREFIX + "work.queue.in.flight").tag("kind", "TestResource").gauge().value(), is(1.0));
+
+        promises.get("a").complete();
+        promises.get("b").complete();
+
+        assertThat(registry.get(AbstractOperator.METRICS_PREFIX + "work.queue.depth").tag("kind", "TestResource").gauge().value(), is(0.0));
+        assertThat(registry.get(AbstractOperator.METRICS_PREFIX + "work.queue.in.flight").tag("kind", "TestResource").gauge().value(), is(0.0));
+        assertThat(registry.get(AbstractOperator.METRICS_PREFIX + "work.queue.wait.time").tag("kind", "TestResource").timer().count(), is(2L));
+        assertThat(registry.get(AbstractOperator.METRICS_PREFIX + "work.queue.processing.time").tag("kind", "TestResource").timer().count(), is(2L));
+    }
+}
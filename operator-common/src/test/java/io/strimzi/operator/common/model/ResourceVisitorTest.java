@@ -4,14 +4,19 @@
  */
 package io.strimzi.operator.common.model;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
+import io.strimzi.api.annotations.DeprecatedProperty;
 import io.strimzi.api.kafka.model.Kafka;
 import io.strimzi.operator.common.Reconciliation;
 import io.strimzi.test.TestUtils;
 import org.junit.jupiter.api.Test;
 
 import java.lang.reflect.AnnotatedElement;
+import java.lang.reflect.Field;
 import java.lang.reflect.Member;
+import java.lang.reflect.Method;
 import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.CoreMatchers.notNullValue;
@@ -52,4 +57,37 @@ public class ResourceVisitorTest {
             }
         });
     }
+
+    @Test
+    public void testPropertiesMatchReflection() {
+        Kafka k = TestUtils.fromYaml("/example.yaml", Kafka.class, true);
+        AtomicInteger visitedProperties = new AtomicInteger();
+
+        // Visit twice, so that the second visit uses the cached properties
+        for (int i = 0; i < 2; i++) {
+            visitedProperties.set(0);
+            ResourceVisitor.visit(new Reconciliation("test", "kind", "namespace", "name"), k, new ResourceVisitor.Visitor() {
+                @Override
+                public <M extends AnnotatedElement & Member> void visitProperty(Reconciliation reconciliation, List<String> path, Object owner, M member, ResourceVisitor.Property<M> property, Object propertyValue) {
+                    visitedProperties.incrementAndGet();
+                    try {
+                        Object expectedValue = member instanceof Field ? ((Field) member).get(owner) : ((Method) member).invoke(owner);
+                        assertThat(propertyValue, is(expectedValue));
+                    } catch (ReflectiveOperationException e) {
+                        throw new RuntimeException(e);
+                    }
+
+                    assertThat(property.type(member), is(member instanceof Field ? ((Field) member).getType() : ((Method) member).getReturnType()));
+                    assertThat(property.annotation(member, DeprecatedProperty.class), is(member.getAnnotation(DeprecatedProperty.class)));
+                    assertThat(property.annotation(member, JsonInclude.class), is(member.getAnnotation(JsonInclude.class)));
+                }
+
+                @Override
+                public void visitObject(Reconciliation reconciliation, List<String> path, Object object) {
+
+                }
+            });
+            assertThat(visitedProperties.get() > 0, is(true));
+        }
+    }
 }
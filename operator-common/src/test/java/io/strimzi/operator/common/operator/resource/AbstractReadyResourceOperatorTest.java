@@ -7,6 +7,8 @@ package io.strimzi.operator.common.operator.resource;
 import io.fabric8.kubernetes.api.model.HasMetadata;
 import io.fabric8.kubernetes.api.model.KubernetesResourceList;
 import io.fabric8.kubernetes.client.KubernetesClient;
+import io.fabric8.kubernetes.client.Watch;
+import io.fabric8.kubernetes.client.Watcher;
 import io.fabric8.kubernetes.client.dsl.MixedOperation;
 import io.fabric8.kubernetes.client.dsl.NonNamespaceOperation;
 import io.fabric8.kubernetes.client.dsl.Resource;
@@ -17,13 +19,16 @@ import io.vertx.junit5.VertxTestContext;
 import org.junit.jupiter.api.Test;
 
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
 
 import static org.hamcrest.CoreMatchers.instanceOf;
 import static org.hamcrest.MatcherAssert.assertThat;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.matches;
 import static org.mockito.Mockito.atLeastOnce;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
@@ -197,4 +202,49 @@ public abstract class AbstractReadyResourceOperatorTest<C extends KubernetesClie
                 async.flag();
             })));
     }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void testWaitUntilReadyCompletesOnWatchEvent(VertxTestContext context) {
+        T resource = resource();
+
+        AtomicReference<Watcher<T>> watcher = new AtomicReference<>();
+        Watch mockWatch = mock(Watch.class);
+        Resource mockResource = mock(resourceType());
+        when(mockResource.get()).thenReturn(resource);
+        when(mockResource.watch(any(Watcher.class))).then(invocation -> {
+            watcher.set(invocation.getArgument(0));
+            return mockWatch;
+        });
+        AtomicInteger count = new AtomicInteger();
+        when(mockResource.isReady()).then(invocation -> {
+            if (count.getAndIncrement() == 0) {
+                // The resource becomes ready after the first check
+                vertx.setTimer(50, ignored -> watcher.get().eventReceived(Watcher.Action.MODIFIED, resource));
+                return Boolean.FALSE;
+            } else {
+                return Boolean.TRUE;
+            }
+        });
+
+        NonNamespaceOperation mockNameable = mock(NonNamespaceOperation.class);
+        when(mockNameable.withName(matches(resource.getMetadata().getName()))).thenReturn(mockResource);
+
+        MixedOperation mockCms = mock(MixedOperation.class);
+        when(mockCms.inNamespace(matches(resource.getMetadata().getNamespace()))).thenReturn(mockNameable);
+
+        C mockClient = mock(clientType());
+        mocker(mockClient, mockCms);
+
+        AbstractReadyResourceOperator<C, T, L, R> op = createResourceOperations(vertx, mockClient);
+
+        Checkpoint async = context.checkpoint();
+        // The poll interval is longer than the test timeout, so only the watch event can complete the wait
+        op.readiness(Reconciliation.DUMMY_RECONCILIATION, NAMESPACE, RESOURCE_NAME, 60_000, 120_000)
+            .onComplete(context.succeeding(v -> context.verify(() -> {
+                verify(mockResource, times(2)).isReady();
+                verify(mockWatch, timeout(1_000)).close();
+                async.flag();
+            })));
+    }
 }
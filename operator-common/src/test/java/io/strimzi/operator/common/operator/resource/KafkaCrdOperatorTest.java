@@ -5,6 +5,7 @@
 package io.strimzi.operator.common.operator.resource;
 
 import io.fabric8.kubernetes.client.KubernetesClient;
+import io.fabric8.kubernetes.client.KubernetesClientException;
 import io.fabric8.kubernetes.client.dsl.MixedOperation;
 import io.fabric8.kubernetes.client.dsl.NonNamespaceOperation;
 import io.fabric8.kubernetes.client.dsl.Resource;
@@ -21,11 +22,16 @@ import io.vertx.junit5.VertxTestContext;
 import org.junit.jupiter.api.Test;
 
 import java.io.IOException;
+import java.net.HttpURLConnection;
 
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
 import static org.junit.jupiter.api.Assumptions.assumeTrue;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.matches;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 public class KafkaCrdOperatorTest extends AbstractResourceOperatorTest<KubernetesClient, Kafka, KafkaList, Resource<Kafka>> {
@@ -118,6 +124,83 @@ public class KafkaCrdOperatorTest extends AbstractResourceOperatorTest<Kubernete
             .onComplete(context.succeeding(kafka -> async.flag()));
     }
 
+    private Kafka resourceWithVersion(String resourceVersion, long generation, String statusMessage) {
+        return new KafkaBuilder(resource())
+                .editMetadata()
+                    .withResourceVersion(resourceVersion)
+                    .withGeneration(generation)
+                .endMetadata()
+                .withNewStatus()
+                    .addToConditions(new ConditionBuilder().withStatus("Ready").withMessage(statusMessage).build())
+                .endStatus()
+                .build();
+    }
+
+    private CrdOperator<KubernetesClient, Kafka, KafkaList> cachedResourceOperations(Resource<Kafka> mockResource) {
+        NonNamespaceOperation mockNameable = mock(NonNamespaceOperation.class);
+        when(mockNameable.withName(matches(RESOURCE_NAME))).thenReturn(mockResource);
+
+        MixedOperation mockCms = mock(MixedOperation.class);
+        when(mockCms.inNamespace(matches(NAMESPACE))).thenReturn(mockNameable);
+
+        KubernetesClient mockClient = mock(KubernetesClient.class);
+        mocker(mockClient, mockCms);
+
+        return new CrdOperator<>(vertx, mockClient, Kafka.class, KafkaList.class, Kafka.RESOURCE_KIND) {
+            @Override
+            protected boolean isCached(String namespace) {
+                return true;
+            }
+        };
+    }
+
+    @Test
+    public void testUpdateStatusAsyncRetriesConflictWithCurrentResource(VertxTestContext context) {
+        Kafka stale = resourceWithVersion("1", 1L, "Updated status");
+        Kafka current = resourceWithVersion("2", 1L, "Current status");
+
+        Resource<Kafka> mockResource = mock(resourceType());
+        when(mockResource.get()).thenReturn(current);
+        when(mockResource.replaceStatus(any()))
+                .thenThrow(new KubernetesClientException("Conflict", HttpURLConnection.HTTP_CONFLICT, null))
+                .thenAnswer(invocation -> invocation.getArgument(0));
+
+        Checkpoint async = context.checkpoint();
+        cachedResourceOperations(mockResource)
+            .updateStatusAsync(Reconciliation.DUMMY_RECONCILIATION, stale)
+            .onComplete(context.succeeding(kafka -> context.verify(() -> {
+                // The new status is sent with the current resource
+                assertThat(kafka.getMetadata().getResourceVersion(), is("2"));
+                assertThat(kafka.getStatus().getConditions().get(0).getMessage(), is("Updated status"));
+                verify(mockResource, times(2)).replaceStatus(any());
+
+                // The resource of the caller is not modified
+                assertThat(stale.getMetadata().getResourceVersion(), is("1"));
+                async.flag();
+            })));
+    }
+
+    @Test
+    public void testUpdateStatusAsyncFailsConflictWhenResourceChanged(VertxTestContext context) {
+        Kafka stale = resourceWithVersion("1", 1L, "Updated status");
+        Kafka current = resourceWithVersion("2", 2L, "Current status");
+
+        Resource<Kafka> mockResource = mock(resourceType());
+        when(mockResource.get()).thenReturn(current);
+        when(mockResource.replaceStatus(any())).thenThrow(new KubernetesClientException("Conflict", HttpURLConnection.HTTP_CONFLICT, null));
+
+        Checkpoint async = context.checkpoint();
+        cachedResourceOperations(mockResource)
+            .updateStatusAsync(Reconciliation.DUMMY_RECONCILIATION, stale)
+            .onComplete(context.failing(e -> context.verify(() -> {
+                // The status computed for the old generation is not written over the current resource
+                assertThat(((KubernetesClientException) e).getCode(), is(HttpURLConnection.HTTP_CONFLICT));
+                verify(mockResource, times(1)).replaceStatus(any());
+                assertThat(current.getStatus().getConditions().get(0).getMessage(), is("Current status"));
+                async.flag();
+            })));
+    }
+
     @Override
     @Test
     public void testReconcileDeleteDoesNotTimeoutWhenResourceIsAlreadyDeleted(VertxTestContext context) {
@@ -0,0 +1,172 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.common.operator.resource;
+
+import io.fabric8.kubernetes.api.model.ConfigMap;
+import io.fabric8.kubernetes.api.model.ConfigMapBuilder;
+import io.fabric8.kubernetes.client.informers.SharedIndexInformer;
+import io.fabric8.kubernetes.client.informers.cache.Store;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.strimzi.operator.common.MetricsProvider;
+import io.strimzi.operator.common.MicrometerMetricsProvider;
+import io.vertx.core.Vertx;
+import io.vertx.core.VertxOptions;
+import io.vertx.micrometer.MicrometerMetricsOptions;
+import io.vertx.micrometer.VertxPrometheusOptions;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.not;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.hamcrest.CoreMatchers.sameInstance;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+public class ResourceCacheTest {
+    private static Vertx vertx;
+    private MetricsProvider metrics;
+
+    @BeforeAll
+    public static void beforeAll() {
+        vertx = Vertx.vertx(new VertxOptions().setMetricsOptions(
+                new MicrometerMetricsOptions()
+                        .setPrometheusOptions(new VertxPrometheusOptions().setEnabled(true))
+                        .setEnabled(true)
+        ));
+    }
+
+    @AfterAll
+    public static void afterAll() throws Exception {
+        vertx.close().toCompletionStage().toCompletableFuture().get();
+    }
+
+    @BeforeEach
+    public void before() {
+        metrics = new MicrometerMetricsProvider();
+        MeterRegistry registry = metrics.meterRegistry();
+        registry.forEachMeter(registry::remove);
+    }
+
+    private static ConfigMap configMap(String namespace, String name, String labelValue) {
+        return new ConfigMapBuilder()
+                .withNewMetadata()
+                    .withNamespace(namespace)
+                    .withName(name)
+                    .addToLabels("app", labelValue)
+                .endMetadata()
+                .addToData("key", "value")
+                .build();
+    }
+
+    @SuppressWarnings("unchecked")
+    private static SharedIndexInformer<ConfigMap> mockInformer(List<ConfigMap> resources, boolean synced) {
+        Store<ConfigMap> store = mock(Store.class);
+        when(store.list()).thenReturn(resources);
+        for (ConfigMap cm : resources) {
+            when(store.getByKey(cm.getMetadata().getNamespace() + "/" + cm.getMetadata().getName())).thenReturn(cm);
+        }
+
+        SharedIndexInformer<ConfigMap> informer = mock(SharedIndexInformer.class);
+        when(informer.getStore()).thenReturn(store);
+        when(informer.isRunning()).thenReturn(true);
+        when(informer.hasSynced()).thenReturn(synced);
+        when(informer.isWatching()).thenReturn(true);
+
+        return informer;
+    }
+
+    @Test
+    public void testGetReturnsCopy() {
+        ConfigMap cm = configMap("ns", "my-cm", "a");
+        ResourceCache<ConfigMap> cache = new ResourceCache<>("ConfigMap", "ns", mockInformer(List.of(cm), true), metrics);
+
+        ConfigMap cached = cache.get("ns", "my-cm");
+        assertThat(cached, is(cm));
+        assertThat(cached, is(not(sameInstance(cm))));
+
+        cached.getData().put("key", "changed");
+        assertThat(cm.getData().get("key"), is("value"));
+
+        assertThat(cache.get("ns", "other-cm"), is(nullValue()));
+    }
+
+    @Test
+    public void testList() {
+        ResourceCache<ConfigMap> cache = new ResourceCache<>("ConfigMap", "*",
+                mockInformer(List.of(configMap("ns", "cm1", "a"), configMap("ns", "cm2", "b"), configMap("ns2", "cm3", "a")), true),
+                metrics);
+
+        assertThat(cache.list("*", cm -> true).size(), is(3));
+        assertThat(cache.list("ns", cm -> true).size(), is(2));
+        assertThat(cache.list("ns", cm -> "a".equals(cm.getMetadata().getLabels().get("app"))).size(), is(1));
+        assertThat(cache.list("ns3", cm -> true).size(), is(0));
+    }
+
+    @Test
+    public void testReadiness() {
+        assertThat(new ResourceCache<>("ConfigMap", "ns", mockInformer(List.of(), true), metrics).isReady(), is(true));
+        assertThat(new ResourceCache<>("ConfigMap", "ns2", mockInformer(List.of(), false), metrics).isReady(), is(false));
+    }
+
+    @Test
+    public void testWritesMakeResourceStale() {
+        ConfigMap cm = configMap("ns", "my-cm", "a");
+        cm.getMetadata().setResourceVersion("1");
+        ConfigMap written = configMap("ns", "my-cm", "b");
+        written.getMetadata().setResourceVersion("2");
+        SharedIndexInformer<ConfigMap> informer = mockInformer(List.of(cm), true);
+        ResourceCache<ConfigMap> cache = new ResourceCache<>("ConfigMap", "ns", informer, metrics);
+
+        // Writing the version which is already in the cache does not make it stale
+        cache.written("ns", "my-cm", cm);
+        assertThat(cache.isStale("ns", "my-cm"), is(false));
+
+        cache.written("ns", "my-cm", written);
+        assertThat(cache.isStale("ns", "my-cm"), is(true));
+        assertThat(cache.isStale("ns"), is(true));
+        assertThat(cache.isStale("ns", "other-cm"), is(false));
+        assertThat(cache.isStale("ns2"), is(false));
+
+        // Someone else changed the resource after our write => we wait for their version
+        ConfigMap changed = configMap("ns", "my-cm", "c");
+        changed.getMetadata().setResourceVersion("3");
+        cache.observed("ns", "my-cm", changed);
+        assertThat(cache.isStale("ns", "my-cm"), is(true));
+
+        when(informer.getStore().getByKey("ns/my-cm")).thenReturn(changed);
+        cache.observed("ns", "my-cm", changed);
+        assertThat(cache.isStale("ns", "my-cm"), is(false));
+        assertThat(cache.isStale("*"), is(false));
+
+        // Deletion
+        cache.written("ns", "my-cm", null);
+        assertThat(cache.isStale("ns", "my-cm"), is(true));
+        when(informer.getStore().getByKey("ns/my-cm")).thenReturn(null);
+        cache.observed("ns", "my-cm", null);
+        assertThat(cache.isStale("ns", "my-cm"), is(false));
+    }
+
+    @Test
+    public void testMetrics() {
+        ResourceCache<ConfigMap> cache = new ResourceCache<>("ConfigMap", "ns", mockInformer(List.of(configMap("ns", "my-cm", "a")), true), metrics);
+
+        cache.get("ns", "my-cm");
+        cache.get("ns", "my-cm");
+        cache.list("ns", cm -> true);
+        cache.miss();
+
+        MeterRegistry registry = metrics.meterRegistry();
+        assertThat(registry.get(ResourceCache.METRICS_PREFIX + "hits").tag("kind", "ConfigMap").tag("namespace", "ns").counter().count(), is(3.0));
+        assertThat(registry.get(ResourceCache.METRICS_PREFIX + "misses").tag("kind", "ConfigMap").tag("namespace", "ns").counter().count(), is(1.0));
+        assertThat(registry.get(ResourceCache.METRICS_PREFIX + "hit.ratio").tag("kind", "ConfigMap").gauge().value(), is(0.75));
+        assertThat(registry.get(ResourceCache.METRICS_PREFIX + "staleness").tag("kind", "ConfigMap").gauge().value(), is(0.0));
+    }
+}
@@ -4,15 +4,41 @@
  */
 package io.strimzi.operator.common.operator.resource;
 
+import io.fabric8.kubernetes.api.model.DeletionPropagation;
 import io.fabric8.kubernetes.api.model.Secret;
 import io.fabric8.kubernetes.api.model.SecretBuilder;
 import io.fabric8.kubernetes.api.model.SecretList;
 import io.fabric8.kubernetes.client.KubernetesClient;
 import io.fabric8.kubernetes.client.dsl.MixedOperation;
+import io.fabric8.kubernetes.client.dsl.NonNamespaceOperation;
 import io.fabric8.kubernetes.client.dsl.Resource;
+import io.fabric8.kubernetes.client.informers.ResourceEventHandler;
+import io.fabric8.kubernetes.client.informers.SharedIndexInformer;
+import io.fabric8.kubernetes.client.informers.cache.Store;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.strimzi.operator.common.MetricsProvider;
+import io.strimzi.operator.common.Reconciliation;
 import io.vertx.core.Vertx;
+import io.vertx.junit5.Checkpoint;
+import io.vertx.junit5.VertxTestContext;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+import java.util.concurrent.atomic.AtomicInteger;
 
 import static java.util.Collections.singletonMap;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 public class SecretOperatorTest extends AbstractResourceOperatorTest<KubernetesClient, Secret, SecretList, Resource<Secret>> {
@@ -56,4 +82,89 @@ public class SecretOperatorTest extends AbstractResourceOperatorTest<KubernetesC
     protected AbstractResourceOperator<KubernetesClient, Secret, SecretList, Resource<Secret>> createResourceOperations(Vertx vertx, KubernetesClient mockClient) {
         return new SecretOperator(vertx, mockClient);
     }
+
+    private static MetricsProvider metricsProvider(MeterRegistry registry) {
+        return new MetricsProvider() {
+            @Override
+            public MeterRegistry meterRegistry() {
+                return registry;
+            }
+
+            @Override
+            public Counter counter(String name, String description, Tags tags) {
+                return Counter.builder(name).tags(tags).register(registry);
+            }
+
+            @Override
+            public Timer timer(String name, String description, Tags tags) {
+                return Timer.builder(name).tags(tags).register(registry);
+            }
+
+            @Override
+            public AtomicInteger gauge(String name, String description, Tags tags) {
+                AtomicInteger gauge = new AtomicInteger(0);
+                Gauge.builder(name, () -> gauge).description(description).tags(tags).register(registry);
+                return gauge;
+            }
+        };
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void testSecretIsReadBackAfterWriteWithCache(VertxTestContext context) {
+        Secret oldSecret = new SecretBuilder(resource()).editMetadata().withResourceVersion("1").endMetadata().build();
+        Secret newSecret = new SecretBuilder(modifiedResource()).editMetadata().withResourceVersion("2").endMetadata().build();
+        String key = NAMESPACE + "/" + RESOURCE_NAME;
+
+        // The cache has only the old version of the Secret
+        Store<Secret> store = mock(Store.class);
+        when(store.getByKey(key)).thenReturn(oldSecret);
+        SharedIndexInformer<Secret> informer = mock(SharedIndexInformer.class);
+        when(informer.getStore()).thenReturn(store);
+        when(informer.isRunning()).thenReturn(true);
+        when(informer.hasSynced()).thenReturn(true);
+
+        Resource<Secret> mockResource = mock(Resource.class);
+        when(mockResource.withPropagationPolicy(DeletionPropagation.FOREGROUND)).thenReturn(mockResource);
+        when(mockResource.patch(any(Secret.class))).thenReturn(newSecret);
+        when(mockResource.get()).thenReturn(newSecret);
+
+        NonNamespaceOperation mockNameable = mock(NonNamespaceOperation.class);
+        when(mockNameable.withName(RESOURCE_NAME)).thenReturn(mockResource);
+        when(mockNameable.runnableInformer(anyLong())).thenReturn(informer);
+
+        MixedOperation mockSecrets = mock(MixedOperation.class);
+        when(mockSecrets.inNamespace(NAMESPACE)).thenReturn(mockNameable);
+
+        KubernetesClient mockClient = mock(KubernetesClient.class);
+        mocker(mockClient, mockSecrets);
+
+        SecretOperator op = new SecretOperator(vertx, mockClient);
+        ArgumentCaptor<ResourceEventHandler<Secret>> handlerCaptor = ArgumentCaptor.forClass(ResourceEventHandler.class);
+
+        Checkpoint async = context.checkpoint();
+        op.startCache(NAMESPACE, 0, metricsProvider(new SimpleMeterRegistry()))
+                .compose(ignore -> op.reconcile(Reconciliation.DUMMY_RECONCILIATION, NAMESPACE, RESOURCE_NAME, modifiedResource()))
+                .compose(ignore -> op.getAsync(NAMESPACE, RESOURCE_NAME))
+                .compose(secret -> {
+                    context.verify(() -> {
+                        // The written Secret is read from the API server because the cache did not receive it yet
+                        assertThat(secret.getData(), is(newSecret.getData()));
+                        verify(mockResource, times(1)).get();
+                    });
+
+                    // The informer receives the write
+                    verify(informer).addEventHandler(handlerCaptor.capture());
+                    when(store.getByKey(key)).thenReturn(newSecret);
+                    handlerCaptor.getValue().onUpdate(oldSecret, newSecret);
+
+                    return op.getAsync(NAMESPACE, RESOURCE_NAME);
+                })
+                .onComplete(context.succeeding(secret -> context.verify(() -> {
+                    // The Secret is read from the cache again
+                    assertThat(secret.getData(), is(newSecret.getData()));
+                    verify(mockResource, times(1)).get();
+                    async.flag();
+                })));
+    }
 }
@@ -109,6 +109,8 @@ public class Config {
     public static final String TC_REASSIGN_THROTTLE = "STRIMZI_REASSIGN_THROTTLE";
     public static final String TC_REASSIGN_VERIFY_INTERVAL_MS = "STRIMZI_REASSIGN_VERIFY_INTERVAL_MS";
     public static final String TC_TOPIC_METADATA_MAX_ATTEMPTS = "STRIMZI_TOPIC_METADATA_MAX_ATTEMPTS";
+    public static final String TC_TOPIC_METADATA_CHUNK_SIZE = "STRIMZI_TOPIC_METADATA_CHUNK_SIZE";
+    public static final String TC_TOPIC_METADATA_CHUNK_CONCURRENCY = "STRIMZI_TOPIC_METADATA_CHUNK_CONCURRENCY";
     public static final String TC_TOPICS_PATH = "STRIMZI_TOPICS_PATH";
 
     public static final String TC_TLS_ENABLED = "STRIMZI_TLS_ENABLED";
@@ -129,6 +131,9 @@ public class Config {
     public static final String TC_STORE_NAME = "STRIMZI_STORE_NAME";
     public static final String TC_APPLICATION_ID = "STRIMZI_APPLICATION_ID";
     public static final String TC_STALE_RESULT_TIMEOUT_MS = "STRIMZI_STALE_RESULT_TIMEOUT_MS";
+    public static final String TC_STORE_BINARY_FORMAT = "STRIMZI_STORE_BINARY_FORMAT";
+    public static final String TC_STORE_PERSISTENT = "STRIMZI_STORE_PERSISTENT";
+    public static final String TC_STORE_STATE_DIR = "STRIMZI_STORE_STATE_DIR";
 
     public static final String TC_USE_ZOOKEEPER_TOPIC_STORE = "STRIMZI_USE_ZOOKEEPER_TOPIC_STORE";
 
@@ -170,6 +175,12 @@ public class Config {
     /** The maximum number of retries for getting topic metadata from the Kafka cluster */
     public static final Value<Integer> TOPIC_METADATA_MAX_ATTEMPTS = new Value<>(TC_TOPIC_METADATA_MAX_ATTEMPTS, POSITIVE_INTEGER, "6");
 
+    /** The maximum number of topics described in a single request when fetching the metadata of all topics during periodic reconciliation */
+    public static final Value<Integer> TOPIC_METADATA_CHUNK_SIZE = new Value<>(TC_TOPIC_METADATA_CHUNK_SIZE, POSITIVE_INTEGER, "500");
+
+    /** The maximum number of chunks of topics described concurrently when fetching the metadata of all topics during periodic reconciliation */
+    public static final Value<Integer> TOPIC_METADATA_CHUNK_CONCURRENCY = new Value<>(TC_TOPIC_METADATA_CHUNK_CONCURRENCY, POSITIVE_INTEGER, "2");
+
     /** The path to the Zookeeper node that stores the topic state in ZooKeeper. */
     public static final Value<String> TOPICS_PATH = new Value<>(TC_TOPICS_PATH, STRING, "/strimzi/topics");
 
@@ -206,6 +217,16 @@ public class Config {
     public static final Value<String> APPLICATION_ID = new Value<>(TC_APPLICATION_ID, STRING, "__strimzi-topic-operator-kstreams");
     /** The stale timeout for the Kafka Streams based TopicStore */
     public static final Value<Long> STALE_RESULT_TIMEOUT_MS = new Value<>(TC_STALE_RESULT_TIMEOUT_MS, DURATION, "5000");
+    /**
+     * Do we write the records of the Kafka Streams based TopicStore in the binary format instead of JSON. Both formats
+     * are always read. It is disabled by default so that the store stays readable by older Topic Operators which can
+     * read only JSON, and it should be enabled only once downgrading to such a version is not needed anymore.
+     */
+    public static final Value<Boolean> STORE_BINARY_FORMAT = new Value<>(TC_STORE_BINARY_FORMAT, BOOLEAN, "false");
+    /** Do we keep the Kafka Streams based TopicStore in a persistent (RocksDB) store instead of in memory */
+    public static final Value<Boolean> STORE_PERSISTENT = new Value<>(TC_STORE_PERSISTENT, BOOLEAN, "false");
+    /** The Kafka Streams state directory of the persistent TopicStore, mandatory when the persistent TopicStore is used */
+    public static final Value<String> STORE_STATE_DIR = new Value<>(TC_STORE_STATE_DIR, STRING, "");
 
     /** Do we use old ZooKeeper based TopicStore */
     public static final Value<Boolean> USE_ZOOKEEPER_TOPIC_STORE = new Value<>(TC_USE_ZOOKEEPER_TOPIC_STORE, BOOLEAN, "false");
@@ -223,6 +244,8 @@ public class Config {
         addConfigValue(configValues, REASSIGN_THROTTLE);
         addConfigValue(configValues, REASSIGN_VERIFY_INTERVAL_MS);
         addConfigValue(configValues, TOPIC_METADATA_MAX_ATTEMPTS);
+        addConfigValue(configValues, TOPIC_METADATA_CHUNK_SIZE);
+        addConfigValue(configValues, TOPIC_METADATA_CHUNK_CONCURRENCY);
         addConfigValue(configValues, TOPICS_PATH);
         addConfigValue(configValues, TLS_ENABLED);
         addConfigValue(configValues, SECURITY_PROTOCOL);
@@ -239,6 +262,9 @@ public class Config {
         addConfigValue(configValues, STORE_NAME);
         addConfigValue(configValues, APPLICATION_ID);
         addConfigValue(configValues, STALE_RESULT_TIMEOUT_MS);
+        addConfigValue(configValues, STORE_BINARY_FORMAT);
+        addConfigValue(configValues, STORE_PERSISTENT);
+        addConfigValue(configValues, STORE_STATE_DIR);
         addConfigValue(configValues, USE_ZOOKEEPER_TOPIC_STORE);
     }
 
@@ -7,7 +7,9 @@ package io.strimzi.operator.topic;
 import io.strimzi.operator.common.Reconciliation;
 import io.vertx.core.Future;
 
+import java.util.Collections;
 import java.util.Set;
+import java.util.stream.Collectors;
 
 /**
  * A DAO for interacting with the Kafka AdminClient and/or command line Kafka
@@ -98,5 +100,22 @@ public interface Kafka {
      */
     Future<Set<String>> listTopics();
 
+    /**
+     * Asynchronously list the topics available in Kafka and fetch their metadata in bulk,
+     * completing the returned Future with a snapshot of the topics.
+     * The snapshot might not contain the metadata of all the listed topics,
+     * the missing metadata has to be fetched using {@link #topicMetadata(Reconciliation, TopicName)}.
+     * The default implementation only lists the topics.
+     * If listing the topics fails the returned Future will be failed with the
+     * KafkaException (not an ExecutionException).
+     *
+     * @return A future which is completed with the snapshot of the topics.
+     */
+    default Future<TopicMetadataSnapshot> topicMetadataSnapshot() {
+        return listTopics().map(names -> new TopicMetadataSnapshot(
+                names.stream().map(TopicName::new).collect(Collectors.toSet()),
+                Collections.emptyMap()));
+    }
+
 }
 
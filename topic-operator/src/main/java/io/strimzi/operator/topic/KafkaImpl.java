@@ -4,7 +4,12 @@
  */
 package io.strimzi.operator.topic;
 
+import java.util.ArrayList;
 import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.ExecutionException;
@@ -42,9 +47,26 @@ public class KafkaImpl implements Kafka {
 
     protected final Vertx vertx;
 
+    private final int metadataChunkSize;
+
+    private final int metadataChunkConcurrency;
+
     public KafkaImpl(Admin adminClient, Vertx vertx) {
+        this(adminClient, vertx, Integer.parseInt(io.strimzi.operator.topic.Config.TOPIC_METADATA_CHUNK_SIZE.defaultValue),
+                Integer.parseInt(io.strimzi.operator.topic.Config.TOPIC_METADATA_CHUNK_CONCURRENCY.defaultValue));
+    }
+
+    /**
+     * @param adminClient The Kafka Admin client.
+     * @param vertx The Vertx instance.
+     * @param metadataChunkSize The maximum number of topics described by a single request in {@link #topicMetadataSnapshot()}.
+     * @param metadataChunkConcurrency The maximum number of such requests in flight at the same time.
+     */
+    public KafkaImpl(Admin adminClient, Vertx vertx, int metadataChunkSize, int metadataChunkConcurrency) {
         this.adminClient = adminClient;
         this.vertx = vertx;
+        this.metadataChunkSize = metadataChunkSize;
+        this.metadataChunkConcurrency = metadataChunkConcurrency;
     }
 
     /**
@@ -121,6 +143,81 @@ public class KafkaImpl implements Kafka {
         });
     }
 
+    /**
+     * Completes the returned Future on the Vertx event loop with the names of all the topics
+     * and the metadata obtained by describing the topics and their configs in chunks
+     * of at most {@code metadataChunkSize} topics, with at most {@code metadataChunkConcurrency}
+     * chunks being described at the same time.
+     * Topics which could not be described (for example because they were deleted in the meantime)
+     * are left out of the metadata in the snapshot.
+     */
+    @Override
+    public Future<TopicMetadataSnapshot> topicMetadataSnapshot() {
+        return listTopics().compose(names -> {
+            List<String> topics = new ArrayList<>(names);
+            List<List<String>> chunks = new ArrayList<>();
+            for (int i = 0; i < topics.size(); i += metadataChunkSize) {
+                chunks.add(topics.subList(i, Math.min(i + metadataChunkSize, topics.size())));
+            }
+            LOGGER.debugOp("Describing {} topics in {} chunks", topics.size(), chunks.size());
+
+            Iterator<List<String>> chunkIterator = chunks.iterator();
+            Map<TopicName, TopicMetadata> metadata = new HashMap<>(topics.size());
+            @SuppressWarnings({ "rawtypes" })
+            List<Future> workers = new ArrayList<>(metadataChunkConcurrency);
+            for (int i = 0; i < Math.min(metadataChunkConcurrency, chunks.size()); i++) {
+                workers.add(describeChunks(chunkIterator, metadata));
+            }
+
+            return CompositeFuture.join(workers).map(ignored -> {
+                Set<TopicName> topicNames = new HashSet<>(topics.size());
+                for (String topic : topics) {
+                    topicNames.add(new TopicName(topic));
+                }
+                LOGGER.debugOp("Got metadata for {} of {} topics", metadata.size(), topicNames.size());
+                return new TopicMetadataSnapshot(topicNames, metadata);
+            });
+        });
+    }
+
+    /**
+     * Describes the remaining chunks one after another. The chunk iterator is shared by the concurrent
+     * workers, which is safe since the futures are completed on the Vertx context.
+     */
+    private Future<Void> describeChunks(Iterator<List<String>> chunkIterator, Map<TopicName, TopicMetadata> metadata) {
+        if (!chunkIterator.hasNext()) {
+            return Future.succeededFuture();
+        }
+        return describeChunk(chunkIterator.next(), metadata)
+                .compose(ignored -> describeChunks(chunkIterator, metadata));
+    }
+
+    @SuppressWarnings({ "rawtypes" })
+    private Future<Void> describeChunk(List<String> chunk, Map<TopicName, TopicMetadata> metadata) {
+        Map<String, KafkaFuture<TopicDescription>> descriptions;
+        Map<ConfigResource, KafkaFuture<Config>> configs;
+        try {
+            descriptions = adminClient.describeTopics(chunk).values();
+            List<ConfigResource> resources = new ArrayList<>(chunk.size());
+            for (String topic : chunk) {
+                resources.add(new ConfigResource(ConfigResource.Type.TOPIC, topic));
+            }
+            configs = adminClient.describeConfigs(resources).values();
+        } catch (Exception e) {
+            LOGGER.warnOp("Error describing {} topics, their metadata will be fetched individually", chunk.size(), e);
+            return Future.succeededFuture();
+        }
+
+        List<Future> futures = new ArrayList<>(chunk.size());
+        for (String topic : chunk) {
+            ConfigResource resource = new ConfigResource(ConfigResource.Type.TOPIC, topic);
+            futures.add(CompositeFuture.all(mapFuture(descriptions.get(topic)), mapFuture(configs.get(resource)))
+                    .onSuccess(compositeFuture -> metadata.put(new TopicName(topic), new TopicMetadata(compositeFuture.resultAt(0), compositeFuture.resultAt(1))))
+                    .onFailure(error -> LOGGER.debugOp("Error describing topic {}, its metadata will be fetched individually", topic, error)));
+        }
+        return CompositeFuture.join(futures).<Void>mapEmpty().recover(ignored -> Future.succeededFuture());
+    }
+
     @Override
     public Future<Set<String>> listTopics() {
         try {
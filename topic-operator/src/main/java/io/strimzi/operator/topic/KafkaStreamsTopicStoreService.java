@@ -8,7 +8,7 @@ import io.apicurio.registry.utils.kafka.AsyncProducer;
 import io.apicurio.registry.utils.kafka.ProducerActions;
 import io.apicurio.registry.utils.streams.diservice.AsyncBiFunctionService;
 import io.apicurio.registry.utils.streams.ext.ForeachActionDispatcher;
-import io.apicurio.registry.utils.streams.ext.LoggingStateRestoreListener;
+import io.strimzi.operator.common.MetricsProvider;
 import org.apache.kafka.clients.admin.Admin;
 import org.apache.kafka.clients.admin.NewTopic;
 import org.apache.kafka.common.KafkaFuture;
@@ -39,14 +39,33 @@ public class KafkaStreamsTopicStoreService {
     private static final Logger LOGGER = LoggerFactory.getLogger(KafkaStreamsTopicStoreService.class);
 
     private final List<AutoCloseable> closeables = new ArrayList<>();
+    private final MetricsProvider metrics;
 
     /* test */ KafkaStreams streams;
     /* test */ TopicStore store;
 
+    public KafkaStreamsTopicStoreService() {
+        this(null);
+    }
+
+    /**
+     * @param metrics Metrics provider used for the metrics of the topic store restoration or null if the metrics
+     *                should not be collected
+     */
+    public KafkaStreamsTopicStoreService(MetricsProvider metrics) {
+        this.metrics = metrics;
+    }
+
     public CompletionStage<TopicStore> start(Config config, Properties kafkaProperties) {
         String storeTopic = config.get(Config.STORE_TOPIC);
         String storeName = config.get(Config.STORE_NAME);
 
+        if (config.get(Config.STORE_PERSISTENT) && config.get(Config.STORE_STATE_DIR).isEmpty()) {
+            // The Kafka Streams default is under /tmp which is a small in-memory volume in the Topic Operator container
+            return CompletableFuture.failedFuture(new IllegalArgumentException("Config value: " + Config.TC_STORE_STATE_DIR
+                    + " is mandatory when " + Config.TC_STORE_PERSISTENT + " is enabled"));
+        }
+
         // check if entry topic has the right configuration
         Admin admin = Admin.create(kafkaProperties);
         LOGGER.info("Starting ...");
@@ -82,7 +101,7 @@ public class KafkaStreamsTopicStoreService {
         ProducerActions<String, TopicCommand> producer = new AsyncProducer<>(
                 kafkaProperties,
             Serdes.String().serializer(),
-            new TopicCommandSerde()
+            new TopicCommandSerde(config.get(Config.STORE_BINARY_FORMAT))
         );
         closeables.add(producer);
 
@@ -120,11 +139,18 @@ public class KafkaStreamsTopicStoreService {
             streamsProperties.put(StreamsConfig.REPLICATION_FACTOR_CONFIG, "-1");
         }
 
-        Topology topology = new TopicStoreTopologyProvider(storeTopic, storeName, streamsProperties, dispatcher).get();
+        boolean persistent = config.get(Config.STORE_PERSISTENT);
+        if (persistent) {
+            streamsProperties.put(StreamsConfig.STATE_DIR_CONFIG, config.get(Config.STORE_STATE_DIR));
+        }
+        LOGGER.info("Using {} topic store", persistent ? "persistent" : "in-memory");
+
+        Topology topology = new TopicStoreTopologyProvider(storeTopic, storeName, streamsProperties, dispatcher,
+                config.get(Config.STORE_BINARY_FORMAT), persistent).get();
 
         streams = new KafkaStreams(topology, streamsProperties);
         streams.setStateListener(listener);
-        streams.setGlobalStateRestoreListener(new LoggingStateRestoreListener());
+        streams.setGlobalStateRestoreListener(new TopicStoreRestoreListener(metrics));
         closeables.add(streams);
         streams.start();
 
@@ -6,11 +6,11 @@ package io.strimzi.operator.topic;
 
 import io.fabric8.kubernetes.client.Watcher;
 import io.strimzi.api.kafka.model.KafkaTopic;
+import io.strimzi.operator.common.MarkerCache;
 import io.strimzi.operator.common.Reconciliation;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import org.apache.logging.log4j.Marker;
-import org.apache.logging.log4j.MarkerManager;
 
 import java.util.Objects;
 import java.util.concurrent.atomic.AtomicInteger;
@@ -25,6 +25,7 @@ public class LogContext {
     private final String namespace;
     private final String topicName;
     private String resourceVersion;
+    private Reconciliation reconciliation;
 
     private LogContext(String trigger, String namespace, String topicName) {
         base = ctx.getAndIncrement() + "|" + trigger;
@@ -74,9 +75,7 @@ public class LogContext {
     }
 
     public Marker getMarker() {
-        String marker = "KafkaTopic(" + namespace + "/" + topicName + ")";
-        LOGGER.trace("marker is {}", marker);
-        return MarkerManager.getMarker(marker);
+        return MarkerCache.getInstance().get("KafkaTopic", namespace, topicName);
     }
 
     public LogContext withKubeTopic(KafkaTopic kafkaTopic) {
@@ -88,7 +87,13 @@ public class LogContext {
         return this;
     }
 
+    /**
+     * @return The reconciliation used for logging in this context. It is created on the first call and reused afterwards.
+     */
     public Reconciliation toReconciliation() {
-        return new Reconciliation(trigger, "KafkaTopic", namespace, topicName);
+        if (reconciliation == null) {
+            reconciliation = new Reconciliation(trigger, "KafkaTopic", namespace, topicName);
+        }
+        return reconciliation;
     }
 }
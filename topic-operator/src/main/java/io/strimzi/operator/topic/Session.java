@@ -10,6 +10,7 @@ import io.fabric8.kubernetes.client.Watch;
 import io.micrometer.prometheus.PrometheusMeterRegistry;
 import io.strimzi.api.kafka.KafkaTopicList;
 import io.strimzi.api.kafka.model.KafkaTopic;
+import io.strimzi.operator.common.MetricsProvider;
 import io.strimzi.operator.common.MicrometerMetricsProvider;
 import io.strimzi.operator.common.Util;
 import io.strimzi.operator.topic.zk.Zk;
@@ -159,7 +160,8 @@ public class Session extends AbstractVerticle {
 
         this.adminClient = AdminClient.create(adminClientProperties());
         LOGGER.debug("Using AdminClient {}", adminClient);
-        this.kafka = new KafkaImpl(adminClient, vertx);
+        this.kafka = new KafkaImpl(adminClient, vertx, config.get(Config.TOPIC_METADATA_CHUNK_SIZE),
+                config.get(Config.TOPIC_METADATA_CHUNK_CONCURRENCY));
         LOGGER.debug("Using Kafka {}", kafka);
         Labels labels = config.get(Config.LABELS);
 
@@ -182,6 +184,7 @@ public class Session extends AbstractVerticle {
                 this.zk = zkResult.result();
                 LOGGER.debug("Using ZooKeeper {}", zk);
 
+                MetricsProvider metrics = new MicrometerMetricsProvider();
                 String topicsPath = config.get(Config.TOPICS_PATH);
                 TopicStore topicStore;
                 if (config.get(Config.USE_ZOOKEEPER_TOPIC_STORE)) {
@@ -190,9 +193,9 @@ public class Session extends AbstractVerticle {
                     boolean exists = zk.getPathExists(topicsPath);
                     CompletionStage<KafkaStreamsTopicStoreService> cs;
                     if (exists) {
-                        cs = Zk2KafkaStreams.upgrade(zk, config, adminClientProperties(), false);
+                        cs = Zk2KafkaStreams.upgrade(zk, config, adminClientProperties(), false, metrics);
                     } else {
-                        KafkaStreamsTopicStoreService ksc = new KafkaStreamsTopicStoreService();
+                        KafkaStreamsTopicStoreService ksc = new KafkaStreamsTopicStoreService(metrics);
                         cs = ksc.start(config, adminClientProperties()).thenCompose(s -> CompletableFuture.completedFuture(ksc));
                     }
                     topicStore = ConcurrentUtil.result(
@@ -213,7 +216,7 @@ public class Session extends AbstractVerticle {
 
                 LOGGER.debug("Using TopicStore {}", topicStore);
 
-                this.topicOperator = new TopicOperator(vertx, kafka, k8s, topicStore, labels, namespace, config, new MicrometerMetricsProvider());
+                this.topicOperator = new TopicOperator(vertx, kafka, k8s, topicStore, labels, namespace, config, metrics);
                 LOGGER.debug("Using Operator {}", topicOperator);
 
                 this.topicConfigsWatcher = new TopicConfigsWatcher(topicOperator);
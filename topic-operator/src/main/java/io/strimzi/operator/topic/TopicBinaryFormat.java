@@ -0,0 +1,248 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.topic;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Compact binary encoding of {@link Topic}s and {@link TopicCommand}s used by the Kafka Streams based topic store.
+ * <p>
+ * Every record starts with the {@link #MAGIC} byte followed by the format version. The JSON format used by the
+ * previous versions always starts with {@code '{'}, so the readers can tell both formats apart and records written
+ * before the upgrade can still be read.
+ * <p>
+ * Strings are encoded as UTF-8 prefixed with their length plus one as a variable length integer, with 0 meaning null.
+ * The keys of the topic configuration which are in {@link #CONFIG_KEYS} are encoded as their index in the dictionary
+ * instead of the full key.
+ */
+class TopicBinaryFormat {
+    /**
+     * First byte of the binary records. It can never be the first byte of a JSON document.
+     */
+    static final byte MAGIC = 0;
+    /**
+     * The current version of the binary format
+     */
+    static final byte VERSION = 1;
+
+    /**
+     * Dictionary of well-known topic configuration keys. The index of a key in the list is part of the format, so new
+     * keys can only be appended to the end of the list.
+     */
+    static final List<String> CONFIG_KEYS = List.of(
+            "cleanup.policy",
+            "compression.type",
+            "delete.retention.ms",
+            "file.delete.delay.ms",
+            "flush.messages",
+            "flush.ms",
+            "follower.replication.throttled.replicas",
+            "index.interval.bytes",
+            "leader.replication.throttled.replicas",
+            "max.compaction.lag.ms",
+            "max.message.bytes",
+            "message.downconversion.enable",
+            "message.format.version",
+            "message.timestamp.difference.max.ms",
+            "message.timestamp.type",
+            "min.cleanable.dirty.ratio",
+            "min.compaction.lag.ms",
+            "min.insync.replicas",
+            "preallocate",
+            "retention.bytes",
+            "retention.ms",
+            "segment.bytes",
+            "segment.index.bytes",
+            "segment.jitter.ms",
+            "segment.ms",
+            "unclean.leader.election.enable"
+    );
+
+    private static final Map<String, Integer> CONFIG_KEY_INDEXES = new HashMap<>(CONFIG_KEYS.size());
+
+    static {
+        for (int i = 0; i < CONFIG_KEYS.size(); i++) {
+            CONFIG_KEY_INDEXES.put(CONFIG_KEYS.get(i), i);
+        }
+    }
+
+    /**
+     * Writes the binary encoding of a value
+     */
+    @FunctionalInterface
+    interface BinaryWriter {
+        void write(DataOutputStream out) throws IOException;
+    }
+
+    /**
+     * Reads the binary encoding of a value
+     *
+     * @param <T> the type of the value
+     */
+    @FunctionalInterface
+    interface BinaryReader<T> {
+        T read(ByteBuffer in);
+    }
+
+    private TopicBinaryFormat() { }
+
+    /**
+     * @param data the serialized record
+     * @return true if the record uses the binary format, false if it uses the JSON format
+     */
+    static boolean isBinary(byte[] data) {
+        return data != null && data.length > 0 && data[0] == MAGIC;
+    }
+
+    /**
+     * Returns the binary record written by the given writer prefixed with the format header.
+     *
+     * @param writer the writer
+     * @return the binary record
+     */
+    static byte[] toBytes(BinaryWriter writer) {
+        ByteArrayOutputStream baos = new ByteArrayOutputStream(128);
+        try (DataOutputStream out = new DataOutputStream(baos)) {
+            out.writeByte(MAGIC);
+            out.writeByte(VERSION);
+            writer.write(out);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return baos.toByteArray();
+    }
+
+    /**
+     * Checks the format header of the given binary record and reads it using the given reader.
+     *
+     * @param data the binary record
+     * @param reader the reader
+     * @param <T> the type of the value
+     * @return the value returned by the reader
+     */
+    static <T> T fromBytes(byte[] data, BinaryReader<T> reader) {
+        ByteBuffer in = ByteBuffer.wrap(data);
+        try {
+            byte magic = in.get();
+            byte version = in.get();
+            if (magic != MAGIC || version != VERSION) {
+                throw new IllegalArgumentException("Unsupported topic store record format " + magic + "/" + version);
+            }
+            return reader.read(in);
+        } catch (BufferUnderflowException e) {
+            throw new IllegalArgumentException("Truncated topic store record", e);
+        }
+    }
+
+    /**
+     * Writes the topic. The Kubernetes metadata of the topic are not written.
+     *
+     * @param out the output
+     * @param topic the topic
+     * @throws IOException if the topic could not be written
+     */
+    static void writeTopic(DataOutputStream out, Topic topic) throws IOException {
+        writeString(out, topic.getTopicName().toString());
+        writeString(out, topic.getOrAsKubeName().toString());
+        out.writeInt(topic.getNumPartitions());
+        out.writeShort(topic.getNumReplicas());
+
+        Map<String, String> config = topic.getConfig();
+        writeVarInt(out, config.size());
+        for (Map.Entry<String, String> entry : config.entrySet()) {
+            Integer index = CONFIG_KEY_INDEXES.get(entry.getKey());
+            if (index != null) {
+                // Dictionary keys are encoded as index + 1, 0 means the key follows as a string
+                writeVarInt(out, index + 1);
+            } else {
+                writeVarInt(out, 0);
+                writeString(out, entry.getKey());
+            }
+            writeString(out, entry.getValue());
+        }
+    }
+
+    /**
+     * Reads the topic written by {@link #writeTopic(DataOutputStream, Topic)}.
+     *
+     * @param in the input
+     * @return the topic
+     */
+    static Topic readTopic(ByteBuffer in) {
+        Topic.Builder builder = new Topic.Builder()
+                .withTopicName(readString(in))
+                .withMapName(readString(in))
+                .withNumPartitions(in.getInt())
+                .withNumReplicas(in.getShort());
+
+        int configSize = readVarInt(in);
+        for (int i = 0; i < configSize; i++) {
+            int keyIndex = readVarInt(in);
+            String key;
+            if (keyIndex == 0) {
+                key = readString(in);
+            } else if (keyIndex <= CONFIG_KEYS.size()) {
+                key = CONFIG_KEYS.get(keyIndex - 1);
+            } else {
+                throw new IllegalArgumentException("Unknown topic config key index " + (keyIndex - 1));
+            }
+            builder.withConfigEntry(key, readString(in));
+        }
+
+        return builder.build();
+    }
+
+    static void writeString(DataOutputStream out, String value) throws IOException {
+        if (value == null) {
+            writeVarInt(out, 0);
+        } else {
+            byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+            writeVarInt(out, bytes.length + 1);
+            out.write(bytes);
+        }
+    }
+
+    static String readString(ByteBuffer in) {
+        int length = readVarInt(in) - 1;
+        if (length < 0) {
+            return null;
+        } else if (length > in.remaining()) {
+            throw new IllegalArgumentException("Truncated topic store record");
+        }
+
+        String value = new String(in.array(), in.arrayOffset() + in.position(), length, StandardCharsets.UTF_8);
+        in.position(in.position() + length);
+        return value;
+    }
+
+    static void writeVarInt(DataOutputStream out, int value) throws IOException {
+        while ((value & ~0x7F) != 0) {
+            out.writeByte((value & 0x7F) | 0x80);
+            value >>>= 7;
+        }
+        out.writeByte(value);
+    }
+
+    static int readVarInt(ByteBuffer in) {
+        int value = 0;
+        for (int shift = 0; shift < 32; shift += 7) {
+            byte b = in.get();
+            value |= (b & 0x7F) << shift;
+            if ((b & 0x80) == 0) {
+                return value;
+            }
+        }
+        throw new IllegalArgumentException("Malformed variable length integer in topic store record");
+    }
+}
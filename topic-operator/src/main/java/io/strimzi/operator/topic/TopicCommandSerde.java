@@ -4,14 +4,13 @@
  */
 package io.strimzi.operator.topic;
 
-import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.core.JsonToken;
 import io.apicurio.registry.utils.kafka.SelfSerde;
 
-import java.io.IOException;
-import java.io.UncheckedIOException;
-
 /**
- * TopicCommand Kafka Serde
+ * TopicCommand Kafka Serde.
+ * Commands are written either in the {@link TopicBinaryFormat} or as JSON. Both formats can always be read.
  */
 public class TopicCommandSerde extends SelfSerde<TopicCommand> {
 
@@ -21,43 +20,111 @@ public class TopicCommandSerde extends SelfSerde<TopicCommand> {
     private static final String KEY = "key";
     private static final String VERSION = "version";
 
+    private final boolean binaryFormat;
+
+    /**
+     * Creates the serde writing the commands as JSON, which can be read by all versions of the Topic Operator
+     */
+    public TopicCommandSerde() {
+        this(false);
+    }
+
+    /**
+     * @param binaryFormat Whether the commands should be written in the binary format instead of JSON
+     */
+    public TopicCommandSerde(boolean binaryFormat) {
+        this.binaryFormat = binaryFormat;
+    }
+
     @Override
     public byte[] serialize(String topic, TopicCommand data) {
-        return TopicSerialization.toBytes((mapper, root) -> {
-            root.put(UUID, data.getUuid());
+        if (binaryFormat) {
+            return TopicBinaryFormat.toBytes(out -> {
+                TopicBinaryFormat.writeString(out, data.getUuid());
+                out.writeInt(data.getVersion());
+                TopicCommand.Type type = data.getType();
+                out.writeByte(type.getId());
+                if (type == TopicCommand.Type.CREATE || type == TopicCommand.Type.UPDATE) {
+                    TopicBinaryFormat.writeTopic(out, data.getTopic());
+                } else {
+                    TopicBinaryFormat.writeString(out, data.getKey());
+                }
+            });
+        }
+
+        return TopicSerialization.toBytes(generator -> {
+            generator.writeStartObject();
+            generator.writeStringField(UUID, data.getUuid());
             TopicCommand.Type type = data.getType();
-            root.put(VERSION, data.getVersion());
-            root.put(TYPE, type.getId());
+            generator.writeNumberField(VERSION, data.getVersion());
+            generator.writeNumberField(TYPE, type.getId());
             if (type == TopicCommand.Type.CREATE || type == TopicCommand.Type.UPDATE) {
-                JsonNode json = TopicSerialization.toJsonNode(data.getTopic());
-                root.set(TOPIC, json);
+                generator.writeFieldName(TOPIC);
+                TopicSerialization.writeTopic(generator, data.getTopic());
             } else {
-                root.put(KEY, data.getKey());
+                generator.writeStringField(KEY, data.getKey());
             }
+            generator.writeEndObject();
         });
     }
 
     @Override
     public TopicCommand deserialize(String t, byte[] data) {
-        return TopicSerialization.fromJson(data, (mapper, bytes) -> {
-            try {
-                JsonNode root = mapper.readTree(bytes);
-                String uuid = root.get(UUID).asText();
-                int id = root.get(TYPE).asInt();
-                TopicCommand.Type type = TopicCommand.Type.fromId(id);
-                Topic topic = null;
-                TopicName name = null;
+        if (TopicBinaryFormat.isBinary(data)) {
+            return TopicBinaryFormat.fromBytes(data, in -> {
+                String uuid = TopicBinaryFormat.readString(in);
+                int version = in.getInt();
+                TopicCommand.Type type = TopicCommand.Type.fromId(in.get());
                 if (type == TopicCommand.Type.CREATE || type == TopicCommand.Type.UPDATE) {
-                    JsonNode json = root.get(TOPIC);
-                    topic = TopicSerialization.fromJsonNode(json);
+                    return new TopicCommand(uuid, type, TopicBinaryFormat.readTopic(in), null, version);
                 } else {
-                    name = new TopicName(root.get(KEY).asText());
+                    return new TopicCommand(uuid, type, null, new TopicName(TopicBinaryFormat.readString(in)), version);
                 }
-                int version = root.get(VERSION).asInt();
-                return new TopicCommand(uuid, type, topic, name, version);
-            } catch (IOException e) {
-                throw new UncheckedIOException(e);
+            });
+        }
+
+        return TopicSerialization.fromJson(data, parser -> {
+            if (parser.nextToken() != JsonToken.START_OBJECT) {
+                throw new JsonParseException(parser, "Expected a topic command object but got " + parser.currentToken());
+            }
+
+            String uuid = null;
+            TopicCommand.Type type = null;
+            Topic topic = null;
+            TopicName name = null;
+            int version = 0;
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String field = parser.getCurrentName();
+                parser.nextToken();
+
+                switch (field) {
+                    case UUID:
+                        uuid = parser.getValueAsString();
+                        break;
+                    case TYPE:
+                        type = TopicCommand.Type.fromId(parser.getValueAsInt());
+                        break;
+                    case TOPIC:
+                        topic = TopicSerialization.readTopic(parser);
+                        break;
+                    case KEY:
+                        name = new TopicName(parser.getValueAsString());
+                        break;
+                    case VERSION:
+                        version = parser.getValueAsInt();
+                        break;
+                    default:
+                        parser.skipChildren();
+                }
+            }
+
+            // Only one of the topic and the key is relevant for the command type
+            if (type == TopicCommand.Type.CREATE || type == TopicCommand.Type.UPDATE) {
+                name = null;
+            } else {
+                topic = null;
             }
+            return new TopicCommand(uuid, type, topic, name, version);
         });
     }
 }
@@ -0,0 +1,48 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.topic;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * The names of all the topics in Kafka together with the metadata of those topics which could be fetched
+ * in bulk at the time the snapshot was taken.
+ * The metadata of a listed topic can be missing from the snapshot (for example because the topic was deleted
+ * between listing and describing it, or because the describe request failed), in which case it has
+ * to be fetched individually using {@link Kafka#topicMetadata(io.strimzi.operator.common.Reconciliation, TopicName)}.
+ */
+public class TopicMetadataSnapshot {
+    private final Set<TopicName> topicNames;
+    private final Map<TopicName, TopicMetadata> metadata;
+
+    public TopicMetadataSnapshot(Set<TopicName> topicNames, Map<TopicName, TopicMetadata> metadata) {
+        this.topicNames = Collections.unmodifiableSet(topicNames);
+        this.metadata = Collections.unmodifiableMap(metadata);
+    }
+
+    /**
+     * @return The names of all the topics in Kafka.
+     */
+    public Set<TopicName> topicNames() {
+        return topicNames;
+    }
+
+    /**
+     * @param topicName The name of the topic.
+     * @return The metadata of the given topic, or null if the snapshot doesn't contain it.
+     */
+    public TopicMetadata metadata(TopicName topicName) {
+        return metadata.get(topicName);
+    }
+
+    /**
+     * @return The number of topics whose metadata is in the snapshot.
+     */
+    public int size() {
+        return metadata.size();
+    }
+}
@@ -12,16 +12,17 @@ import io.micrometer.core.instrument.Counter;
 import io.micrometer.core.instrument.Tag;
 import io.micrometer.core.instrument.Tags;
 import io.micrometer.core.instrument.Timer;
-import io.micrometer.core.instrument.Meter;
 import io.strimzi.api.kafka.model.KafkaTopic;
 import io.strimzi.api.kafka.model.KafkaTopicBuilder;
 import io.strimzi.api.kafka.model.status.KafkaTopicStatus;
 import io.strimzi.operator.cluster.model.StatusDiff;
 import io.strimzi.operator.common.Annotations;
 import io.strimzi.operator.common.BackOff;
+import io.strimzi.operator.common.MarkerCache;
 import io.strimzi.operator.common.MaxAttemptsExceededException;
 import io.strimzi.operator.common.MetricsProvider;
 import io.strimzi.operator.common.ReconciliationLogger;
+import io.strimzi.operator.common.ResourceStateMetrics;
 import io.strimzi.operator.common.Util;
 import io.strimzi.operator.common.operator.resource.StatusUtils;
 import io.vertx.core.AsyncResult;
@@ -42,13 +43,12 @@ import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
-import java.util.Optional;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.BiFunction;
-import java.util.stream.Collectors;
 
 import static java.util.Collections.disjoint;
 import static java.util.Collections.emptyList;
@@ -69,6 +69,15 @@ class TopicOperator {
     private final TopicStore topicStore;
     private final Config config;
     private final ConcurrentHashMap<TopicName, Integer> inflight = new ConcurrentHashMap<>();
+    /**
+     * The sequence number of the last completed action for each topic, used to detect whether the metadata
+     * in a {@link TopicMetadataSnapshot} might have been made stale by an action completed after the snapshot was taken.
+     * The actions are recorded only while a reconciliation using a snapshot is in progress and the map is cleared once
+     * the last of them completes, so it does not grow with the topics created and deleted over time.
+     */
+    private final ConcurrentHashMap<TopicName, Long> lastCompletedAction = new ConcurrentHashMap<>();
+    private final AtomicLong actionSequence = new AtomicLong();
+    private int snapshotsInProgress = 0;
 
     protected final MetricsProvider metrics;
     private Counter periodicReconciliationsCounter;
@@ -79,6 +88,7 @@ class TopicOperator {
     private AtomicInteger topicCounter;
     protected AtomicInteger pausedTopicCounter;
     protected Timer reconciliationsTimer;
+    private ResourceStateMetrics resourceStateMetrics;
 
     enum EventType {
         INFO("Info"),
@@ -402,6 +412,8 @@ class TopicOperator {
         if (metrics != null) {
             Tags metricTags = Tags.of(Tag.of("kind", "KafkaTopic"));
 
+            resourceStateMetrics = new ResourceStateMetrics(metrics);
+
             periodicReconciliationsCounter = metrics.counter(METRICS_PREFIX + "reconciliations.periodical",
                     "Number of periodical reconciliations done by the operator",
                     metricTags);
@@ -486,31 +498,12 @@ class TopicOperator {
                 action.execute().onComplete(actionResult -> {
                     LOGGER.debugCr(logContext.toReconciliation(), "Executing handler for action {} on topic {}", action, lockName);
                     action.result = actionResult;
-                    String keytag = namespace + ":" + "KafkaTopic" + "/" + key.asKubeName().toString();
-                    Optional<Meter> metric = metrics.meterRegistry().getMeters()
-                            .stream()
-                            .filter(meter -> meter.getId().getName().equals(METRICS_PREFIX + "resource.state") &&
-                                    meter.getId().getTags().contains(Tag.of("kind", "KafkaTopic")) &&
-                                    meter.getId().getTags().contains(Tag.of("name",  action.topic == null ? key.asKubeName().toString() : action.topic.getMetadata().getName())) &&
-                                    meter.getId().getTags().contains(Tag.of("resource-namespace", namespace))
-                            ).findFirst();
-                    if (metric.isPresent()) {
-                        // remove metric so it can be re-added with new tags
-                        metrics.meterRegistry().remove(metric.get().getId());
-                        LOGGER.debugCr(logContext.toReconciliation(), "Removed metric {}.resource.state{{}}", METRICS_PREFIX, keytag);
-                    }
-
                     if (action.topic != null) {
-                        boolean succeeded = actionResult.succeeded();
-                        Tags metricTags;
-                        metricTags = Tags.of(
-                                Tag.of("kind", action.topic.getKind()),
-                                Tag.of("name", action.topic.getMetadata().getName()),
-                                Tag.of("resource-namespace", namespace),
-                                Tag.of("reason", succeeded ? "none" : actionResult.cause().getMessage() == null ? "unknown error" : actionResult.cause().getMessage()));
-
-                        metrics.gauge(METRICS_PREFIX + "resource.state", "Current state of the resource: 1 ready, 0 fail", metricTags).set(actionResult.succeeded() ? 1 : 0);
-                        LOGGER.debugCr(logContext.toReconciliation(), "Updated metric " + METRICS_PREFIX + "resource.state{} = {}", metricTags, succeeded ? 1 : 0);
+                        resourceStateMetrics.update(logContext.toReconciliation(), action.topic.getKind(), namespace,
+                                action.topic.getMetadata().getName(), actionResult.succeeded(), actionResult.cause());
+                    } else {
+                        resourceStateMetrics.remove(logContext.toReconciliation(), "KafkaTopic", namespace, key.asKubeName().toString());
+                        MarkerCache.getInstance().remove("KafkaTopic", namespace, key.asKubeName().toString());
                     }
                     // Update status with lock held so that event is ignored via statusUpdateGeneration
                     action.updateStatus(logContext).onComplete(statusResult -> {
@@ -526,6 +519,7 @@ class TopicOperator {
                         } catch (Throwable t) {
                             result.fail(t);
                         } finally {
+                            actionCompleted(key);
                             lockResult.result().release();
                             LOGGER.debugCr(logContext.toReconciliation(), "Lock released");
                             inflight.compute(key, decrement);
@@ -1297,6 +1291,7 @@ class TopicOperator {
         private final Set<TopicName> undetermined;
         private final Map<TopicName, Throwable> failed;
         private List<KafkaTopic> ktList;
+        private TopicMetadataSnapshot snapshot;
 
         public ReconcileState(Set<TopicName> succeeded, Set<TopicName> undetermined, Map<TopicName, Throwable> failed) {
             this.succeeded = succeeded;
@@ -1308,16 +1303,22 @@ class TopicOperator {
         public void setKafkaTopics(List<KafkaTopic> ktList) {
             this.ktList = ktList;
         }
+
+        public void setSnapshot(TopicMetadataSnapshot snapshot) {
+            this.snapshot = snapshot;
+        }
     }
 
     Future<?> reconcileAllTopics(String reconciliationType) {
         LOGGER.infoOp("Starting {} reconciliation", reconciliationType);
-        return kafka.listTopics().recover(ex -> Future.failedFuture(
+        long snapshotSequence = snapshotStarted();
+        return kafka.topicMetadataSnapshot().recover(ex -> Future.failedFuture(
                 new OperatorException("Error listing existing topics during " + reconciliationType + " reconciliation", ex)
-        )).compose(topicNamesFromKafka ->
-                // Reconcile the topic found in Kafka
-                reconcileFromKafka(reconciliationType, topicNamesFromKafka.stream().map(TopicName::new).collect(Collectors.toList()))
-        ).compose(reconcileState -> {
+        )).compose(snapshot -> {
+            LOGGER.debugOp("Got metadata of {} out of {} topics in bulk", snapshot.size(), snapshot.topicNames().size());
+            // Reconcile the topic found in Kafka
+            return reconcileFromKafka(reconciliationType, new ArrayList<>(snapshot.topicNames()), snapshot, snapshotSequence);
+        }).compose(reconcileState -> {
             Future<List<KafkaTopic>> ktFut = k8s.listResources();
             return ktFut.recover(ex -> Future.failedFuture(
                     new OperatorException("Error listing existing KafkaTopics during " + reconciliationType + " reconciliation", ex)
@@ -1377,20 +1378,65 @@ class TopicOperator {
                         @Override
                         public Future<Void> execute() {
                             observedTopicFuture(null);
-                            return getKafkaAndReconcile(this, logContext, tn, null, null);
+                            return getKafkaAndReconcile(this, logContext, tn, null, null,
+                                    snapshotMetadata(reconcileState.snapshot, snapshotSequence, tn));
                         }
                     }));
                 }
                 return CompositeFuture.join(futs2);
             });
-        });
+        }).onComplete(ignored -> snapshotCompleted());
+    }
+
+    /**
+     * Records the start of a reconciliation which uses a topic metadata snapshot
+     *
+     * @return  The sequence number of the last completed action before the snapshot is taken
+     */
+    private long snapshotStarted() {
+        synchronized (lastCompletedAction) {
+            snapshotsInProgress++;
+            return actionSequence.get();
+        }
+    }
+
+    /**
+     * Records the completion of a reconciliation which used a topic metadata snapshot. When no other such reconciliation
+     * is in progress, the completed actions are not needed anymore and are forgotten.
+     */
+    private void snapshotCompleted() {
+        synchronized (lastCompletedAction) {
+            if (--snapshotsInProgress == 0) {
+                lastCompletedAction.clear();
+            }
+        }
+    }
+
+    /**
+     * Records the completion of an action on the given topic
+     *
+     * @param topicName     Name of the topic
+     */
+    private void actionCompleted(TopicName topicName) {
+        synchronized (lastCompletedAction) {
+            long sequence = actionSequence.incrementAndGet();
+
+            if (snapshotsInProgress > 0) {
+                lastCompletedAction.put(topicName, sequence);
+            }
+        }
+    }
+
+    /* test */ int lastCompletedActionSize() {
+        return lastCompletedAction.size();
     }
 
 
     /**
      * Reconcile all the topics in {@code foundFromKafka}, returning a ReconciliationState.
      */
-    private Future<ReconcileState> reconcileFromKafka(String reconciliationType, List<TopicName> topicsFromKafka) {
+    private Future<ReconcileState> reconcileFromKafka(String reconciliationType, List<TopicName> topicsFromKafka,
+                                                      TopicMetadataSnapshot snapshot, long snapshotSequence) {
         Set<TopicName> succeeded = new HashSet<>();
         Set<TopicName> undetermined = new HashSet<>();
         Map<TopicName, Throwable> failed = new HashMap<>();
@@ -1398,6 +1444,7 @@ class TopicOperator {
         LOGGER.debugOp("Reconciling kafka topics {}", topicsFromKafka);
 
         final ReconcileState state = new ReconcileState(succeeded, undetermined, failed);
+        state.setSnapshot(snapshot);
         if (topicsFromKafka.size() > 0) {
             List<Future<Void>> futures = new ArrayList<>();
             for (TopicName topicName : topicsFromKafka) {
@@ -1417,7 +1464,8 @@ class TopicOperator {
                                 return Future.succeededFuture();
                             } else {
                                 LOGGER.debugCr(logContext.toReconciliation(), "Have private topic for topic {} in Kafka", topicName);
-                                return reconcileWithPrivateTopic(logContext, topicName, topic, this)
+                                return reconcileWithPrivateTopic(logContext, topicName, topic, this,
+                                            snapshotMetadata(snapshot, snapshotSequence, topicName))
                                         .<Void>map(ignored -> {
                                             LOGGER.debugCr(logContext.toReconciliation(), "{} reconcile success -> succeeded", topicName);
                                             succeeded.add(topicName);
@@ -1447,12 +1495,26 @@ class TopicOperator {
     }
 
 
+    /**
+     * Returns the metadata of the given topic from the given snapshot, unless an action on the topic completed
+     * after the snapshot was taken, in which case the metadata in the snapshot might be stale.
+     */
+    private TopicMetadata snapshotMetadata(TopicMetadataSnapshot snapshot, long snapshotSequence, TopicName topicName) {
+        Long lastAction = lastCompletedAction.get(topicName);
+        if (lastAction != null && lastAction > snapshotSequence) {
+            return null;
+        }
+        return snapshot.metadata(topicName);
+    }
+
     /**
      * Reconcile the given topic which has the given {@code privateTopic} in the topic store.
+     * The topic metadata is fetched from Kafka unless the given {@code kafkaTopicMeta} is not null.
      */
     private Future<Void> reconcileWithPrivateTopic(LogContext logContext, TopicName topicName,
                                                    Topic privateTopic,
-                                                   Reconciliation reconciliation) {
+                                                   Reconciliation reconciliation,
+                                                   TopicMetadata kafkaTopicMeta) {
         return k8s.getFromName(privateTopic.getResourceName())
             .recover(error -> {
                 LOGGER.errorCr(logContext.toReconciliation(), "Error getting KafkaTopic {} for topic {}",
@@ -1461,12 +1523,12 @@ class TopicOperator {
             })
             .compose(kafkaTopicResource -> {
                 reconciliation.observedTopicFuture(kafkaTopicResource);
-                return getKafkaAndReconcile(reconciliation, logContext, topicName, privateTopic, kafkaTopicResource);
+                return getKafkaAndReconcile(reconciliation, logContext, topicName, privateTopic, kafkaTopicResource, kafkaTopicMeta);
             });
     }
 
     private Future<Void> getKafkaAndReconcile(Reconciliation reconciliation, LogContext logContext, TopicName topicName,
-                                              Topic privateTopic, KafkaTopic kafkaTopicResource) {
+                                              Topic privateTopic, KafkaTopic kafkaTopicResource, TopicMetadata prefetchedTopicMeta) {
         logContext.withKubeTopic(kafkaTopicResource);
         Promise<Void> topicPromise = Promise.promise();
         try {
@@ -1479,7 +1541,9 @@ class TopicOperator {
                                 EventType.WARNING, eventResult -> { }));
                     }
                 })
-                .compose(i -> kafka.topicMetadata(logContext.toReconciliation(), topicName))
+                .compose(i -> prefetchedTopicMeta != null
+                        ? Future.succeededFuture(prefetchedTopicMeta)
+                        : kafka.topicMetadata(logContext.toReconciliation(), topicName))
                 .compose(kafkaTopicMeta -> {
                     Topic topicFromKafka = TopicSerialization.fromTopicMetadata(kafkaTopicMeta);
                     return reconcile(reconciliation, logContext, kafkaTopicResource, k8sTopic, topicFromKafka, privateTopic);
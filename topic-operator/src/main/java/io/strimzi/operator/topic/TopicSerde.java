@@ -7,16 +7,41 @@ package io.strimzi.operator.topic;
 import io.apicurio.registry.utils.kafka.SelfSerde;
 
 /**
- * Topic Kafka Serde
+ * Topic Kafka Serde.
+ * Topics are written either in the {@link TopicBinaryFormat} or as JSON. Both formats can always be read.
  */
 public class TopicSerde extends SelfSerde<Topic> {
+    private final boolean binaryFormat;
+
+    /**
+     * Creates the serde writing the topics as JSON, which can be read by all versions of the Topic Operator
+     */
+    public TopicSerde() {
+        this(false);
+    }
+
+    /**
+     * @param binaryFormat Whether the topics should be written in the binary format instead of JSON
+     */
+    public TopicSerde(boolean binaryFormat) {
+        this.binaryFormat = binaryFormat;
+    }
+
     @Override
     public byte[] serialize(String topic, Topic data) {
-        return TopicSerialization.toJson(data);
+        if (binaryFormat) {
+            return TopicBinaryFormat.toBytes(out -> TopicBinaryFormat.writeTopic(out, data));
+        } else {
+            return TopicSerialization.toJson(data);
+        }
     }
 
     @Override
     public Topic deserialize(String topic, byte[] data) {
-        return TopicSerialization.fromJson(data);
+        if (TopicBinaryFormat.isBinary(data)) {
+            return TopicBinaryFormat.fromBytes(data, TopicBinaryFormat::readTopic);
+        } else {
+            return TopicSerialization.fromJson(data);
+        }
     }
 }
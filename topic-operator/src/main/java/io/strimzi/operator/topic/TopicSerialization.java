@@ -5,11 +5,10 @@
 package io.strimzi.operator.topic;
 
 import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParseException;
 import com.fasterxml.jackson.core.JsonParser;
-import com.fasterxml.jackson.core.type.TypeReference;
-import com.fasterxml.jackson.databind.JsonNode;
-import com.fasterxml.jackson.databind.ObjectMapper;
-import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.fasterxml.jackson.core.JsonToken;
 import io.fabric8.kubernetes.api.model.ObjectMeta;
 import io.fabric8.kubernetes.api.model.ObjectMetaBuilder;
 import io.strimzi.api.kafka.model.KafkaTopic;
@@ -21,6 +20,7 @@ import org.apache.kafka.common.config.ConfigResource;
 
 import java.io.ByteArrayOutputStream;
 import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashMap;
@@ -28,8 +28,6 @@ import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
-import java.util.function.BiConsumer;
-import java.util.function.BiFunction;
 
 import static java.lang.String.format;
 
@@ -45,6 +43,10 @@ class TopicSerialization {
     public static final String JSON_KEY_REPLICAS = "replicas";
     public static final String JSON_KEY_CONFIG = "config";
 
+    // JsonFactory is thread-safe once configured, so it is shared by all the generators and parsers
+    private static final JsonFactory JSON_FACTORY = new JsonFactory()
+            .configure(JsonParser.Feature.INCLUDE_SOURCE_IN_LOCATION, false);
+
     @SuppressWarnings("unchecked")
     private static Map<String, String> topicConfigFromTopicConfig(KafkaTopic kafkaTopic) {
         if (kafkaTopic.getSpec().getConfig() != null) {
@@ -249,103 +251,145 @@ class TopicSerialization {
      * This is what is stored in the znodes owned by the {@link ZkTopicStore}.
      */
     public static byte[] toJson(Topic topic) {
-        return toBytes((mapper, root) -> {
-            fillObjectNode(root, topic);
-        });
+        return toBytes(generator -> writeTopic(generator, topic));
     }
 
     /**
-     * Write topic to JsonNode.
+     * Writes the topic as a JSON object using the given generator.
      *
+     * @param generator the generator
      * @param topic the topic
-     * @return topic as json node
+     * @throws IOException if the topic could not be written
      */
-    public static JsonNode toJsonNode(Topic topic) {
-        ObjectNode root = objectMapper().createObjectNode();
-        fillObjectNode(root, topic);
-        return root;
-    }
-
-    private static void fillObjectNode(ObjectNode root, Topic topic) {
+    static void writeTopic(JsonGenerator generator, Topic topic) throws IOException {
         // TODO Do we store the k8s uid here?
-        root.put(JSON_KEY_MAP_NAME, topic.getOrAsKubeName().toString());
-        root.put(JSON_KEY_TOPIC_NAME, topic.getTopicName().toString());
-        root.put(JSON_KEY_PARTITIONS, topic.getNumPartitions());
-        root.put(JSON_KEY_REPLICAS, topic.getNumReplicas());
+        generator.writeStartObject();
+        generator.writeStringField(JSON_KEY_MAP_NAME, topic.getOrAsKubeName().toString());
+        generator.writeStringField(JSON_KEY_TOPIC_NAME, topic.getTopicName().toString());
+        generator.writeNumberField(JSON_KEY_PARTITIONS, topic.getNumPartitions());
+        generator.writeNumberField(JSON_KEY_REPLICAS, (int) topic.getNumReplicas());
 
-        ObjectNode config = objectMapper().createObjectNode();
+        generator.writeObjectFieldStart(JSON_KEY_CONFIG);
         for (Map.Entry<String, String> entry : topic.getConfig().entrySet()) {
-            config.put(entry.getKey(), entry.getValue());
+            generator.writeStringField(entry.getKey(), entry.getValue());
         }
-        root.set(JSON_KEY_CONFIG, config);
+        generator.writeEndObject();
+
+        generator.writeEndObject();
     }
 
     /**
      * Returns the Topic represented by the given UTF-8 encoded JSON.
      * This is what is stored in the znodes owned by the {@link ZkTopicStore}.
      */
-    @SuppressWarnings("unchecked")
     public static Topic fromJson(byte[] json) {
-        return fromJson(json, (mapper, bytes) -> {
-            Map<String, Object> root;
-            try {
-                root = mapper.readValue(json, Map.class);
-            } catch (IOException e) {
-                throw new RuntimeException(e);
-            }
-            return fromMap(root);
+        return fromJson(json, parser -> {
+            parser.nextToken();
+            return readTopic(parser);
         });
     }
 
     /**
-     * Read Topic from json node.
+     * Reads the topic from the JSON object at the current token of the given parser.
+     * Unknown fields are ignored.
      *
-     * @param root the map
-     * @return topic from map
+     * @param parser the parser positioned at the start of the topic object
+     * @return topic read from the parser
+     * @throws IOException if the topic could not be read
      */
-    public static Topic fromJsonNode(JsonNode root) {
-        TypeReference<Map<String, Object>> ref = new TypeReference<Map<String, Object>>() {
-        };
-        Map<String, Object> map = objectMapper().convertValue(root, ref);
-        return fromMap(map);
-    }
+    static Topic readTopic(JsonParser parser) throws IOException {
+        if (parser.currentToken() != JsonToken.START_OBJECT) {
+            throw new JsonParseException(parser, "Expected a topic object but got " + parser.currentToken());
+        }
 
-    @SuppressWarnings({"unchecked", "rawtypes"})
-    private static Topic fromMap(Map<String, Object> root) {
         Topic.Builder builder = new Topic.Builder();
-        builder.withTopicName((String) root.get(JSON_KEY_TOPIC_NAME))
-                .withMapName((String) root.get(JSON_KEY_MAP_NAME))
-                .withNumPartitions((Integer) root.get(JSON_KEY_PARTITIONS))
-                .withNumReplicas(((Integer) root.get(JSON_KEY_REPLICAS)).shortValue());
-        Map<String, String> config = (Map) root.get(JSON_KEY_CONFIG);
-        for (Map.Entry<String, String> entry : config.entrySet()) {
-            builder.withConfigEntry(entry.getKey(), entry.getValue());
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.getCurrentName();
+            parser.nextToken();
+
+            switch (field) {
+                case JSON_KEY_TOPIC_NAME:
+                    builder.withTopicName(parser.getValueAsString());
+                    break;
+                case JSON_KEY_MAP_NAME:
+                    builder.withMapName(parser.getValueAsString());
+                    break;
+                case JSON_KEY_PARTITIONS:
+                    builder.withNumPartitions(parser.getIntValue());
+                    break;
+                case JSON_KEY_REPLICAS:
+                    builder.withNumReplicas((short) parser.getIntValue());
+                    break;
+                case JSON_KEY_CONFIG:
+                    if (parser.currentToken() != JsonToken.START_OBJECT) {
+                        parser.skipChildren();
+                        break;
+                    }
+                    while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                        String key = parser.getCurrentName();
+                        parser.nextToken();
+                        builder.withConfigEntry(key, parser.getValueAsString());
+                        // Config values are strings, but do not lose track of the fields if they are not
+                        parser.skipChildren();
+                    }
+                    break;
+                default:
+                    parser.skipChildren();
+            }
         }
+
         return builder.build();
     }
 
-    static byte[] toBytes(BiConsumer<ObjectMapper, ObjectNode> consumer) {
-        ObjectMapper mapper = objectMapper();
-        ObjectNode root = mapper.createObjectNode();
-        consumer.accept(mapper, root);
+    /**
+     * Writes JSON using a generator
+     */
+    @FunctionalInterface
+    interface JsonWriter {
+        void write(JsonGenerator generator) throws IOException;
+    }
+
+    /**
+     * Reads JSON using a parser
+     *
+     * @param <T> the type of the value read from the JSON
+     */
+    @FunctionalInterface
+    interface JsonReader<T> {
+        T read(JsonParser parser) throws IOException;
+    }
+
+    /**
+     * Returns the UTF-8 encoded JSON written by the given writer. The generator is backed by a shared JSON factory,
+     * so no object mapper or tree model is created.
+     *
+     * @param writer the writer
+     * @return UTF-8 encoded JSON
+     */
+    static byte[] toBytes(JsonWriter writer) {
         ByteArrayOutputStream baos = new ByteArrayOutputStream();
-        try {
-            mapper.writeValue(baos, root);
+        try (JsonGenerator generator = JSON_FACTORY.createGenerator(baos)) {
+            writer.write(generator);
         } catch (IOException e) {
-            throw new RuntimeException(e);
+            throw new UncheckedIOException(e);
         }
         return baos.toByteArray();
     }
 
-    static <T> T fromJson(byte[] json, BiFunction<ObjectMapper, byte[], T> fn) {
-        ObjectMapper mapper = objectMapper();
-        return fn.apply(mapper, json);
-    }
-
-    private static ObjectMapper objectMapper() {
-        JsonFactory jf = new JsonFactory();
-        jf.configure(JsonParser.Feature.INCLUDE_SOURCE_IN_LOCATION, false);
-        return new ObjectMapper(jf);
+    /**
+     * Reads the given UTF-8 encoded JSON using the given reader. The parser is backed by a shared JSON factory
+     * and is not advanced to the first token before it is passed to the reader.
+     *
+     * @param json UTF-8 encoded JSON
+     * @param reader the reader
+     * @param <T> the type of the value read from the JSON
+     * @return the value returned by the reader
+     */
+    static <T> T fromJson(byte[] json, JsonReader<T> reader) {
+        try (JsonParser parser = JSON_FACTORY.createParser(json)) {
+            return reader.read(parser);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
     }
-
 }
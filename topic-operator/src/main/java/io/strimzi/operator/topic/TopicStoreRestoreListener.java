@@ -0,0 +1,104 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.topic;
+
+import io.apicurio.registry.utils.streams.ext.LoggingStateRestoreListener;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+import io.strimzi.operator.common.MetricsProvider;
+import org.apache.kafka.common.TopicPartition;
+import org.apache.kafka.streams.processor.StateRestoreListener;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Logs the progress of the restoration of the topic store from its changelog and exposes it as metrics:
+ * the duration of the restoration, the number of restored records and the number of records which still have to be
+ * restored before the topic store can be used.
+ */
+class TopicStoreRestoreListener implements StateRestoreListener {
+    public static final String METRICS_RESTORE_DURATION = TopicOperator.METRICS_PREFIX + "topic.store.restore.duration";
+    public static final String METRICS_RESTORE_LAG = TopicOperator.METRICS_PREFIX + "topic.store.restore.lag";
+    public static final String METRICS_RESTORED_RECORDS = TopicOperator.METRICS_PREFIX + "topic.store.restored.records";
+
+    private final StateRestoreListener delegate = new LoggingStateRestoreListener();
+
+    private final Timer restoreDuration;
+    private final AtomicInteger restoreLag;
+    private final Counter restoredRecords;
+
+    private final Map<TopicPartition, Restore> restores = new ConcurrentHashMap<>();
+
+    /**
+     * Constructs the restore listener
+     *
+     * @param metrics   Metrics provider used to create the metrics or null if the metrics should not be collected
+     */
+    TopicStoreRestoreListener(MetricsProvider metrics) {
+        if (metrics != null) {
+            restoreDuration = metrics.timer(METRICS_RESTORE_DURATION, "The time the restoration of the topic store from its changelog takes", Tags.empty());
+            restoreLag = metrics.gauge(METRICS_RESTORE_LAG, "Number of changelog records which still have to be restored into the topic store", Tags.empty());
+            restoredRecords = metrics.counter(METRICS_RESTORED_RECORDS, "Number of changelog records restored into the topic store", Tags.empty());
+        } else {
+            restoreDuration = null;
+            restoreLag = null;
+            restoredRecords = null;
+        }
+    }
+
+    @Override
+    public void onRestoreStart(TopicPartition topicPartition, String storeName, long startingOffset, long endingOffset) {
+        restores.put(topicPartition, new Restore(System.nanoTime(), endingOffset - startingOffset));
+        updateLag();
+        delegate.onRestoreStart(topicPartition, storeName, startingOffset, endingOffset);
+    }
+
+    @Override
+    public void onBatchRestored(TopicPartition topicPartition, String storeName, long batchEndOffset, long numRestored) {
+        Restore restore = restores.get(topicPartition);
+        if (restore != null) {
+            restore.remaining = Math.max(0, restore.remaining - numRestored);
+            updateLag();
+        }
+        if (restoredRecords != null) {
+            restoredRecords.increment(numRestored);
+        }
+        delegate.onBatchRestored(topicPartition, storeName, batchEndOffset, numRestored);
+    }
+
+    @Override
+    public void onRestoreEnd(TopicPartition topicPartition, String storeName, long totalRestored) {
+        Restore restore = restores.remove(topicPartition);
+        if (restore != null && restoreDuration != null) {
+            restoreDuration.record(System.nanoTime() - restore.startNanos, TimeUnit.NANOSECONDS);
+        }
+        updateLag();
+        delegate.onRestoreEnd(topicPartition, storeName, totalRestored);
+    }
+
+    private void updateLag() {
+        if (restoreLag != null) {
+            long lag = restores.values().stream().mapToLong(restore -> restore.remaining).sum();
+            restoreLag.set((int) Math.min(lag, Integer.MAX_VALUE));
+        }
+    }
+
+    /**
+     * Progress of the restoration of a single changelog partition
+     */
+    private static class Restore {
+        private final long startNanos;
+        private volatile long remaining;
+
+        Restore(long startNanos, long remaining) {
+            this.startNanos = startNanos;
+            this.remaining = remaining;
+        }
+    }
+}
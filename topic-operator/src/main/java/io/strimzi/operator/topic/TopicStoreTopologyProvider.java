@@ -31,17 +31,51 @@ public class TopicStoreTopologyProvider implements Supplier<Topology> {
     private final String topicStoreName;
     private final Properties kafkaProperties;
     private final ForeachAction<? super String, ? super Integer> dispatcher;
+    private final boolean binaryFormat;
+    private final boolean persistent;
 
+    /**
+     * Creates the topology writing the topics as JSON, which can be read by all versions of the Topic Operator, and
+     * keeping them in memory.
+     *
+     * @param storeTopic        The topic with the topic commands
+     * @param topicStoreName    The name of the key-value store with the topics
+     * @param kafkaProperties   The Kafka Streams properties
+     * @param dispatcher        The dispatcher of the results of the topic commands
+     */
     public TopicStoreTopologyProvider(
             String storeTopic,
             String topicStoreName,
             Properties kafkaProperties,
             ForeachAction<? super String, ? super Integer> dispatcher
+    ) {
+        this(storeTopic, topicStoreName, kafkaProperties, dispatcher, false, false);
+    }
+
+    /**
+     * @param storeTopic        The topic with the topic commands
+     * @param topicStoreName    The name of the key-value store with the topics
+     * @param kafkaProperties   The Kafka Streams properties
+     * @param dispatcher        The dispatcher of the results of the topic commands
+     * @param binaryFormat      Whether the topics should be written in the binary format instead of JSON
+     * @param persistent        Whether the topics should be kept in a persistent (RocksDB) store instead of in memory.
+     *                          Persistent stores are checkpointed, so only the changes made to the changelog since
+     *                          the last checkpoint have to be restored on restart.
+     */
+    public TopicStoreTopologyProvider(
+            String storeTopic,
+            String topicStoreName,
+            Properties kafkaProperties,
+            ForeachAction<? super String, ? super Integer> dispatcher,
+            boolean binaryFormat,
+            boolean persistent
     ) {
         this.storeTopic = storeTopic;
         this.topicStoreName = topicStoreName;
         this.kafkaProperties = kafkaProperties;
         this.dispatcher = dispatcher;
+        this.binaryFormat = binaryFormat;
+        this.persistent = persistent;
     }
 
     @Override
@@ -58,15 +92,15 @@ public class TopicStoreTopologyProvider implements Supplier<Topology> {
         // Key is Kafka topic name -- which is also used for KeyValue store key
         KStream<String, TopicCommand> topicRequest = builder.stream(
                 storeTopic,
-                Consumed.with(Serdes.String(), new TopicCommandSerde())
+                Consumed.with(Serdes.String(), new TopicCommandSerde(binaryFormat))
         );
 
         // Data structure holds all topic information
         StoreBuilder<KeyValueStore<String /* topic */, Topic>> topicStoreBuilder =
                 Stores
                         .keyValueStoreBuilder(
-                                Stores.inMemoryKeyValueStore(topicStoreName),
-                                Serdes.String(), new TopicSerde()
+                                persistent ? Stores.persistentKeyValueStore(topicStoreName) : Stores.inMemoryKeyValueStore(topicStoreName),
+                                Serdes.String(), new TopicSerde(binaryFormat)
                         )
                         .withCachingEnabled()
                         .withLoggingEnabled(configuration);
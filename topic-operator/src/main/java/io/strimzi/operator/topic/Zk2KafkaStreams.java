@@ -4,6 +4,7 @@
  */
 package io.strimzi.operator.topic;
 
+import io.strimzi.operator.common.MetricsProvider;
 import io.strimzi.operator.topic.zk.Zk;
 import io.vertx.core.CompositeFuture;
 import io.vertx.core.Future;
@@ -28,13 +29,23 @@ public class Zk2KafkaStreams {
             Config config,
             Properties kafkaProperties,
             boolean doStop
+    ) {
+        return upgrade(zk, config, kafkaProperties, doStop, null);
+    }
+
+    public static CompletionStage<KafkaStreamsTopicStoreService> upgrade(
+            Zk zk,
+            Config config,
+            Properties kafkaProperties,
+            boolean doStop,
+            MetricsProvider metrics
     ) {
         String topicsPath = config.get(Config.TOPICS_PATH);
 
         LOGGER.info("Upgrading topic store [{}]: {}", doStop, topicsPath);
 
         TopicStore zkTopicStore = new TempZkTopicStore(zk, topicsPath);
-        KafkaStreamsTopicStoreService service = new KafkaStreamsTopicStoreService();
+        KafkaStreamsTopicStoreService service = new KafkaStreamsTopicStoreService(metrics);
         return service.start(config, kafkaProperties)
                 .thenCompose(ksTopicStore -> {
                     LOGGER.info("Starting upgrade ...");
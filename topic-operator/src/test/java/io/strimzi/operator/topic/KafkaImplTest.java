@@ -4,6 +4,8 @@
  */
 package io.strimzi.operator.topic;
 
+import java.util.Collection;
+import java.util.HashSet;
 import java.util.Map;
 import java.util.Optional;
 
@@ -18,6 +20,8 @@ import org.apache.kafka.clients.admin.CreateTopicsResult;
 import org.apache.kafka.clients.admin.DeleteTopicsResult;
 import org.apache.kafka.clients.admin.DescribeConfigsResult;
 import org.apache.kafka.clients.admin.DescribeTopicsResult;
+import org.apache.kafka.clients.admin.ListTopicsOptions;
+import org.apache.kafka.clients.admin.ListTopicsResult;
 import org.apache.kafka.clients.admin.NewTopic;
 import org.apache.kafka.clients.admin.TopicDescription;
 import org.apache.kafka.common.KafkaFuture;
@@ -30,15 +34,23 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.ArgumentMatcher;
 
+import static java.util.Arrays.asList;
 import static java.util.Collections.singleton;
 import static java.util.Collections.singletonMap;
 import static java.util.stream.Collectors.toMap;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
 import static org.mockito.ArgumentMatchers.argThat;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 @ExtendWith(VertxExtension.class)
@@ -270,5 +282,48 @@ public class KafkaImplTest {
             testContext.completeNow();
         })));
     }
-}
 
+    @Test
+    @SuppressWarnings("unchecked")
+    public void testTopicMetadataSnapshot(VertxTestContext testContext) {
+        Admin admin = mock(Admin.class);
+        ListTopicsResult listTopicsResult = mock(ListTopicsResult.class);
+        when(listTopicsResult.names()).thenReturn(KafkaFuture.completedFuture(new HashSet<>(asList("t1", "t2", "t3"))));
+        when(admin.listTopics(any(ListTopicsOptions.class))).thenReturn(listTopicsResult);
+        when(admin.describeTopics(anyCollection())).thenAnswer(invocation -> {
+            Collection<String> names = invocation.getArgument(0);
+            DescribeTopicsResult describeTopicsResult = mock(DescribeTopicsResult.class);
+            when(describeTopicsResult.values()).thenReturn(names.stream().collect(toMap(name -> name, name -> {
+                KafkaFutureImpl<TopicDescription> kafkaFuture = new KafkaFutureImpl<>();
+                if ("t3".equals(name)) {
+                    kafkaFuture.completeExceptionally(new UnknownTopicOrPartitionException());
+                } else {
+                    kafkaFuture.complete(mock(TopicDescription.class));
+                }
+                return kafkaFuture;
+            })));
+            return describeTopicsResult;
+        });
+        when(admin.describeConfigs(anyCollection())).thenAnswer(invocation -> {
+            Collection<ConfigResource> resources = invocation.getArgument(0);
+            DescribeConfigsResult describeConfigsResult = mock(DescribeConfigsResult.class);
+            when(describeConfigsResult.values()).thenReturn(resources.stream().collect(toMap(resource -> resource,
+                resource -> KafkaFuture.completedFuture(mock(Config.class)))));
+            return describeConfigsResult;
+        });
+
+        KafkaImpl impl = new KafkaImpl(admin, vertx, 2, 2);
+        impl.topicMetadataSnapshot().onComplete(testContext.succeeding(snapshot -> testContext.verify(() -> {
+            assertThat(snapshot.topicNames(), is(new HashSet<>(asList(new TopicName("t1"), new TopicName("t2"), new TopicName("t3")))));
+            assertThat(snapshot.size(), is(2));
+            assertNotNull(snapshot.metadata(new TopicName("t1")));
+            assertNotNull(snapshot.metadata(new TopicName("t2")));
+            assertNull(snapshot.metadata(new TopicName("t3")));
+            // 3 topics are described in 2 chunks without any existence probe
+            verify(admin, times(2)).describeTopics(anyCollection());
+            verify(admin, times(2)).describeConfigs(anyCollection());
+            verify(admin, never()).createTopics(any(), any());
+            testContext.completeNow();
+        })));
+    }
+}
@@ -4,6 +4,8 @@
  */
 package io.strimzi.operator.topic;
 
+import io.strimzi.operator.common.MetricsProvider;
+
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.Map;
@@ -36,6 +38,10 @@ public class KafkaStreamsTopicStoreTest extends TopicStoreTestBase {
     }
 
     static KafkaStreamsTopicStoreService service(Map<String, String> configMap) throws Exception {
+        return service(configMap, null);
+    }
+
+    static KafkaStreamsTopicStoreService service(Map<String, String> configMap, MetricsProvider metrics) throws Exception {
         Map<String, String> mergedMap = new HashMap<>(MANDATORY_CONFIG);
         mergedMap.putAll(configMap);
         Config config = new Config(mergedMap);
@@ -53,7 +59,7 @@ public class KafkaStreamsTopicStoreTest extends TopicStoreTestBase {
             }
         }
 
-        KafkaStreamsTopicStoreService service = new KafkaStreamsTopicStoreService();
+        KafkaStreamsTopicStoreService service = new KafkaStreamsTopicStoreService(metrics);
         service.start(config, kafkaProperties).toCompletableFuture().get();
         return service;
     }
@@ -0,0 +1,106 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.topic;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.apache.kafka.common.utils.Utils;
+import org.apache.kafka.streams.integration.utils.EmbeddedKafkaCluster;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import static org.hamcrest.CoreMatchers.instanceOf;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class PersistentKafkaStreamsTopicStoreTest extends TopicStoreTestBase {
+    private static final Map<String, String> CONFIG = new HashMap<>();
+    private static EmbeddedKafkaCluster cluster;
+    private static File stateDir;
+
+    private static KafkaStreamsTopicStoreService service;
+
+    @Override
+    protected boolean canRunTest() {
+        return true;
+    }
+
+    @BeforeAll
+    public static void before() throws Exception {
+        cluster = new EmbeddedKafkaCluster(1);
+        cluster.start();
+
+        stateDir = Files.createTempDirectory("topic-store").toFile();
+
+        CONFIG.put(Config.KAFKA_BOOTSTRAP_SERVERS.key, cluster.bootstrapServers());
+        CONFIG.put(Config.ZOOKEEPER_CONNECT.key, cluster.zKConnectString());
+        CONFIG.put(Config.TC_STORE_PERSISTENT, "true");
+        CONFIG.put(Config.TC_STORE_STATE_DIR, stateDir.getAbsolutePath());
+
+        service = KafkaStreamsTopicStoreTest.service(CONFIG);
+    }
+
+    @AfterAll
+    public static void after() throws IOException {
+        if (service != null) {
+            service.stop();
+        }
+
+        cluster.stop();
+        Utils.delete(stateDir);
+    }
+
+    @Test
+    public void testStateDirIsMandatory() {
+        Map<String, String> config = new HashMap<>(CONFIG);
+        config.remove(Config.TC_STORE_STATE_DIR);
+
+        ExecutionException e = assertThrows(ExecutionException.class, () -> KafkaStreamsTopicStoreTest.service(config));
+        assertThat(e.getCause(), instanceOf(IllegalArgumentException.class));
+    }
+
+    @BeforeEach
+    public void setup() {
+        if (service != null) {
+            this.store = service.store;
+        }
+    }
+
+    @Test
+    public void testTopicsSurviveRestart() throws Exception {
+        Topic topic = new Topic.Builder("persistent-topic", 3, (short) 1, Collections.singletonMap("cleanup.policy", "compact")).build();
+        store.create(topic).toCompletionStage().toCompletableFuture().get(30, TimeUnit.SECONDS);
+
+        service.stop();
+        assertThat(stateDir.list().length > 0, is(true));
+
+        MeterRegistry registry = new SimpleMeterRegistry();
+        service = KafkaStreamsTopicStoreTest.service(CONFIG, TopicStoreRestoreListenerTest.metricsProvider(registry));
+        store = service.store;
+
+        // The topic store is read from the state directory instead of being restored from its changelog
+        Counter restored = registry.find(TopicStoreRestoreListener.METRICS_RESTORED_RECORDS).counter();
+        assertThat(restored == null || restored.count() == 0.0, is(true));
+
+        Topic readTopic = store.read(new TopicName("persistent-topic")).toCompletionStage().toCompletableFuture().get(30, TimeUnit.SECONDS);
+        assertThat(readTopic.getTopicName(), is(topic.getTopicName()));
+        assertThat(readTopic.getNumPartitions(), is(topic.getNumPartitions()));
+        assertThat(readTopic.getNumReplicas(), is(topic.getNumReplicas()));
+        assertThat(readTopic.getConfig(), is(topic.getConfig()));
+    }
+}
@@ -1343,6 +1343,9 @@ public class TopicOperatorTest {
 
         Checkpoint async = context.checkpoint();
         reconcileFuture.onComplete(context.succeeding(e -> {
+            // The completed actions are not kept after the periodic reconciliation is done
+            assertThat(topicOperator.lastCompletedActionSize(), is(0));
+
             MeterRegistry registry = metrics.meterRegistry();
 
             assertThat(registry.get(TopicOperator.METRICS_PREFIX + "reconciliations").tag("kind", "KafkaTopic").counter().count(), is(0.0));
@@ -17,6 +17,7 @@ import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 
 import java.io.UnsupportedEncodingException;
+import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
@@ -36,7 +37,7 @@ public class TopicSerializationTest {
 
     @Test
     public void testTopicCommandSerde() {
-        TopicCommandSerde serde = new TopicCommandSerde();
+        TopicCommandSerde serde = new TopicCommandSerde(true);
 
         Topic.Builder builder = new Topic.Builder();
         builder.withTopicName("foobar");
@@ -63,6 +64,75 @@ public class TopicSerializationTest {
         Assertions.assertEquals(TopicCommand.CURRENT_VERSION, data.getVersion());
     }
 
+    @Test
+    public void testBinaryTopicSerdeRoundTrip() {
+        TopicSerde serde = new TopicSerde(true);
+        Topic topic = new Topic.Builder()
+                .withTopicName("my-topic")
+                .withMapName("my-topic-resource")
+                .withNumPartitions(12)
+                .withNumReplicas((short) 3)
+                .withConfigEntry("cleanup.policy", "compact")
+                .withConfigEntry("retention.ms", "86400000")
+                .withConfigEntry("custom.config", "ünïcødé")
+                .build();
+
+        byte[] binary = serde.serialize("dummy", topic);
+        assertThat(TopicBinaryFormat.isBinary(binary), is(true));
+        assertThat(serde.deserialize("dummy", binary), is(topic));
+
+        byte[] json = new TopicSerde(false).serialize("dummy", topic);
+        assertThat(TopicBinaryFormat.isBinary(json), is(false));
+        assertThat(binary.length < json.length, is(true));
+    }
+
+    @Test
+    public void testSerdesReadBothFormats() {
+        Topic topic = new Topic.Builder()
+                .withTopicName("my-topic")
+                .withNumPartitions(1)
+                .withNumReplicas((short) 1)
+                .withConfigEntry("min.insync.replicas", "1")
+                .build();
+
+        for (boolean writeBinary : new boolean[] {true, false}) {
+            for (boolean readBinary : new boolean[] {true, false}) {
+                TopicSerde writer = new TopicSerde(writeBinary);
+                TopicSerde reader = new TopicSerde(readBinary);
+                assertThat(reader.deserialize("dummy", writer.serialize("dummy", topic)), is(topic));
+
+                TopicCommandSerde commandWriter = new TopicCommandSerde(writeBinary);
+                TopicCommandSerde commandReader = new TopicCommandSerde(readBinary);
+                TopicCommand command = commandReader.deserialize("dummy", commandWriter.serialize("dummy", TopicCommand.update(topic)));
+                assertThat(command.getType(), is(TopicCommand.Type.UPDATE));
+                assertThat(command.getTopic(), is(topic));
+
+                command = commandReader.deserialize("dummy", commandWriter.serialize("dummy", TopicCommand.delete(new TopicName("my-topic"))));
+                assertThat(command.getType(), is(TopicCommand.Type.DELETE));
+                assertThat(command.getName(), is(new TopicName("my-topic")));
+                assertThat(command.getVersion(), is(TopicCommand.CURRENT_VERSION));
+            }
+        }
+    }
+
+    @Test
+    public void testBinaryFormatRejectsUnknownVersion() {
+        byte[] data = new TopicSerde(true).serialize("dummy", new Topic.Builder("my-topic", 1).build());
+        data[1] = (byte) (TopicBinaryFormat.VERSION + 1);
+        byte[] unknownVersion = data;
+
+        Assertions.assertThrows(IllegalArgumentException.class, () -> new TopicSerde(true).deserialize("dummy", unknownVersion));
+    }
+
+    @Test
+    public void testDefaultSerdesWriteJson() {
+        // JSON can be read by the Topic Operators which do not support the binary format, so it is safe for downgrades
+        Topic topic = new Topic.Builder("my-topic", 1).build();
+
+        assertThat(TopicBinaryFormat.isBinary(new TopicSerde().serialize("dummy", topic)), is(false));
+        assertThat(TopicBinaryFormat.isBinary(new TopicCommandSerde().serialize("dummy", TopicCommand.create(topic))), is(false));
+    }
+
     @Test
     public void testResourceSerializationRoundTrip() {
 
@@ -147,6 +217,39 @@ public class TopicSerializationTest {
         assertThat(readTopic, is(wroteTopic));
     }
 
+    @Test
+    public void testJsonDeserializationIgnoresFieldOrderAndUnknownFields() {
+        byte[] json = ("{\"config\":{\"foo\":\"bar\",\"baz\":\"qux\"}," +
+                "\"unknown\":{\"nested\":[1,2,{\"a\":\"b\"}]}," +
+                "\"replicas\":3," +
+                "\"topic-name\":\"tom\"," +
+                "\"partitions\":2," +
+                "\"map-name\":\"bob\"}").getBytes(StandardCharsets.UTF_8);
+
+        Topic topic = TopicSerialization.fromJson(json);
+        assertThat(topic.getTopicName(), is(new TopicName("tom")));
+        assertThat(topic.getResourceName(), is(new ResourceName("bob")));
+        assertThat(topic.getNumPartitions(), is(2));
+        assertThat(topic.getNumReplicas(), is((short) 3));
+        assertThat(topic.getConfig(), is(Map.of("foo", "bar", "baz", "qux")));
+    }
+
+    @Test
+    public void testTopicCommandDeserializationIgnoresFieldOrder() {
+        TopicCommandSerde serde = new TopicCommandSerde(false);
+        byte[] json = ("{\"topic\":{\"map-name\":\"bob\",\"topic-name\":\"tom\",\"partitions\":2,\"replicas\":1,\"config\":{}}," +
+                "\"type\":" + TopicCommand.Type.UPDATE.getId() + "," +
+                "\"version\":" + TopicCommand.CURRENT_VERSION + "," +
+                "\"uuid\":\"my-uuid\"}").getBytes(StandardCharsets.UTF_8);
+
+        TopicCommand command = serde.deserialize("dummy", json);
+        assertThat(command.getUuid(), is("my-uuid"));
+        assertThat(command.getType(), is(TopicCommand.Type.UPDATE));
+        assertThat(command.getVersion(), is(TopicCommand.CURRENT_VERSION));
+        assertThat(command.getTopic().getTopicName(), is(new TopicName("tom")));
+        assertThat(command.getTopic().getNumPartitions(), is(2));
+    }
+
 
     @Test
     public void testToNewTopic() {
@@ -0,0 +1,78 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.topic;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.strimzi.operator.common.MetricsProvider;
+import org.apache.kafka.common.TopicPartition;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+public class TopicStoreRestoreListenerTest {
+    /* test */ static MetricsProvider metricsProvider(MeterRegistry registry) {
+        return new MetricsProvider() {
+            @Override
+            public MeterRegistry meterRegistry() {
+                return registry;
+            }
+
+            @Override
+            public Counter counter(String name, String description, Tags tags) {
+                return Counter.builder(name).tags(tags).register(registry);
+            }
+
+            @Override
+            public Timer timer(String name, String description, Tags tags) {
+                return Timer.builder(name).tags(tags).register(registry);
+            }
+
+            @Override
+            public AtomicInteger gauge(String name, String description, Tags tags) {
+                AtomicInteger gauge = new AtomicInteger(0);
+                Gauge.builder(name, () -> gauge).description(description).tags(tags).register(registry);
+                return gauge;
+            }
+        };
+    }
+
+    @Test
+    public void testRestoreMetrics() {
+        MeterRegistry registry = new SimpleMeterRegistry();
+        TopicStoreRestoreListener listener = new TopicStoreRestoreListener(metricsProvider(registry));
+        TopicPartition changelog = new TopicPartition("topic-store-changelog", 0);
+
+        listener.onRestoreStart(changelog, "topic-store", 100, 1100);
+        assertThat(registry.get(TopicStoreRestoreListener.METRICS_RESTORE_LAG).gauge().value(), is(1000.0));
+
+        listener.onBatchRestored(changelog, "topic-store", 500, 400);
+        assertThat(registry.get(TopicStoreRestoreListener.METRICS_RESTORE_LAG).gauge().value(), is(600.0));
+        assertThat(registry.get(TopicStoreRestoreListener.METRICS_RESTORED_RECORDS).counter().count(), is(400.0));
+
+        listener.onBatchRestored(changelog, "topic-store", 1100, 590);
+        listener.onRestoreEnd(changelog, "topic-store", 990);
+        assertThat(registry.get(TopicStoreRestoreListener.METRICS_RESTORE_LAG).gauge().value(), is(0.0));
+        assertThat(registry.get(TopicStoreRestoreListener.METRICS_RESTORED_RECORDS).counter().count(), is(990.0));
+        assertThat(registry.get(TopicStoreRestoreListener.METRICS_RESTORE_DURATION).timer().count(), is(1L));
+    }
+
+    @Test
+    public void testWithoutMetrics() {
+        TopicStoreRestoreListener listener = new TopicStoreRestoreListener(null);
+        TopicPartition changelog = new TopicPartition("topic-store-changelog", 0);
+
+        listener.onRestoreStart(changelog, "topic-store", 0, 10);
+        listener.onBatchRestored(changelog, "topic-store", 10, 10);
+        listener.onRestoreEnd(changelog, "topic-store", 10);
+    }
+}
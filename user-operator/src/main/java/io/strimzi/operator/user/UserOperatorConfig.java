@@ -5,9 +5,11 @@
 package io.strimzi.operator.user;
 
 import io.strimzi.api.kafka.model.CertificateAuthority;
+import io.strimzi.certs.CertManagerType;
 import io.strimzi.operator.common.InvalidConfigurationException;
 import io.strimzi.operator.common.model.Labels;
 
+import java.util.Locale;
 import java.util.Map;
 
 /**
@@ -29,6 +31,8 @@ public class UserOperatorConfig {
     public static final String STRIMZI_SECRET_PREFIX = "STRIMZI_SECRET_PREFIX";
     public static final String STRIMZI_ACLS_ADMIN_API_SUPPORTED = "STRIMZI_ACLS_ADMIN_API_SUPPORTED";
     public static final String STRIMZI_SCRAM_SHA_PASSWORD_LENGTH = "STRIMZI_SCRAM_SHA_PASSWORD_LENGTH";
+    public static final String STRIMZI_BULK_RECONCILIATION = "STRIMZI_BULK_RECONCILIATION";
+    public static final String STRIMZI_CERT_MANAGER = "STRIMZI_CERT_MANAGER";
 
     public static final long DEFAULT_FULL_RECONCILIATION_INTERVAL_MS = 120_000;
     public static final String DEFAULT_KAFKA_BOOTSTRAP_SERVERS = "localhost:9091";
@@ -36,6 +40,8 @@ public class UserOperatorConfig {
     public static final int DEFAULT_SCRAM_SHA_PASSWORD_LENGTH = 12;
     // Defaults to true for backwards compatibility in standalone UO deployments
     public static final boolean DEFAULT_STRIMZI_ACLS_ADMIN_API_SUPPORTED = true;
+    public static final boolean DEFAULT_STRIMZI_BULK_RECONCILIATION = false;
+    public static final CertManagerType DEFAULT_CERT_MANAGER = CertManagerType.OPENSSL;
 
     private final String namespace;
     private final long reconciliationIntervalMs;
@@ -51,6 +57,8 @@ public class UserOperatorConfig {
     private final int clientsCaRenewalDays;
     private final boolean aclsAdminApiSupported;
     private final int scramPasswordLength;
+    private final boolean bulkReconciliation;
+    private final CertManagerType certManager;
 
     /**
      * Constructor
@@ -69,6 +77,8 @@ public class UserOperatorConfig {
      * @param clientsCaValidityDays Number of days for which the certificate should be valid
      * @param clientsCaRenewalDays How long before the certificate expiration should the user certificate be renewed
      * @param scramPasswordLength Length used for the Scram-Sha Password
+     * @param bulkReconciliation Indicates whether the periodic reconciliation should diff the users against a single snapshot of the ACLs and quotas
+     * @param certManager Certificate manager used to generate the user keys and certificates
      */
     @SuppressWarnings({"checkstyle:ParameterNumber"})
     public UserOperatorConfig(String namespace,
@@ -84,7 +94,9 @@ public class UserOperatorConfig {
                               boolean aclsAdminApiSupported,
                               int clientsCaValidityDays,
                               int clientsCaRenewalDays,
-                              int scramPasswordLength) {
+                              int scramPasswordLength,
+                              boolean bulkReconciliation,
+                              CertManagerType certManager) {
         this.namespace = namespace;
         this.reconciliationIntervalMs = reconciliationIntervalMs;
         this.kafkaBootstrapServers = kafkaBootstrapServers;
@@ -99,6 +111,8 @@ public class UserOperatorConfig {
         this.clientsCaValidityDays = clientsCaValidityDays;
         this.clientsCaRenewalDays = clientsCaRenewalDays;
         this.scramPasswordLength = scramPasswordLength;
+        this.bulkReconciliation = bulkReconciliation;
+        this.certManager = certManager;
     }
 
     /**
@@ -169,9 +183,23 @@ public class UserOperatorConfig {
 
         int clientsCaRenewalDays = getIntProperty(map, UserOperatorConfig.STRIMZI_CLIENTS_CA_RENEWAL, CertificateAuthority.DEFAULT_CERTS_RENEWAL_DAYS);
 
+        boolean bulkReconciliation = getBooleanProperty(map, UserOperatorConfig.STRIMZI_BULK_RECONCILIATION, UserOperatorConfig.DEFAULT_STRIMZI_BULK_RECONCILIATION);
+
+        CertManagerType certManager = UserOperatorConfig.DEFAULT_CERT_MANAGER;
+        String certManagerEnvVar = map.get(UserOperatorConfig.STRIMZI_CERT_MANAGER);
+        if (certManagerEnvVar != null) {
+            try {
+                certManager = CertManagerType.valueOf(certManagerEnvVar.trim().toUpperCase(Locale.ENGLISH));
+            } catch (IllegalArgumentException e) {
+                throw new InvalidConfigurationException(certManagerEnvVar + " is not a valid " + UserOperatorConfig.STRIMZI_CERT_MANAGER
+                        + " value. " + UserOperatorConfig.STRIMZI_CERT_MANAGER + " can have one of the following values: openssl, bouncycastle.");
+            }
+        }
+
         return new UserOperatorConfig(namespace, reconciliationInterval, kafkaBootstrapServers, labels,
                 caCertSecretName, caKeySecretName, clusterCaCertSecretName, eoKeySecretName, caNamespace, secretPrefix,
-                aclsAdminApiSupported, clientsCaValidityDays, clientsCaRenewalDays, scramPasswordLength);
+                aclsAdminApiSupported, clientsCaValidityDays, clientsCaRenewalDays, scramPasswordLength, bulkReconciliation,
+                certManager);
     }
 
     /**
@@ -308,6 +336,21 @@ public class UserOperatorConfig {
         return aclsAdminApiSupported;
     }
 
+    /**
+     * @return  Indicates whether the periodic reconciliation should reconcile the users against a snapshot of all ACLs
+     *          and quotas and send the changes in batches
+     */
+    public boolean isBulkReconciliation() {
+        return bulkReconciliation;
+    }
+
+    /**
+     * @return  Certificate manager used to generate the user keys and certificates
+     */
+    public CertManagerType getCertManager() {
+        return certManager;
+    }
+
     @Override
     public String toString() {
         return "ClusterOperatorConfig(" +
@@ -324,6 +367,8 @@ public class UserOperatorConfig {
                 ",clientsCaValidityDays=" + clientsCaValidityDays +
                 ",clientsCaRenewalDays=" + clientsCaRenewalDays +
                 ",scramPasswordLength=" + scramPasswordLength +
+                ",bulkReconciliation=" + bulkReconciliation +
+                ",certManager=" + certManager +
                 ")";
     }
 }
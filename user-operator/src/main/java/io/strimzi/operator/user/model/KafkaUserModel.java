@@ -22,6 +22,7 @@ import io.strimzi.certs.CertManager;
 import io.strimzi.certs.OpenSslCertManager;
 import io.strimzi.operator.cluster.model.ClientsCa;
 import io.strimzi.operator.cluster.model.InvalidResourceException;
+import io.strimzi.operator.common.Annotations;
 import io.strimzi.operator.common.Reconciliation;
 import io.strimzi.operator.common.ReconciliationLogger;
 import io.strimzi.operator.common.Util;
@@ -46,6 +47,7 @@ public class KafkaUserModel {
 
     public static final String KEY_PASSWORD = "password";
     public static final String KEY_SASL_JAAS_CONFIG = "sasl.jaas.config";
+    public static final String ANNO_STRIMZI_IO_SCRAM_CREDENTIALS_FINGERPRINT = Annotations.STRIMZI_DOMAIN + "scram-credentials-fingerprint";
 
     protected final String namespace;
     protected final String name;
@@ -55,6 +57,7 @@ public class KafkaUserModel {
     protected String caCert;
     protected CertAndKey userCertAndKey;
     protected String scramSha512Password;
+    protected String scramCredentialsFingerprint;
     protected Set<SimpleAclRule> simpleAclRules = null;
 
     public static final String KAFKA_USER_OPERATOR_NAME = "strimzi-user-operator";
@@ -183,7 +186,8 @@ public class KafkaUserModel {
             Map<String, String> data = new HashMap<>(2);
             data.put(KafkaUserModel.KEY_PASSWORD, Base64.getEncoder().encodeToString(this.scramSha512Password.getBytes(StandardCharsets.US_ASCII)));
             data.put(KafkaUserModel.KEY_SASL_JAAS_CONFIG, Base64.getEncoder().encodeToString(getSaslJsonConfig().getBytes(StandardCharsets.US_ASCII)));
-            return createSecret(data);
+            Map<String, String> annotations = scramCredentialsFingerprint != null ? Map.of(ANNO_STRIMZI_IO_SCRAM_CREDENTIALS_FINGERPRINT, scramCredentialsFingerprint) : null;
+            return createSecret(data, annotations);
         } else {
             return null;
         }
@@ -283,7 +287,8 @@ public class KafkaUserModel {
 
     /**
      * Prepares password for further use. It either takes the password specified by the user, re-uses the existing
-     * password or generates a new one.
+     * password or generates a new one. The fingerprint of the SCRAM credentials applied in the previous reconciliation
+     * is loaded from the existing Secret as well.
      *
      * @param reconciliation The reconciliation.
      * @param generator The password generator.
@@ -291,6 +296,8 @@ public class KafkaUserModel {
      * @param desiredPasswordSecret The Secret with the desired password specified by the user
      */
     public void maybeGeneratePassword(Reconciliation reconciliation, PasswordGenerator generator, Secret userSecret, Secret desiredPasswordSecret) {
+        this.scramCredentialsFingerprint = userSecret != null ? Annotations.stringAnnotation(userSecret, ANNO_STRIMZI_IO_SCRAM_CREDENTIALS_FINGERPRINT, null) : null;
+
         if (isUserWithDesiredPassword())  {
             // User requested custom secret
             if (desiredPasswordSecret == null)  {
@@ -340,12 +347,23 @@ public class KafkaUserModel {
      * @return The secret.
      */
     protected Secret createSecret(Map<String, String> data) {
+        return createSecret(data, null);
+    }
+
+    /**
+     * Creates secret with the data and annotations
+     *
+     * @param data Map with the Secret content
+     * @param annotations Annotations of the Secret. The annotations from the template take precedence over them.
+     * @return The secret.
+     */
+    protected Secret createSecret(Map<String, String> data, Map<String, String> annotations) {
         return new SecretBuilder()
                 .withNewMetadata()
                     .withName(getSecretName())
                     .withNamespace(namespace)
                     .withLabels(Util.mergeLabelsOrAnnotations(labels.toMap(), templateSecretLabels))
-                    .withAnnotations(Util.mergeLabelsOrAnnotations(null, templateSecretAnnotations))
+                    .withAnnotations(Util.mergeLabelsOrAnnotations(annotations, templateSecretAnnotations))
                     .withOwnerReferences(createOwnerReference())
                 .endMetadata()
                 .withType("Opaque")
@@ -605,6 +623,22 @@ public class KafkaUserModel {
         return scramSha512Password;
     }
 
+    /**
+     * @return  Returns the fingerprint of the applied SCRAM-SHA-512 credentials or null if it is not known
+     */
+    public String getScramCredentialsFingerprint() {
+        return scramCredentialsFingerprint;
+    }
+
+    /**
+     * Sets the fingerprint of the applied SCRAM-SHA-512 credentials which will be stored in the user Secret
+     *
+     * @param scramCredentialsFingerprint   The fingerprint
+     */
+    public void setScramCredentialsFingerprint(String scramCredentialsFingerprint) {
+        this.scramCredentialsFingerprint = scramCredentialsFingerprint;
+    }
+
     /**
      * Returns true if the user is configured without authentication section and is not using any authentication.
      * Such user might be used for example for things such as OAUTH authentication where the users are not managed by
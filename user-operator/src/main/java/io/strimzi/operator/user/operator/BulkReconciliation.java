@@ -0,0 +1,53 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.user.operator;
+
+import io.strimzi.operator.common.Reconciliation;
+
+/**
+ * Reconciliation of a single user started by a periodic reconciliation in the bulk reconciliation mode. It carries
+ * the snapshots taken at the start of that periodic reconciliation, so that the user is reconciled against them instead
+ * of describing its ACLs and quotas one by one. Each periodic reconciliation has its own snapshots, so overlapping
+ * periodic reconciliations do not share them.
+ */
+class BulkReconciliation extends Reconciliation {
+    private final SimpleAclOperator.AclSnapshot aclSnapshot;
+    private final QuotasOperator.QuotasSnapshot quotasSnapshot;
+
+    /**
+     * Constructs the reconciliation
+     *
+     * @param trigger           The cause of this reconciliation
+     * @param kind              Kind of the reconciled resource
+     * @param namespace         Namespace of the reconciled resource
+     * @param name              Name of the reconciled resource
+     * @param aclSnapshot       Snapshot of the ACLs or null if the ACLs are not managed
+     * @param quotasSnapshot    Snapshot of the quotas
+     */
+    BulkReconciliation(String trigger, String kind, String namespace, String name, SimpleAclOperator.AclSnapshot aclSnapshot,
+                       QuotasOperator.QuotasSnapshot quotasSnapshot) {
+        super(trigger, kind, namespace, name);
+        this.aclSnapshot = aclSnapshot;
+        this.quotasSnapshot = quotasSnapshot;
+    }
+
+    /**
+     * @param reconciliation    The reconciliation
+     *
+     * @return  The snapshot of the ACLs carried by the reconciliation or null if it does not carry any
+     */
+    static SimpleAclOperator.AclSnapshot aclSnapshot(Reconciliation reconciliation) {
+        return reconciliation instanceof BulkReconciliation ? ((BulkReconciliation) reconciliation).aclSnapshot : null;
+    }
+
+    /**
+     * @param reconciliation    The reconciliation
+     *
+     * @return  The snapshot of the quotas carried by the reconciliation or null if it does not carry any
+     */
+    static QuotasOperator.QuotasSnapshot quotasSnapshot(Reconciliation reconciliation) {
+        return reconciliation instanceof BulkReconciliation ? ((BulkReconciliation) reconciliation).quotasSnapshot : null;
+    }
+}
@@ -13,11 +13,13 @@ import io.strimzi.api.kafka.model.KafkaUserSpec;
 import io.strimzi.api.kafka.model.status.KafkaUserStatus;
 import io.strimzi.certs.CertManager;
 import io.strimzi.operator.common.AbstractOperator;
+import io.strimzi.operator.common.Annotations;
 import io.strimzi.operator.common.ReconciliationLogger;
 import io.strimzi.operator.common.MicrometerMetricsProvider;
 import io.strimzi.operator.common.PasswordGenerator;
 import io.strimzi.operator.common.Reconciliation;
 import io.strimzi.operator.common.ReconciliationException;
+import io.strimzi.operator.common.WorkQueue;
 import io.strimzi.operator.common.model.NamespaceAndName;
 import io.strimzi.operator.common.operator.resource.CrdOperator;
 import io.strimzi.operator.common.operator.resource.ReconcileResult;
@@ -26,13 +28,18 @@ import io.strimzi.operator.common.operator.resource.StatusUtils;
 import io.strimzi.operator.user.UserOperatorConfig;
 import io.strimzi.operator.user.model.KafkaUserModel;
 import io.strimzi.operator.user.model.acl.SimpleAclRule;
+import io.vertx.core.AsyncResult;
 import io.vertx.core.CompositeFuture;
 import io.vertx.core.Future;
+import io.vertx.core.Handler;
 import io.vertx.core.Promise;
 import io.vertx.core.Vertx;
 
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 import java.util.stream.Collectors;
 
@@ -95,6 +102,127 @@ public class KafkaUserOperator extends AbstractOperator<KafkaUser, KafkaUserSpec
                 });
     }
 
+    /**
+     * Reconciles all users. In the bulk reconciliation mode, the ACLs and quotas of all users are described at once and
+     * diffed against the desired ACLs and quotas of all KafkaUser resources, and the differences are applied with a
+     * single deleteAcls, a single createAcls and a single alterClientQuotas call before the users are reconciled one by
+     * one. The users are then reconciled against the snapshots taken by this reconciliation, which are passed to them
+     * with {@link BulkReconciliation}.
+     *
+     * @param trigger   The cause of this reconciliation (for logging)
+     * @param namespace The namespace to reconcile, or {@code *} to reconcile across all namespaces
+     * @param handler   Handler called on completion
+     */
+    @Override
+    public void reconcileAll(String trigger, String namespace, Handler<AsyncResult<Void>> handler) {
+        if (!config.isBulkReconciliation()) {
+            super.reconcileAll(trigger, namespace, handler);
+            return;
+        }
+
+        Future<List<KafkaUser>> kafkaUsersFuture = resourceOperator.listAsync(namespace, selector());
+        Future<SimpleAclOperator.AclSnapshot> aclSnapshotFuture = config.isAclsAdminApiSupported() ? aclOperations.getSnapshot() : Future.succeededFuture(null);
+        Future<QuotasOperator.QuotasSnapshot> quotasSnapshotFuture = quotasOperator.getSnapshot();
+        Future<List<String>> scramUsersFuture = scramCredentialsOperator.getAllUsers();
+
+        CompositeFuture.join(kafkaUsersFuture, aclSnapshotFuture, quotasSnapshotFuture, scramUsersFuture)
+                .compose(ignore -> reconcileInBulk(kafkaUsersFuture.result(), aclSnapshotFuture.result(), quotasSnapshotFuture.result()))
+                .onComplete(ar -> {
+                    pausedResourceCounter(namespace).set(0);
+
+                    if (ar.succeeded()) {
+                        SimpleAclOperator.AclSnapshot aclSnapshot = aclSnapshotFuture.result();
+                        QuotasOperator.QuotasSnapshot quotasSnapshot = quotasSnapshotFuture.result();
+
+                        Set<NamespaceAndName> names = kafkaUsersFuture.result().stream()
+                                .map(kafkaUser -> new NamespaceAndName(kafkaUser.getMetadata().getNamespace(), kafkaUser.getMetadata().getName()))
+                                .collect(Collectors.toSet());
+                        names.addAll(toResourceRef(namespace, aclSnapshot != null ? aclSnapshot.users() : Set.of()));
+                        names.addAll(toResourceRef(namespace, quotasSnapshot.users()));
+                        names.addAll(toResourceRef(namespace, scramUsersFuture.result()));
+
+                        reconcileThese(trigger, names, namespace, aclSnapshot, quotasSnapshot, handler);
+                        periodicReconciliationsCounter(namespace).increment();
+                    } else {
+                        handler.handle(ar.mapEmpty());
+                    }
+                });
+    }
+
+    /**
+     * Diffs the desired ACLs and quotas of all KafkaUser resources against the snapshots and applies the differences in
+     * bulk.
+     * Users which cannot be reconciled right now, for example because their reconciliation is paused or because they
+     * are invalid, are skipped and left to their own reconciliation.
+     *
+     * @param kafkaUsers        All KafkaUser resources
+     * @param aclSnapshot       Snapshot of the ACLs of all users or null if the ACLs are not managed
+     * @param quotasSnapshot    Snapshot of the quotas of all users
+     *
+     * @return  Future which completes when the ACLs and quotas were reconciled
+     */
+    private Future<Void> reconcileInBulk(List<KafkaUser> kafkaUsers, SimpleAclOperator.AclSnapshot aclSnapshot, QuotasOperator.QuotasSnapshot quotasSnapshot) {
+        Map<String, Set<SimpleAclRule>> desiredAcls = new HashMap<>(kafkaUsers.size() * 2);
+        Map<String, KafkaUserQuotas> desiredQuotas = new HashMap<>(kafkaUsers.size() * 2);
+
+        for (KafkaUser kafkaUser : kafkaUsers) {
+            if (kafkaUser.getSpec() == null || Annotations.isReconciliationPausedWithAnnotation(kafkaUser)) {
+                continue;
+            }
+
+            KafkaUserModel user;
+            try {
+                user = KafkaUserModel.fromCrd(kafkaUser, config.getSecretPrefix(), config.isAclsAdminApiSupported());
+            } catch (Exception e) {
+                LOGGER.debugOp("User {} in namespace {} is invalid and will not be reconciled in bulk", kafkaUser.getMetadata().getName(), kafkaUser.getMetadata().getNamespace());
+                continue;
+            }
+
+            // ACLs and quotas need to reconciled for both regular and TLS username. They will be (possibly) set for one user and deleted for the other
+            boolean tlsUser = user.isTlsUser() || user.isTlsExternalUser();
+            boolean scramOrNoneUser = !tlsUser && (user.isScramUser() || user.isNoneUser());
+            desiredAcls.put(KafkaUserModel.getTlsUserName(user.getName()), tlsUser ? user.getSimpleAclRules() : null);
+            desiredAcls.put(KafkaUserModel.getScramUserName(user.getName()), scramOrNoneUser ? user.getSimpleAclRules() : null);
+            desiredQuotas.put(KafkaUserModel.getTlsUserName(user.getName()), tlsUser ? user.getQuotas() : null);
+            desiredQuotas.put(KafkaUserModel.getScramUserName(user.getName()), scramOrNoneUser ? user.getQuotas() : null);
+        }
+
+        Future<Void> aclsFuture = aclSnapshot != null ? aclOperations.reconcile(aclSnapshot, desiredAcls) : Future.succeededFuture();
+        Future<Void> quotasFuture = quotasOperator.reconcile(quotasSnapshot, desiredQuotas);
+
+        return CompositeFuture.join(aclsFuture, quotasFuture).mapEmpty();
+    }
+
+    /**
+     * Queues the reconciliations of the given users. The reconciliations carry the snapshots of the ACLs and quotas
+     * taken by the periodic reconciliation.
+     *
+     * @param trigger           The cause of this reconciliation (for logging)
+     * @param desiredNames      The users to reconcile
+     * @param namespace         The namespace to reconcile
+     * @param aclSnapshot       Snapshot of the ACLs or null if the ACLs are not managed
+     * @param quotasSnapshot    Snapshot of the quotas
+     * @param handler           Handler called on completion
+     */
+    @SuppressWarnings("rawtypes") // Has to use Raw type because of the CompositeFuture
+    private void reconcileThese(String trigger, Set<NamespaceAndName> desiredNames, String namespace, SimpleAclOperator.AclSnapshot aclSnapshot,
+                                QuotasOperator.QuotasSnapshot quotasSnapshot, Handler<AsyncResult<Void>> handler) {
+        if (desiredNames.size() > 0) {
+            List<Future> futures = new ArrayList<>();
+            desiredNames.stream().map(res -> res.getNamespace()).collect(Collectors.toSet()).forEach(ns -> resourceCounter(ns).set(0));
+
+            for (NamespaceAndName resourceRef : desiredNames) {
+                resourceCounter(resourceRef.getNamespace()).getAndIncrement();
+                Reconciliation reconciliation = new BulkReconciliation(trigger, kind(), resourceRef.getNamespace(), resourceRef.getName(), aclSnapshot, quotasSnapshot);
+                futures.add(enqueue(reconciliation, WorkQueue.Priority.LOW));
+            }
+            CompositeFuture.join(futures).map((Void) null).onComplete(handler);
+        } else {
+            resourceCounter(namespace).set(0);
+            handler.handle(Future.succeededFuture());
+        }
+    }
+
     List<NamespaceAndName> toResourceRef(String namespace, Collection<String> names) {
         return names.stream()
                 .map(name -> new NamespaceAndName(namespace, name))
@@ -250,15 +378,25 @@ public class KafkaUserOperator extends AbstractOperator<KafkaUser, KafkaUserSpec
             scramOrNoneQuotas = user.getQuotas();
         }
 
-        // Reconcile the user SCRAM-SHA-512 credentials
-        Future<ReconcileResult<String>> scramCredentialsFuture = scramCredentialsOperator.reconcile(reconciliation, user.getName(), user.getScramSha512Password());
+        // Reconcile the user SCRAM-SHA-512 credentials. They are upserted only when they changed since the last reconciliation.
+        Future<ReconcileResult<String>> scramCredentialsFuture = scramCredentialsOperator.reconcile(reconciliation, user.getName(), user.getScramSha512Password(), user.getScramCredentialsFingerprint());
 
         // Quotas need to reconciled for both regular and TLS username. It will be (possibly) set for one user and deleted for the other
         Future<ReconcileResult<KafkaUserQuotas>> tlsQuotasFuture = quotasOperator.reconcile(reconciliation, KafkaUserModel.getTlsUserName(reconciliation.name()), tlsQuotas);
         Future<ReconcileResult<KafkaUserQuotas>> quotasFuture = quotasOperator.reconcile(reconciliation, KafkaUserModel.getScramUserName(reconciliation.name()), scramOrNoneQuotas);
 
-        // Reconcile the user secret generated by the user operator with the credentials
-        Future<ReconcileResult<Secret>> userSecretFuture = reconcileUserSecret(reconciliation, user, userStatus);
+        // Reconcile the user secret generated by the user operator with the credentials. The fingerprint of the SCRAM-SHA-512
+        // credentials stored in the secret is updated only after the credentials were upserted.
+        Future<ReconcileResult<Secret>> userSecretFuture = scramCredentialsFuture
+                .transform(scramCredentialsResult -> {
+                    if (user.isScramUser()
+                            && scramCredentialsResult.succeeded()
+                            && scramCredentialsResult.result() instanceof ReconcileResult.Patched) {
+                        user.setScramCredentialsFingerprint(ScramCredentialsOperator.fingerprint(user.getScramSha512Password()));
+                    }
+
+                    return reconcileUserSecret(reconciliation, user, userStatus);
+                });
 
         // ACLs need to reconciled for both regular and TLS username. It will be (possibly) set for one user and deleted for the other
         Future<ReconcileResult<Set<SimpleAclRule>>> aclsTlsUserFuture;
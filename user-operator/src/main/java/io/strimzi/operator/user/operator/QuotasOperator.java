@@ -11,22 +11,33 @@ import io.strimzi.operator.common.Util;
 import io.strimzi.operator.common.operator.resource.ReconcileResult;
 import io.strimzi.operator.user.model.KafkaUserModel;
 import io.strimzi.operator.user.model.QuotaUtils;
+import io.vertx.core.CompositeFuture;
 import io.vertx.core.Future;
 import io.vertx.core.Vertx;
 import org.apache.kafka.clients.admin.Admin;
+import org.apache.kafka.common.KafkaFuture;
 import org.apache.kafka.common.quota.ClientQuotaAlteration;
 import org.apache.kafka.common.quota.ClientQuotaFilter;
 import org.apache.kafka.common.quota.ClientQuotaFilterComponent;
 import org.apache.kafka.common.quota.ClientQuotaEntity;
 
+import java.util.ArrayList;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * KafkaUserQuotasOperator is responsible for managing quotas in Apache Kafka / Apache Zookeeper.
+ * <p>
+ * For bulk reconciliation, {@link #getSnapshot()} describes the quotas of all users and keeps them indexed by the user
+ * as a snapshot. {@link #reconcile(QuotasSnapshot, Map)} then reconciles the quotas of all users against the snapshot
+ * with a single alterClientQuotas call. The users reconciled with a {@link BulkReconciliation} carrying the snapshot
+ * are reconciled against it instead of describing their quotas one by one. The snapshot belongs to a single periodic
+ * reconciliation and is updated with the quotas of every successfully reconciled user.
  */
 public class QuotasOperator extends AbstractAdminApiOperator<KafkaUserQuotas, Set<String>> {
     private static final ReconciliationLogger LOGGER = ReconciliationLogger.create(QuotasOperator.class.getName());
@@ -52,7 +63,11 @@ public class QuotasOperator extends AbstractAdminApiOperator<KafkaUserQuotas, Se
      */
     @Override
     public Future<ReconcileResult<KafkaUserQuotas>> reconcile(Reconciliation reconciliation, String username, KafkaUserQuotas desired) {
-        return getAsync(reconciliation, username)
+        QuotasSnapshot snapshot = BulkReconciliation.quotasSnapshot(reconciliation);
+        Future<KafkaUserQuotas> currentFuture = snapshot != null && snapshot.contains(username)
+                ? Future.succeededFuture(snapshot.get(username)) : getAsync(reconciliation, username);
+
+        return currentFuture
                 .compose(current -> {
                     if (desired == null) {
                         if (current == null)    {
@@ -74,6 +89,96 @@ public class QuotasOperator extends AbstractAdminApiOperator<KafkaUserQuotas, Se
                             return Future.succeededFuture(ReconcileResult.noop(desired));
                         }
                     }
+                })
+                .onComplete(result -> {
+                    if (snapshot != null) {
+                        snapshot.update(username, desired, result.succeeded());
+                    }
+                });
+    }
+
+    /**
+     * Reconciles the quotas of many users against the snapshot. The quotas of all users which should be changed or
+     * deleted are altered in a single alterClientQuotas call.
+     *
+     * @param snapshot  Snapshot of the quotas taken by {@link #getSnapshot()}. It is updated with the quotas of the
+     *                  reconciled users. Users whose quotas failed to be altered are removed from it, so that their
+     *                  quotas are described again when they are reconciled one by one.
+     * @param desired   The desired quotas indexed by the username. Null means that the quotas of the user should be
+     *                  deleted.
+     *
+     * @return  Future which completes when all quotas were processed. It does not fail when the quotas of some users
+     *          failed to be altered.
+     */
+    @SuppressWarnings("rawtypes") // Has to use Raw type because of the CompositeFuture
+    public Future<Void> reconcile(QuotasSnapshot snapshot, Map<String, KafkaUserQuotas> desired) {
+        Map<ClientQuotaEntity, String> usernames = new HashMap<>();
+        List<ClientQuotaAlteration> alterations = new ArrayList<>();
+
+        for (Map.Entry<String, KafkaUserQuotas> user : desired.entrySet()) {
+            String username = user.getKey();
+
+            if (snapshot.contains(username)) {
+                KafkaUserQuotas current = snapshot.get(username);
+                KafkaUserQuotas desiredQuotas = user.getValue();
+
+                ClientQuotaAlteration alteration = null;
+
+                if (desiredQuotas == null) {
+                    if (current != null) {
+                        alteration = alteration(username, emptyQuotas());
+                    }
+                } else if (current == null || !QuotaUtils.quotasEquals(current, desiredQuotas)) {
+                    alteration = alteration(username, desiredQuotas);
+                }
+
+                if (alteration != null) {
+                    alterations.add(alteration);
+                    usernames.put(alteration.entity(), username);
+                }
+            }
+        }
+
+        LOGGER.debugOp("Altering quotas of {} out of {} users", alterations.size(), desired.size());
+
+        Set<String> failed = ConcurrentHashMap.newKeySet();
+        Future<Void> altered;
+
+        if (alterations.isEmpty()) {
+            altered = Future.succeededFuture();
+        } else {
+            Map<ClientQuotaEntity, KafkaFuture<Void>> results;
+            try {
+                results = adminClient.alterClientQuotas(alterations).values();
+            } catch (RuntimeException e) {
+                LOGGER.warnOp("Failed to alter quotas of {} users", usernames.size(), e);
+                failed.addAll(usernames.values());
+                results = Map.of();
+            }
+
+            List<Future> futures = new ArrayList<>(results.size());
+            for (Map.Entry<ClientQuotaEntity, KafkaFuture<Void>> result : results.entrySet()) {
+                String username = usernames.get(result.getKey());
+
+                futures.add(Util.kafkaFutureToVertxFuture(vertx, result.getValue())
+                        .onFailure(error -> {
+                            LOGGER.warnOp("Failed to alter quotas of user {}", username, error);
+                            failed.add(username);
+                        }));
+            }
+
+            altered = CompositeFuture.join(futures).transform(ignore -> Future.succeededFuture());
+        }
+
+        return altered
+                .map(ignore -> {
+                    for (Map.Entry<String, KafkaUserQuotas> user : desired.entrySet()) {
+                        if (snapshot.contains(user.getKey())) {
+                            snapshot.update(user.getKey(), user.getValue(), !failed.contains(user.getKey()));
+                        }
+                    }
+
+                    return null;
                 });
     }
 
@@ -88,14 +193,21 @@ public class QuotasOperator extends AbstractAdminApiOperator<KafkaUserQuotas, Se
     public Future<ReconcileResult<KafkaUserQuotas>> internalDelete(Reconciliation reconciliation, String username) {
         LOGGER.debugCr(reconciliation, "Deleting quotas for user {}", username);
 
+        return internalAlter(reconciliation, username, emptyQuotas())
+                .map(ReconcileResult.deleted());
+    }
+
+    /**
+     * @return Quotas without any value used to delete the quotas of a user
+     */
+    private static KafkaUserQuotas emptyQuotas() {
         KafkaUserQuotas emptyQuotas = new KafkaUserQuotas();
         emptyQuotas.setProducerByteRate(null);
         emptyQuotas.setConsumerByteRate(null);
         emptyQuotas.setRequestPercentage(null);
         emptyQuotas.setControllerMutationRate(null);
 
-        return internalAlter(reconciliation, username, emptyQuotas)
-                .map(ReconcileResult.deleted());
+        return emptyQuotas;
     }
 
     /**
@@ -108,14 +220,20 @@ public class QuotasOperator extends AbstractAdminApiOperator<KafkaUserQuotas, Se
      * @return the Future with reconcile result
      */
     protected Future<ReconcileResult<KafkaUserQuotas>> internalAlter(Reconciliation reconciliation, String username, KafkaUserQuotas desired) {
-        Set<ClientQuotaAlteration.Op> alterations = QuotaUtils.toClientQuotaAlterationOps(desired);
+        ClientQuotaAlteration cqa = alteration(username, desired);
 
-        ClientQuotaEntity cqe = new ClientQuotaEntity(Map.of(ClientQuotaEntity.USER, username));
-        ClientQuotaAlteration cqa = new ClientQuotaAlteration(cqe, alterations);
         return Util.kafkaFutureToVertxFuture(reconciliation, vertx, adminClient.alterClientQuotas(Collections.singleton(cqa)).all())
                 .map(ReconcileResult.patched(desired));
     }
 
+    /**
+     * @return The alteration setting the quotas of the given user
+     */
+    private static ClientQuotaAlteration alteration(String username, KafkaUserQuotas quotas) {
+        ClientQuotaEntity cqe = new ClientQuotaEntity(Map.of(ClientQuotaEntity.USER, username));
+        return new ClientQuotaAlteration(cqe, QuotaUtils.toClientQuotaAlterationOps(quotas));
+    }
+
     /**
      * Retrieves the quotas for the given user.
      *
@@ -142,24 +260,103 @@ public class QuotasOperator extends AbstractAdminApiOperator<KafkaUserQuotas, Se
     }
 
     /**
-     * @return Set with all usernames which have some ACLs set
+     * Returns Set with all usernames which have some quotas set
+     *
+     * @return Set with all usernames which have some quotas set
      */
     @Override
     public Future<Set<String>> getAllUsers() {
+        return describeAllQuotas().map(QuotasOperator::users);
+    }
+
+    /**
+     * Describes the quotas of all users and returns them as a snapshot used to reconcile the users in bulk
+     *
+     * @return Future with the snapshot of the quotas of all users
+     */
+    public Future<QuotasSnapshot> getSnapshot() {
+        return describeAllQuotas().map(quotas -> new QuotasSnapshot(quotas, users(quotas)));
+    }
+
+    private Future<Map<ClientQuotaEntity, Map<String, Double>>> describeAllQuotas() {
         LOGGER.debugOp("Searching for Users with any quotas");
 
-        return Util.kafkaFutureToVertxFuture(vertx, adminClient.describeClientQuotas(ClientQuotaFilter.all()).entities())
-                .compose(quotas -> {
-                    Set<String> users = new HashSet<>(quotas.size());
+        return Util.kafkaFutureToVertxFuture(vertx, adminClient.describeClientQuotas(ClientQuotaFilter.all()).entities());
+    }
 
-                    for (ClientQuotaEntity entity : quotas.keySet()) {
-                        if (entity.entries().containsKey(ClientQuotaEntity.USER)) {
-                            String username = KafkaUserModel.decodeUsername(entity.entries().get(ClientQuotaEntity.USER));
-                            users.add(username);
-                        }
-                    }
+    /**
+     * @return Set with all usernames which have some quotas set in the given quotas
+     */
+    private static Set<String> users(Map<ClientQuotaEntity, Map<String, Double>> quotas) {
+        Set<String> users = new HashSet<>(quotas.size());
 
-                    return Future.succeededFuture(users);
-                });
+        for (ClientQuotaEntity entity : quotas.keySet()) {
+            if (entity.entries().containsKey(ClientQuotaEntity.USER)) {
+                String username = KafkaUserModel.decodeUsername(entity.entries().get(ClientQuotaEntity.USER));
+                users.add(username);
+            }
+        }
+
+        return users;
+    }
+
+    /**
+     * Quotas of all users indexed by the username as used in the quota entity, e.g. CN=my-user for TLS users. Only the
+     * quotas of single users are indexed because the users are reconciled using the quota entities with nothing else
+     * than the user name. The snapshot is taken at the start of a periodic reconciliation and used only by that
+     * reconciliation.
+     */
+    static final class QuotasSnapshot {
+        private final Map<String, KafkaUserQuotas> quotas = new ConcurrentHashMap<>();
+        // Users whose quotas failed to be reconciled. They are always described one by one.
+        private final Set<String> unknown = ConcurrentHashMap.newKeySet();
+        private final Set<String> users;
+
+        QuotasSnapshot(Map<ClientQuotaEntity, Map<String, Double>> quotas, Set<String> users) {
+            this.users = users;
+
+            for (Map.Entry<ClientQuotaEntity, Map<String, Double>> quota : quotas.entrySet()) {
+                Map<String, String> entries = quota.getKey().entries();
+                String username = entries.get(ClientQuotaEntity.USER);
+
+                if (entries.size() == 1 && username != null) {
+                    this.quotas.put(username, QuotaUtils.fromClientQuota(quota.getValue()));
+                }
+            }
+        }
+
+        /**
+         * @return Set with all usernames which had some quotas set when the snapshot was taken
+         */
+        Set<String> users() {
+            return users;
+        }
+
+        boolean contains(String username) {
+            return !unknown.contains(username);
+        }
+
+        KafkaUserQuotas get(String username) {
+            return quotas.get(username);
+        }
+
+        /**
+         * Updates the quotas of the user after the user was reconciled
+         *
+         * @param username      Name of the user
+         * @param userQuotas    Quotas of the user after the reconciliation
+         * @param succeeded     Indicates whether the reconciliation succeeded. Otherwise, the quotas in Kafka might
+         *                      differ from the desired quotas and the user is removed from the snapshot.
+         */
+        void update(String username, KafkaUserQuotas userQuotas, boolean succeeded) {
+            if (!succeeded) {
+                unknown.add(username);
+                quotas.remove(username);
+            } else if (userQuotas == null) {
+                quotas.remove(username);
+            } else {
+                quotas.put(username, userQuotas);
+            }
+        }
     }
 }
@@ -4,6 +4,11 @@
  */
 package io.strimzi.operator.user.operator;
 
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Tags;
+import io.strimzi.operator.common.AbstractOperator;
+import io.strimzi.operator.common.MetricsProvider;
+import io.strimzi.operator.common.MicrometerMetricsProvider;
 import io.strimzi.operator.common.Reconciliation;
 import io.strimzi.operator.common.ReconciliationLogger;
 import io.strimzi.operator.common.Util;
@@ -18,20 +23,43 @@ import org.apache.kafka.clients.admin.ScramCredentialInfo;
 import org.apache.kafka.clients.admin.ScramMechanism;
 import org.apache.kafka.clients.admin.UserScramCredentialDeletion;
 import org.apache.kafka.clients.admin.UserScramCredentialUpsertion;
+import org.apache.kafka.clients.admin.UserScramCredentialsDescription;
 import org.apache.kafka.common.errors.ResourceNotFoundException;
 
 import java.math.BigInteger;
 import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
 import java.security.SecureRandom;
+import java.util.Base64;
 import java.util.List;
 
+/**
+ * Operator for the SCRAM-SHA-512 credentials of the Kafka users.
+ * <p>
+ * Upserting the credentials makes the brokers hash the password again and store the credentials in ZooKeeper. To
+ * avoid doing this in every reconciliation, the fingerprint of the applied credentials can be passed to
+ * {@link #reconcile(Reconciliation, String, String, String)}. When it matches the desired password and the
+ * credentials still exist in Kafka, the upsert is skipped. The fingerprint is a salted SHA-256 digest of the password
+ * and of the SCRAM mechanism and iterations and is created using {@link #fingerprint(String)}. The number of applied
+ * and skipped upserts is exposed in the {@code strimzi.scram.credentials.upserts.applied} and
+ * {@code strimzi.scram.credentials.upserts.skipped} counters.
+ */
 public class ScramCredentialsOperator extends AbstractAdminApiOperator<String, List<String>> {
+    public static final String METRICS_SCRAM_UPSERTS_APPLIED = AbstractOperator.METRICS_PREFIX + "scram.credentials.upserts.applied";
+    public static final String METRICS_SCRAM_UPSERTS_SKIPPED = AbstractOperator.METRICS_PREFIX + "scram.credentials.upserts.skipped";
+
     private static final ReconciliationLogger LOGGER = ReconciliationLogger.create(ScramCredentialsOperator.class.getName());
     private final static int ITERATIONS = 4096;
     private final static ScramMechanism SCRAM_MECHANISM = ScramMechanism.SCRAM_SHA_512;
     // Not generating new salt in every reconcile loop reduce the amount of changes (otherwise everything changes every loop)
     // This salt uses the same algorithm as Kafka
     private final static byte[] SALT =  (new BigInteger(130, new SecureRandom())).toString(36).getBytes(StandardCharsets.UTF_8);
+    private final static int FINGERPRINT_SALT_LENGTH = 16;
+    private final static SecureRandom FINGERPRINT_SALT_RANDOM = new SecureRandom();
+
+    private final Counter appliedUpserts;
+    private final Counter skippedUpserts;
 
     /**
      * Constructor
@@ -40,7 +68,53 @@ public class ScramCredentialsOperator extends AbstractAdminApiOperator<String, L
      * @param adminClient Kafka Admin client instance
      */
     public ScramCredentialsOperator(Vertx vertx, Admin adminClient) {
+        this(vertx, adminClient, new MicrometerMetricsProvider());
+    }
+
+    /**
+     * Constructor
+     *
+     * @param vertx Vertx instance
+     * @param adminClient Kafka Admin client instance
+     * @param metrics Metrics provider used to count the applied and skipped upserts
+     */
+    public ScramCredentialsOperator(Vertx vertx, Admin adminClient, MetricsProvider metrics) {
         super(vertx, adminClient);
+
+        Tags tags = Tags.of("kind", "KafkaUser");
+        this.appliedUpserts = metrics.counter(METRICS_SCRAM_UPSERTS_APPLIED, "Number of SCRAM credentials upserted to Kafka", tags);
+        this.skippedUpserts = metrics.counter(METRICS_SCRAM_UPSERTS_SKIPPED, "Number of SCRAM credentials upserts skipped because the credentials did not change", tags);
+    }
+
+    /**
+     * Reconciles the SCRAM credentials of the user. When the desired password matches the fingerprint of the applied
+     * credentials and the credentials still exist in Kafka, nothing is changed. Otherwise, the credentials are
+     * upserted or deleted as in {@link #reconcile(Reconciliation, String, String)}.
+     *
+     * @param reconciliation        The reconciliation
+     * @param username              Name of the user
+     * @param desired               The desired password or null if the credentials should be deleted
+     * @param appliedFingerprint    Fingerprint of the credentials applied in the previous reconciliation or null if it is not known
+     *
+     * @return  Future with the reconcile result. A patched result means the credentials were upserted and a new
+     *          fingerprint should be stored.
+     */
+    public Future<ReconcileResult<String>> reconcile(Reconciliation reconciliation, String username, String desired, String appliedFingerprint) {
+        if (desired != null && fingerprintMatches(desired, appliedFingerprint)) {
+            return credentialsExist(reconciliation, username)
+                    .compose(exist -> {
+                        if (exist) {
+                            LOGGER.debugCr(reconciliation, "SCRAM credentials for user {} did not change", username);
+                            skippedUpserts.increment();
+                            return Future.succeededFuture(ReconcileResult.noop(desired));
+                        } else {
+                            LOGGER.debugCr(reconciliation, "SCRAM credentials for user {} are missing in Kafka", username);
+                            return reconcile(reconciliation, username, desired);
+                        }
+                    });
+        } else {
+            return reconcile(reconciliation, username, desired);
+        }
     }
 
     @Override
@@ -50,7 +124,11 @@ public class ScramCredentialsOperator extends AbstractAdminApiOperator<String, L
             LOGGER.debugCr(reconciliation, "Upserting SCRAM credentials for user {}", username);
             AlterUserScramCredentialsResult result = adminClient.alterUserScramCredentials(List.of(upsertion));
 
-            return Util.kafkaFutureToVertxFuture(reconciliation, vertx, result.all()).map(ReconcileResult.patched(desired));
+            return Util.kafkaFutureToVertxFuture(reconciliation, vertx, result.all())
+                    .map(ignore -> {
+                        appliedUpserts.increment();
+                        return ReconcileResult.patched(desired);
+                    });
         } else {
             Promise<ReconcileResult<String>> deletePromise = Promise.promise();
 
@@ -80,6 +158,91 @@ public class ScramCredentialsOperator extends AbstractAdminApiOperator<String, L
         }
     }
 
+    /**
+     * Checks whether the user has SCRAM credentials with the mechanism and iterations used by this operator. When the
+     * credentials cannot be described, they are considered missing so that they are upserted again.
+     *
+     * @param reconciliation    The reconciliation
+     * @param username          Name of the user
+     *
+     * @return  Future which completes with true if the credentials exist and false otherwise
+     */
+    private Future<Boolean> credentialsExist(Reconciliation reconciliation, String username) {
+        DescribeUserScramCredentialsResult result = adminClient.describeUserScramCredentials(List.of(username));
+
+        return Util.kafkaFutureToVertxFuture(reconciliation, vertx, result.description(username))
+                .map(ScramCredentialsOperator::hasCredentials)
+                .otherwise(error -> {
+                    if (!(error instanceof ResourceNotFoundException)) {
+                        LOGGER.debugCr(reconciliation, "Failed to describe SCRAM credentials for user {}", username, error);
+                    }
+
+                    return false;
+                });
+    }
+
+    private static boolean hasCredentials(UserScramCredentialsDescription description) {
+        return description != null
+                && description.credentialInfos().stream()
+                    .anyMatch(info -> info.mechanism() == SCRAM_MECHANISM && info.iterations() == ITERATIONS);
+    }
+
+    /**
+     * Creates a new fingerprint of the credentials with the given password. The fingerprint uses a random salt, so
+     * it does not reveal whether two users have the same password.
+     *
+     * @param password  The password
+     *
+     * @return  The fingerprint in the {@code <salt>:<digest>} format
+     */
+    public static String fingerprint(String password) {
+        byte[] salt = new byte[FINGERPRINT_SALT_LENGTH];
+        FINGERPRINT_SALT_RANDOM.nextBytes(salt);
+
+        return fingerprint(salt, password);
+    }
+
+    /**
+     * Checks whether the fingerprint was created for the given password
+     *
+     * @param password      The password
+     * @param fingerprint   The fingerprint or null
+     *
+     * @return  True if the fingerprint matches the password. False otherwise.
+     */
+    /* test */ static boolean fingerprintMatches(String password, String fingerprint) {
+        if (fingerprint == null) {
+            return false;
+        }
+
+        int separator = fingerprint.indexOf(':');
+
+        if (separator < 0) {
+            return false;
+        }
+
+        try {
+            byte[] salt = Base64.getDecoder().decode(fingerprint.substring(0, separator));
+            return MessageDigest.isEqual(fingerprint(salt, password).getBytes(StandardCharsets.US_ASCII), fingerprint.getBytes(StandardCharsets.US_ASCII));
+        } catch (IllegalArgumentException e) {
+            // Invalid Base64 => the fingerprint cannot match
+            return false;
+        }
+    }
+
+    private static String fingerprint(byte[] salt, String password) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            digest.update(salt);
+            digest.update((SCRAM_MECHANISM.mechanismName() + ":" + ITERATIONS + ":").getBytes(StandardCharsets.US_ASCII));
+            digest.update(password.getBytes(StandardCharsets.UTF_8));
+
+            return Base64.getEncoder().encodeToString(salt) + ":" + Base64.getEncoder().encodeToString(digest.digest());
+        } catch (NoSuchAlgorithmException e) {
+            throw new RuntimeException("Failed to create the fingerprint of the SCRAM credentials", e);
+        }
+    }
+
     /**
      * @return List with all usernames which have some scram credentials set
      */
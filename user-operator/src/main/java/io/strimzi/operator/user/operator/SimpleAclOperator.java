@@ -14,7 +14,9 @@ import io.vertx.core.CompositeFuture;
 import io.vertx.core.Future;
 import io.vertx.core.Vertx;
 import org.apache.kafka.clients.admin.Admin;
+import org.apache.kafka.clients.admin.DeleteAclsResult;
 import org.apache.kafka.clients.admin.DescribeAclsResult;
+import org.apache.kafka.common.KafkaFuture;
 import org.apache.kafka.common.acl.AccessControlEntryFilter;
 import org.apache.kafka.common.acl.AclBinding;
 import org.apache.kafka.common.acl.AclBindingFilter;
@@ -27,12 +29,23 @@ import org.apache.kafka.common.utils.SecurityUtils;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+import java.util.function.Supplier;
 
 /**
  * SimpleAclOperator is responsible for managing the authorization rules in Apache Kafka / Apache Zookeeper.
+ * <p>
+ * For bulk reconciliation, {@link #getSnapshot()} describes the ACLs of all users and keeps them indexed by the user
+ * as a snapshot. {@link #reconcile(AclSnapshot, Map)} then reconciles the ACLs of all users against the snapshot with
+ * a single deleteAcls and a single createAcls call. The users reconciled with a {@link BulkReconciliation} carrying
+ * the snapshot are reconciled against it instead of describing their ACLs one by one. The snapshot belongs to a single
+ * periodic reconciliation and is updated with the ACLs of every successfully reconciled user.
  */
 public class SimpleAclOperator extends AbstractAdminApiOperator<Set<SimpleAclRule>, Set<String>> {
     private static final ReconciliationLogger LOGGER = ReconciliationLogger.create(SimpleAclOperator.class.getName());
@@ -60,7 +73,11 @@ public class SimpleAclOperator extends AbstractAdminApiOperator<Set<SimpleAclRul
      */
     @Override
     public Future<ReconcileResult<Set<SimpleAclRule>>> reconcile(Reconciliation reconciliation, String username, Set<SimpleAclRule> desired) {
-        return getAsync(reconciliation, username)
+        AclSnapshot snapshot = BulkReconciliation.aclSnapshot(reconciliation);
+        Future<Set<SimpleAclRule>> currentFuture = snapshot != null && snapshot.contains(username)
+                ? Future.succeededFuture(snapshot.get(username)) : getAsync(reconciliation, username);
+
+        return currentFuture
                 .compose(current -> {
                     if (desired == null || desired.isEmpty()) {
                         if (current.size() == 0)    {
@@ -79,9 +96,128 @@ public class SimpleAclOperator extends AbstractAdminApiOperator<Set<SimpleAclRul
                             return internalUpdate(reconciliation, username, desired, current);
                         }
                     }
+                })
+                .onComplete(result -> {
+                    if (snapshot != null) {
+                        snapshot.update(username, desired, result.succeeded());
+                    }
                 });
     }
 
+    /**
+     * Reconciles the ACLs of many users against the snapshot. The ACLs which should be deleted are deleted in a single
+     * deleteAcls call and the ACLs which should be created are created in a single createAcls call. Users whose ACLs
+     * cannot be represented by the snapshot are skipped and have to be reconciled one by one.
+     *
+     * @param snapshot  Snapshot of the ACLs taken by {@link #getSnapshot()}. It is updated with the ACLs of the
+     *                  reconciled users. Users whose ACLs failed to be deleted or created are removed from it, so that
+     *                  their ACLs are described again when they are reconciled one by one.
+     * @param desired   The desired ACL rules indexed by the username. Null means that the ACLs of the user should be
+     *                  deleted.
+     *
+     * @return  Future which completes when all ACLs were processed. It does not fail when the ACLs of some users failed
+     *          to be deleted or created.
+     */
+    public Future<Void> reconcile(AclSnapshot snapshot, Map<String, Set<SimpleAclRule>> desired) {
+        Map<AclBindingFilter, String> toBeDeleted = new HashMap<>();
+        Map<AclBinding, String> toBeAdded = new HashMap<>();
+
+        for (Map.Entry<String, Set<SimpleAclRule>> user : desired.entrySet()) {
+            String username = user.getKey();
+
+            if (snapshot.contains(username)) {
+                KafkaPrincipal principal = new KafkaPrincipal("User", username);
+                Set<SimpleAclRule> current = snapshot.get(username);
+                Set<SimpleAclRule> desiredAcls = user.getValue() != null ? user.getValue() : Set.of();
+
+                for (SimpleAclRule rule : current) {
+                    if (!desiredAcls.contains(rule)) {
+                        toBeDeleted.put(rule.toKafkaAclBinding(principal).toFilter(), username);
+                    }
+                }
+
+                for (SimpleAclRule rule : desiredAcls) {
+                    if (!current.contains(rule)) {
+                        toBeAdded.put(rule.toKafkaAclBinding(principal), username);
+                    }
+                }
+            }
+        }
+
+        LOGGER.debugOp("Deleting {} and creating {} ACL rules of {} users", toBeDeleted.size(), toBeAdded.size(), desired.size());
+
+        Set<String> failed = ConcurrentHashMap.newKeySet();
+        Future<Void> deleted = toBeDeleted.isEmpty() ? Future.succeededFuture()
+                : awaitAll("delete", toBeDeleted, () -> adminClient.deleteAcls(toBeDeleted.keySet()).values(), SimpleAclOperator::deleteError, failed);
+        Future<Void> created = toBeAdded.isEmpty() ? Future.succeededFuture()
+                : awaitAll("create", toBeAdded, () -> adminClient.createAcls(toBeAdded.keySet()).values(), ignore -> null, failed);
+
+        return CompositeFuture.join(deleted, created)
+                .map(ignore -> {
+                    for (Map.Entry<String, Set<SimpleAclRule>> user : desired.entrySet()) {
+                        if (snapshot.contains(user.getKey())) {
+                            snapshot.update(user.getKey(), user.getValue(), !failed.contains(user.getKey()));
+                        }
+                    }
+
+                    return null;
+                });
+    }
+
+    /**
+     * Waits for the per-item results of a bulk deleteAcls or createAcls call and collects the users whose items failed
+     *
+     * @param operation     Name of the operation used in the log messages
+     * @param usernames     Users to whom the items belong
+     * @param send          Sends the items and returns the per-item results
+     * @param validator     Returns the error of a completed per-item result or null if the item succeeded
+     * @param failed        Set to which the users whose items failed are added
+     *
+     * @return  Future which completes when all items were processed. It never fails.
+     */
+    @SuppressWarnings("rawtypes") // Has to use Raw type because of the CompositeFuture
+    private <K, R> Future<Void> awaitAll(String operation, Map<K, String> usernames, Supplier<Map<K, KafkaFuture<R>>> send,
+                                         Function<R, Throwable> validator, Set<String> failed) {
+        Map<K, KafkaFuture<R>> results;
+        try {
+            results = send.get();
+        } catch (RuntimeException e) {
+            LOGGER.warnOp("Failed to {} ACL rules of {} users", operation, new HashSet<>(usernames.values()).size(), e);
+            failed.addAll(usernames.values());
+            return Future.succeededFuture();
+        }
+
+        List<Future> futures = new ArrayList<>(results.size());
+        for (Map.Entry<K, KafkaFuture<R>> result : results.entrySet()) {
+            String username = usernames.get(result.getKey());
+
+            futures.add(Util.kafkaFutureToVertxFuture(vertx, result.getValue())
+                    .compose(value -> {
+                        Throwable error = validator.apply(value);
+                        return error != null ? Future.failedFuture(error) : Future.succeededFuture();
+                    })
+                    .onFailure(error -> {
+                        LOGGER.warnOp("Failed to {} ACL rule {} of user {}", operation, result.getKey(), username, error);
+                        failed.add(username);
+                    }));
+        }
+
+        return CompositeFuture.join(futures).transform(ignore -> Future.succeededFuture());
+    }
+
+    /**
+     * @return  The first error of the ACL bindings matching a deleted filter or null if all were deleted
+     */
+    private static Throwable deleteError(DeleteAclsResult.FilterResults filterResults) {
+        for (DeleteAclsResult.FilterResult filterResult : filterResults.values()) {
+            if (filterResult.exception() != null) {
+                return filterResult.exception();
+            }
+        }
+
+        return null;
+    }
+
     /**
      * Create ACLs for the given user.
      *
@@ -207,42 +343,125 @@ public class SimpleAclOperator extends AbstractAdminApiOperator<Set<SimpleAclRul
     }
 
     /**
+     * Returns Set with all usernames which have some ACLs set
+     *
      * @return Set with all usernames which have some ACLs set
      */
     @Override
     public Future<Set<String>> getAllUsers() {
+        return describeAllAcls().map(SimpleAclOperator::users);
+    }
+
+    /**
+     * Describes the ACLs of all users and returns them as a snapshot used to reconcile the users in bulk
+     *
+     * @return Future with the snapshot of the ACLs of all users
+     */
+    public Future<AclSnapshot> getSnapshot() {
+        return describeAllAcls().map(aclBindings -> new AclSnapshot(aclBindings, users(aclBindings)));
+    }
+
+    private Future<Collection<AclBinding>> describeAllAcls() {
         LOGGER.debugOp("Searching for Users with any ACL rules");
 
         DescribeAclsResult result = adminClient.describeAcls(AclBindingFilter.ANY);
-        return Util.kafkaFutureToVertxFuture(vertx, result.values())
-                .compose(aclBindings -> {
-                    Set<String> users = new HashSet<>();
-                    Set<String> ignored = new HashSet<>(IGNORED_USERS.size());
+        return Util.kafkaFutureToVertxFuture(vertx, result.values());
+    }
 
-                    for (AclBinding aclBinding : aclBindings) {
-                        KafkaPrincipal principal = SecurityUtils.parseKafkaPrincipal(aclBinding.entry().principal());
-
-                        if (KafkaPrincipal.USER_TYPE.equals(principal.getPrincipalType())) {
-                            // Username in ACL might keep different format (for example based on user's subject) and need to be decoded
-                            String username = KafkaUserModel.decodeUsername(principal.getName());
-
-                            if (IGNORED_USERS.contains(username)) {
-                                if (!ignored.contains(username)) {
-                                    // This info message is loged only once per reconciliation even if there are multiple rules
-                                    LOGGER.infoOp("Existing ACLs for user '{}' will be ignored.", username);
-                                    ignored.add(username);
-                                }
-                            } else {
-                                if (LOGGER.isDebugEnabled()) {
-                                    LOGGER.debugOp("Adding user {} to Set of users with ACLs", username);
-                                }
-
-                                users.add(username);
-                            }
-                        }
+    /**
+     * @return Set with all usernames which have some ACLs set in the given ACL bindings
+     */
+    private static Set<String> users(Collection<AclBinding> aclBindings) {
+        Set<String> users = new HashSet<>();
+        Set<String> ignored = new HashSet<>(IGNORED_USERS.size());
+
+        for (AclBinding aclBinding : aclBindings) {
+            KafkaPrincipal principal = SecurityUtils.parseKafkaPrincipal(aclBinding.entry().principal());
+
+            if (KafkaPrincipal.USER_TYPE.equals(principal.getPrincipalType())) {
+                // Username in ACL might keep different format (for example based on user's subject) and need to be decoded
+                String username = KafkaUserModel.decodeUsername(principal.getName());
+
+                if (IGNORED_USERS.contains(username)) {
+                    if (!ignored.contains(username)) {
+                        // This info message is loged only once per reconciliation even if there are multiple rules
+                        LOGGER.infoOp("Existing ACLs for user '{}' will be ignored.", username);
+                        ignored.add(username);
+                    }
+                } else {
+                    if (LOGGER.isDebugEnabled()) {
+                        LOGGER.debugOp("Adding user {} to Set of users with ACLs", username);
                     }
 
-                    return Future.succeededFuture(users);
-                });
+                    users.add(username);
+                }
+            }
+        }
+
+        return users;
+    }
+
+    /**
+     * ACLs of all users indexed by the username as used in the ACL principal, e.g. CN=my-user for TLS users. The
+     * snapshot is taken at the start of a periodic reconciliation and used only by that reconciliation.
+     */
+    static final class AclSnapshot {
+        private final Map<String, Set<SimpleAclRule>> acls = new ConcurrentHashMap<>();
+        // Users with ACLs which cannot be represented as SimpleAclRule or whose ACLs failed to be reconciled. They are
+        // always described one by one.
+        private final Set<String> unknown = ConcurrentHashMap.newKeySet();
+        private final Set<String> users;
+
+        AclSnapshot(Collection<AclBinding> aclBindings, Set<String> users) {
+            this.users = users;
+
+            for (AclBinding aclBinding : aclBindings) {
+                KafkaPrincipal principal = SecurityUtils.parseKafkaPrincipal(aclBinding.entry().principal());
+
+                if (KafkaPrincipal.USER_TYPE.equals(principal.getPrincipalType())) {
+                    try {
+                        acls.computeIfAbsent(principal.getName(), ignore -> new HashSet<>()).add(SimpleAclRule.fromAclBinding(aclBinding));
+                    } catch (IllegalArgumentException e) {
+                        unknown.add(principal.getName());
+                    }
+                }
+            }
+
+            unknown.forEach(acls::remove);
+        }
+
+        /**
+         * @return Set with all usernames which had some ACLs set when the snapshot was taken
+         */
+        Set<String> users() {
+            return users;
+        }
+
+        boolean contains(String username) {
+            return !unknown.contains(username);
+        }
+
+        Set<SimpleAclRule> get(String username) {
+            return acls.getOrDefault(username, Set.of());
+        }
+
+        /**
+         * Updates the ACLs of the user after the user was reconciled
+         *
+         * @param username      Name of the user
+         * @param userAcls      ACLs of the user after the reconciliation
+         * @param succeeded     Indicates whether the reconciliation succeeded. Otherwise, the ACLs in Kafka might be
+         *                      changed only partially and the user is removed from the snapshot.
+         */
+        void update(String username, Set<SimpleAclRule> userAcls, boolean succeeded) {
+            if (!succeeded) {
+                unknown.add(username);
+                acls.remove(username);
+            } else if (userAcls == null || userAcls.isEmpty()) {
+                acls.remove(username);
+            } else {
+                acls.put(username, new HashSet<>(userAcls));
+            }
+        }
     }
 }
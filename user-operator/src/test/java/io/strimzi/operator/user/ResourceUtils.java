@@ -38,6 +38,10 @@ public class ResourceUtils {
     public static final String PASSWORD = "my-password";
 
     public static UserOperatorConfig createUserOperatorConfig(Map<String, String> labels, boolean aclsAdminApiSupported, String scramShaPassworldLength) {
+        return createUserOperatorConfig(labels, aclsAdminApiSupported, scramShaPassworldLength, false);
+    }
+
+    public static UserOperatorConfig createUserOperatorConfig(Map<String, String> labels, boolean aclsAdminApiSupported, String scramShaPassworldLength, boolean bulkReconciliation) {
         Map<String, String> envVars = new HashMap<>(4);
         envVars.put(UserOperatorConfig.STRIMZI_NAMESPACE, NAMESPACE);
         envVars.put(UserOperatorConfig.STRIMZI_LABELS, labels.entrySet().stream().map(e -> e.getKey() + "=" + e.getValue()).collect(Collectors.joining(",")));
@@ -47,6 +51,9 @@ public class ResourceUtils {
         if (!scramShaPassworldLength.equals("12")) {
             envVars.put(UserOperatorConfig.STRIMZI_SCRAM_SHA_PASSWORD_LENGTH, scramShaPassworldLength);
         }
+        if (bulkReconciliation) {
+            envVars.put(UserOperatorConfig.STRIMZI_BULK_RECONCILIATION, "true");
+        }
 
         return UserOperatorConfig.fromMap(envVars);
     }
@@ -5,6 +5,7 @@
 package io.strimzi.operator.user;
 
 import io.strimzi.api.kafka.model.CertificateAuthority;
+import io.strimzi.certs.CertManagerType;
 import io.strimzi.operator.common.InvalidConfigurationException;
 import io.strimzi.operator.common.model.Labels;
 import org.junit.jupiter.api.Test;
@@ -31,6 +32,8 @@ public class UserOperatorConfigTest {
         envVars.put(UserOperatorConfig.STRIMZI_CLIENTS_CA_RENEWAL, "10");
         envVars.put(UserOperatorConfig.STRIMZI_ACLS_ADMIN_API_SUPPORTED, "false");
         envVars.put(UserOperatorConfig.STRIMZI_SCRAM_SHA_PASSWORD_LENGTH, "20");
+        envVars.put(UserOperatorConfig.STRIMZI_BULK_RECONCILIATION, "true");
+        envVars.put(UserOperatorConfig.STRIMZI_CERT_MANAGER, "bouncycastle");
 
 
         Map<String, String> labels = new HashMap<>(2);
@@ -53,6 +56,8 @@ public class UserOperatorConfigTest {
         assertThat(config.getClientsCaRenewalDays(), is(10));
         assertThat(config.isAclsAdminApiSupported(), is(false));
         assertThat(config.getScramPasswordLength(), is(20));
+        assertThat(config.isBulkReconciliation(), is(true));
+        assertThat(config.getCertManager(), is(CertManagerType.BOUNCYCASTLE));
     }
 
     @Test
@@ -150,4 +155,30 @@ public class UserOperatorConfigTest {
         UserOperatorConfig config = UserOperatorConfig.fromMap(envVars);
         assertThat(config.isAclsAdminApiSupported(), is(UserOperatorConfig.DEFAULT_STRIMZI_ACLS_ADMIN_API_SUPPORTED));
     }
+
+    @Test
+    public void testFromMapBulkReconciliationDefaults()  {
+        Map<String, String> envVars = new HashMap<>(UserOperatorConfigTest.envVars);
+        envVars.remove(UserOperatorConfig.STRIMZI_BULK_RECONCILIATION);
+
+        UserOperatorConfig config = UserOperatorConfig.fromMap(envVars);
+        assertThat(config.isBulkReconciliation(), is(UserOperatorConfig.DEFAULT_STRIMZI_BULK_RECONCILIATION));
+    }
+
+    @Test
+    public void testFromMapCertManagerDefaults()  {
+        Map<String, String> envVars = new HashMap<>(UserOperatorConfigTest.envVars);
+        envVars.remove(UserOperatorConfig.STRIMZI_CERT_MANAGER);
+
+        UserOperatorConfig config = UserOperatorConfig.fromMap(envVars);
+        assertThat(config.getCertManager(), is(UserOperatorConfig.DEFAULT_CERT_MANAGER));
+    }
+
+    @Test
+    public void testFromMapInvalidCertManagerThrows()  {
+        Map<String, String> envVars = new HashMap<>(UserOperatorConfigTest.envVars);
+        envVars.put(UserOperatorConfig.STRIMZI_CERT_MANAGER, "keytool");
+
+        assertThrows(InvalidConfigurationException.class, () -> UserOperatorConfig.fromMap(envVars));
+    }
 }
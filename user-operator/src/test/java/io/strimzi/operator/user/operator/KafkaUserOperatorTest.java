@@ -10,12 +10,15 @@ import io.fabric8.kubernetes.api.model.SecretBuilder;
 import io.strimzi.api.kafka.model.KafkaUser;
 import io.strimzi.api.kafka.model.KafkaUserBuilder;
 import io.strimzi.api.kafka.model.KafkaUserQuotas;
+import io.strimzi.api.kafka.model.KafkaUserQuotasBuilder;
 import io.strimzi.api.kafka.model.status.KafkaUserStatus;
 import io.strimzi.certs.CertManager;
+import io.strimzi.operator.common.AbstractOperator;
 import io.strimzi.operator.common.Reconciliation;
 import io.strimzi.operator.common.model.Labels;
 import io.strimzi.operator.common.operator.MockCertManager;
 import io.strimzi.operator.common.operator.resource.CrdOperator;
+import io.strimzi.operator.common.operator.resource.ReconcileResult;
 import io.strimzi.operator.common.operator.resource.SecretOperator;
 import io.strimzi.operator.user.ResourceUtils;
 import io.strimzi.operator.user.model.KafkaUserModel;
@@ -29,6 +32,15 @@ import io.vertx.junit5.VertxExtension;
 import io.vertx.junit5.VertxTestContext;
 import io.vertx.micrometer.MicrometerMetricsOptions;
 import io.vertx.micrometer.VertxPrometheusOptions;
+import org.apache.kafka.clients.admin.Admin;
+import org.apache.kafka.clients.admin.AdminClient;
+import org.apache.kafka.clients.admin.AlterClientQuotasResult;
+import org.apache.kafka.clients.admin.CreateAclsResult;
+import org.apache.kafka.clients.admin.DescribeAclsResult;
+import org.apache.kafka.clients.admin.DescribeClientQuotasResult;
+import org.apache.kafka.common.KafkaFuture;
+import org.apache.kafka.common.acl.AclBinding;
+import org.apache.kafka.common.quota.ClientQuotaAlteration;
 import org.junit.jupiter.api.AfterAll;
 import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.Test;
@@ -36,14 +48,19 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.ArgumentCaptor;
 
 import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Base64;
+import java.util.Collection;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.concurrent.CopyOnWriteArraySet;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 import static java.util.Arrays.asList;
 import static java.util.Collections.singletonList;
@@ -58,6 +75,7 @@ import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.ArgumentMatchers.isNull;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -97,7 +115,7 @@ public class KafkaUserOperatorTest {
         ArgumentCaptor<Set<SimpleAclRule>> aclRulesCaptor = ArgumentCaptor.forClass(Set.class);
         when(aclOps.reconcile(any(), aclNameCaptor.capture(), aclRulesCaptor.capture())).thenReturn(Future.succeededFuture());
 
-        when(scramOps.reconcile(any(), any(), any())).thenReturn(Future.succeededFuture());
+        when(scramOps.reconcile(any(), any(), any(), any())).thenReturn(Future.succeededFuture());
         when(quotasOps.reconcile(any(), any(), any())).thenReturn(Future.succeededFuture());
 
         KafkaUserOperator op = new KafkaUserOperator(vertx, mockCertManager, mockCrdOps, mockSecretOps, scramOps, quotasOps, aclOps, ResourceUtils.createUserOperatorConfig());
@@ -171,7 +189,7 @@ public class KafkaUserOperatorTest {
         ArgumentCaptor<Secret> secretCaptor = ArgumentCaptor.forClass(Secret.class);
         when(mockSecretOps.reconcile(any(), secretNamespaceCaptor.capture(), secretNameCaptor.capture(), secretCaptor.capture())).thenReturn(Future.succeededFuture());
 
-        when(scramOps.reconcile(any(), any(), any())).thenReturn(Future.succeededFuture());
+        when(scramOps.reconcile(any(), any(), any(), any())).thenReturn(Future.succeededFuture());
         when(quotasOps.reconcile(any(), any(), any())).thenReturn(Future.succeededFuture());
 
         KafkaUserOperator op = new KafkaUserOperator(vertx, mockCertManager, mockCrdOps, mockSecretOps, scramOps, quotasOps, aclOps, ResourceUtils.createUserOperatorConfig(Map.of(), false, "12"));
@@ -247,7 +265,7 @@ public class KafkaUserOperatorTest {
         ArgumentCaptor<Secret> secretCaptor = ArgumentCaptor.forClass(Secret.class);
         when(mockSecretOps.reconcile(any(), secretNamespaceCaptor.capture(), secretNameCaptor.capture(), secretCaptor.capture())).thenReturn(Future.succeededFuture());
 
-        when(scramOps.reconcile(any(), any(), any())).thenReturn(Future.succeededFuture());
+        when(scramOps.reconcile(any(), any(), any(), any())).thenReturn(Future.succeededFuture());
 
         ArgumentCaptor<String> aclNameCaptor = ArgumentCaptor.forClass(String.class);
         ArgumentCaptor<Set<SimpleAclRule>> aclRulesCaptor = ArgumentCaptor.forClass(Set.class);
@@ -327,7 +345,7 @@ public class KafkaUserOperatorTest {
         when(mockSecretOps.reconcile(any(), secretNamespaceCaptor.capture(), secretNameCaptor.capture(), secretCaptor.capture())).thenReturn(Future.succeededFuture());
         when(mockSecretOps.getAsync(anyString(), eq(ResourceUtils.NAME))).thenReturn(Future.succeededFuture(null));
 
-        when(scramOps.reconcile(any(), any(), any())).thenReturn(Future.succeededFuture());
+        when(scramOps.reconcile(any(), any(), any(), any())).thenReturn(Future.succeededFuture());
 
         ArgumentCaptor<String> aclNameCaptor = ArgumentCaptor.forClass(String.class);
         ArgumentCaptor<Set<SimpleAclRule>> aclRulesCaptor = ArgumentCaptor.forClass(Set.class);
@@ -394,7 +412,7 @@ public class KafkaUserOperatorTest {
         ArgumentCaptor<Set<SimpleAclRule>> aclRulesCaptor = ArgumentCaptor.forClass(Set.class);
         when(aclOps.reconcile(any(), aclNameCaptor.capture(), aclRulesCaptor.capture())).thenReturn(Future.succeededFuture());
 
-        when(scramOps.reconcile(any(), any(), any())).thenReturn(Future.succeededFuture());
+        when(scramOps.reconcile(any(), any(), any(), any())).thenReturn(Future.succeededFuture());
         when(quotasOps.reconcile(any(), any(), any())).thenReturn(Future.succeededFuture());
         when(mockCrdOps.getAsync(anyString(), anyString())).thenReturn(Future.succeededFuture());
 
@@ -506,7 +524,7 @@ public class KafkaUserOperatorTest {
         ArgumentCaptor<Set<SimpleAclRule>> aclRulesCaptor = ArgumentCaptor.forClass(Set.class);
         when(aclOps.reconcile(any(), aclNameCaptor.capture(), aclRulesCaptor.capture())).thenReturn(Future.succeededFuture());
 
-        when(scramOps.reconcile(any(), any(), any())).thenReturn(Future.succeededFuture());
+        when(scramOps.reconcile(any(), any(), any(), any())).thenReturn(Future.succeededFuture());
 
         when(mockSecretOps.getAsync(anyString(), eq(clientsCa.getMetadata().getName()))).thenReturn(Future.succeededFuture(clientsCa));
         when(mockSecretOps.getAsync(anyString(), eq(clientsCaKey.getMetadata().getName()))).thenReturn(Future.succeededFuture(clientsCaKey));
@@ -586,7 +604,7 @@ public class KafkaUserOperatorTest {
         ArgumentCaptor<Secret> secretCaptor = ArgumentCaptor.forClass(Secret.class);
         when(mockSecretOps.reconcile(any(), secretNamespaceCaptor.capture(), secretNameCaptor.capture(), secretCaptor.capture())).thenReturn(Future.succeededFuture());
 
-        when(scramOps.reconcile(any(), any(), any())).thenReturn(Future.succeededFuture());
+        when(scramOps.reconcile(any(), any(), any(), any())).thenReturn(Future.succeededFuture());
 
         ArgumentCaptor<String> aclNameCaptor = ArgumentCaptor.forClass(String.class);
         ArgumentCaptor<Set<SimpleAclRule>> aclRulesCaptor = ArgumentCaptor.forClass(Set.class);
@@ -875,7 +893,7 @@ public class KafkaUserOperatorTest {
 
         ArgumentCaptor<String> scramUserCaptor = ArgumentCaptor.forClass(String.class);
         ArgumentCaptor<String> scramPasswordCaptor = ArgumentCaptor.forClass(String.class);
-        when(scramOps.reconcile(any(), scramUserCaptor.capture(), scramPasswordCaptor.capture())).thenReturn(Future.succeededFuture());
+        when(scramOps.reconcile(any(), scramUserCaptor.capture(), scramPasswordCaptor.capture(), any())).thenReturn(Future.succeededFuture());
 
         when(mockSecretOps.getAsync(anyString(), eq(user.getMetadata().getName()))).thenReturn(Future.succeededFuture(null));
 
@@ -932,6 +950,89 @@ public class KafkaUserOperatorTest {
             })));
     }
 
+    @Test
+    public void testReconcileScramShaUserStoresCredentialsFingerprint(VertxTestContext context)    {
+        CrdOperator mockCrdOps = mock(CrdOperator.class);
+        SecretOperator mockSecretOps = mock(SecretOperator.class);
+        SimpleAclOperator aclOps = mock(SimpleAclOperator.class);
+        ScramCredentialsOperator scramOps = mock(ScramCredentialsOperator.class);
+        QuotasOperator quotasOps = mock(QuotasOperator.class);
+
+        KafkaUserOperator op = new KafkaUserOperator(vertx, mockCertManager, mockCrdOps, mockSecretOps, scramOps, quotasOps, aclOps, ResourceUtils.createUserOperatorConfig());
+        KafkaUser user = ResourceUtils.createKafkaUserScramSha();
+
+        ArgumentCaptor<Secret> secretCaptor = ArgumentCaptor.forClass(Secret.class);
+        when(mockSecretOps.reconcile(any(), anyString(), anyString(), secretCaptor.capture())).thenReturn(Future.succeededFuture());
+        when(aclOps.reconcile(any(), any(), any())).thenReturn(Future.succeededFuture());
+
+        ArgumentCaptor<String> scramFingerprintCaptor = ArgumentCaptor.forClass(String.class);
+        when(scramOps.reconcile(any(), any(), any(), scramFingerprintCaptor.capture()))
+                .thenAnswer(invocation -> Future.succeededFuture(ReconcileResult.patched(invocation.getArgument(2))));
+
+        when(mockSecretOps.getAsync(anyString(), eq(user.getMetadata().getName()))).thenReturn(Future.succeededFuture(null));
+
+        when(mockCrdOps.get(eq(user.getMetadata().getNamespace()), eq(user.getMetadata().getName()))).thenReturn(user);
+        when(mockCrdOps.getAsync(anyString(), anyString())).thenReturn(Future.succeededFuture(user));
+        when(mockCrdOps.updateStatusAsync(any(), any(KafkaUser.class))).thenReturn(Future.succeededFuture());
+        when(quotasOps.reconcile(any(), any(), any())).thenReturn(Future.succeededFuture());
+
+        Checkpoint async = context.checkpoint();
+        op.reconcile(new Reconciliation("test-trigger", KafkaUser.RESOURCE_KIND, ResourceUtils.NAMESPACE, ResourceUtils.NAME))
+            .onComplete(context.succeeding(v -> context.verify(() -> {
+                // New user => no fingerprint is known
+                assertThat(scramFingerprintCaptor.getValue(), is(nullValue()));
+
+                Secret captured = secretCaptor.getValue();
+                String password = new String(Base64.getDecoder().decode(captured.getData().get(KafkaUserModel.KEY_PASSWORD)));
+                String fingerprint = captured.getMetadata().getAnnotations().get(KafkaUserModel.ANNO_STRIMZI_IO_SCRAM_CREDENTIALS_FINGERPRINT);
+                assertThat(ScramCredentialsOperator.fingerprintMatches(password, fingerprint), is(true));
+
+                async.flag();
+            })));
+    }
+
+    @Test
+    public void testReconcileExistingScramShaUserKeepsCredentialsFingerprint(VertxTestContext context)    {
+        CrdOperator mockCrdOps = mock(CrdOperator.class);
+        SecretOperator mockSecretOps = mock(SecretOperator.class);
+        SimpleAclOperator aclOps = mock(SimpleAclOperator.class);
+        ScramCredentialsOperator scramOps = mock(ScramCredentialsOperator.class);
+        QuotasOperator quotasOps = mock(QuotasOperator.class);
+
+        KafkaUserOperator op = new KafkaUserOperator(vertx, mockCertManager, mockCrdOps, mockSecretOps, scramOps, quotasOps, aclOps, ResourceUtils.createUserOperatorConfig());
+        KafkaUser user = ResourceUtils.createKafkaUserScramSha();
+        String fingerprint = ScramCredentialsOperator.fingerprint(ResourceUtils.PASSWORD);
+        Secret userSecret = new SecretBuilder(ResourceUtils.createUserSecretScramSha())
+                .editMetadata()
+                    .addToAnnotations(KafkaUserModel.ANNO_STRIMZI_IO_SCRAM_CREDENTIALS_FINGERPRINT, fingerprint)
+                .endMetadata()
+                .build();
+
+        ArgumentCaptor<Secret> secretCaptor = ArgumentCaptor.forClass(Secret.class);
+        when(mockSecretOps.reconcile(any(), anyString(), anyString(), secretCaptor.capture())).thenReturn(Future.succeededFuture());
+        when(aclOps.reconcile(any(), any(), any())).thenReturn(Future.succeededFuture());
+
+        ArgumentCaptor<String> scramFingerprintCaptor = ArgumentCaptor.forClass(String.class);
+        when(scramOps.reconcile(any(), any(), any(), scramFingerprintCaptor.capture()))
+                .thenAnswer(invocation -> Future.succeededFuture(ReconcileResult.noop(invocation.getArgument(2))));
+
+        when(mockSecretOps.getAsync(anyString(), eq(user.getMetadata().getName()))).thenReturn(Future.succeededFuture(userSecret));
+
+        when(mockCrdOps.get(eq(user.getMetadata().getNamespace()), eq(user.getMetadata().getName()))).thenReturn(user);
+        when(mockCrdOps.getAsync(anyString(), anyString())).thenReturn(Future.succeededFuture(user));
+        when(mockCrdOps.updateStatusAsync(any(), any(KafkaUser.class))).thenReturn(Future.succeededFuture());
+        when(quotasOps.reconcile(any(), any(), any())).thenReturn(Future.succeededFuture());
+
+        Checkpoint async = context.checkpoint();
+        op.reconcile(new Reconciliation("test-trigger", KafkaUser.RESOURCE_KIND, ResourceUtils.NAMESPACE, ResourceUtils.NAME))
+            .onComplete(context.succeeding(v -> context.verify(() -> {
+                assertThat(scramFingerprintCaptor.getValue(), is(fingerprint));
+                assertThat(secretCaptor.getValue().getMetadata().getAnnotations().get(KafkaUserModel.ANNO_STRIMZI_IO_SCRAM_CREDENTIALS_FINGERPRINT), is(fingerprint));
+
+                async.flag();
+            })));
+    }
+
     @Test
     public void testReconcileNewScramShaUserwithConfigurableLength(VertxTestContext context)    {
 
@@ -956,7 +1057,7 @@ public class KafkaUserOperatorTest {
 
         ArgumentCaptor<String> scramUserCaptor = ArgumentCaptor.forClass(String.class);
         ArgumentCaptor<String> scramPasswordCaptor = ArgumentCaptor.forClass(String.class);
-        when(scramOps.reconcile(any(), scramUserCaptor.capture(), scramPasswordCaptor.capture())).thenReturn(Future.succeededFuture());
+        when(scramOps.reconcile(any(), scramUserCaptor.capture(), scramPasswordCaptor.capture(), any())).thenReturn(Future.succeededFuture());
 
         when(mockSecretOps.getAsync(anyString(), eq(user.getMetadata().getName()))).thenReturn(Future.succeededFuture(null));
 
@@ -1044,7 +1145,7 @@ public class KafkaUserOperatorTest {
 
         ArgumentCaptor<String> scramUserCaptor = ArgumentCaptor.forClass(String.class);
         ArgumentCaptor<String> scramPasswordCaptor = ArgumentCaptor.forClass(String.class);
-        when(scramOps.reconcile(any(), scramUserCaptor.capture(), scramPasswordCaptor.capture())).thenReturn(Future.succeededFuture());
+        when(scramOps.reconcile(any(), scramUserCaptor.capture(), scramPasswordCaptor.capture(), any())).thenReturn(Future.succeededFuture());
 
         when(mockSecretOps.getAsync(anyString(), eq(user.getMetadata().getName()))).thenReturn(Future.succeededFuture(null));
         when(mockSecretOps.getAsync(anyString(), eq(desiredPasswordSecret.getMetadata().getName()))).thenReturn(Future.succeededFuture(desiredPasswordSecret));
@@ -1123,7 +1224,7 @@ public class KafkaUserOperatorTest {
 
         ArgumentCaptor<String> scramUserCaptor = ArgumentCaptor.forClass(String.class);
         ArgumentCaptor<String> scramPasswordCaptor = ArgumentCaptor.forClass(String.class);
-        when(scramOps.reconcile(any(), scramUserCaptor.capture(), scramPasswordCaptor.capture())).thenReturn(Future.succeededFuture());
+        when(scramOps.reconcile(any(), scramUserCaptor.capture(), scramPasswordCaptor.capture(), any())).thenReturn(Future.succeededFuture());
 
         ArgumentCaptor<String> aclNameCaptor = ArgumentCaptor.forClass(String.class);
         ArgumentCaptor<Set<SimpleAclRule>> aclRulesCaptor = ArgumentCaptor.forClass(Set.class);
@@ -1268,7 +1369,7 @@ public class KafkaUserOperatorTest {
 
         ArgumentCaptor<String> scramUserCaptor = ArgumentCaptor.forClass(String.class);
         ArgumentCaptor<String> scramPasswordCaptor = ArgumentCaptor.forClass(String.class);
-        when(scramOps.reconcile(any(), scramUserCaptor.capture(), scramPasswordCaptor.capture())).thenReturn(Future.succeededFuture());
+        when(scramOps.reconcile(any(), scramUserCaptor.capture(), scramPasswordCaptor.capture(), any())).thenReturn(Future.succeededFuture());
 
         when(mockSecretOps.getAsync(anyString(), eq(clientsCa.getMetadata().getName()))).thenReturn(Future.succeededFuture(clientsCa));
         when(mockSecretOps.getAsync(anyString(), eq(clientsCaKey.getMetadata().getName()))).thenReturn(Future.succeededFuture(clientsCaKey));
@@ -1350,7 +1451,7 @@ public class KafkaUserOperatorTest {
 
         when(mockSecretOps.reconcile(any(), anyString(), anyString(), any(Secret.class))).thenReturn(Future.failedFuture(failureMsg));
         when(aclOps.reconcile(any(), anyString(), any())).thenReturn(Future.succeededFuture());
-        when(scramOps.reconcile(any(), any(), any())).thenReturn(Future.succeededFuture());
+        when(scramOps.reconcile(any(), any(), any(), any())).thenReturn(Future.succeededFuture());
         ArgumentCaptor<KafkaUser> userCaptor = ArgumentCaptor.forClass(KafkaUser.class);
         when(mockCrdOps.updateStatusAsync(any(), userCaptor.capture())).thenReturn(Future.succeededFuture());
         when(quotasOps.reconcile(any(), any(), any())).thenReturn(Future.succeededFuture());
@@ -1388,7 +1489,7 @@ public class KafkaUserOperatorTest {
 
         when(mockSecretOps.reconcile(any(), anyString(), anyString(), any(Secret.class))).thenReturn(Future.succeededFuture());
         when(aclOps.reconcile(any(), anyString(), any())).thenReturn(Future.succeededFuture());
-        when(scramOps.reconcile(any(), any(), any())).thenReturn(Future.succeededFuture());
+        when(scramOps.reconcile(any(), any(), any(), any())).thenReturn(Future.succeededFuture());
         ArgumentCaptor<KafkaUser> userCaptor = ArgumentCaptor.forClass(KafkaUser.class);
         when(mockCrdOps.updateStatusAsync(any(), userCaptor.capture())).thenReturn(Future.succeededFuture());
         when(quotasOps.reconcile(any(), any(), any())).thenReturn(Future.succeededFuture());
@@ -1405,4 +1506,90 @@ public class KafkaUserOperatorTest {
                 async.flag();
             })));
     }
+
+    @Test
+    public void testBulkReconcileAllCreatesAclsAndQuotasOfAllUsersInSingleCalls(VertxTestContext context) {
+        int userCount = 3 * AbstractOperator.DEFAULT_MAX_CONCURRENT_RECONCILIATIONS;
+
+        CrdOperator mockCrdOps = mock(CrdOperator.class);
+        SecretOperator mockSecretOps = mock(SecretOperator.class);
+        ScramCredentialsOperator scramOps = mock(ScramCredentialsOperator.class);
+        Admin mockAdminClient = mock(AdminClient.class);
+        QuotasOperator quotasOps = new QuotasOperator(vertx, mockAdminClient);
+        SimpleAclOperator aclOps = new SimpleAclOperator(vertx, mockAdminClient);
+
+        List<KafkaUser> users = new ArrayList<>(userCount);
+        for (int i = 0; i < userCount; i++) {
+            KafkaUser user = new KafkaUserBuilder(ResourceUtils.createKafkaUserTls())
+                    .editMetadata()
+                        .withName("my-user-" + i)
+                    .endMetadata()
+                    .editSpec()
+                        .withQuotas(new KafkaUserQuotasBuilder().withProducerByteRate(1000).build())
+                    .endSpec()
+                    .build();
+            users.add(user);
+            when(mockCrdOps.get(eq(ResourceUtils.NAMESPACE), eq(user.getMetadata().getName()))).thenReturn(user);
+            when(mockCrdOps.getAsync(eq(ResourceUtils.NAMESPACE), eq(user.getMetadata().getName()))).thenReturn(Future.succeededFuture(user));
+        }
+        when(mockCrdOps.listAsync(eq(ResourceUtils.NAMESPACE), any(Optional.class))).thenReturn(Future.succeededFuture(users));
+        when(mockCrdOps.updateStatusAsync(any(), any(KafkaUser.class))).thenReturn(Future.succeededFuture());
+
+        Secret clientsCa = ResourceUtils.createClientsCaCertSecret();
+        Secret clientsCaKey = ResourceUtils.createClientsCaKeySecret();
+        when(mockSecretOps.getAsync(anyString(), anyString())).thenReturn(Future.succeededFuture(null));
+        when(mockSecretOps.getAsync(anyString(), eq(clientsCa.getMetadata().getName()))).thenReturn(Future.succeededFuture(clientsCa));
+        when(mockSecretOps.getAsync(anyString(), eq(clientsCaKey.getMetadata().getName()))).thenReturn(Future.succeededFuture(clientsCaKey));
+        when(mockSecretOps.reconcile(any(), anyString(), anyString(), any(Secret.class))).thenReturn(Future.succeededFuture());
+
+        when(scramOps.reconcile(any(), any(), any(), any())).thenReturn(Future.succeededFuture());
+        when(scramOps.getAllUsers()).thenReturn(Future.succeededFuture(List.of()));
+
+        DescribeClientQuotasResult describeQuotasResult = mock(DescribeClientQuotasResult.class);
+        when(describeQuotasResult.entities()).thenReturn(KafkaFuture.completedFuture(Map.of()));
+        when(mockAdminClient.describeClientQuotas(any())).thenReturn(describeQuotasResult);
+
+        List<Collection<ClientQuotaAlteration>> quotaAlterations = new CopyOnWriteArrayList<>();
+        when(mockAdminClient.alterClientQuotas(any())).thenAnswer(invocation -> {
+            Collection<ClientQuotaAlteration> alterations = invocation.getArgument(0);
+            quotaAlterations.add(alterations);
+
+            AlterClientQuotasResult result = mock(AlterClientQuotasResult.class);
+            when(result.values()).thenReturn(alterations.stream().collect(Collectors.toMap(ClientQuotaAlteration::entity, ignore -> KafkaFuture.completedFuture(null))));
+            return result;
+        });
+
+        DescribeAclsResult describeAclsResult = mock(DescribeAclsResult.class);
+        when(describeAclsResult.values()).thenReturn(KafkaFuture.completedFuture(List.of()));
+        when(mockAdminClient.describeAcls(any())).thenReturn(describeAclsResult);
+
+        List<Collection<AclBinding>> createdAclBindings = new CopyOnWriteArrayList<>();
+        when(mockAdminClient.createAcls(any())).thenAnswer(invocation -> {
+            Collection<AclBinding> aclBindings = invocation.getArgument(0);
+            createdAclBindings.add(aclBindings);
+
+            CreateAclsResult result = mock(CreateAclsResult.class);
+            when(result.values()).thenReturn(aclBindings.stream().collect(Collectors.toMap(Function.identity(), ignore -> KafkaFuture.completedFuture(null))));
+            return result;
+        });
+
+        KafkaUserOperator op = new KafkaUserOperator(vertx, mockCertManager, mockCrdOps, mockSecretOps, scramOps, quotasOps, aclOps,
+                ResourceUtils.createUserOperatorConfig(Map.of(), true, "12", true));
+
+        Checkpoint async = context.checkpoint();
+        op.reconcileAll("test-trigger", ResourceUtils.NAMESPACE, context.succeeding(v -> context.verify(() -> {
+            // The ACLs and quotas of all users are described and changed in single calls regardless of the work queue concurrency
+            verify(mockAdminClient, times(1)).describeAcls(any());
+            verify(mockAdminClient, times(1)).createAcls(any());
+            verify(mockAdminClient, never()).deleteAcls(any());
+            assertThat(createdAclBindings.get(0), hasSize(userCount * ResourceUtils.createExpectedSimpleAclRules(users.get(0)).size()));
+            verify(mockAdminClient, times(1)).describeClientQuotas(any());
+            verify(mockAdminClient, times(1)).alterClientQuotas(any());
+            assertThat(quotaAlterations.get(0), hasSize(userCount));
+
+            // All users were reconciled
+            verify(mockCrdOps, times(userCount)).updateStatusAsync(any(), any(KafkaUser.class));
+            async.flag();
+        })));
+    }
 }
@@ -0,0 +1,181 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.user.operator;
+
+import io.strimzi.api.kafka.model.KafkaUserQuotas;
+import io.strimzi.operator.common.operator.resource.ReconcileResult;
+import io.vertx.core.CompositeFuture;
+import io.vertx.core.Vertx;
+import io.vertx.junit5.Checkpoint;
+import io.vertx.junit5.VertxExtension;
+import io.vertx.junit5.VertxTestContext;
+import org.apache.kafka.clients.admin.Admin;
+import org.apache.kafka.clients.admin.AdminClient;
+import org.apache.kafka.clients.admin.AlterClientQuotasResult;
+import org.apache.kafka.clients.admin.DescribeClientQuotasResult;
+import org.apache.kafka.common.KafkaFuture;
+import org.apache.kafka.common.errors.InvalidRequestException;
+import org.apache.kafka.common.internals.KafkaFutureImpl;
+import org.apache.kafka.common.quota.ClientQuotaAlteration;
+import org.apache.kafka.common.quota.ClientQuotaEntity;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import static org.hamcrest.CoreMatchers.instanceOf;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.hasSize;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(VertxExtension.class)
+public class QuotasOperatorTest {
+    protected static Vertx vertx;
+
+    @BeforeAll
+    public static void before() {
+        vertx = Vertx.vertx();
+    }
+
+    @AfterAll
+    public static void after() {
+        vertx.close();
+    }
+
+    private static ClientQuotaEntity userEntity(String username) {
+        return new ClientQuotaEntity(Map.of(ClientQuotaEntity.USER, username));
+    }
+
+    private static KafkaUserQuotas quotas(int producerByteRate) {
+        KafkaUserQuotas quotas = new KafkaUserQuotas();
+        quotas.setProducerByteRate(producerByteRate);
+        return quotas;
+    }
+
+    private static Admin mockAdminClient(List<Collection<ClientQuotaAlteration>> alterations, Set<ClientQuotaEntity> failingEntities) {
+        Admin mockAdminClient = mock(AdminClient.class);
+
+        DescribeClientQuotasResult describeResult = mock(DescribeClientQuotasResult.class);
+        when(describeResult.entities()).thenReturn(KafkaFuture.completedFuture(Map.of(
+                userEntity("CN=foo"), Map.of("producer_byte_rate", 1000.0),
+                userEntity("bar"), Map.of("producer_byte_rate", 1000.0),
+                userEntity("baz"), Map.of("producer_byte_rate", 1000.0),
+                new ClientQuotaEntity(Map.of(ClientQuotaEntity.USER, "baz", ClientQuotaEntity.CLIENT_ID, "my-client")), Map.of("producer_byte_rate", 5000.0))));
+        when(mockAdminClient.describeClientQuotas(any())).thenReturn(describeResult);
+
+        when(mockAdminClient.alterClientQuotas(any())).thenAnswer(invocation -> {
+            Collection<ClientQuotaAlteration> entities = invocation.getArgument(0);
+            alterations.add(entities);
+
+            Map<ClientQuotaEntity, KafkaFuture<Void>> values = entities.stream().collect(Collectors.toMap(ClientQuotaAlteration::entity, alteration -> {
+                KafkaFutureImpl<Void> future = new KafkaFutureImpl<>();
+                if (failingEntities.contains(alteration.entity())) {
+                    future.completeExceptionally(new InvalidRequestException("Failed"));
+                } else {
+                    future.complete(null);
+                }
+                return future;
+            }));
+
+            AlterClientQuotasResult result = mock(AlterClientQuotasResult.class);
+            when(result.values()).thenReturn(values);
+            when(result.all()).thenReturn(KafkaFuture.allOf(values.values().toArray(new KafkaFuture<?>[0])));
+            return result;
+        });
+
+        return mockAdminClient;
+    }
+
+    @Test
+    public void testBulkReconciliationUsesSnapshot(VertxTestContext context) {
+        List<Collection<ClientQuotaAlteration>> alterations = new CopyOnWriteArrayList<>();
+        Admin mockAdminClient = mockAdminClient(alterations, Set.of());
+        QuotasOperator quotasOp = new QuotasOperator(vertx, mockAdminClient);
+
+        Checkpoint async = context.checkpoint();
+        quotasOp.getSnapshot()
+                .compose(snapshot -> quotasOp.reconcile(snapshot, desired(quotas(2000), null, quotas(1000)))
+                        // The snapshot is updated with the reconciled quotas => nothing is altered again
+                        .compose(ignore -> quotasOp.reconcile(bulkReconciliation(snapshot), "CN=foo", quotas(2000))))
+                .onComplete(context.succeeding(rr -> context.verify(() -> {
+                    assertThat(rr, instanceOf(ReconcileResult.Noop.class));
+
+                    // Only the quotas of all entities were described
+                    verify(mockAdminClient, times(1)).describeClientQuotas(any());
+
+                    // Only the changed users were altered in a single call
+                    assertThat(alterations, hasSize(1));
+                    Set<ClientQuotaEntity> alteredEntities = alterations.get(0).stream()
+                            .map(ClientQuotaAlteration::entity)
+                            .collect(Collectors.toSet());
+                    assertThat(alteredEntities, is(Set.of(userEntity("CN=foo"), userEntity("bar"))));
+
+                    Map<ClientQuotaEntity, Collection<ClientQuotaAlteration.Op>> ops = alterations.get(0).stream()
+                            .collect(Collectors.toMap(ClientQuotaAlteration::entity, ClientQuotaAlteration::ops));
+                    assertThat(ops.get(userEntity("CN=foo")).stream().collect(Collectors.toMap(ClientQuotaAlteration.Op::key, Function.identity())).get("producer_byte_rate").value(), is(2000.0));
+
+                    async.flag();
+                })));
+    }
+
+    @Test
+    public void testBulkReconciliationRemovesUsersWithFailedAlterationsFromSnapshot(VertxTestContext context) {
+        List<Collection<ClientQuotaAlteration>> alterations = new CopyOnWriteArrayList<>();
+        Admin mockAdminClient = mockAdminClient(alterations, Set.of(userEntity("bar")));
+        QuotasOperator quotasOp = new QuotasOperator(vertx, mockAdminClient);
+
+        Checkpoint async = context.checkpoint();
+        CompositeFuture.join(quotasOp.getSnapshot(), quotasOp.getSnapshot())
+                .compose(snapshots -> {
+                    QuotasOperator.QuotasSnapshot snapshot = snapshots.resultAt(0);
+                    QuotasOperator.QuotasSnapshot otherSnapshot = snapshots.resultAt(1);
+
+                    return quotasOp.reconcile(snapshot, desired(quotas(2000), null, quotas(1000)))
+                            .compose(ignore -> {
+                                context.verify(() -> {
+                                    assertThat(snapshot.contains("CN=foo"), is(true));
+                                    assertThat(snapshot.contains("bar"), is(false));
+                                    // The snapshot of another periodic reconciliation is not affected
+                                    assertThat(otherSnapshot.contains("bar"), is(true));
+                                    assertThat(otherSnapshot.get("CN=foo").getProducerByteRate(), is(1000));
+                                });
+
+                                // The quotas of the failed user are described again
+                                return quotasOp.reconcile(bulkReconciliation(snapshot), "bar", null);
+                            });
+                })
+                .onComplete(context.failing(e -> context.verify(() -> {
+                    verify(mockAdminClient, times(3)).describeClientQuotas(any());
+                    assertThat(alterations, hasSize(2));
+                    async.flag();
+                })));
+    }
+
+    private static BulkReconciliation bulkReconciliation(QuotasOperator.QuotasSnapshot snapshot) {
+        return new BulkReconciliation("test", "kind", "namespace", "name", null, snapshot);
+    }
+
+    private static Map<String, KafkaUserQuotas> desired(KafkaUserQuotas foo, KafkaUserQuotas bar, KafkaUserQuotas baz) {
+        Map<String, KafkaUserQuotas> desired = new HashMap<>();
+        desired.put("CN=foo", foo);
+        desired.put("bar", bar);
+        desired.put("baz", baz);
+        return desired;
+    }
+}
@@ -0,0 +1,180 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.user.operator;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.strimzi.operator.common.MetricsProvider;
+import io.strimzi.operator.common.Reconciliation;
+import io.strimzi.operator.common.operator.resource.ReconcileResult;
+import io.vertx.core.Vertx;
+import io.vertx.junit5.Checkpoint;
+import io.vertx.junit5.VertxExtension;
+import io.vertx.junit5.VertxTestContext;
+import org.apache.kafka.clients.admin.Admin;
+import org.apache.kafka.clients.admin.AdminClient;
+import org.apache.kafka.clients.admin.AlterUserScramCredentialsResult;
+import org.apache.kafka.clients.admin.DescribeUserScramCredentialsResult;
+import org.apache.kafka.clients.admin.ScramCredentialInfo;
+import org.apache.kafka.clients.admin.ScramMechanism;
+import org.apache.kafka.clients.admin.UserScramCredentialsDescription;
+import org.apache.kafka.common.KafkaFuture;
+import org.apache.kafka.common.errors.ResourceNotFoundException;
+import org.apache.kafka.common.internals.KafkaFutureImpl;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.hamcrest.CoreMatchers.instanceOf;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.not;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(VertxExtension.class)
+public class ScramCredentialsOperatorTest {
+    private static final String USERNAME = "my-user";
+    private static final String PASSWORD = "my-password";
+
+    protected static Vertx vertx;
+
+    @BeforeAll
+    public static void before() {
+        vertx = Vertx.vertx();
+    }
+
+    @AfterAll
+    public static void after() {
+        vertx.close();
+    }
+
+    private static MetricsProvider metricsProvider(MeterRegistry registry) {
+        return new MetricsProvider() {
+            @Override
+            public MeterRegistry meterRegistry() {
+                return registry;
+            }
+
+            @Override
+            public Counter counter(String name, String description, Tags tags) {
+                return Counter.builder(name).tags(tags).register(registry);
+            }
+
+            @Override
+            public Timer timer(String name, String description, Tags tags) {
+                return Timer.builder(name).tags(tags).register(registry);
+            }
+
+            @Override
+            public AtomicInteger gauge(String name, String description, Tags tags) {
+                AtomicInteger gauge = new AtomicInteger(0);
+                Gauge.builder(name, () -> gauge).description(description).tags(tags).register(registry);
+                return gauge;
+            }
+        };
+    }
+
+    private static double count(MeterRegistry registry, String name) {
+        return registry.get(name).tag("kind", "KafkaUser").counter().count();
+    }
+
+    private static Admin mockAdminClient(KafkaFuture<UserScramCredentialsDescription> description) {
+        Admin mockAdminClient = mock(AdminClient.class);
+
+        AlterUserScramCredentialsResult alterResult = mock(AlterUserScramCredentialsResult.class);
+        when(alterResult.all()).thenReturn(KafkaFuture.completedFuture(null));
+        when(mockAdminClient.alterUserScramCredentials(any())).thenReturn(alterResult);
+
+        DescribeUserScramCredentialsResult describeResult = mock(DescribeUserScramCredentialsResult.class);
+        when(describeResult.description(USERNAME)).thenReturn(description);
+        when(mockAdminClient.describeUserScramCredentials(any())).thenReturn(describeResult);
+
+        return mockAdminClient;
+    }
+
+    @Test
+    public void testFingerprint() {
+        String fingerprint = ScramCredentialsOperator.fingerprint(PASSWORD);
+
+        assertThat(ScramCredentialsOperator.fingerprintMatches(PASSWORD, fingerprint), is(true));
+        assertThat(ScramCredentialsOperator.fingerprintMatches("other-password", fingerprint), is(false));
+        assertThat(ScramCredentialsOperator.fingerprintMatches(PASSWORD, null), is(false));
+        assertThat(ScramCredentialsOperator.fingerprintMatches(PASSWORD, "not-a-fingerprint"), is(false));
+        assertThat(ScramCredentialsOperator.fingerprintMatches(PASSWORD, "%%%:" + fingerprint.split(":")[1]), is(false));
+
+        // The salt is random, so the same password has different fingerprints
+        assertThat(ScramCredentialsOperator.fingerprint(PASSWORD), is(not(fingerprint)));
+    }
+
+    @Test
+    public void testUnchangedCredentialsAreNotUpserted(VertxTestContext context) {
+        MeterRegistry registry = new SimpleMeterRegistry();
+        UserScramCredentialsDescription description = new UserScramCredentialsDescription(USERNAME,
+                List.of(new ScramCredentialInfo(ScramMechanism.SCRAM_SHA_512, 4096)));
+        Admin mockAdminClient = mockAdminClient(KafkaFuture.completedFuture(description));
+        ScramCredentialsOperator scramOp = new ScramCredentialsOperator(vertx, mockAdminClient, metricsProvider(registry));
+
+        Checkpoint async = context.checkpoint();
+        scramOp.reconcile(Reconciliation.DUMMY_RECONCILIATION, USERNAME, PASSWORD, ScramCredentialsOperator.fingerprint(PASSWORD))
+                .onComplete(context.succeeding(result -> context.verify(() -> {
+                    assertThat(result, instanceOf(ReconcileResult.Noop.class));
+                    verify(mockAdminClient, never()).alterUserScramCredentials(any());
+                    assertThat(count(registry, ScramCredentialsOperator.METRICS_SCRAM_UPSERTS_SKIPPED), is(1.0));
+                    assertThat(count(registry, ScramCredentialsOperator.METRICS_SCRAM_UPSERTS_APPLIED), is(0.0));
+                    async.flag();
+                })));
+    }
+
+    @Test
+    public void testChangedCredentialsAreUpserted(VertxTestContext context) {
+        MeterRegistry registry = new SimpleMeterRegistry();
+        Admin mockAdminClient = mockAdminClient(KafkaFuture.completedFuture(null));
+        ScramCredentialsOperator scramOp = new ScramCredentialsOperator(vertx, mockAdminClient, metricsProvider(registry));
+
+        Checkpoint async = context.checkpoint();
+        scramOp.reconcile(Reconciliation.DUMMY_RECONCILIATION, USERNAME, PASSWORD, ScramCredentialsOperator.fingerprint("old-password"))
+                .compose(ignore -> scramOp.reconcile(Reconciliation.DUMMY_RECONCILIATION, USERNAME, PASSWORD, null))
+                .onComplete(context.succeeding(result -> context.verify(() -> {
+                    assertThat(result, instanceOf(ReconcileResult.Patched.class));
+                    verify(mockAdminClient, never()).describeUserScramCredentials(any());
+                    verify(mockAdminClient, times(2)).alterUserScramCredentials(any());
+                    assertThat(count(registry, ScramCredentialsOperator.METRICS_SCRAM_UPSERTS_SKIPPED), is(0.0));
+                    assertThat(count(registry, ScramCredentialsOperator.METRICS_SCRAM_UPSERTS_APPLIED), is(2.0));
+                    async.flag();
+                })));
+    }
+
+    @Test
+    public void testMissingCredentialsAreUpserted(VertxTestContext context) {
+        MeterRegistry registry = new SimpleMeterRegistry();
+        KafkaFutureImpl<UserScramCredentialsDescription> description = new KafkaFutureImpl<>();
+        description.completeExceptionally(new ResourceNotFoundException("Not found"));
+        Admin mockAdminClient = mockAdminClient(description);
+        ScramCredentialsOperator scramOp = new ScramCredentialsOperator(vertx, mockAdminClient, metricsProvider(registry));
+
+        Checkpoint async = context.checkpoint();
+        scramOp.reconcile(Reconciliation.DUMMY_RECONCILIATION, USERNAME, PASSWORD, ScramCredentialsOperator.fingerprint(PASSWORD))
+                .onComplete(context.succeeding(result -> context.verify(() -> {
+                    assertThat(result, instanceOf(ReconcileResult.Patched.class));
+                    verify(mockAdminClient, times(1)).alterUserScramCredentials(any());
+                    assertThat(count(registry, ScramCredentialsOperator.METRICS_SCRAM_UPSERTS_SKIPPED), is(0.0));
+                    assertThat(count(registry, ScramCredentialsOperator.METRICS_SCRAM_UPSERTS_APPLIED), is(1.0));
+                    async.flag();
+                })));
+    }
+}
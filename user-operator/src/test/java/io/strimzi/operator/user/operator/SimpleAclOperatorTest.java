@@ -25,6 +25,7 @@ import org.apache.kafka.common.acl.AccessControlEntry;
 import org.apache.kafka.common.acl.AclBinding;
 import org.apache.kafka.common.acl.AclBindingFilter;
 import org.apache.kafka.common.acl.AclPermissionType;
+import org.apache.kafka.common.errors.ApiException;
 import org.apache.kafka.common.resource.PatternType;
 import org.apache.kafka.common.resource.ResourcePattern;
 import org.apache.kafka.common.resource.ResourcePatternFilter;
@@ -38,9 +39,14 @@ import org.mockito.ArgumentCaptor;
 
 import java.util.Collection;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 import static java.util.Arrays.asList;
@@ -53,6 +59,8 @@ import static org.hamcrest.Matchers.hasSize;
 import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 @ExtendWith(VertxExtension.class)
@@ -233,6 +241,122 @@ public class SimpleAclOperatorTest {
                 })));
     }
 
+    @Test
+    public void testBulkReconciliationUsesSnapshot(VertxTestContext context) {
+        Admin mockAdminClient = mock(AdminClient.class);
+        SimpleAclOperator aclOp = new SimpleAclOperator(vertx, mockAdminClient);
+
+        ResourcePattern resource = new ResourcePattern(ResourceType.TOPIC, "my-topic", PatternType.LITERAL);
+        AclBinding fooReadAclBinding = new AclBinding(resource, new AccessControlEntry("User:CN=foo", "*", org.apache.kafka.common.acl.AclOperation.READ, AclPermissionType.ALLOW));
+        AclBinding fooWriteAclBinding = new AclBinding(resource, new AccessControlEntry("User:CN=foo", "*", org.apache.kafka.common.acl.AclOperation.WRITE, AclPermissionType.ALLOW));
+        AclBinding barReadAclBinding = new AclBinding(resource, new AccessControlEntry("User:bar", "*", org.apache.kafka.common.acl.AclOperation.READ, AclPermissionType.ALLOW));
+        AclBinding bazReadAclBinding = new AclBinding(resource, new AccessControlEntry("User:baz", "*", org.apache.kafka.common.acl.AclOperation.READ, AclPermissionType.ALLOW));
+
+        SimpleAclRuleResource ruleResource = new SimpleAclRuleResource("my-topic", SimpleAclRuleResourceType.TOPIC, AclResourcePatternType.LITERAL);
+        SimpleAclRule readRule = new SimpleAclRule(AclRuleType.ALLOW, ruleResource, "*", AclOperation.READ);
+        SimpleAclRule writeRule = new SimpleAclRule(AclRuleType.ALLOW, ruleResource, "*", AclOperation.WRITE);
+
+        List<Collection<AclBinding>> createdAclBindings = new CopyOnWriteArrayList<>();
+        List<Collection<AclBindingFilter>> deletedAclBindingFilters = new CopyOnWriteArrayList<>();
+        assertDoesNotThrow(() -> {
+            mockDescribeAcls(mockAdminClient, AclBindingFilter.ANY, asList(fooReadAclBinding, barReadAclBinding));
+            mockBulkCreateAcls(mockAdminClient, createdAclBindings);
+            mockBulkDeleteAcls(mockAdminClient, deletedAclBindingFilters, Set.of());
+        });
+
+        Map<String, Set<SimpleAclRule>> desired = new HashMap<>();
+        desired.put("CN=foo", Set.of(readRule, writeRule));
+        desired.put("bar", null);
+        desired.put("baz", Set.of(readRule));
+
+        Checkpoint async = context.checkpoint();
+        aclOp.getSnapshot()
+                .compose(snapshot -> aclOp.reconcile(snapshot, desired)
+                        // The snapshot is updated with the reconciled ACLs => nothing is created again
+                        .compose(ignore -> aclOp.reconcile(new BulkReconciliation("test", "kind", "namespace", "name", snapshot, null), "CN=foo", Set.of(readRule, writeRule))))
+                .onComplete(context.succeeding(rr -> context.verify(() -> {
+                    // Only the ACLs of all users were described
+                    verify(mockAdminClient, times(1)).describeAcls(any());
+
+                    assertThat(createdAclBindings, hasSize(1));
+                    assertThat(createdAclBindings.get(0), hasSize(2));
+                    assertThat(createdAclBindings.get(0), hasItems(fooWriteAclBinding, bazReadAclBinding));
+
+                    assertThat(deletedAclBindingFilters, hasSize(1));
+                    assertThat(deletedAclBindingFilters.get(0), is(Set.of(barReadAclBinding.toFilter())));
+
+                    async.flag();
+                })));
+    }
+
+    @Test
+    public void testBulkReconciliationRemovesUsersWithFailedDeletesFromSnapshot(VertxTestContext context) {
+        Admin mockAdminClient = mock(AdminClient.class);
+        SimpleAclOperator aclOp = new SimpleAclOperator(vertx, mockAdminClient);
+
+        ResourcePattern resource = new ResourcePattern(ResourceType.TOPIC, "my-topic", PatternType.LITERAL);
+        AclBinding fooReadAclBinding = new AclBinding(resource, new AccessControlEntry("User:CN=foo", "*", org.apache.kafka.common.acl.AclOperation.READ, AclPermissionType.ALLOW));
+        AclBinding barReadAclBinding = new AclBinding(resource, new AccessControlEntry("User:bar", "*", org.apache.kafka.common.acl.AclOperation.READ, AclPermissionType.ALLOW));
+
+        List<Collection<AclBindingFilter>> deletedAclBindingFilters = new CopyOnWriteArrayList<>();
+        assertDoesNotThrow(() -> {
+            mockDescribeAcls(mockAdminClient, AclBindingFilter.ANY, asList(fooReadAclBinding, barReadAclBinding));
+            mockBulkDeleteAcls(mockAdminClient, deletedAclBindingFilters, Set.of(barReadAclBinding.toFilter()));
+        });
+
+        Map<String, Set<SimpleAclRule>> desired = new HashMap<>();
+        desired.put("CN=foo", null);
+        desired.put("bar", null);
+
+        Checkpoint async = context.checkpoint();
+        aclOp.getSnapshot()
+                .compose(snapshot -> aclOp.reconcile(snapshot, desired).map(snapshot))
+                .onComplete(context.succeeding(snapshot -> context.verify(() -> {
+                    assertThat(deletedAclBindingFilters, hasSize(1));
+                    assertThat(deletedAclBindingFilters.get(0), is(Set.of(fooReadAclBinding.toFilter(), barReadAclBinding.toFilter())));
+
+                    // The ACLs of CN=foo were deleted
+                    assertThat(snapshot.contains("CN=foo"), is(true));
+                    assertThat(snapshot.get("CN=foo"), is(Set.of()));
+
+                    // The ACLs of bar failed to be deleted => they will be described again
+                    assertThat(snapshot.contains("bar"), is(false));
+
+                    async.flag();
+                })));
+    }
+
+    private void mockBulkCreateAcls(Admin mockAdminClient, List<Collection<AclBinding>> createdAclBindings) {
+        when(mockAdminClient.createAcls(any())).thenAnswer(invocation -> {
+            Collection<AclBinding> aclBindings = invocation.getArgument(0);
+            createdAclBindings.add(aclBindings);
+
+            CreateAclsResult result = mock(CreateAclsResult.class);
+            when(result.values()).thenReturn(aclBindings.stream().collect(Collectors.toMap(Function.identity(), ignore -> KafkaFuture.completedFuture(null))));
+            return result;
+        });
+    }
+
+    private void mockBulkDeleteAcls(Admin mockAdminClient, List<Collection<AclBindingFilter>> deletedAclBindingFilters, Set<AclBindingFilter> failingFilters) {
+        when(mockAdminClient.deleteAcls(any())).thenAnswer(invocation -> {
+            Collection<AclBindingFilter> aclBindingFilters = invocation.getArgument(0);
+            deletedAclBindingFilters.add(aclBindingFilters);
+
+            DeleteAclsResult result = mock(DeleteAclsResult.class);
+            Map<AclBindingFilter, KafkaFuture<DeleteAclsResult.FilterResults>> values = aclBindingFilters.stream()
+                    .collect(Collectors.toMap(Function.identity(), filter -> {
+                        // The whole request succeeds, but the individual binding might fail to be deleted
+                        DeleteAclsResult.FilterResult filterResult = mock(DeleteAclsResult.FilterResult.class);
+                        when(filterResult.exception()).thenReturn(failingFilters.contains(filter) ? new ApiException("Failed to delete ACL") : null);
+                        DeleteAclsResult.FilterResults filterResults = mock(DeleteAclsResult.FilterResults.class);
+                        when(filterResults.values()).thenReturn(List.of(filterResult));
+                        return KafkaFuture.completedFuture(filterResults);
+                    }));
+            when(result.values()).thenReturn(values);
+            return result;
+        });
+    }
+
     private void mockDescribeAcls(Admin mockAdminClient, AclBindingFilter aclBindingFilter, Collection<AclBinding> aclBindings) {
         DescribeAclsResult result = mock(DescribeAclsResult.class);
         KafkaFuture<Collection<AclBinding>> future = mock(KafkaFuture.class);